@@ -43,6 +43,14 @@ dependencies {
 	implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
 
 	implementation("com.google.guava:guava:33.6.0-jre")
+
+	// Parquet export, written to local files with the plain configuration and uncompressed pages, Hadoop is a provided
+	// dependency of parquet-hadoop and is not needed on that path
+	implementation("org.apache.parquet:parquet-hadoop:1.15.2")
+	// Embedded SQL database export, version managed by Spring Boot
+	implementation("com.h2database:h2")
+	// Zstandard compressed outputs
+	implementation("com.github.luben:zstd-jni:1.5.7-3")
 	implementation("org.apache.commons:commons-lang3")
 	// Runtime validation alternative...
 	implementation("org.assertj:assertj-core:3.27.7")
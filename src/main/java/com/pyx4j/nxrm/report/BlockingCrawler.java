@@ -0,0 +1,156 @@
+package com.pyx4j.nxrm.report;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonatype.nexus.model.AbstractApiRepository;
+import org.sonatype.nexus.model.ComponentXO;
+import org.sonatype.nexus.model.PageComponentXO;
+
+/**
+ * Crawls every repository in its own task with plain blocking pagination, an alternative to the Reactor pipeline.
+ * <p>
+ * Tasks run on virtual threads when the runtime provides them (Java 21 and later), otherwise on a pool of platform
+ * threads sized by the connection limit. A semaphore bounds the number of page requests in flight whatever the
+ * number of tasks. The crawl is scoped: the first failing repository cancels the other tasks and its error is
+ * rethrown once they are all stopped, so no task outlives the crawl.
+ */
+final class BlockingCrawler {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockingCrawler.class);
+
+    /**
+     * Fetches one page of components of a repository.
+     */
+    interface PageFetcher {
+
+        @Nullable
+        PageComponentXO fetch(@NonNull String repositoryName, @Nullable String continuationToken);
+    }
+
+    private final int maxConnections;
+
+    /**
+     * Creates a crawler.
+     *
+     * @param maxConnections The maximum number of page requests in flight
+     */
+    BlockingCrawler(int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Maximum connections must be positive: " + maxConnections);
+        }
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Feeds the filtered components of the repositories into the aggregator.
+     *
+     * @param repositories    The repositories to crawl
+     * @param fetcher         The page fetcher
+     * @param aggregator      The aggregator fed with every page
+     * @param componentFilter The component filter
+     * @return The names of the repositories, in completion order
+     * @throws InterruptedException if the calling thread is interrupted, the tasks are then cancelled
+     */
+    @NonNull
+    List<String> crawl(@NonNull List<AbstractApiRepository> repositories, @NonNull PageFetcher fetcher, @NonNull ReportAggregator aggregator,
+                       @NonNull Predicate<ComponentXO> componentFilter) throws InterruptedException {
+        Objects.requireNonNull(repositories, "Repositories cannot be null");
+        Objects.requireNonNull(fetcher, "Page fetcher cannot be null");
+        Objects.requireNonNull(aggregator, "Aggregator cannot be null");
+        Objects.requireNonNull(componentFilter, "Component filter cannot be null");
+
+        Semaphore connections = new Semaphore(maxConnections);
+        ExecutorService executor = newTaskExecutor(maxConnections);
+        List<Future<String>> tasks = new ArrayList<>(repositories.size());
+        try {
+            ExecutorCompletionService<String> completionService = new ExecutorCompletionService<>(executor);
+            for (AbstractApiRepository repository : repositories) {
+                tasks.add(completionService.submit(crawlTask(repository, fetcher, connections, aggregator, componentFilter)));
+            }
+            List<String> crawled = new ArrayList<>(repositories.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                try {
+                    crawled.add(completionService.take().get());
+                } catch (ExecutionException e) {
+                    throw rethrow(e.getCause());
+                }
+            }
+            return crawled;
+        } finally {
+            // Cancels the remaining tasks on failure or interruption, a no-op once all are done
+            tasks.forEach(task -> task.cancel(true));
+            executor.shutdownNow();
+        }
+    }
+
+    private static Callable<String> crawlTask(AbstractApiRepository repository, PageFetcher fetcher, Semaphore connections,
+                                              ReportAggregator aggregator, Predicate<ComponentXO> componentFilter) {
+        return () -> {
+            String repoName = Objects.requireNonNull(repository.getName(), "Repository name cannot be null");
+            String continuationToken = null;
+            do {
+                log.debug("Fetching components page for repository {} with token: {}", repoName, continuationToken);
+                PageComponentXO page;
+                connections.acquire();
+                try {
+                    page = fetcher.fetch(repoName, continuationToken);
+                } finally {
+                    connections.release();
+                }
+                if (page == null || page.getItems() == null) {
+                    log.debug("Repository {} page has no components", repoName);
+                    break;
+                }
+                List<ComponentXO> filteredComponents = page.getItems().stream()
+                        .filter(componentFilter)
+                        .toList();
+                if (!filteredComponents.isEmpty()) {
+                    aggregator.addComponents(repoName, repository.getFormat(), filteredComponents);
+                }
+                continuationToken = page.getContinuationToken();
+            } while (continuationToken != null && !continuationToken.isEmpty());
+            return repoName;
+        };
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(cause);
+    }
+
+    /**
+     * Creates a virtual thread per task executor when the runtime supports it, the build targets Java 17.
+     *
+     * @param platformThreads The number of platform threads used otherwise
+     * @return The executor
+     */
+    static ExecutorService newTaskExecutor(int platformThreads) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            log.debug("Virtual threads are not available, crawling on {} platform threads", platformThreads);
+            return Executors.newFixedThreadPool(platformThreads);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pyx4j.nxrm.report.model.AgeSummary;
+import com.pyx4j.nxrm.report.model.CleanupPolicy;
+import com.pyx4j.nxrm.report.model.CleanupSimulationSummary;
+import com.pyx4j.nxrm.report.model.DownloadRecencySummary;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Evaluates all candidate cleanup policies against every component in a single pass.
+ * <p>
+ * Everything that does not depend on the component is prepared once: version patterns are compiled and shared
+ * between policies using the same expression, and the policies applying to a repository are resolved on its
+ * first component and cached. Per component the ages are computed once and each distinct version pattern is
+ * matched at most once, so a policy adds only a few integer comparisons.
+ */
+final class CleanupSimulator {
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    // Age used for components without the date, no age criteria matches it
+    private static final long UNKNOWN_AGE = Long.MIN_VALUE;
+
+    // Threshold of a criteria the policy does not define
+    private static final int NOT_SET = -1;
+
+    private final List<CleanupPolicy> policies;
+
+    private final int[] olderThanDays;
+
+    private final int[] notDownloadedDays;
+
+    private final long referenceEpochDay;
+
+    private final Pattern[] versionPatterns;
+
+    // Index into versionPatterns for every policy, NOT_SET when the policy has no version criteria
+    private final int[] policyVersionPattern;
+
+    private final Map<String, int[]> repositoryPolicies;
+
+    // Per component cache of version pattern results: 0 not evaluated, 1 match, 2 no match
+    private final byte[] versionMatches;
+
+    private final CleanupSimulationSummary summary;
+
+    /**
+     * Creates the simulator.
+     *
+     * @param policies      The validated candidate policies
+     * @param referenceDate The UTC date ages are measured from
+     */
+    CleanupSimulator(@NonNull List<CleanupPolicy> policies, @NonNull LocalDate referenceDate) {
+        this.policies = List.copyOf(Objects.requireNonNull(policies, "Cleanup policies cannot be null"));
+        this.referenceEpochDay = referenceDate.toEpochDay();
+        this.repositoryPolicies = new HashMap<>();
+
+        this.olderThanDays = new int[this.policies.size()];
+        this.notDownloadedDays = new int[this.policies.size()];
+        this.policyVersionPattern = new int[this.policies.size()];
+        Map<String, Integer> distinctPatterns = new LinkedHashMap<>();
+        for (int i = 0; i < this.policies.size(); i++) {
+            CleanupPolicy policy = this.policies.get(i);
+            olderThanDays[i] = policy.getOlderThanDays() != null ? policy.getOlderThanDays() : NOT_SET;
+            notDownloadedDays[i] = policy.getNotDownloadedDays() != null ? policy.getNotDownloadedDays() : NOT_SET;
+            String versionPattern = policy.getVersionPattern();
+            policyVersionPattern[i] = versionPattern == null ? NOT_SET : distinctPatterns.computeIfAbsent(versionPattern, k -> distinctPatterns.size());
+        }
+        this.versionPatterns = new Pattern[distinctPatterns.size()];
+        distinctPatterns.forEach((pattern, index) -> {
+            try {
+                versionPatterns[index] = Pattern.compile(pattern);
+            } catch (PatternSyntaxException e) {
+                throw new IllegalArgumentException("Invalid cleanup policy version pattern: " + pattern, e);
+            }
+        });
+        this.versionMatches = new byte[versionPatterns.length];
+
+        List<String> policyNames = new ArrayList<>(this.policies.size());
+        for (CleanupPolicy policy : this.policies) {
+            policyNames.add(policy.getName());
+        }
+        this.summary = new CleanupSimulationSummary(policyNames);
+    }
+
+    /**
+     * Loads and validates the candidate policies from a JSON file.
+     *
+     * @param file The policies file, a JSON array of policies
+     * @return The policies
+     * @throws IOException if the file cannot be read or parsed
+     */
+    @NonNull
+    static List<CleanupPolicy> loadPolicies(@NonNull String file) throws IOException {
+        List<CleanupPolicy> policies = new ObjectMapper().readValue(Path.of(file).toFile(), new TypeReference<List<CleanupPolicy>>() {
+        });
+        if (policies == null || policies.isEmpty()) {
+            throw new IllegalArgumentException("Cleanup policies file " + file + " does not define any policy");
+        }
+        for (CleanupPolicy policy : policies) {
+            policy.validate();
+        }
+        return policies;
+    }
+
+    /**
+     * Evaluates all policies against a component.
+     *
+     * @param repositoryName The name of the repository
+     * @param format         The format of the repository
+     * @param component      The component
+     * @param sizeBytes      The size of the component in bytes
+     */
+    void addComponent(@NonNull String repositoryName, @Nullable String format, @NonNull ComponentXO component, long sizeBytes) {
+        summary.addEvaluated(sizeBytes);
+
+        int[] applicable = repositoryPolicies.computeIfAbsent(repositoryName, this::policiesFor);
+        if (applicable.length == 0) {
+            return;
+        }
+
+        long createdEpochSecond = AgeSummary.getEarliestCreationEpochSecond(component);
+        long ageDays = createdEpochSecond == Long.MAX_VALUE ? UNKNOWN_AGE : daysSince(createdEpochSecond);
+        long lastDownloadedEpochSecond = DownloadRecencySummary.getLatestDownloadEpochSecond(component);
+        // Components never downloaded are measured from their creation, like Nexus cleanup does
+        long downloadAgeDays = lastDownloadedEpochSecond == DownloadRecencySummary.NEVER_DOWNLOADED ? ageDays : daysSince(lastDownloadedEpochSecond);
+        Arrays.fill(versionMatches, (byte) 0);
+
+        for (int policyIndex : applicable) {
+            if (olderThanDays[policyIndex] != NOT_SET && (ageDays == UNKNOWN_AGE || ageDays <= olderThanDays[policyIndex])) {
+                continue;
+            }
+            if (notDownloadedDays[policyIndex] != NOT_SET && (downloadAgeDays == UNKNOWN_AGE || downloadAgeDays <= notDownloadedDays[policyIndex])) {
+                continue;
+            }
+            if (policyVersionPattern[policyIndex] != NOT_SET && !matchesVersion(policyVersionPattern[policyIndex], component.getVersion())) {
+                continue;
+            }
+            summary.addDeletion(policyIndex, repositoryName, format, sizeBytes);
+        }
+    }
+
+    private int[] policiesFor(String repositoryName) {
+        return IntStream.range(0, policies.size())
+                .filter(i -> ComponentFilter.matchesRepositoryFilter(repositoryName, policies.get(i).getRepositories()))
+                .toArray();
+    }
+
+    private long daysSince(long epochSecond) {
+        return referenceEpochDay - Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+    }
+
+    private boolean matchesVersion(int patternIndex, @Nullable String version) {
+        if (version == null) {
+            return false;
+        }
+        if (versionMatches[patternIndex] == 0) {
+            versionMatches[patternIndex] = versionPatterns[patternIndex].matcher(version).matches() ? (byte) 1 : (byte) 2;
+        }
+        return versionMatches[patternIndex] == 1;
+    }
+
+    @NonNull
+    CleanupSimulationSummary getSummary() {
+        return summary;
+    }
+}
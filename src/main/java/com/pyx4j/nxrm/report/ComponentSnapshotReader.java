@@ -0,0 +1,73 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.jspecify.annotations.NonNull;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Reads a component snapshot, the JSON array or newline-delimited JSON written by {@code --output-component}, one
+ * component at a time so that snapshots larger than the heap can be processed. Snapshots compressed with gzip or
+ * zstd, by their .gz or .zst extension, are decompressed while reading.
+ */
+final class ComponentSnapshotReader {
+
+    private ComponentSnapshotReader() {
+        // Utility class should not be instantiated
+    }
+
+    /**
+     * Passes every component of the snapshot to the consumer.
+     *
+     * @param file     The snapshot file
+     * @param consumer The consumer of the components
+     * @return The number of components read
+     * @throws IOException if the snapshot cannot be read or is not a JSON array or newline-delimited JSON of components
+     */
+    static long read(@NonNull String file, @NonNull Consumer<ComponentXO> consumer) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        long count = 0;
+        try (InputStream in = open(file);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            } else if (!NdjsonReportWriter.isNdjson(file) || (token != null && token != JsonToken.START_OBJECT)) {
+                throw new IOException("Component snapshot " + file + " must contain a JSON array of components");
+            }
+            while (token == JsonToken.START_OBJECT) {
+                consumer.accept(objectMapper.readValue(parser, ComponentXO.class));
+                count++;
+                token = parser.nextToken();
+            }
+        }
+        return count;
+    }
+
+    private static InputStream open(String file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(Path.of(file)));
+        OutputCompression compression = OutputCompression.of(file);
+        if (compression == null) {
+            return in;
+        }
+        try {
+            return compression.decompress(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * A report writer the filtered components can be streamed to page by page while crawling, see
+ * {@link ReportAggregator#streamComponents}, so the components are never kept in memory.
+ */
+interface ComponentStreamWriter extends ReportWriter {
+
+    /**
+     * Checks if the components exported to a file are streamed while crawling, by its newline-delimited JSON or
+     * Parquet extension.
+     *
+     * @param filePath The file path
+     * @return true for streamed component files
+     */
+    static boolean isStreamed(@Nullable String filePath) {
+        return NdjsonReportWriter.isNdjson(filePath) || ParquetReportWriter.isParquet(filePath);
+    }
+
+    /**
+     * Opens the component export before the first page, so that it is written even when no component is found.
+     *
+     * @throws IOException if the export cannot be created
+     */
+    default void openComponents() throws IOException {
+        // The file is created with the writer
+    }
+
+    /**
+     * Writes a page of components, pages of concurrently crawled repositories are written one at a time.
+     *
+     * @param page The components
+     * @throws IOException if the components cannot be written
+     */
+    void writeComponentsPage(List<ComponentXO> page) throws IOException;
+}
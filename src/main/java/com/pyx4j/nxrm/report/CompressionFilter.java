@@ -0,0 +1,123 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Requests compressed responses and decompresses them, counting the bytes received and the decompressed bytes.
+ * <p>
+ * Component pages repeat the repository URL in the download URL and path of every asset, so they compress well.
+ * Decompression is done here rather than by the HTTP client, so it works the same with every {@link HttpTransport}.
+ * A compressed page is decompressed once fully received, pages are bounded by the codec in-memory limit.
+ * Without compression the bytes are only counted, the two counters are then equal.
+ */
+final class CompressionFilter implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(CompressionFilter.class);
+
+    private final boolean compression;
+
+    private final AtomicLong responseCount = new AtomicLong();
+
+    private final AtomicLong receivedBytes = new AtomicLong();
+
+    private final AtomicLong decompressedBytes = new AtomicLong();
+
+    /**
+     * Creates a filter.
+     *
+     * @param compression true to request gzip or deflate compressed responses
+     */
+    CompressionFilter(boolean compression) {
+        this.compression = compression;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        ClientRequest filteredRequest = compression
+                ? ClientRequest.from(request).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate").build()
+                : request;
+        return next.exchange(filteredRequest).map(this::decode);
+    }
+
+    private ClientResponse decode(ClientResponse response) {
+        responseCount.incrementAndGet();
+        String encoding = response.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        String normalizedEncoding = encoding != null ? encoding.trim().toLowerCase(Locale.ROOT) : "identity";
+        if (!normalizedEncoding.equals("gzip") && !normalizedEncoding.equals("deflate")) {
+            return response.mutate()
+                    .body(body -> body.doOnNext(buffer -> {
+                        receivedBytes.addAndGet(buffer.readableByteCount());
+                        decompressedBytes.addAndGet(buffer.readableByteCount());
+                    }))
+                    .build();
+        }
+        return response.mutate()
+                .headers(headers -> {
+                    headers.remove(HttpHeaders.CONTENT_ENCODING);
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                })
+                .body(body -> DataBufferUtils.join(body.doOnNext(buffer -> receivedBytes.addAndGet(buffer.readableByteCount())))
+                        .map(compressed -> decompress(compressed, normalizedEncoding))
+                        .flux())
+                .build();
+    }
+
+    private DataBuffer decompress(DataBuffer compressed, String encoding) {
+        try (InputStream in = compressed.asInputStream(true);
+             InputStream decompressing = encoding.equals("gzip") ? new GZIPInputStream(in) : new InflaterInputStream(in)) {
+            byte[] bytes = decompressing.readAllBytes();
+            decompressedBytes.addAndGet(bytes.length);
+            return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error decompressing " + encoding + " response", e);
+        }
+    }
+
+    long getResponseCount() {
+        return responseCount.get();
+    }
+
+    /**
+     * Gets the number of body bytes received, compressed when the server compressed the response.
+     *
+     * @return The received bytes
+     */
+    long getReceivedBytes() {
+        return receivedBytes.get();
+    }
+
+    long getDecompressedBytes() {
+        return decompressedBytes.get();
+    }
+
+    /**
+     * Logs the transfer volume of the responses so far.
+     *
+     * @param serverUrl The server the responses came from
+     */
+    void logTransferVolume(String serverUrl) {
+        long received = receivedBytes.get();
+        long decompressed = decompressedBytes.get();
+        log.info("Received {} for {} of response bodies in {} responses from {}{}",
+                NxReportConsole.formatSize(received), NxReportConsole.formatSize(decompressed), responseCount.get(), serverUrl,
+                received > 0 && received < decompressed ? String.format(Locale.ROOT, " (%.1fx compression)", (double) decompressed / received) : "");
+    }
+}
@@ -0,0 +1,28 @@
+package com.pyx4j.nxrm.report;
+
+import java.util.Locale;
+
+import picocli.CommandLine;
+
+/**
+ * Enumeration of available engines crawling the repositories.
+ */
+public enum CrawlEngine {
+
+    /**
+     * Non-blocking Reactor pipeline, pages of all repositories are fetched on the WebClient event loop.
+     */
+    REACTOR,
+
+    /**
+     * One task per repository with plain blocking pagination, see {@link BlockingCrawler}.
+     */
+    VIRTUAL_THREADS;
+
+    public static class CaseInsensitiveEnumConverter implements CommandLine.ITypeConverter<CrawlEngine> {
+        @Override
+        public CrawlEngine convert(String value) {
+            return CrawlEngine.valueOf(value.toUpperCase(Locale.CANADA).replace('-', '_'));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.pyx4j.nxrm.report;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.opencsv.CSVWriter;
@@ -16,6 +17,31 @@ public class CsvReportWriter implements ReportWriter {
         this.csvWriter = new CSVWriter(writer);
     }
 
+    @Override
+    public void writeFleetSummary(FleetSummary summary) throws IOException {
+        csvWriter.writeNext(new String[]{"Server", "URL", "Repositories", "Components", "Total Size", "Crawl Millis", "Error"});
+        summary.getServerStats().forEach((serverName, stats) -> {
+            csvWriter.writeNext(new String[]{
+                    serverName,
+                    stats.getUrl(),
+                    String.valueOf(stats.getRepositoryCount()),
+                    String.valueOf(stats.getComponentCount()),
+                    String.valueOf(stats.getSizeBytes()),
+                    String.valueOf(stats.getCrawlMillis()),
+                    stats.getError() != null ? stats.getError() : ""
+            });
+        });
+        csvWriter.writeNext(new String[]{
+                "TOTAL",
+                "-",
+                String.valueOf(summary.getTotalRepositories()),
+                String.valueOf(summary.getTotalComponents()),
+                String.valueOf(summary.getTotalSizeBytes()),
+                "",
+                summary.getFailedServers() > 0 ? summary.getFailedServers() + " failed" : ""
+        });
+    }
+
     @Override
     public void writeRepositoryComponentsSummary(RepositoryComponentsSummary summary, SortBy sortBy) throws IOException {
         csvWriter.writeNext(new String[]{"Repository", "Format", "Components", "Total Size"});
@@ -37,16 +63,30 @@ public class CsvReportWriter implements ReportWriter {
 
     @Override
     public void writeGroupsSummary(GroupsSummary summary, SortBy sortBy, int topGroups) throws IOException {
-        csvWriter.writeNext(new String[]{"Group", "Components", "Total Size"});
-        summary.getGroupStats().entrySet().stream()
-                .limit(topGroups)
+        if (summary.isApproximate()) {
+            // Approximate rows carry the maximum overestimation of the ranked metric
+            csvWriter.writeNext(new String[]{"Group", "Components", "Total Size", "Error (" + summary.getApproximateMetric() + ")"});
+        } else {
+            csvWriter.writeNext(new String[]{"Group", "Components", "Total Size"});
+        }
+        GroupRanking.topGroups(summary, sortBy, topGroups)
                 .forEach(entry -> {
                     GroupStats stats = entry.getValue();
-                    csvWriter.writeNext(new String[]{
-                            entry.getKey(),
-                            String.valueOf(stats.getComponentCount()),
-                            String.valueOf(stats.getSizeBytes())
-                    });
+                    if (summary.isApproximate()) {
+                        // The metric that is not ranked is left empty when unknown
+                        csvWriter.writeNext(new String[]{
+                                entry.getKey(),
+                                stats.isComponentCountKnown() ? String.valueOf(stats.getComponentCount()) : "",
+                                stats.isSizeBytesKnown() ? String.valueOf(stats.getSizeBytes()) : "",
+                                String.valueOf(stats.getError())
+                        });
+                    } else {
+                        csvWriter.writeNext(new String[]{
+                                entry.getKey(),
+                                String.valueOf(stats.getComponentCount()),
+                                String.valueOf(stats.getSizeBytes())
+                        });
+                    }
                 });
     }
 
@@ -67,6 +107,259 @@ public class CsvReportWriter implements ReportWriter {
         });
     }
 
+    @Override
+    public void writeGrowthSummary(GrowthSummary summary) throws IOException {
+        csvWriter.writeNext(new String[]{"Period", "Repository", "Format", "Components", "Total Size", "Cumulative Size"});
+        summary.getRepositorySeries().forEach((repoName, series) -> writeGrowthRows(summary.getPeriods(), repoName, series));
+        writeGrowthRows(summary.getPeriods(), "TOTAL", summary.getTotal());
+    }
+
+    private void writeGrowthRows(List<String> periods, String name, GrowthSummary.GrowthSeries series) {
+        long[] componentCounts = series.getComponentCounts();
+        long[] sizeBytes = series.getSizeBytes();
+        long[] cumulativeSizeBytes = series.getCumulativeSizeBytes();
+        for (int i = 0; i < periods.size(); i++) {
+            csvWriter.writeNext(new String[]{
+                    periods.get(i),
+                    name,
+                    series.getFormat(),
+                    String.valueOf(componentCounts[i]),
+                    String.valueOf(sizeBytes[i]),
+                    String.valueOf(cumulativeSizeBytes[i])
+            });
+        }
+    }
+
+    @Override
+    public void writeSizeDistribution(SizeDistributionSummary summary) throws IOException {
+        csvWriter.writeNext(new String[]{"Repository", "Format", "Kind", "Count", "p50", "p90", "p99", "Max"});
+        summary.getRepositoryDistributions().forEach((repoName, distribution) ->
+                writeSizeRows(repoName, distribution.getFormat(), distribution));
+        summary.getFormatDistributions().forEach((format, distribution) ->
+                writeSizeRows("TOTAL", format, distribution));
+        writeSizeRows("TOTAL", "-", summary.getTotal());
+    }
+
+    private void writeSizeRows(String name, String format, SizeDistribution distribution) {
+        writeSizeRow(name, format, "component", distribution.getComponentSizes());
+        writeSizeRow(name, format, "asset", distribution.getAssetSizes());
+    }
+
+    private void writeSizeRow(String name, String format, String kind, SizeSketch sketch) {
+        csvWriter.writeNext(new String[]{
+                name,
+                format,
+                kind,
+                String.valueOf(sketch.getCount()),
+                String.valueOf(sketch.getQuantile(0.5)),
+                String.valueOf(sketch.getQuantile(0.9)),
+                String.valueOf(sketch.getQuantile(0.99)),
+                String.valueOf(sketch.getMax())
+        });
+    }
+
+    @Override
+    public void writeCleanupSimulationSummary(CleanupSimulationSummary summary) throws IOException {
+        csvWriter.writeNext(new String[]{"Policy", "Repository", "Format", "Components", "Total Size"});
+        for (CleanupSimulationSummary.PolicyResult result : summary.getPolicyResults()) {
+            result.getRepositoryStats().forEach((repoName, stats) -> {
+                csvWriter.writeNext(new String[]{
+                        result.getPolicyName(),
+                        repoName,
+                        stats.getFormat(),
+                        String.valueOf(stats.getComponentCount()),
+                        String.valueOf(stats.getSizeBytes())
+                });
+            });
+            csvWriter.writeNext(new String[]{
+                    result.getPolicyName(),
+                    "TOTAL",
+                    "-",
+                    String.valueOf(result.getComponentCount()),
+                    String.valueOf(result.getSizeBytes())
+            });
+        }
+    }
+
+    @Override
+    public void writeDownloadRecencySummary(DownloadRecencySummary summary) throws IOException {
+        csvWriter.writeNext(new String[]{"Last Download", "Components", "Total Size"});
+        for (AgeBucket bucket : summary.getDownloadBuckets()) {
+            csvWriter.writeNext(new String[]{
+                    bucket.getOriginalRange(),
+                    String.valueOf(bucket.getComponentCount()),
+                    String.valueOf(bucket.getSizeBytes())
+            });
+        }
+        csvWriter.writeNext(new String[]{
+                "never",
+                String.valueOf(summary.getNeverDownloadedComponents()),
+                String.valueOf(summary.getNeverDownloadedSizeBytes())
+        });
+
+        csvWriter.writeNext(new String[]{"Repository", "Format", "Components", "Total Size", "Reclaimable Components", "Reclaimable Size"});
+        summary.getRepositoryStats().forEach((repoName, stats) -> {
+            csvWriter.writeNext(new String[]{
+                    repoName,
+                    stats.getFormat(),
+                    String.valueOf(stats.getComponentCount()),
+                    String.valueOf(stats.getSizeBytes()),
+                    String.valueOf(stats.getReclaimableCount()),
+                    String.valueOf(stats.getReclaimableBytes())
+            });
+        });
+        csvWriter.writeNext(new String[]{
+                "TOTAL",
+                "-",
+                String.valueOf(summary.getTotalComponents()),
+                String.valueOf(summary.getTotalSizeBytes()),
+                String.valueOf(summary.getReclaimableComponents()),
+                String.valueOf(summary.getReclaimableSizeBytes())
+        });
+    }
+
+    @Override
+    public void writeDuplicatesSummary(DuplicatesSummary summary) throws IOException {
+        csvWriter.writeNext(new String[]{"Repository A", "Repository B", "Shared Blobs", "Duplicated Size"});
+        for (DuplicatesSummary.RepositoryPair pair : summary.getRepositoryPairs()) {
+            csvWriter.writeNext(new String[]{
+                    pair.getRepositoryA(),
+                    pair.getRepositoryB(),
+                    String.valueOf(pair.getSharedBlobs()),
+                    String.valueOf(pair.getDuplicatedBytes())
+            });
+        }
+        csvWriter.writeNext(new String[]{
+                "TOTAL",
+                "-",
+                String.valueOf(summary.getDuplicatedBlobs()),
+                String.valueOf(summary.getWastedBytes())
+        });
+
+        csvWriter.writeNext(new String[]{"Checksum", "Path", "Copies", "Size", "Wasted Size", "Repositories"});
+        for (DuplicatesSummary.DuplicateArtifact artifact : summary.getTopArtifacts()) {
+            csvWriter.writeNext(new String[]{
+                    artifact.getChecksum(),
+                    artifact.getPath(),
+                    String.valueOf(artifact.getCopies()),
+                    String.valueOf(artifact.getSizeBytes()),
+                    String.valueOf(artifact.getWastedBytes()),
+                    String.join(";", artifact.getRepositories())
+            });
+        }
+    }
+
+    @Override
+    public void writeVersionSprawlSummary(VersionSprawlSummary summary) throws IOException {
+        csvWriter.writeNext(new String[]{"Repository", "Format", "Components", "Versions", "Max Versions", "Total Size", "Snapshot Versions", "Snapshot Size"});
+        summary.getRepositoryStats().forEach((repoName, stats) -> {
+            csvWriter.writeNext(new String[]{
+                    repoName,
+                    stats.getFormat(),
+                    String.valueOf(stats.getCoordinates()),
+                    String.valueOf(stats.getVersions()),
+                    String.valueOf(stats.getMaxVersions()),
+                    String.valueOf(stats.getSizeBytes()),
+                    String.valueOf(stats.getSnapshotVersions()),
+                    String.valueOf(stats.getSnapshotSizeBytes())
+            });
+        });
+        csvWriter.writeNext(new String[]{
+                "TOTAL",
+                "-",
+                String.valueOf(summary.getTotalCoordinates()),
+                String.valueOf(summary.getTotalVersions()),
+                "-",
+                String.valueOf(summary.getTotalSizeBytes()),
+                String.valueOf(summary.getSnapshotVersions()),
+                String.valueOf(summary.getSnapshotSizeBytes())
+        });
+
+        csvWriter.writeNext(new String[]{"Repository", "Group", "Name", "Versions", "Total Size", "Snapshot Versions", "Snapshot Size"});
+        for (VersionSprawlSummary.CoordinateVersions coordinate : summary.getTopCoordinates()) {
+            csvWriter.writeNext(new String[]{
+                    coordinate.getRepository(),
+                    coordinate.getGroup() != null ? coordinate.getGroup() : "",
+                    coordinate.getName(),
+                    String.valueOf(coordinate.getVersions()),
+                    String.valueOf(coordinate.getSizeBytes()),
+                    String.valueOf(coordinate.getSnapshotVersions()),
+                    String.valueOf(coordinate.getSnapshotSizeBytes())
+            });
+        }
+    }
+
+    @Override
+    public void writeSnapshotDiffSummary(SnapshotDiffSummary summary) throws IOException {
+        csvWriter.writeNext(new String[]{"Repository", "Format", "Baseline Components", "Current Components", "Added", "Added Size",
+                "Removed", "Removed Size", "Baseline Size", "Current Size", "Size Delta"});
+        summary.getRepositoryDiffs().forEach((repoName, diff) -> writeDiffRow(repoName, diff.getFormat(), diff));
+        writeDiffRow("TOTAL", "-", summary.getTotal());
+
+        csvWriter.writeNext(new String[]{"Group", "Baseline Components", "Current Components", "Added", "Added Size",
+                "Removed", "Removed Size", "Baseline Size", "Current Size", "Size Delta"});
+        for (SnapshotDiffSummary.GroupDiff diff : summary.getTopGroups()) {
+            writeDiffRow(diff.getGroup(), null, diff);
+        }
+
+        csvWriter.writeNext(new String[]{"Change", "Repository", "Group", "Name", "Version", "Size"});
+        writeChangeRows("added", summary.getTopAdded());
+        writeChangeRows("removed", summary.getTopRemoved());
+    }
+
+    private void writeDiffRow(String name, String format, SnapshotDiffSummary.DiffStats diff) {
+        csvWriter.writeNext(diffRow(name, format, diff));
+    }
+
+    private static String[] diffRow(String name, String format, SnapshotDiffSummary.DiffStats diff) {
+        List<String> row = new ArrayList<>();
+        row.add(name);
+        if (format != null) {
+            row.add(format);
+        }
+        row.add(String.valueOf(diff.getBaselineComponents()));
+        row.add(String.valueOf(diff.getCurrentComponents()));
+        row.add(String.valueOf(diff.getAddedComponents()));
+        row.add(String.valueOf(diff.getAddedSizeBytes()));
+        row.add(String.valueOf(diff.getRemovedComponents()));
+        row.add(String.valueOf(diff.getRemovedSizeBytes()));
+        row.add(String.valueOf(diff.getBaselineSizeBytes()));
+        row.add(String.valueOf(diff.getCurrentSizeBytes()));
+        row.add(String.valueOf(diff.getSizeDelta()));
+        return row.toArray(new String[0]);
+    }
+
+    private void writeChangeRows(String change, List<SnapshotDiffSummary.ComponentChange> components) {
+        for (SnapshotDiffSummary.ComponentChange component : components) {
+            csvWriter.writeNext(new String[]{
+                    change,
+                    component.getRepository(),
+                    component.getGroup() != null ? component.getGroup() : "",
+                    component.getName(),
+                    component.getVersion(),
+                    String.valueOf(component.getSizeBytes())
+            });
+        }
+    }
+
+    @Override
+    public void writeCrossTab(CrossTab crossTab) throws IOException {
+        List<CubeDimension> dimensions = crossTab.getDimensions();
+        String[] header = new String[dimensions.size() + 2];
+        for (int i = 0; i < dimensions.size(); i++) {
+            header[i] = dimensions.get(i).getTitle();
+        }
+        header[dimensions.size()] = "Components";
+        header[dimensions.size() + 1] = "Total Size";
+        csvWriter.writeNext(header);
+        for (CrossTab.Row row : crossTab.getRows()) {
+            String[] line = row.getValues().toArray(new String[dimensions.size() + 2]);
+            line[dimensions.size()] = String.valueOf(row.getComponentCount());
+            line[dimensions.size() + 1] = String.valueOf(row.getSizeBytes());
+            csvWriter.writeNext(line);
+        }
+    }
+
     @Override
     public void writeComponents(List<ComponentXO> components) throws IOException {
         csvWriter.writeNext(new String[]{"Repository", "Group", "Name", "Version", "Size"});
@@ -0,0 +1,384 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import com.pyx4j.nxrm.report.model.*;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Writes the reports and the filtered components into an embedded H2 database file, one table per report section,
+ * for ad-hoc SQL queries after the crawl.
+ * <p>
+ * Tables are replaced when the database already exists. Rows are inserted with batched prepared statements in large
+ * transactions, and the components table is indexed on repository, group and created date once loaded, so the index
+ * is built once instead of on every insert. Sizes are in bytes and times are UTC timestamps. The tables and columns
+ * are those of the Parquet export, with {@code group} named {@code group_name} as it is an SQL keyword.
+ */
+public class DatabaseReportWriter implements ReportWriter {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final int COMMIT_ROWS = 500_000;
+
+    private final Connection connection;
+
+    /**
+     * Opens or creates the database.
+     *
+     * @param file The database file, H2 adds the .mv.db extension when missing
+     * @throws IOException if the database cannot be opened
+     */
+    public DatabaseReportWriter(Path file) throws IOException {
+        String path = file.toAbsolutePath().toString();
+        if (path.endsWith(".mv.db")) {
+            path = path.substring(0, path.length() - ".mv.db".length());
+        }
+        try {
+            this.connection = DriverManager.getConnection("jdbc:h2:file:" + path);
+            this.connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            throw new IOException("Error opening database " + file, e);
+        }
+    }
+
+    @Override
+    public void writeFleetSummary(FleetSummary summary) throws IOException {
+        try (Table table = table("fleet", string("server"), string("url"), int64("repositories"), int64("components"), int64("size_bytes"),
+                int64("crawl_millis"), string("error"))) {
+            for (var entry : summary.getServerStats().entrySet()) {
+                FleetSummary.ServerStats stats = entry.getValue();
+                table.row(entry.getKey(), stats.getUrl(), stats.getRepositoryCount(), stats.getComponentCount(), stats.getSizeBytes(),
+                        stats.getCrawlMillis(), stats.getError());
+            }
+        }
+    }
+
+    @Override
+    public void writeRepositoryComponentsSummary(RepositoryComponentsSummary summary, SortBy sortBy) throws IOException {
+        try (Table table = table("repositories", string("repository"), string("format"), int64("components"), int64("size_bytes"))) {
+            for (var entry : summary.getRepositoryStats().entrySet()) {
+                table.row(entry.getKey(), entry.getValue().getFormat(), entry.getValue().getComponentCount(), entry.getValue().getSizeBytes());
+            }
+        }
+    }
+
+    @Override
+    public void writeGroupsSummary(GroupsSummary summary, SortBy sortBy, int topGroups) throws IOException {
+        // GROUPS is an SQL keyword
+        try (Table table = table("top_groups", string("group_name"), int64("components"), int64("size_bytes"), int64("error"))) {
+            for (var entry : GroupRanking.topGroups(summary, sortBy, topGroups)) {
+                GroupStats stats = entry.getValue();
+                table.row(entry.getKey(), stats.isComponentCountKnown() ? stats.getComponentCount() : null,
+                        stats.isSizeBytesKnown() ? stats.getSizeBytes() : null, summary.isApproximate() ? stats.getError() : null);
+            }
+        }
+    }
+
+    @Override
+    public void writeAgeSummary(AgeSummary summary) throws IOException {
+        try (Table table = table("age", string("age_range"), int64("components"), int64("size_bytes"))) {
+            for (AgeBucket bucket : summary.getAgeBuckets()) {
+                table.row(bucket.getOriginalRange(), bucket.getComponentCount(), bucket.getSizeBytes());
+            }
+        }
+    }
+
+    @Override
+    public void writeGrowthSummary(GrowthSummary summary) throws IOException {
+        try (Table table = table("growth", string("period"), string("repository"), string("format"), int64("components"), int64("size_bytes"),
+                int64("cumulative_size_bytes"))) {
+            for (var entry : summary.getRepositorySeries().entrySet()) {
+                GrowthSummary.GrowthSeries series = entry.getValue();
+                for (int i = 0; i < summary.getPeriods().size(); i++) {
+                    table.row(summary.getPeriods().get(i), entry.getKey(), series.getFormat(), series.getComponentCounts()[i],
+                            series.getSizeBytes()[i], series.getCumulativeSizeBytes()[i]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void writeSizeDistribution(SizeDistributionSummary summary) throws IOException {
+        try (Table table = table("size_distribution", string("repository"), string("format"), string("kind"), int64("count"),
+                int64("p50"), int64("p90"), int64("p99"), int64("max"))) {
+            for (var entry : summary.getRepositoryDistributions().entrySet()) {
+                writeSizeRows(table, entry.getKey(), entry.getValue().getFormat(), entry.getValue());
+            }
+            for (var entry : summary.getFormatDistributions().entrySet()) {
+                writeSizeRows(table, null, entry.getKey(), entry.getValue());
+            }
+            writeSizeRows(table, null, null, summary.getTotal());
+        }
+    }
+
+    private static void writeSizeRows(Table table, String repository, String format, SizeDistribution distribution) throws IOException {
+        for (String kind : List.of("component", "asset")) {
+            SizeSketch sketch = kind.equals("component") ? distribution.getComponentSizes() : distribution.getAssetSizes();
+            table.row(repository, format, kind, sketch.getCount(), sketch.getQuantile(0.5), sketch.getQuantile(0.9), sketch.getQuantile(0.99),
+                    sketch.getMax());
+        }
+    }
+
+    @Override
+    public void writeCleanupSimulationSummary(CleanupSimulationSummary summary) throws IOException {
+        try (Table table = table("cleanup_simulation", string("policy"), string("repository"), string("format"), int64("components"),
+                int64("size_bytes"))) {
+            for (CleanupSimulationSummary.PolicyResult result : summary.getPolicyResults()) {
+                for (var entry : result.getRepositoryStats().entrySet()) {
+                    table.row(result.getPolicyName(), entry.getKey(), entry.getValue().getFormat(), entry.getValue().getComponentCount(),
+                            entry.getValue().getSizeBytes());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void writeDownloadRecencySummary(DownloadRecencySummary summary) throws IOException {
+        try (Table table = table("download_recency", string("last_download"), int64("components"), int64("size_bytes"))) {
+            for (AgeBucket bucket : summary.getDownloadBuckets()) {
+                table.row(bucket.getOriginalRange(), bucket.getComponentCount(), bucket.getSizeBytes());
+            }
+            table.row("never", summary.getNeverDownloadedComponents(), summary.getNeverDownloadedSizeBytes());
+        }
+        try (Table table = table("download_recency_repositories", string("repository"), string("format"), int64("components"),
+                int64("size_bytes"), int64("reclaimable_components"), int64("reclaimable_size_bytes"))) {
+            for (var entry : summary.getRepositoryStats().entrySet()) {
+                var stats = entry.getValue();
+                table.row(entry.getKey(), stats.getFormat(), stats.getComponentCount(), stats.getSizeBytes(), stats.getReclaimableCount(),
+                        stats.getReclaimableBytes());
+            }
+        }
+    }
+
+    @Override
+    public void writeDuplicatesSummary(DuplicatesSummary summary) throws IOException {
+        try (Table table = table("duplicates", string("repository_a"), string("repository_b"), int64("shared_blobs"), int64("duplicated_size_bytes"))) {
+            for (DuplicatesSummary.RepositoryPair pair : summary.getRepositoryPairs()) {
+                table.row(pair.getRepositoryA(), pair.getRepositoryB(), pair.getSharedBlobs(), pair.getDuplicatedBytes());
+            }
+        }
+        try (Table table = table("duplicates_artifacts", string("checksum"), string("path"), int64("copies"), int64("size_bytes"),
+                int64("wasted_size_bytes"), string("repositories"))) {
+            for (DuplicatesSummary.DuplicateArtifact artifact : summary.getTopArtifacts()) {
+                table.row(artifact.getChecksum(), artifact.getPath(), artifact.getCopies(), artifact.getSizeBytes(), artifact.getWastedBytes(),
+                        String.join(";", artifact.getRepositories()));
+            }
+        }
+    }
+
+    @Override
+    public void writeVersionSprawlSummary(VersionSprawlSummary summary) throws IOException {
+        try (Table table = table("version_sprawl", string("repository"), string("format"), int64("components"), int64("versions"),
+                int64("max_versions"), int64("size_bytes"), int64("snapshot_versions"), int64("snapshot_size_bytes"))) {
+            for (var entry : summary.getRepositoryStats().entrySet()) {
+                var stats = entry.getValue();
+                table.row(entry.getKey(), stats.getFormat(), stats.getCoordinates(), stats.getVersions(), stats.getMaxVersions(), stats.getSizeBytes(),
+                        stats.getSnapshotVersions(), stats.getSnapshotSizeBytes());
+            }
+        }
+        try (Table table = table("version_sprawl_components", string("repository"), string("group_name"), string("name"), int64("versions"),
+                int64("size_bytes"), int64("snapshot_versions"), int64("snapshot_size_bytes"))) {
+            for (VersionSprawlSummary.CoordinateVersions coordinate : summary.getTopCoordinates()) {
+                table.row(coordinate.getRepository(), coordinate.getGroup(), coordinate.getName(), coordinate.getVersions(), coordinate.getSizeBytes(),
+                        coordinate.getSnapshotVersions(), coordinate.getSnapshotSizeBytes());
+            }
+        }
+    }
+
+    @Override
+    public void writeSnapshotDiffSummary(SnapshotDiffSummary summary) throws IOException {
+        try (Table table = table("diff", string("repository"), string("format"), int64("baseline_components"), int64("current_components"),
+                int64("added"), int64("added_size_bytes"), int64("removed"), int64("removed_size_bytes"), int64("baseline_size_bytes"),
+                int64("current_size_bytes"), int64("size_delta"))) {
+            for (var entry : summary.getRepositoryDiffs().entrySet()) {
+                SnapshotDiffSummary.DiffStats diff = entry.getValue();
+                table.row(entry.getKey(), entry.getValue().getFormat(), diff.getBaselineComponents(), diff.getCurrentComponents(),
+                        diff.getAddedComponents(), diff.getAddedSizeBytes(), diff.getRemovedComponents(), diff.getRemovedSizeBytes(),
+                        diff.getBaselineSizeBytes(), diff.getCurrentSizeBytes(), diff.getSizeDelta());
+            }
+        }
+        try (Table table = table("diff_components", string("change"), string("repository"), string("group_name"), string("name"), string("version"),
+                int64("size_bytes"))) {
+            for (SnapshotDiffSummary.ComponentChange component : summary.getTopAdded()) {
+                table.row("added", component.getRepository(), component.getGroup(), component.getName(), component.getVersion(), component.getSizeBytes());
+            }
+            for (SnapshotDiffSummary.ComponentChange component : summary.getTopRemoved()) {
+                table.row("removed", component.getRepository(), component.getGroup(), component.getName(), component.getVersion(), component.getSizeBytes());
+            }
+        }
+    }
+
+    @Override
+    public void writeCrossTab(CrossTab crossTab) throws IOException {
+        List<Column> columns = new ArrayList<>();
+        for (CubeDimension dimension : crossTab.getDimensions()) {
+            columns.add(string(dimension == CubeDimension.GROUP ? "group_name" : dimension.getName()));
+        }
+        columns.add(int64("components"));
+        columns.add(int64("size_bytes"));
+        try (Table table = table("cross_tab", columns.toArray(new Column[0]))) {
+            for (CrossTab.Row row : crossTab.getRows()) {
+                List<Object> values = new ArrayList<>(row.getValues());
+                values.add(row.getComponentCount());
+                values.add(row.getSizeBytes());
+                table.row(values.toArray());
+            }
+        }
+    }
+
+    @Override
+    public void writeComponents(List<ComponentXO> components) throws IOException {
+        try (Table table = table("components", string("repository"), string("format"), string("group_name"), string("name"),
+                string("version"), int64("size_bytes"), timestamp("created"), timestamp("last_downloaded"))) {
+            for (ComponentXO component : components) {
+                long created = AgeSummary.getEarliestCreationEpochSecond(component);
+                long lastDownloaded = DownloadRecencySummary.getLatestDownloadEpochSecond(component);
+                table.row(component.getRepository(), component.getFormat(), component.getGroup(), component.getName(), component.getVersion(),
+                        NxReport.calculateComponentSize(component),
+                        created != Long.MAX_VALUE ? Instant.ofEpochSecond(created) : null,
+                        lastDownloaded != DownloadRecencySummary.NEVER_DOWNLOADED ? Instant.ofEpochSecond(lastDownloaded) : null);
+            }
+        }
+        execute("CREATE INDEX components_repository ON components (repository)",
+                "CREATE INDEX components_group_name ON components (group_name)",
+                "CREATE INDEX components_created ON components (created)");
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Error closing database", e);
+        }
+    }
+
+    private void execute(String... statements) throws IOException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IOException("Error executing " + String.join("; ", statements), e);
+        }
+    }
+
+    private Table table(String name, Column... columns) throws IOException {
+        return new Table(name, columns);
+    }
+
+    private static Column string(String name) {
+        return new Column(name, "VARCHAR", Types.VARCHAR);
+    }
+
+    private static Column int64(String name) {
+        return new Column(name, "BIGINT", Types.BIGINT);
+    }
+
+    private static Column timestamp(String name) {
+        return new Column(name, "TIMESTAMP WITH TIME ZONE", Types.TIMESTAMP_WITH_TIMEZONE);
+    }
+
+    private static final class Column {
+
+        private final String name;
+
+        private final String sqlType;
+
+        private final int jdbcType;
+
+        private Column(String name, String sqlType, int jdbcType) {
+            this.name = name;
+            this.sqlType = sqlType;
+            this.jdbcType = jdbcType;
+        }
+    }
+
+    /**
+     * A table created again and filled row by row, rows are sent in batches and committed in large transactions.
+     */
+    private final class Table implements AutoCloseable {
+
+        private final String name;
+
+        private final Column[] columns;
+
+        private final PreparedStatement insert;
+
+        private long rowCount;
+
+        private Table(String name, Column[] columns) throws IOException {
+            this.name = name;
+            this.columns = columns;
+            StringJoiner definitions = new StringJoiner(", ", "CREATE TABLE " + name + " (", ")");
+            StringJoiner parameters = new StringJoiner(", ", "INSERT INTO " + name + " VALUES (", ")");
+            for (Column column : columns) {
+                definitions.add(column.name + " " + column.sqlType);
+                parameters.add("?");
+            }
+            execute("DROP TABLE IF EXISTS " + name, definitions.toString());
+            try {
+                this.insert = connection.prepareStatement(parameters.toString());
+            } catch (SQLException e) {
+                throw new IOException("Error preparing insert into " + name, e);
+            }
+        }
+
+        /**
+         * Adds a row, the values are in column order.
+         *
+         * @param values The row values, strings, numbers, instants or null
+         * @throws IOException if the row cannot be inserted
+         */
+        private void row(Object... values) throws IOException {
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    Object value = values[i];
+                    if (value instanceof String string) {
+                        insert.setString(i + 1, string);
+                    } else if (value instanceof Number number) {
+                        insert.setLong(i + 1, number.longValue());
+                    } else if (value instanceof Instant instant) {
+                        insert.setObject(i + 1, OffsetDateTime.ofInstant(instant, ZoneOffset.UTC));
+                    } else {
+                        insert.setNull(i + 1, columns[i].jdbcType);
+                    }
+                }
+                insert.addBatch();
+                rowCount++;
+                if (rowCount % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+                if (rowCount % COMMIT_ROWS == 0) {
+                    connection.commit();
+                }
+            } catch (SQLException e) {
+                throw new IOException("Error inserting into " + name, e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (insert) {
+                insert.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                throw new IOException("Error inserting into " + name, e);
+            }
+        }
+    }
+}
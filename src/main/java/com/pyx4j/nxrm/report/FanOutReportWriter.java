@@ -0,0 +1,244 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.pyx4j.nxrm.report.model.*;
+import org.jspecify.annotations.NonNull;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Writes the same reports to several writers, e.g., JSON, CSV and OpenMetrics files of a single crawl.
+ * <p>
+ * Every writer has its own lane on a writer pool: the calls are queued and run in order on each writer, and the
+ * writers run concurrently, so the slowest format does not hold up the others. The reports passed must not change
+ * until the fan-out writer is closed. Once a writer fails, its remaining calls are skipped, the other writers
+ * complete, and the first error is thrown on close.
+ * <p>
+ * The reports are committed once all are written. A writer that failed, or every writer when the reports are not
+ * committed, is aborted instead of closed, see {@link ReportWriter#abort()}.
+ */
+final class FanOutReportWriter implements ReportWriter {
+
+    private final List<Lane> sectionLanes = new ArrayList<>();
+
+    private final List<Lane> componentLanes = new ArrayList<>();
+
+    private final List<Lane> lanes;
+
+    private final ExecutorService executor;
+
+    private volatile boolean committed;
+
+    /**
+     * Creates a fan-out writer, a writer of both lists receives the reports and the components.
+     *
+     * @param sectionWriters   The writers of the report sections
+     * @param componentWriters The writers of the filtered components
+     */
+    FanOutReportWriter(@NonNull List<ReportWriter> sectionWriters, @NonNull List<ReportWriter> componentWriters) {
+        Objects.requireNonNull(sectionWriters, "Section writers cannot be null");
+        Objects.requireNonNull(componentWriters, "Component writers cannot be null");
+        Map<ReportWriter, Lane> writerLanes = new IdentityHashMap<>();
+        for (ReportWriter writer : sectionWriters) {
+            sectionLanes.add(writerLanes.computeIfAbsent(writer, Lane::new));
+        }
+        for (ReportWriter writer : componentWriters) {
+            componentLanes.add(writerLanes.computeIfAbsent(writer, Lane::new));
+        }
+        this.lanes = new ArrayList<>(writerLanes.values());
+        this.executor = Executors.newFixedThreadPool(Math.max(lanes.size(), 1), new ThreadFactoryBuilder()
+                .setNameFormat("report-writer-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    @Override
+    public void writeFleetSummary(FleetSummary summary) {
+        dispatch(sectionLanes, writer -> writer.writeFleetSummary(summary));
+    }
+
+    @Override
+    public void writeRepositoryComponentsSummary(RepositoryComponentsSummary summary, SortBy sortBy) {
+        dispatch(sectionLanes, writer -> writer.writeRepositoryComponentsSummary(summary, sortBy));
+    }
+
+    @Override
+    public void writeGroupsSummary(GroupsSummary summary, SortBy sortBy, int topGroups) {
+        dispatch(sectionLanes, writer -> writer.writeGroupsSummary(summary, sortBy, topGroups));
+    }
+
+    @Override
+    public void writeAgeSummary(AgeSummary summary) {
+        dispatch(sectionLanes, writer -> writer.writeAgeSummary(summary));
+    }
+
+    @Override
+    public void writeGrowthSummary(GrowthSummary summary) {
+        dispatch(sectionLanes, writer -> writer.writeGrowthSummary(summary));
+    }
+
+    @Override
+    public void writeSizeDistribution(SizeDistributionSummary summary) {
+        dispatch(sectionLanes, writer -> writer.writeSizeDistribution(summary));
+    }
+
+    @Override
+    public void writeCleanupSimulationSummary(CleanupSimulationSummary summary) {
+        dispatch(sectionLanes, writer -> writer.writeCleanupSimulationSummary(summary));
+    }
+
+    @Override
+    public void writeDownloadRecencySummary(DownloadRecencySummary summary) {
+        dispatch(sectionLanes, writer -> writer.writeDownloadRecencySummary(summary));
+    }
+
+    @Override
+    public void writeDuplicatesSummary(DuplicatesSummary summary) {
+        dispatch(sectionLanes, writer -> writer.writeDuplicatesSummary(summary));
+    }
+
+    @Override
+    public void writeVersionSprawlSummary(VersionSprawlSummary summary) {
+        dispatch(sectionLanes, writer -> writer.writeVersionSprawlSummary(summary));
+    }
+
+    @Override
+    public void writeSnapshotDiffSummary(SnapshotDiffSummary summary) {
+        dispatch(sectionLanes, writer -> writer.writeSnapshotDiffSummary(summary));
+    }
+
+    @Override
+    public void writeCrossTab(CrossTab crossTab) {
+        dispatch(sectionLanes, writer -> writer.writeCrossTab(crossTab));
+    }
+
+    @Override
+    public void writeComponents(List<ComponentXO> components) {
+        dispatch(componentLanes, writer -> writer.writeComponents(components));
+    }
+
+    /**
+     * Marks the reports as complete, the writers that did not fail are then closed normally.
+     */
+    void commit() {
+        committed = true;
+    }
+
+    /**
+     * Closes every writer, also those that failed, and waits for all of them.
+     *
+     * @throws IOException the first error of the writers, the others are suppressed
+     */
+    @Override
+    public void close() throws IOException {
+        IOException error = null;
+        try {
+            List<CompletableFuture<Void>> closed = new ArrayList<>();
+            for (Lane lane : lanes) {
+                closed.add(lane.close());
+            }
+            for (CompletableFuture<Void> future : closed) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    IOException cause = toIOException(e);
+                    if (error == null) {
+                        error = cause;
+                    } else {
+                        error.addSuppressed(cause);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void dispatch(List<Lane> targets, WriterAction action) {
+        for (Lane lane : targets) {
+            lane.enqueue(action);
+        }
+    }
+
+    private static IOException toIOException(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof UncheckedIOException unchecked) {
+            return unchecked.getCause();
+        }
+        if (error instanceof IOException ioException) {
+            return ioException;
+        }
+        return new IOException("Error writing report", error);
+    }
+
+    @FunctionalInterface
+    private interface WriterAction {
+
+        void write(ReportWriter writer) throws IOException;
+    }
+
+    /**
+     * The calls queued on a writer, chained so that they run one at a time in order.
+     */
+    private final class Lane {
+
+        private final ReportWriter writer;
+
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        private Lane(ReportWriter writer) {
+            this.writer = Objects.requireNonNull(writer, "Writer cannot be null");
+        }
+
+        private void enqueue(WriterAction action) {
+            tail = tail.thenRunAsync(() -> run(action), executor);
+        }
+
+        private CompletableFuture<Void> close() {
+            return tail.handleAsync((result, error) -> {
+                IOException writeError = error != null ? toIOException(error) : null;
+                try {
+                    if (writeError == null && committed) {
+                        writer.close();
+                    } else {
+                        writer.abort();
+                    }
+                } catch (IOException e) {
+                    if (writeError == null) {
+                        writeError = e;
+                    } else {
+                        writeError.addSuppressed(e);
+                    }
+                }
+                if (writeError != null) {
+                    throw new UncheckedIOException(writeError);
+                }
+                return null;
+            }, executor);
+        }
+
+        private void run(WriterAction action) {
+            try {
+                action.write(writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.pyx4j.nxrm.report;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.pyx4j.nxrm.report.model.GroupStats;
+import com.pyx4j.nxrm.report.model.GroupsSummary;
+import com.pyx4j.nxrm.report.model.TopK;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Shared top groups selection used by all report renderers so that --group-sort and --top-groups
+ * produce the same rows in the console, JSON and CSV output.
+ */
+final class GroupRanking {
+
+    private GroupRanking() {
+        // Utility class should not be instantiated
+    }
+
+    /**
+     * Selects the top groups according to the specified criteria.
+     *
+     * @param summary   The groups summary
+     * @param sortBy    The sorting criteria
+     * @param topGroups The number of top groups to select
+     * @return Group entries ordered according to the sorting criteria
+     */
+    @NonNull
+    static List<Map.Entry<String, GroupStats>> topGroups(@NonNull GroupsSummary summary, @NonNull SortBy sortBy, int topGroups) {
+        return topGroups(summary, topGroups, sortBy).get(sortBy);
+    }
+
+    /**
+     * Selects the top groups for several sorting criteria in a single pass over the groups.
+     *
+     * @param summary   The groups summary
+     * @param topGroups The number of top groups to select for each criteria
+     * @param sortBy    The sorting criteria to compute
+     * @return Map of sorting criteria to the group entries ordered according to it
+     */
+    @NonNull
+    static Map<SortBy, List<Map.Entry<String, GroupStats>>> topGroups(@NonNull GroupsSummary summary, int topGroups, @NonNull SortBy... sortBy) {
+        Objects.requireNonNull(summary, "Groups summary cannot be null");
+
+        Map<SortBy, TopK<Map.Entry<String, GroupStats>>> selectors = new EnumMap<>(SortBy.class);
+        for (SortBy order : sortBy) {
+            selectors.put(order, new TopK<>(topGroups, comparator(order)));
+        }
+
+        for (Map.Entry<String, GroupStats> entry : summary.getGroupStats().entrySet()) {
+            for (TopK<Map.Entry<String, GroupStats>> selector : selectors.values()) {
+                selector.offer(entry);
+            }
+        }
+
+        Map<SortBy, List<Map.Entry<String, GroupStats>>> result = new EnumMap<>(SortBy.class);
+        selectors.forEach((order, selector) -> result.put(order, selector.toList()));
+        return result;
+    }
+
+    /**
+     * Gets the ranking order for the sorting criteria, ties are broken by group name.
+     *
+     * @param sortBy The sorting criteria
+     * @return Comparator ranking the best group first
+     */
+    @NonNull
+    static Comparator<Map.Entry<String, GroupStats>> comparator(@NonNull SortBy sortBy) {
+        Comparator<Map.Entry<String, GroupStats>> byName = Map.Entry.comparingByKey();
+        switch (sortBy) {
+            case NAME:
+                return byName;
+            case SIZE:
+                return Map.Entry.<String, GroupStats>comparingByValue(
+                                Comparator.comparingLong(GroupStats::getSizeBytes))
+                        .reversed() // Largest first
+                        .thenComparing(byName);
+            case COMPONENTS:
+            default:
+                return Map.Entry.<String, GroupStats>comparingByValue(
+                                Comparator.comparingLong(GroupStats::getComponentCount))
+                        .reversed() // Most components first
+                        .thenComparing(byName);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.hash.Hashing;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records the responses of the Nexus API to a directory, or replays them from it without calling the server.
+ * <p>
+ * Every successful response body is stored gzip compressed in a file named by a hash of the request path and query,
+ * which hold the repository and continuation token of component pages, so the crawl of a replay requests exactly the
+ * recorded pages. The server host is not part of the key, a recording can be replayed with any {@code --url}.
+ * Responses go through the same client and codecs in both modes, only the network is left out on replay.
+ */
+final class HttpRecorder implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpRecorder.class);
+
+    private final Path directory;
+
+    private final boolean replay;
+
+    private HttpRecorder(Path directory, boolean replay) {
+        this.directory = directory;
+        this.replay = replay;
+    }
+
+    /**
+     * Creates the recorder selected by the {@code --record} or {@code --replay} options.
+     *
+     * @param args         The command arguments
+     * @param subdirectory The subdirectory of the server in a multi-server crawl, or null
+     * @return The recorder, or null when neither option is set
+     * @throws UncheckedIOException if the recording directory cannot be created
+     */
+    @Nullable
+    static HttpRecorder fromArgs(@NonNull NxReportCommandArgs args, @Nullable String subdirectory) {
+        Objects.requireNonNull(args, "Command arguments cannot be null");
+        if (args.recordDir != null && args.replayDir != null) {
+            throw new IllegalArgumentException("Cannot combine --record with --replay");
+        }
+        if (args.recordDir != null) {
+            Path directory = subdirectory != null ? Path.of(args.recordDir, subdirectory) : Path.of(args.recordDir);
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error creating recording directory " + directory, e);
+            }
+            log.info("Recording responses to {}", directory);
+            return new HttpRecorder(directory, false);
+        }
+        if (args.replayDir != null) {
+            Path directory = subdirectory != null ? Path.of(args.replayDir, subdirectory) : Path.of(args.replayDir);
+            if (!Files.isDirectory(directory)) {
+                throw new IllegalArgumentException("Replay directory does not exist: " + directory);
+            }
+            log.info("Replaying responses from {}", directory);
+            return new HttpRecorder(directory, true);
+        }
+        return null;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Path file = directory.resolve(fileName(request.url()));
+        if (replay) {
+            return Mono.fromCallable(() -> replay(request, file));
+        }
+        return next.exchange(request).map(response -> {
+            if (!response.statusCode().is2xxSuccessful()) {
+                return response;
+            }
+            return response.mutate()
+                    .body(body -> DataBufferUtils.join(body)
+                            .map(joined -> record(joined, file))
+                            .flux())
+                    .build();
+        });
+    }
+
+    private ClientResponse replay(ClientRequest request, Path file) throws IOException {
+        byte[] body;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            body = in.readAllBytes();
+        } catch (NoSuchFileException e) {
+            throw new IllegalStateException("No recorded response for " + request.method() + " " + request.url(), e);
+        }
+        log.trace("Replaying {} from {}", request.url(), file);
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                .build();
+    }
+
+    private DataBuffer record(DataBuffer joined, Path file) {
+        byte[] body = new byte[joined.readableByteCount()];
+        joined.read(body);
+        DataBufferUtils.release(joined);
+        // Written to a temporary file first so an interrupted recording never leaves a truncated page
+        try {
+            Path temporaryFile = Files.createTempFile(directory, "page", ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temporaryFile))) {
+                out.write(body);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error recording response to " + file, e);
+        }
+        return DefaultDataBufferFactory.sharedInstance.wrap(body);
+    }
+
+    /**
+     * Names the file of a request by a hash of its path and query.
+     *
+     * @param url The request URL
+     * @return The file name
+     */
+    @NonNull
+    static String fileName(@NonNull URI url) {
+        String key = url.getRawQuery() != null ? url.getRawPath() + "?" + url.getRawQuery() : url.getRawPath();
+        return Hashing.sha256().hashString(key, StandardCharsets.UTF_8) + ".json.gz";
+    }
+}
@@ -0,0 +1,61 @@
+package com.pyx4j.nxrm.report;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import picocli.CommandLine;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Enumeration of available HTTP client implementations behind the WebClient of the Nexus API client.
+ */
+public enum HttpTransport {
+
+    /**
+     * Reactor Netty, the WebFlux default.
+     */
+    NETTY,
+
+    /**
+     * The JDK {@code java.net.http.HttpClient} behind the WebClient. Only the connector is swapped, WebFlux and
+     * Reactor are still used, and the Reactor Netty classes stay on the classpath.
+     */
+    JDK;
+
+    /**
+     * Configures the WebClient builder with this transport and the proxy settings if available.
+     *
+     * @param webClientBuilder WebClient builder to configure
+     * @param proxyConfig      Proxy configuration (nullable)
+     * @param http2            true to negotiate HTTP/2, h2 over TLS and h2c otherwise, with fallback to HTTP/1.1
+     * @param secure           true when the server URL is https
+     * @return The configured WebClient builder
+     */
+    public WebClient.Builder configure(WebClient.Builder webClientBuilder, ProxySelector.ProxyConfig proxyConfig, boolean http2, boolean secure) {
+        Objects.requireNonNull(webClientBuilder, "WebClient builder cannot be null");
+        return switch (this) {
+            case NETTY -> {
+                if (!http2) {
+                    yield ProxySelector.configureProxy(webClientBuilder, proxyConfig);
+                }
+                // Streams of concurrent requests are multiplexed on the pooled HTTP/2 connections
+                HttpClient httpClient = HttpClient.create()
+                        .protocol(secure ? HttpProtocol.H2 : HttpProtocol.H2C, HttpProtocol.HTTP11);
+                yield webClientBuilder.clientConnector(new ReactorClientHttpConnector(ProxySelector.configureProxy(httpClient, proxyConfig)));
+            }
+            case JDK -> webClientBuilder.clientConnector(new JdkClientHttpConnector(ProxySelector.createJdkHttpClient(proxyConfig,
+                    http2 ? java.net.http.HttpClient.Version.HTTP_2 : java.net.http.HttpClient.Version.HTTP_1_1)));
+        };
+    }
+
+    public static class CaseInsensitiveEnumConverter implements CommandLine.ITypeConverter<HttpTransport> {
+        @Override
+        public HttpTransport convert(String value) {
+            return HttpTransport.valueOf(value.toUpperCase(Locale.CANADA));
+        }
+    }
+}
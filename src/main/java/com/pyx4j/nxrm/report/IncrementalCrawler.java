@@ -0,0 +1,161 @@
+package com.pyx4j.nxrm.report;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonatype.nexus.ApiClient;
+import org.sonatype.nexus.api.ComponentsApi;
+import org.sonatype.nexus.model.AssetXO;
+import org.sonatype.nexus.model.ComponentXO;
+import org.sonatype.nexus.model.PageComponentXO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Recrawls only the repositories that changed since the previous refresh of the server mode.
+ * <p>
+ * The aggregates of every repository are kept separately. On each refresh the first page of components of every
+ * repository is fetched and fingerprinted; when the fingerprint matches the previous one the kept aggregates are
+ * reused, otherwise the crawl continues from that page into new aggregates. The aggregates of all repositories are
+ * then merged for the reports. The first page only reflects part of a repository, so every repository is crawled
+ * again every {@code --full-refresh-every} refreshes to bound the staleness.
+ */
+final class IncrementalCrawler implements ReportServer.Crawler {
+
+    private static final Logger log = LoggerFactory.getLogger(IncrementalCrawler.class);
+
+    private final ApiClient apiClient;
+
+    private final NxReportCommandArgs args;
+
+    private final Predicate<ComponentXO> componentFilter;
+
+    // Only replaced after a complete refresh, so a failed refresh leaves the previous state usable
+    private Map<String, RepositoryState> repositoryStates = Map.of();
+
+    private int refreshCount;
+
+    IncrementalCrawler(@NonNull ApiClient apiClient, @NonNull NxReportCommandArgs args, @NonNull Predicate<ComponentXO> componentFilter) {
+        this.apiClient = Objects.requireNonNull(apiClient, "API client cannot be null");
+        this.args = Objects.requireNonNull(args, "Command arguments cannot be null");
+        this.componentFilter = Objects.requireNonNull(componentFilter, "Component filter cannot be null");
+        if (args.fullRefreshEvery <= 0) {
+            throw new IllegalArgumentException("Full refresh interval must be positive: " + args.fullRefreshEvery);
+        }
+        if (args.approximateGroups != null) {
+            throw new IllegalArgumentException("Cannot combine --incremental with --approximate-groups");
+        }
+    }
+
+    @Override
+    public Map<String, Instant> crawl(ReportAggregator aggregator) {
+        boolean fullRefresh = refreshCount % args.fullRefreshEvery == 0;
+        Map<String, RepositoryState> previousStates = repositoryStates;
+        Map<String, RepositoryState> states = new ConcurrentHashMap<>();
+        AtomicInteger recrawled = new AtomicInteger();
+        ComponentsApi componentsApi = new ComponentsApi(apiClient);
+
+        NxReport.selectRepositories(apiClient, args)
+                .flatMap(repository -> componentsApi.getComponents(repository.getName(), null)
+                        .flatMap(firstPage -> {
+                            String repoName = repository.getName();
+                            String fingerprint = fingerprint(firstPage);
+                            RepositoryState previous = previousStates.get(repoName);
+                            if (!fullRefresh && previous != null && previous.fingerprint.equals(fingerprint)) {
+                                log.debug("Repository {} is unchanged, reusing the aggregates of {}", repoName, previous.crawledAt);
+                                states.put(repoName, previous);
+                                return Mono.just(repoName);
+                            }
+                            ReportAggregator repositoryAggregator = new ReportAggregator(args);
+                            return NxReport.processComponentsPage(componentsApi, repository, firstPage, repositoryAggregator, componentFilter)
+                                    .then(Mono.fromCallable(() -> {
+                                        states.put(repoName, new RepositoryState(fingerprint, repositoryAggregator, Instant.now()));
+                                        recrawled.incrementAndGet();
+                                        return repoName;
+                                    }));
+                        }))
+                .blockLast();
+
+        refreshCount++;
+        repositoryStates = states;
+        log.info("{} refresh recrawled {} of {} repositories", fullRefresh ? "Full" : "Incremental", recrawled.get(), states.size());
+
+        Map<String, Instant> crawledAt = new TreeMap<>();
+        new TreeMap<>(states).forEach((repoName, state) -> {
+            aggregator.merge(state.aggregator);
+            crawledAt.put(repoName, state.crawledAt);
+        });
+        return crawledAt;
+    }
+
+    /**
+     * Fingerprints the first page of components of a repository.
+     * <p>
+     * Covers the component and asset ids, asset modification times and sizes, and the continuation token, which
+     * changes with the page boundary. Download times are left out, they change on every download of a proxied
+     * component.
+     *
+     * @param page The first page of components
+     * @return The fingerprint
+     */
+    @NonNull
+    static String fingerprint(@Nullable PageComponentXO page) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        if (page != null) {
+            putNullable(hasher, page.getContinuationToken());
+            if (page.getItems() != null) {
+                for (ComponentXO component : page.getItems()) {
+                    putNullable(hasher, component.getId());
+                    putNullable(hasher, component.getVersion());
+                    if (component.getAssets() != null) {
+                        for (AssetXO asset : component.getAssets()) {
+                            putNullable(hasher, asset.getId());
+                            OffsetDateTime lastModified = asset.getLastModified();
+                            hasher.putLong(lastModified != null ? lastModified.toEpochSecond() : Long.MIN_VALUE);
+                            hasher.putLong(asset.getFileSize() != null ? asset.getFileSize() : -1);
+                        }
+                    }
+                }
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putNullable(Hasher hasher, @Nullable String value) {
+        if (value == null) {
+            hasher.putInt(-1);
+        } else {
+            hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * The aggregates of a repository and the fingerprint they were crawled with.
+     */
+    private static final class RepositoryState {
+
+        private final String fingerprint;
+
+        private final ReportAggregator aggregator;
+
+        private final Instant crawledAt;
+
+        private RepositoryState(String fingerprint, ReportAggregator aggregator, Instant crawledAt) {
+            this.fingerprint = fingerprint;
+            this.aggregator = aggregator;
+            this.crawledAt = crawledAt;
+        }
+    }
+}
@@ -2,44 +2,221 @@ package com.pyx4j.nxrm.report;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.pyx4j.nxrm.report.model.AgeSummary;
+import com.pyx4j.nxrm.report.model.CleanupSimulationSummary;
+import com.pyx4j.nxrm.report.model.CrossTab;
+import com.pyx4j.nxrm.report.model.CubeDimension;
+import com.pyx4j.nxrm.report.model.DownloadRecencySummary;
+import com.pyx4j.nxrm.report.model.DuplicatesSummary;
+import com.pyx4j.nxrm.report.model.FleetSummary;
+import com.pyx4j.nxrm.report.model.GroupStats;
 import com.pyx4j.nxrm.report.model.GroupsSummary;
+import com.pyx4j.nxrm.report.model.GrowthSummary;
 import com.pyx4j.nxrm.report.model.RepositoryComponentsSummary;
+import com.pyx4j.nxrm.report.model.SizeDistribution;
+import com.pyx4j.nxrm.report.model.SizeDistributionSummary;
+import com.pyx4j.nxrm.report.model.SizeSketch;
+import com.pyx4j.nxrm.report.model.SnapshotDiffSummary;
+import com.pyx4j.nxrm.report.model.VersionSprawlSummary;
 import org.sonatype.nexus.model.ComponentXO;
 
 public class JsonReportWriter implements ReportWriter {
 
     private final ObjectMapper objectMapper;
     private final Writer writer;
+    private final boolean lineDelimited;
 
     public JsonReportWriter(Writer writer) {
+        this(writer, false);
+    }
+
+    /**
+     * Creates a writer of pretty printed JSON values, or of compact values one per line.
+     *
+     * @param writer        The target writer, closed in close()
+     * @param lineDelimited true to write newline-delimited JSON
+     */
+    protected JsonReportWriter(Writer writer, boolean lineDelimited) {
         this.writer = writer;
+        this.lineDelimited = lineDelimited;
         this.objectMapper = new ObjectMapper();
-        this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        if (lineDelimited) {
+            // Lines are flushed by the caller, not after every value
+            this.objectMapper.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        } else {
+            this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        }
+        // Asset dates are written as ISO-8601 so component exports can be read back as snapshots
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        // Several reports are written to the same file, the writer is closed in close()
+        this.objectMapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void writeFleetSummary(FleetSummary summary) throws IOException {
+        write(summary);
     }
 
     @Override
     public void writeRepositoryComponentsSummary(RepositoryComponentsSummary summary, SortBy sortBy) throws IOException {
-        objectMapper.writeValue(writer, summary);
+        write(summary);
     }
 
     @Override
     public void writeGroupsSummary(GroupsSummary summary, SortBy sortBy, int topGroups) throws IOException {
-        objectMapper.writeValue(writer, summary);
+        // Keep the groups in ranking order and limited to the top groups, same as the other renderers
+        Map<String, Object> groupStats = new LinkedHashMap<>();
+        GroupRanking.topGroups(summary, sortBy, topGroups)
+                .forEach(entry -> groupStats.put(entry.getKey(), groupStatsValue(entry.getValue())));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("groupStats", groupStats);
+        report.put("totalComponents", summary.getTotalComponents());
+        report.put("totalSizeBytes", summary.getTotalSizeBytes());
+        if (summary.isApproximate()) {
+            Map<String, Object> approximate = new LinkedHashMap<>();
+            approximate.put("capacity", summary.getApproximateCapacity());
+            approximate.put("metric", summary.getApproximateMetric());
+            approximate.put("errorBound", summary.getApproximateErrorBound());
+            report.put("approximate", approximate);
+        }
+        write(report);
+    }
+
+    /**
+     * Gets the group stats to write, an unknown metric of an approximate group is written as null.
+     */
+    private static Object groupStatsValue(GroupStats stats) {
+        if (stats.isComponentCountKnown() && stats.isSizeBytesKnown()) {
+            return stats;
+        }
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("componentCount", stats.isComponentCountKnown() ? stats.getComponentCount() : null);
+        value.put("sizeBytes", stats.isSizeBytesKnown() ? stats.getSizeBytes() : null);
+        value.put("error", stats.getError());
+        return value;
     }
 
     @Override
     public void writeAgeSummary(AgeSummary summary) throws IOException {
-        objectMapper.writeValue(writer, summary);
+        write(summary);
+    }
+
+    @Override
+    public void writeGrowthSummary(GrowthSummary summary) throws IOException {
+        write(summary);
+    }
+
+    @Override
+    public void writeSizeDistribution(SizeDistributionSummary summary) throws IOException {
+        Map<String, Object> repositories = new LinkedHashMap<>();
+        summary.getRepositoryDistributions().forEach((repoName, distribution) ->
+                repositories.put(repoName, sizeDistribution(distribution)));
+        Map<String, Object> formats = new LinkedHashMap<>();
+        summary.getFormatDistributions().forEach((format, distribution) ->
+                formats.put(format, sizeDistribution(distribution)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("relativeAccuracy", summary.getTotal().getComponentSizes().getRelativeAccuracy());
+        report.put("repositories", repositories);
+        report.put("formats", formats);
+        report.put("total", sizeDistribution(summary.getTotal()));
+        write(report);
+    }
+
+    private static Map<String, Object> sizeDistribution(SizeDistribution distribution) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (distribution.getFormat() != null) {
+            values.put("format", distribution.getFormat());
+        }
+        values.put("components", sizeQuantiles(distribution.getComponentSizes()));
+        values.put("assets", sizeQuantiles(distribution.getAssetSizes()));
+        return values;
+    }
+
+    private static Map<String, Object> sizeQuantiles(SizeSketch sketch) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", sketch.getCount());
+        values.put("p50", sketch.getQuantile(0.5));
+        values.put("p90", sketch.getQuantile(0.9));
+        values.put("p99", sketch.getQuantile(0.99));
+        values.put("max", sketch.getMax());
+        return values;
+    }
+
+    @Override
+    public void writeCleanupSimulationSummary(CleanupSimulationSummary summary) throws IOException {
+        write(summary);
+    }
+
+    @Override
+    public void writeDownloadRecencySummary(DownloadRecencySummary summary) throws IOException {
+        write(summary);
+    }
+
+    @Override
+    public void writeDuplicatesSummary(DuplicatesSummary summary) throws IOException {
+        write(summary);
+    }
+
+    @Override
+    public void writeVersionSprawlSummary(VersionSprawlSummary summary) throws IOException {
+        write(summary);
+    }
+
+    @Override
+    public void writeSnapshotDiffSummary(SnapshotDiffSummary summary) throws IOException {
+        write(summary);
+    }
+
+    @Override
+    public void writeCrossTab(CrossTab crossTab) throws IOException {
+        List<String> dimensions = crossTab.getDimensions().stream()
+                .map(CubeDimension::getName)
+                .toList();
+        List<Map<String, Object>> rows = new ArrayList<>(crossTab.getRows().size());
+        for (CrossTab.Row row : crossTab.getRows()) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (int i = 0; i < dimensions.size(); i++) {
+                values.put(dimensions.get(i), row.getValues().get(i));
+            }
+            values.put("componentCount", row.getComponentCount());
+            values.put("sizeBytes", row.getSizeBytes());
+            rows.add(values);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("dimensions", dimensions);
+        report.put("rows", rows);
+        write(report);
     }
 
     @Override
     public void writeComponents(List<ComponentXO> components) throws IOException {
-        objectMapper.writeValue(writer, components);
+        write(components);
+    }
+
+    /**
+     * Writes a JSON value, followed by a newline when the output is newline-delimited.
+     *
+     * @param value The value
+     * @throws IOException if the value cannot be written
+     */
+    protected void write(Object value) throws IOException {
+        objectMapper.writeValue(writer, value);
+        if (lineDelimited) {
+            writer.write('\n');
+        }
     }
 
     @Override
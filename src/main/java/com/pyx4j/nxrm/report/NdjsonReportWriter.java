@@ -0,0 +1,63 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Writes newline-delimited JSON: every report section and every component is a compact JSON object on its own line.
+ * <p>
+ * The components can be streamed page by page while crawling, see {@link ReportAggregator#streamComponents}, so
+ * consumers can start reading before the crawl ends and the components are never kept in memory. Streamed lines
+ * are flushed at least every second, a compressed file then grows by blocks, see {@link ParallelCompressionOutputStream}.
+ */
+public class NdjsonReportWriter extends JsonReportWriter implements ComponentStreamWriter {
+
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Writer writer;
+
+    private long lastFlushNanos = System.nanoTime();
+
+    public NdjsonReportWriter(Writer writer) {
+        super(writer, true);
+        this.writer = writer;
+    }
+
+    /**
+     * Checks if a file is written as newline-delimited JSON, by its .ndjson or .jsonl extension, possibly followed
+     * by a compression extension.
+     *
+     * @param filePath The file path
+     * @return true for newline-delimited JSON files
+     */
+    static boolean isNdjson(@Nullable String filePath) {
+        if (filePath == null) {
+            return false;
+        }
+        String formatPath = OutputCompression.stripExtension(filePath);
+        return formatPath.endsWith(".ndjson") || formatPath.endsWith(".jsonl");
+    }
+
+    @Override
+    public void writeComponents(List<ComponentXO> components) throws IOException {
+        writeComponentsPage(components);
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void writeComponentsPage(List<ComponentXO> page) throws IOException {
+        for (ComponentXO component : page) {
+            write(component);
+        }
+        long now = System.nanoTime();
+        if (now - lastFlushNanos >= FLUSH_INTERVAL_NANOS) {
+            writer.flush();
+            lastFlushNanos = now;
+        }
+    }
+}
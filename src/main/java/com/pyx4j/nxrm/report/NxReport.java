@@ -1,16 +1,36 @@
 package com.pyx4j.nxrm.report;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 import com.pyx4j.nxrm.report.model.AgeSummary;
+import com.pyx4j.nxrm.report.model.CleanupPolicy;
+import com.pyx4j.nxrm.report.model.CleanupSimulationSummary;
+import com.pyx4j.nxrm.report.model.CrossTab;
+import com.pyx4j.nxrm.report.model.CubeDimension;
+import com.pyx4j.nxrm.report.model.DownloadRecencySummary;
+import com.pyx4j.nxrm.report.model.DuplicatesSummary;
+import com.pyx4j.nxrm.report.model.FleetSummary;
 import com.pyx4j.nxrm.report.model.GroupsSummary;
+import com.pyx4j.nxrm.report.model.GrowthSummary;
 import com.pyx4j.nxrm.report.model.RepositoryComponentsSummary;
+import com.pyx4j.nxrm.report.model.SizeDistributionSummary;
+import com.pyx4j.nxrm.report.model.SnapshotDiff;
+import com.pyx4j.nxrm.report.model.SnapshotDiffSummary;
+import com.pyx4j.nxrm.report.model.VersionSprawlSummary;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonatype.nexus.ApiClient;
@@ -18,9 +38,11 @@ import org.sonatype.nexus.api.ComponentsApi;
 import org.sonatype.nexus.api.RepositoryManagementApi;
 import org.sonatype.nexus.model.AbstractApiRepository;
 import org.sonatype.nexus.model.ComponentXO;
+import org.sonatype.nexus.model.PageComponentXO;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public final class NxReport {
@@ -31,24 +53,42 @@ public final class NxReport {
         // Utility class should not be instantiated
     }
 
-    private static ApiClient createApiClient(NxReportCommandArgs args) {
+    static ApiClient createApiClient(NxReportCommandArgs args) {
         Objects.requireNonNull(args, "Command arguments cannot be null");
-        Objects.requireNonNull(args.nexusServerUrl, "Nexus server URL cannot be null");
+        return createApiClient(args, new CompressionFilter(args.compression));
+    }
+
+    static ApiClient createApiClient(NxReportCommandArgs args, CompressionFilter compressionFilter) {
+        Objects.requireNonNull(args, "Command arguments cannot be null");
+        Objects.requireNonNull(compressionFilter, "Compression filter cannot be null");
+        return createApiClient(args.nexusServerUrl, args.nexusUsername, args.nexusPassword, args.nexusToken, args.proxyUrl, args, compressionFilter,
+                HttpRecorder.fromArgs(args, null));
+    }
 
-        log.info("Initializing report generation for Nexus server: {}", args.nexusServerUrl);
+    private static ApiClient createApiClient(String serverUrl, String username, String password, @Nullable String token, @Nullable String proxyUrl,
+                                             NxReportCommandArgs args, CompressionFilter compressionFilter, @Nullable HttpRecorder recorder) {
+        Objects.requireNonNull(serverUrl, "Nexus server URL cannot be null");
+
+        log.info("Initializing report generation for Nexus server: {}", serverUrl);
 
         // There is no authentication configured in swagger, so apiClient.setUsername(args.nexusUsername) can't be used here
         String authorizationHeader;
-        if (args.nexusToken != null && !args.nexusToken.isEmpty()) {
-            authorizationHeader = "Bearer " + args.nexusToken;
+        if (token != null && !token.isEmpty()) {
+            authorizationHeader = "Bearer " + token;
         } else {
-            authorizationHeader = "Basic " + Base64.getEncoder().encodeToString((args.nexusUsername + ":" + args.nexusPassword).getBytes(StandardCharsets.UTF_8));
+            authorizationHeader = "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
         }
 
         // Configure proxy settings
-        ProxySelector.ProxyConfig proxyConfig = ProxySelector.selectProxy(args.nexusServerUrl, args.proxyUrl);
+        ProxySelector.ProxyConfig proxyConfig = ProxySelector.selectProxy(serverUrl, proxyUrl);
 
-        WebClient webClient = ProxySelector.configureProxy(WebClient.builder(), proxyConfig)
+        WebClient.Builder webClientBuilder = args.transport.configure(WebClient.builder(), proxyConfig, args.http2, serverUrl.startsWith("https://"));
+        if (recorder != null) {
+            // Outermost, so the decompressed responses are recorded and replayed ones skip the network
+            webClientBuilder.filter(recorder);
+        }
+        WebClient webClient = webClientBuilder
+                .filter(compressionFilter)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.AUTHORIZATION, authorizationHeader)
@@ -57,7 +97,7 @@ public final class NxReport {
 
         // Initialize API clients
         ApiClient apiClient = new ApiClient(webClient);
-        apiClient.setBasePath(args.nexusServerUrl + "/service/rest");
+        apiClient.setBasePath(serverUrl + "/service/rest");
 
         return apiClient;
     }
@@ -66,73 +106,77 @@ public final class NxReport {
         // Create component filter based on command line arguments
         var componentFilter = ComponentFilter.createFilter(args);
 
-        // Create our summary objects based on report type
-        RepositoryComponentsSummary repositoryComponentsSummary = new RepositoryComponentsSummary();
-        GroupsSummary groupsSummary = new GroupsSummary();
+        // Validate cross-tab dimensions before crawling
+        List<CubeDimension> crossTabDimensions = args.crossTab != null ? CubeDimension.parseList(args.crossTab) : null;
+        if (crossTabDimensions != null && crossTabDimensions.contains(CubeDimension.GROUP) && args.approximateGroups != null) {
+            throw new IllegalArgumentException("Cannot combine --cross-tab by group with --approximate-groups");
+        }
+
+        if (args.outputPartialFile != null && args.approximateGroups != null) {
+            throw new IllegalArgumentException("Cannot combine --output-partial with --approximate-groups");
+        }
+
+        if (args.outputComponentFiles.stream().anyMatch(OpenMetricsReportWriter::isOpenMetrics)) {
+            throw new IllegalArgumentException("Components cannot be exported as OpenMetrics, use a .prom file with --output-file");
+        }
+
+        if (args.serversFile != null) {
+            return generateFleetReport(args, componentFilter, crossTabDimensions);
+        }
+
+        // Load the candidate cleanup policies before crawling
+        List<CleanupPolicy> cleanupPolicies = null;
+        if ("simulate-cleanup".equals(args.report)) {
+            if (args.policiesFile == null) {
+                throw new IllegalArgumentException("The simulate-cleanup report requires --policies");
+            }
+            try {
+                cleanupPolicies = CleanupSimulator.loadPolicies(args.policiesFile);
+            } catch (IOException e) {
+                log.error("Error reading cleanup policies file {}", args.policiesFile, e);
+                return 1;
+            }
+        }
 
-        // Parse age buckets and create AgeSummary
-        List<String> ageBucketRanges = Arrays.asList(args.ageBuckets.split(","));
-        AgeSummary ageSummary = new AgeSummary(ageBucketRanges);
+        // All reports are projections of the data collected in a single crawl
+        ReportAggregator aggregator = new ReportAggregator(args, cleanupPolicies);
 
-        repositoryComponentsSummary.setEnabled("all".equals(args.report) || "repositories-summary".equals(args.report));
-        groupsSummary.setEnabled("all".equals(args.report) || "top-groups".equals(args.report));
-        ageSummary.setEnabled("all".equals(args.report) || "age-report".equals(args.report));
+        if (args.fromSnapshot != null) {
+            return generateReportFromSnapshot(args, aggregator, componentFilter, crossTabDimensions);
+        }
+        if (args.nexusServerUrl == null || args.nexusServerUrl.isBlank()) {
+            aggregator.close();
+            throw new IllegalArgumentException("Missing required option '--url' or NEXUS_URL environment variable");
+        }
+
+        List<ComponentStreamWriter> componentStreams;
+        try {
+            componentStreams = openComponentStreams(args);
+        } catch (IOException e) {
+            log.error("Error opening component files {}", args.outputComponentFiles, e);
+            aggregator.close();
+            return 1;
+        }
+        componentStreams.forEach(aggregator::streamComponents);
+
+        CompressionFilter compressionFilter = new CompressionFilter(args.compression);
+        ApiClient apiClient = createApiClient(args, compressionFilter);
+        if (args.engine == CrawlEngine.VIRTUAL_THREADS) {
+            int exitCode = generateBlockingReport(apiClient, args, aggregator, componentFilter, crossTabDimensions);
+            compressionFilter.logTransferVolume(args.nexusServerUrl);
+            return closeComponentStreams(componentStreams, exitCode);
+        }
 
         // Use CountDownLatch to control flow in the main thread
         AtomicInteger resultCode = new AtomicInteger(0);
         CountDownLatch latch = new CountDownLatch(1);
-        AtomicReference<List<ComponentXO>> filteredComponents = new AtomicReference<>(new ArrayList<>());
-
-        ApiClient apiClient = createApiClient(args);
-        RepositoryManagementApi repoApi = new RepositoryManagementApi(apiClient);
 
         // Build the reactive pipeline
-        repoApi.getRepositories()
-                .doOnNext(repository -> log.debug("Found {} repository of type {}", repository.getName(), repository.getType()))
-                .filter(repository -> !repository.getType().equals(AbstractApiRepository.TypeEnum.GROUP)) // Exclude group repositories
-                .filter(repository -> ComponentFilter.matchesRepositoryFilter(repository.getName(), args.repositories)) // Filter repositories early
-                .doOnNext(repository -> log.trace("Processing repository: {}", repository.getName()))
-                .flatMap(repository -> processRepositoryComponents(apiClient, repository, repositoryComponentsSummary, groupsSummary, ageSummary, componentFilter, filteredComponents.get()))
+        crawlRepositories(apiClient, args, aggregator, componentFilter)
                 .collectList()
                 .doOnSuccess(allRepos -> {
-                    try (ReportWriter reportWriter = ReportWriterFactory.create(args.outputFile);
-                         ReportWriter componentWriter = ReportWriterFactory.create(args.outputComponentFile)) {
-
-                        if (reportWriter != null) {
-                            if (repositoryComponentsSummary.isEnabled()) {
-                                reportWriter.writeRepositoryComponentsSummary(repositoryComponentsSummary, args.repositoriesSortBy);
-                            }
-                            if (groupsSummary.isEnabled()) {
-                                reportWriter.writeGroupsSummary(groupsSummary, args.groupSort, args.topGroups);
-                            }
-                            if (ageSummary.isEnabled()) {
-                                reportWriter.writeAgeSummary(ageSummary);
-                            }
-                        } else {
-                            boolean hasPreviousOutput = false;
-                            if (repositoryComponentsSummary.isEnabled()) {
-                                NxReportConsole.printSummary(repositoryComponentsSummary, args.repositoriesSortBy);
-                                hasPreviousOutput = true;
-                            }
-                            if (groupsSummary.isEnabled()) {
-                                if (hasPreviousOutput) {
-                                    System.out.println(); // Add blank line between reports
-                                }
-                                NxReportConsole.printGroupsSummary(groupsSummary, args.groupSort, args.topGroups);
-                                hasPreviousOutput = true;
-                            }
-                            if (ageSummary.isEnabled()) {
-                                if (hasPreviousOutput) {
-                                    System.out.println(); // Add blank line between reports
-                                }
-                                NxReportConsole.printAgeSummary(ageSummary);
-                            }
-                        }
-
-                        if (componentWriter != null) {
-                            componentWriter.writeComponents(filteredComponents.get());
-                        }
-
+                    try {
+                        writeReports(args, aggregator, crossTabDimensions);
                         resultCode.set(0);
                     } catch (IOException e) {
                         log.error("Error writing report file", e);
@@ -143,7 +187,10 @@ public final class NxReport {
                     log.error("Error generating report", ex);
                     resultCode.set(1);
                 })
-                .doFinally(signal -> latch.countDown())
+                .doFinally(signal -> {
+                    aggregator.close();
+                    latch.countDown();
+                })
                 .subscribe();
 
         // Wait for completion
@@ -152,76 +199,717 @@ public final class NxReport {
         } catch (InterruptedException e) {
             log.error("Report generation interrupted", e);
             Thread.currentThread().interrupt();
+            return closeComponentStreams(componentStreams, 1);
+        }
+
+        compressionFilter.logTransferVolume(args.nexusServerUrl);
+        return closeComponentStreams(componentStreams, resultCode.get());
+    }
+
+    /**
+     * Opens the component exports for streaming while crawling, newline-delimited JSON and Parquet are streamed.
+     *
+     * @param args The command arguments
+     * @return The component writers, empty when the components are not streamed
+     * @throws IOException if a file cannot be created
+     */
+    private static List<ComponentStreamWriter> openComponentStreams(NxReportCommandArgs args) throws IOException {
+        List<ComponentStreamWriter> componentStreams = new ArrayList<>();
+        for (String componentFile : args.outputComponentFiles) {
+            if (ComponentStreamWriter.isStreamed(componentFile)) {
+                try {
+                    ComponentStreamWriter componentStream = (ComponentStreamWriter) ReportWriterFactory.create(componentFile);
+                    componentStreams.add(componentStream);
+                    componentStream.openComponents();
+                } catch (IOException e) {
+                    closeComponentStreams(componentStreams, 1);
+                    throw e;
+                }
+            }
+        }
+        return componentStreams;
+    }
+
+    private static int closeComponentStreams(List<ComponentStreamWriter> componentStreams, int exitCode) {
+        for (ComponentStreamWriter componentStream : componentStreams) {
+            try {
+                componentStream.close();
+            } catch (IOException e) {
+                log.error("Error writing component file", e);
+                exitCode = 1;
+            }
+        }
+        return exitCode;
+    }
+
+    /**
+     * Crawls the repositories with the blocking engine and writes the reports.
+     *
+     * @param apiClient          The Nexus API client
+     * @param args               The command arguments
+     * @param aggregator         The aggregator, closed once the reports are written
+     * @param componentFilter    The component filter
+     * @param crossTabDimensions The cross-tab dimensions, or null
+     * @return The exit code
+     */
+    private static int generateBlockingReport(ApiClient apiClient, NxReportCommandArgs args, ReportAggregator aggregator,
+                                              Predicate<ComponentXO> componentFilter, @Nullable List<CubeDimension> crossTabDimensions) {
+        try (aggregator) {
+            List<AbstractApiRepository> repositories = selectRepositories(apiClient, args).collectList().block();
+            ComponentsApi componentsApi = new ComponentsApi(apiClient);
+            new BlockingCrawler(args.maxConnections).crawl(Objects.requireNonNull(repositories, "Repositories cannot be null"),
+                    (repoName, continuationToken) -> componentsApi.getComponents(repoName, continuationToken).block(),
+                    aggregator, componentFilter);
+            writeReports(args, aggregator, crossTabDimensions);
+            return 0;
+        } catch (IOException e) {
+            log.error("Error writing report file", e);
+            return 1;
+        } catch (InterruptedException e) {
+            log.error("Report generation interrupted", e);
+            Thread.currentThread().interrupt();
+            return 1;
+        } catch (RuntimeException e) {
+            log.error("Error generating report", e);
+            return 1;
+        }
+    }
+
+    /**
+     * Crawls every server of the servers file in parallel, each with its own API client and concurrency budget,
+     * and writes the per-server summary and the reports of the whole fleet.
+     * <p>
+     * Repository names are prefixed with the server name. A failed server is reported and left out of the fleet
+     * reports, the other servers are still reported.
+     *
+     * @param args               The command arguments
+     * @param componentFilter    The component filter
+     * @param crossTabDimensions The cross-tab dimensions, or null
+     * @return The exit code, 1 when any server failed
+     */
+    private static int generateFleetReport(NxReportCommandArgs args, Predicate<ComponentXO> componentFilter, @Nullable List<CubeDimension> crossTabDimensions) {
+        if (args.fromSnapshot != null) {
+            throw new IllegalArgumentException("Cannot combine --servers with --from-snapshot");
+        }
+        if (args.approximateGroups != null) {
+            throw new IllegalArgumentException("Cannot combine --servers with --approximate-groups");
+        }
+        if (args.engine != CrawlEngine.REACTOR) {
+            throw new IllegalArgumentException("Cannot combine --servers with --engine virtual-threads");
+        }
+        if (Set.of("duplicates", "version-sprawl", "simulate-cleanup").contains(args.report)) {
+            throw new IllegalArgumentException("The " + args.report + " report is not supported with --servers");
+        }
+        List<ServerConfig> servers;
+        try {
+            servers = ServerConfig.load(args.serversFile);
+        } catch (IOException e) {
+            log.error("Error reading servers file {}", args.serversFile, e);
+            return 1;
+        }
+
+        List<ComponentStreamWriter> componentStreams;
+        try {
+            componentStreams = openComponentStreams(args);
+        } catch (IOException e) {
+            log.error("Error opening component files {}", args.outputComponentFiles, e);
             return 1;
         }
 
-        return resultCode.get();
+        Map<String, ReportAggregator> serverAggregators = new ConcurrentHashMap<>();
+        Map<String, FleetSummary.ServerStats> serverStats = new ConcurrentHashMap<>();
+        Flux.fromIterable(servers)
+                .flatMap(server -> crawlServer(args, server, componentFilter, componentStreams, serverAggregators, serverStats))
+                .blockLast();
+
+        FleetSummary fleetSummary = new FleetSummary();
+        try (ReportAggregator fleetAggregator = new ReportAggregator(args)) {
+            componentStreams.forEach(fleetAggregator::streamComponents);
+            for (ServerConfig server : servers) {
+                fleetSummary.addServerStats(server.getName(), serverStats.get(server.getName()));
+                ReportAggregator serverAggregator = serverAggregators.get(server.getName());
+                if (serverAggregator != null) {
+                    fleetAggregator.merge(serverAggregator);
+                }
+            }
+            writeReports(args, fleetAggregator, crossTabDimensions, fleetSummary);
+        } catch (IOException e) {
+            log.error("Error writing report file", e);
+            return closeComponentStreams(componentStreams, 1);
+        }
+        return closeComponentStreams(componentStreams, fleetSummary.getFailedServers() > 0 ? 1 : 0);
     }
 
+    private static Mono<Void> crawlServer(NxReportCommandArgs args, ServerConfig server, Predicate<ComponentXO> componentFilter,
+                                          List<ComponentStreamWriter> componentStreams, Map<String, ReportAggregator> serverAggregators,
+                                          Map<String, FleetSummary.ServerStats> serverStats) {
+        long started = System.nanoTime();
+        AtomicInteger repositoryCount = new AtomicInteger();
+        ReportAggregator serverAggregator = new ReportAggregator(args, null, server.getName() + "/");
+        componentStreams.forEach(serverAggregator::streamComponents);
+        CompressionFilter compressionFilter = new CompressionFilter(args.compression);
+        return Mono.defer(() -> {
+                    ApiClient apiClient = createApiClient(server.getUrl(),
+                            server.getUsername() != null ? server.getUsername() : args.nexusUsername,
+                            server.getPassword() != null ? server.getPassword() : args.nexusPassword,
+                            server.getToken() != null ? server.getToken() : args.nexusToken,
+                            server.getProxy() != null ? server.getProxy() : args.proxyUrl,
+                            args, compressionFilter, HttpRecorder.fromArgs(args, server.getName()));
+                    Flux<String> repositories = server.getConcurrency() != null
+                            ? crawlRepositories(apiClient, args, serverAggregator, componentFilter, server.getConcurrency())
+                            : crawlRepositories(apiClient, args, serverAggregator, componentFilter);
+                    return repositories.doOnNext(repoName -> repositoryCount.incrementAndGet()).then();
+                })
+                .doOnSuccess(ignored -> {
+                    RepositoryComponentsSummary summary = serverAggregator.getRepositoryComponentsSummary();
+                    long crawlMillis = (System.nanoTime() - started) / 1_000_000;
+                    log.info("Server {} crawled in {} ms", server.getName(), crawlMillis);
+                    compressionFilter.logTransferVolume(server.getUrl());
+                    serverStats.put(server.getName(), new FleetSummary.ServerStats(server.getUrl(), repositoryCount.get(),
+                            summary.getTotalComponents(), summary.getTotalSizeBytes(), crawlMillis, null));
+                    serverAggregators.put(server.getName(), serverAggregator);
+                })
+                .onErrorResume(e -> {
+                    log.error("Error crawling server {} ({})", server.getName(), server.getUrl(), e);
+                    serverStats.put(server.getName(), new FleetSummary.ServerStats(server.getUrl(), 0, 0, 0,
+                            (System.nanoTime() - started) / 1_000_000, e.getMessage() != null ? e.getMessage() : e.getClass().getName()));
+                    serverAggregator.close();
+                    return Mono.empty();
+                });
+    }
 
-    private static Mono<Void> processRepositoryComponents(ApiClient apiClient, AbstractApiRepository repository, RepositoryComponentsSummary repositoryComponentsSummary, GroupsSummary groupsSummary, AgeSummary ageSummary, Predicate<ComponentXO> componentFilter, List<ComponentXO> filteredComponents) {
+    /**
+     * Compares two component snapshots.
+     * <p>
+     * Both snapshots are read and sorted concurrently, then merge-joined in a single pass.
+     *
+     * @param args The command arguments
+     * @return The exit code
+     */
+    public static int generateDiffReport(NxReportCommandArgs args) {
+        if (args.fromSnapshot == null || args.toSnapshot == null) {
+            throw new IllegalArgumentException("The diff report requires --from-snapshot and --to-snapshot");
+        }
+        var componentFilter = ComponentFilter.createFilter(args);
+        Predicate<ComponentXO> snapshotFilter = component -> ComponentFilter.matchesRepositoryFilter(component.getRepository(), args.repositories)
+                && componentFilter.test(component);
+
+        log.info("Comparing component snapshot {} with {}", args.fromSnapshot, args.toSnapshot);
+        try (SnapshotDiff diff = new SnapshotDiff()) {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            CompletableFuture<Long> baseline = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return ComponentSnapshotReader.read(args.fromSnapshot, component -> {
+                        if (cancelled.get()) {
+                            throw new CancellationException("Reading the current snapshot failed");
+                        }
+                        if (snapshotFilter.test(component)) {
+                            diff.addBaseline(component, calculateComponentSize(component));
+                        }
+                    });
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            long currentCount;
+            try {
+                currentCount = ComponentSnapshotReader.read(args.toSnapshot, component -> {
+                    if (snapshotFilter.test(component)) {
+                        diff.addCurrent(component, calculateComponentSize(component));
+                    }
+                });
+            } catch (IOException | RuntimeException e) {
+                // Stop the baseline reader and wait for it, it must not feed the diff once its spill files are deleted
+                cancelled.set(true);
+                baseline.handle((count, error) -> count).join();
+                throw e;
+            }
+            long baselineCount;
+            try {
+                baselineCount = baseline.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                }
+                throw e;
+            }
+            log.debug("Read {} baseline and {} current components", baselineCount, currentCount);
+
+            SnapshotDiffSummary summary = diff.summarize(args.topGroups, args.topChanges);
+            try (FanOutReportWriter outputWriter = openOutputWriters(args, List.of())) {
+                if (outputWriter != null) {
+                    outputWriter.writeSnapshotDiffSummary(summary);
+                    outputWriter.commit();
+                }
+                if (args.outputFiles.isEmpty()) {
+                    NxReportConsole.printSnapshotDiffSummary(summary);
+                }
+            }
+            return 0;
+        } catch (IOException e) {
+            log.error("Error comparing component snapshots {} and {}", args.fromSnapshot, args.toSnapshot, e);
+            return 1;
+        }
+    }
+
+    /**
+     * Serves the reports over a local HTTP API, crawling the server again on every refresh interval.
+     * <p>
+     * Blocks until the process is stopped.
+     *
+     * @param args The command arguments
+     * @return The exit code
+     */
+    public static int serve(NxReportCommandArgs args) {
+        if (args.nexusServerUrl == null || args.nexusServerUrl.isBlank()) {
+            throw new IllegalArgumentException("Missing required option '--url' or NEXUS_URL environment variable");
+        }
+        var componentFilter = ComponentFilter.createFilter(args);
+        ApiClient apiClient = createApiClient(args);
+
+        ReportServer.Crawler crawler;
+        if (args.incremental) {
+            crawler = new IncrementalCrawler(apiClient, args, componentFilter);
+        } else {
+            crawler = aggregator -> {
+                Map<String, Instant> repositoryRefreshedAt = new ConcurrentHashMap<>();
+                crawlRepositories(apiClient, args, aggregator, componentFilter)
+                        .doOnNext(repoName -> repositoryRefreshedAt.put(repoName, Instant.now()))
+                        .blockLast();
+                return repositoryRefreshedAt;
+            };
+        }
+
+        ReportServer server;
+        try {
+            server = new ReportServer(args, crawler);
+        } catch (IOException e) {
+            log.error("Error starting the report server on {}:{}", args.bindAddress, args.port, e);
+            return 1;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "report-server-shutdown"));
+        server.start();
+        try {
+            server.awaitClose();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.close();
+        }
+        return 0;
+    }
+
+    /**
+     * Combines the partial aggregates written by the shards of a crawl and writes the reports of the whole crawl.
+     *
+     * @param args The command arguments
+     * @return The exit code
+     */
+    public static int mergePartials(NxReportCommandArgs args) {
+        if (args.partialFiles == null || args.partialFiles.isEmpty()) {
+            throw new IllegalArgumentException("The merge command requires at least one --partial file");
+        }
+        if (args.approximateGroups != null) {
+            throw new IllegalArgumentException("Cannot combine the merge command with --approximate-groups");
+        }
+        List<CubeDimension> crossTabDimensions = args.crossTab != null ? CubeDimension.parseList(args.crossTab) : null;
+
+        try (ReportAggregator aggregator = new ReportAggregator(args)) {
+            Set<Shard> shards = new HashSet<>();
+            for (String partialFile : args.partialFiles) {
+                Shard shard = PartialAggregateFile.read(partialFile, aggregator.getCube());
+                log.debug("Merged partial aggregate {} of shard {}", partialFile, shard);
+                if (!shards.add(shard)) {
+                    log.warn("Shard {} is merged more than once, its components are counted twice", shard);
+                }
+            }
+            int shardCount = shards.iterator().next().getCount();
+            if (shards.size() != shardCount || shards.stream().anyMatch(shard -> shard.getCount() != shardCount)) {
+                log.warn("Partial aggregates cover shards {}, the reports are incomplete unless all shards of the same crawl are merged", shards);
+            }
+
+            writeReports(args, aggregator, crossTabDimensions);
+            return 0;
+        } catch (IOException e) {
+            log.error("Error merging partial aggregates {}", args.partialFiles, e);
+            return 1;
+        }
+    }
+
+    private static int generateReportFromSnapshot(NxReportCommandArgs args, ReportAggregator aggregator, Predicate<ComponentXO> componentFilter,
+                                                  @Nullable List<CubeDimension> crossTabDimensions) {
+        log.info("Generating report from component snapshot: {}", args.fromSnapshot);
+        try (aggregator) {
+            SnapshotBatcher batcher = new SnapshotBatcher(aggregator);
+            long count = ComponentSnapshotReader.read(args.fromSnapshot, component -> {
+                if (ComponentFilter.matchesRepositoryFilter(component.getRepository(), args.repositories)
+                        && (args.shard == null || args.shard.contains(component.getRepository()))
+                        && componentFilter.test(component)) {
+                    batcher.add(component);
+                }
+            });
+            batcher.flush();
+            log.debug("Read {} components from snapshot", count);
+
+            writeReports(args, aggregator, crossTabDimensions);
+            return 0;
+        } catch (IOException e) {
+            log.error("Error generating report from snapshot {}", args.fromSnapshot, e);
+            return 1;
+        }
+    }
+
+    /**
+     * Groups consecutive snapshot components of the same repository into pages, like the crawl delivers them.
+     */
+    private static final class SnapshotBatcher {
+
+        private static final int BATCH_SIZE = 1000;
+
+        private final ReportAggregator aggregator;
+
+        private final List<ComponentXO> batch = new ArrayList<>(BATCH_SIZE);
+
+        private String repositoryName;
+
+        private String format;
+
+        private SnapshotBatcher(ReportAggregator aggregator) {
+            this.aggregator = aggregator;
+        }
+
+        private void add(ComponentXO component) {
+            if (component.getRepository() == null) {
+                log.debug("Skipping snapshot component {} without repository", component.getName());
+                return;
+            }
+            if (!component.getRepository().equals(repositoryName) || batch.size() >= BATCH_SIZE) {
+                flush();
+                repositoryName = component.getRepository();
+                format = component.getFormat();
+            }
+            batch.add(component);
+        }
+
+        private void flush() {
+            if (!batch.isEmpty()) {
+                aggregator.addComponents(repositoryName, format, List.copyOf(batch));
+                batch.clear();
+            }
+        }
+    }
+
+    private static void writeReports(NxReportCommandArgs args, ReportAggregator aggregator, @Nullable List<CubeDimension> crossTabDimensions) throws IOException {
+        writeReports(args, aggregator, crossTabDimensions, null);
+    }
+
+    private static void writeReports(NxReportCommandArgs args, ReportAggregator aggregator, @Nullable List<CubeDimension> crossTabDimensions,
+                                     @Nullable FleetSummary fleetSummary) throws IOException {
+        log.debug("Aggregation cube has {} cells", aggregator.getCube().getCellCount());
+
+        RepositoryComponentsSummary repositoryComponentsSummary = aggregator.getRepositoryComponentsSummary();
+        GroupsSummary groupsSummary = aggregator.getGroupsSummary();
+        AgeSummary ageSummary = aggregator.getAgeSummary();
+        GrowthSummary growthSummary = aggregator.getGrowthSummary(args.growthPeriod);
+        SizeDistributionSummary sizeDistributionSummary = aggregator.getSizeDistributionSummary();
+        DownloadRecencySummary downloadRecencySummary = aggregator.getDownloadRecencySummary();
+        CleanupSimulationSummary cleanupSimulationSummary = aggregator.getCleanupSimulationSummary();
+
+        repositoryComponentsSummary.setEnabled("all".equals(args.report) || "merge".equals(args.report) || "repositories-summary".equals(args.report));
+        groupsSummary.setEnabled("all".equals(args.report) || "merge".equals(args.report) || "top-groups".equals(args.report));
+        ageSummary.setEnabled("all".equals(args.report) || "merge".equals(args.report) || "age-report".equals(args.report));
+        growthSummary.setEnabled("growth".equals(args.report));
+
+        DuplicatesSummary duplicatesSummary = null;
+        if ("duplicates".equals(args.report)) {
+            duplicatesSummary = aggregator.getDuplicatesSummary(args.topDuplicates);
+        }
+
+        VersionSprawlSummary versionSprawlSummary = null;
+        if ("version-sprawl".equals(args.report)) {
+            versionSprawlSummary = aggregator.getVersionSprawlSummary(args.topCoordinates);
+        }
+
+        CrossTab crossTab = null;
+        if (crossTabDimensions != null) {
+            crossTab = aggregator.getCube().crossTab(crossTabDimensions, ReportAggregator.rankingMetric(args.groupSort), args.topGroups);
+        }
+
+        // The streamed component files are already written
+        List<String> componentFiles = args.outputComponentFiles.stream()
+                .filter(file -> !aggregator.isStreamingComponents() || !ComponentStreamWriter.isStreamed(file))
+                .toList();
+        try (FanOutReportWriter outputWriter = openOutputWriters(args, componentFiles)) {
+
+            if (outputWriter != null) {
+                if (fleetSummary != null) {
+                    outputWriter.writeFleetSummary(fleetSummary);
+                }
+                if (repositoryComponentsSummary.isEnabled()) {
+                    outputWriter.writeRepositoryComponentsSummary(repositoryComponentsSummary, args.repositoriesSortBy);
+                }
+                if (groupsSummary.isEnabled()) {
+                    outputWriter.writeGroupsSummary(groupsSummary, args.groupSort, args.topGroups);
+                }
+                if (ageSummary.isEnabled()) {
+                    outputWriter.writeAgeSummary(ageSummary);
+                }
+                if (growthSummary.isEnabled()) {
+                    outputWriter.writeGrowthSummary(growthSummary);
+                }
+                if (sizeDistributionSummary != null) {
+                    outputWriter.writeSizeDistribution(sizeDistributionSummary);
+                }
+                if (cleanupSimulationSummary != null) {
+                    outputWriter.writeCleanupSimulationSummary(cleanupSimulationSummary);
+                }
+                if (downloadRecencySummary != null) {
+                    outputWriter.writeDownloadRecencySummary(downloadRecencySummary);
+                }
+                if (duplicatesSummary != null) {
+                    outputWriter.writeDuplicatesSummary(duplicatesSummary);
+                }
+                if (versionSprawlSummary != null) {
+                    outputWriter.writeVersionSprawlSummary(versionSprawlSummary);
+                }
+                if (crossTab != null) {
+                    outputWriter.writeCrossTab(crossTab);
+                }
+                outputWriter.writeComponents(aggregator.getComponents());
+                outputWriter.commit();
+            }
+
+            if (args.outputFiles.isEmpty()) {
+                boolean hasPreviousOutput = false;
+                if (fleetSummary != null) {
+                    NxReportConsole.printFleetSummary(fleetSummary);
+                    hasPreviousOutput = true;
+                }
+                if (repositoryComponentsSummary.isEnabled()) {
+                    if (hasPreviousOutput) {
+                        System.out.println(); // Add blank line between reports
+                    }
+                    NxReportConsole.printSummary(repositoryComponentsSummary, args.repositoriesSortBy);
+                    hasPreviousOutput = true;
+                }
+                if (groupsSummary.isEnabled()) {
+                    if (hasPreviousOutput) {
+                        System.out.println(); // Add blank line between reports
+                    }
+                    NxReportConsole.printGroupsSummary(groupsSummary, args.groupSort, args.topGroups);
+                    hasPreviousOutput = true;
+                }
+                if (ageSummary.isEnabled()) {
+                    if (hasPreviousOutput) {
+                        System.out.println(); // Add blank line between reports
+                    }
+                    NxReportConsole.printAgeSummary(ageSummary);
+                    hasPreviousOutput = true;
+                }
+                if (growthSummary.isEnabled()) {
+                    if (hasPreviousOutput) {
+                        System.out.println(); // Add blank line between reports
+                    }
+                    NxReportConsole.printGrowthSummary(growthSummary);
+                    hasPreviousOutput = true;
+                }
+                if (sizeDistributionSummary != null) {
+                    if (hasPreviousOutput) {
+                        System.out.println(); // Add blank line between reports
+                    }
+                    NxReportConsole.printSizeDistribution(sizeDistributionSummary);
+                    hasPreviousOutput = true;
+                }
+                if (cleanupSimulationSummary != null) {
+                    if (hasPreviousOutput) {
+                        System.out.println(); // Add blank line between reports
+                    }
+                    NxReportConsole.printCleanupSimulationSummary(cleanupSimulationSummary);
+                    hasPreviousOutput = true;
+                }
+                if (downloadRecencySummary != null) {
+                    if (hasPreviousOutput) {
+                        System.out.println(); // Add blank line between reports
+                    }
+                    NxReportConsole.printDownloadRecencySummary(downloadRecencySummary);
+                    hasPreviousOutput = true;
+                }
+                if (duplicatesSummary != null) {
+                    if (hasPreviousOutput) {
+                        System.out.println(); // Add blank line between reports
+                    }
+                    NxReportConsole.printDuplicatesSummary(duplicatesSummary);
+                    hasPreviousOutput = true;
+                }
+                if (versionSprawlSummary != null) {
+                    if (hasPreviousOutput) {
+                        System.out.println(); // Add blank line between reports
+                    }
+                    NxReportConsole.printVersionSprawlSummary(versionSprawlSummary);
+                    hasPreviousOutput = true;
+                }
+                if (crossTab != null) {
+                    if (hasPreviousOutput) {
+                        System.out.println(); // Add blank line between reports
+                    }
+                    NxReportConsole.printCrossTab(crossTab);
+                }
+            }
+        }
+
+        if (args.outputPartialFile != null) {
+            PartialAggregateFile.write(args.outputPartialFile, aggregator.getCube(), args.shard);
+            log.info("Partial aggregate of shard {} written to {}", args.shard != null ? args.shard : "1/1", args.outputPartialFile);
+        }
+    }
+
+
+    /**
+     * Opens the writers of the report files, of the component files and of the database, fed together by a fan-out
+     * writer.
+     *
+     * @param args           The command arguments
+     * @param componentFiles The component files to write
+     * @return The fan-out writer, or null without output file and database
+     * @throws IOException if a file cannot be created
+     */
+    @Nullable
+    private static FanOutReportWriter openOutputWriters(NxReportCommandArgs args, List<String> componentFiles) throws IOException {
+        List<ReportWriter> sectionWriters = new ArrayList<>();
+        List<ReportWriter> componentWriters = new ArrayList<>();
+        try {
+            for (String outputFile : args.outputFiles) {
+                sectionWriters.add(Objects.requireNonNull(ReportWriterFactory.create(outputFile), "Output file cannot be empty"));
+            }
+            for (String componentFile : componentFiles) {
+                componentWriters.add(Objects.requireNonNull(ReportWriterFactory.create(componentFile), "Component file cannot be empty"));
+            }
+            if (args.outputDbFile != null) {
+                ReportWriter databaseWriter = new DatabaseReportWriter(Path.of(args.outputDbFile));
+                sectionWriters.add(databaseWriter);
+                componentWriters.add(databaseWriter);
+            }
+        } catch (IOException | RuntimeException e) {
+            Set<ReportWriter> opened = Collections.newSetFromMap(new IdentityHashMap<>());
+            opened.addAll(sectionWriters);
+            opened.addAll(componentWriters);
+            for (ReportWriter writer : opened) {
+                try {
+                    writer.close();
+                } catch (IOException closeError) {
+                    e.addSuppressed(closeError);
+                }
+            }
+            throw e;
+        }
+        if (sectionWriters.isEmpty() && componentWriters.isEmpty()) {
+            return null;
+        }
+        return new FanOutReportWriter(sectionWriters, componentWriters);
+    }
+
+    /**
+     * Feeds the filtered components of all selected repositories into the aggregator.
+     *
+     * @param apiClient       The Nexus API client
+     * @param args            The command arguments
+     * @param aggregator      The aggregator fed with every page
+     * @param componentFilter The component filter
+     * @return The names of the repositories, each emitted once all its pages are aggregated
+     */
+    static Flux<String> crawlRepositories(ApiClient apiClient, NxReportCommandArgs args, ReportAggregator aggregator, Predicate<ComponentXO> componentFilter) {
+        return selectRepositories(apiClient, args)
+                .flatMap(repository -> processRepositoryComponents(apiClient, repository, aggregator, componentFilter)
+                        .thenReturn(repository.getName()));
+    }
+
+    /**
+     * Feeds the filtered components of all selected repositories into the aggregator, crawling at most the given
+     * number of repositories at a time.
+     *
+     * @param apiClient       The Nexus API client
+     * @param args            The command arguments
+     * @param aggregator      The aggregator fed with every page
+     * @param componentFilter The component filter
+     * @param concurrency     The maximum number of repositories crawled concurrently
+     * @return The names of the repositories, each emitted once all its pages are aggregated
+     */
+    static Flux<String> crawlRepositories(ApiClient apiClient, NxReportCommandArgs args, ReportAggregator aggregator, Predicate<ComponentXO> componentFilter,
+                                          int concurrency) {
+        return selectRepositories(apiClient, args)
+                .flatMap(repository -> processRepositoryComponents(apiClient, repository, aggregator, componentFilter)
+                        .thenReturn(repository.getName()), concurrency);
+    }
+
+    /**
+     * Lists the repositories selected by the repository filter, group repositories are excluded.
+     *
+     * @param apiClient The Nexus API client
+     * @param args      The command arguments
+     * @return The selected repositories
+     */
+    static Flux<AbstractApiRepository> selectRepositories(ApiClient apiClient, NxReportCommandArgs args) {
+        RepositoryManagementApi repoApi = new RepositoryManagementApi(apiClient);
+        return repoApi.getRepositories()
+                .doOnNext(repository -> log.debug("Found {} repository of type {}", repository.getName(), repository.getType()))
+                .filter(repository -> !repository.getType().equals(AbstractApiRepository.TypeEnum.GROUP)) // Exclude group repositories
+                .filter(repository -> ComponentFilter.matchesRepositoryFilter(repository.getName(), args.repositories)) // Filter repositories early
+                .filter(repository -> args.shard == null || args.shard.contains(repository.getName()))
+                .doOnNext(repository -> log.trace("Processing repository: {}", repository.getName()));
+    }
+
+    private static Mono<Void> processRepositoryComponents(ApiClient apiClient, AbstractApiRepository repository, ReportAggregator aggregator, Predicate<ComponentXO> componentFilter) {
         ComponentsApi componentsApi = new ComponentsApi(apiClient);
-        return processPaginatedComponents(componentsApi, repository, null, repositoryComponentsSummary, groupsSummary, ageSummary, componentFilter, filteredComponents);
+        return processPaginatedComponents(componentsApi, repository, null, aggregator, componentFilter);
     }
 
 
-    private static Mono<Void> processPaginatedComponents(ComponentsApi componentsApi, AbstractApiRepository repository, String continuationToken, RepositoryComponentsSummary repositoryComponentsSummary, GroupsSummary groupsSummary, AgeSummary ageSummary, Predicate<ComponentXO> componentFilter, List<ComponentXO> allFilteredComponents) {
+    private static Mono<Void> processPaginatedComponents(ComponentsApi componentsApi, AbstractApiRepository repository, String continuationToken, ReportAggregator aggregator, Predicate<ComponentXO> componentFilter) {
         final String repoName = Objects.requireNonNull(repository.getName(), "Repository name cannot be null");
         log.debug("Fetching components page for repository {} with token: {}", repoName, continuationToken);
 
         return componentsApi.getComponents(repoName, continuationToken)
-                .flatMap(page -> {
-                    if (page != null && page.getItems() != null) {
-                        // Apply filter to components
-                        List<ComponentXO> filteredComponents = page.getItems().stream()
-                                .filter(componentFilter)
-                                .toList();
-
-                        allFilteredComponents.addAll(filteredComponents);
-
-                        long componentCount = filteredComponents.size();
-                        long sizeBytes = calculateTotalSize(filteredComponents);
-
-                        log.debug("Repository {} page has {} components (filtered from {}) with total size of {} bytes",
-                                repoName, componentCount, page.getItems().size(), sizeBytes);
-
-                        if (componentCount > 0) {
-                            // Update repository summary if provided
-                            if (repositoryComponentsSummary.isEnabled()) {
-                                repositoryComponentsSummary.addRepositoryStats(repoName, repository.getFormat(), componentCount, sizeBytes);
-                            }
-
-                            // Update groups summary if provided
-                            if (groupsSummary.isEnabled()) {
-                                filteredComponents.stream()
-                                        .filter(component -> component.getGroup() != null) // Only include components with a group
-                                        .forEach(component -> {
-                                            String groupName = component.getGroup();
-                                            long componentSize = calculateComponentSize(component);
-                                            groupsSummary.addGroupStats(groupName, 1, componentSize);
-                                        });
-                            }
-
-                            // Update age summary if provided
-                            if (ageSummary.isEnabled()) {
-                                filteredComponents.forEach(component -> {
-                                    long componentSize = calculateComponentSize(component);
-                                    ageSummary.addComponent(component, componentSize);
-                                });
-                            }
-                        }
+                .flatMap(page -> processComponentsPage(componentsApi, repository, page, aggregator, componentFilter));
+    }
 
-                        // If we have a continuation token, process next page
-                        String nextContinuationToken = page.getContinuationToken();
-                        if (nextContinuationToken != null && !nextContinuationToken.isEmpty()) {
-                            return processPaginatedComponents(componentsApi, repository, nextContinuationToken, repositoryComponentsSummary, groupsSummary, ageSummary, componentFilter, allFilteredComponents);
-                        }
-                    } else {
-                        log.debug("Repository {} page has no components", repoName);
-                    }
+    /**
+     * Aggregates a fetched page of components, then fetches and aggregates the following pages.
+     *
+     * @param componentsApi   The components API
+     * @param repository      The repository of the page
+     * @param page            The fetched page
+     * @param aggregator      The aggregator fed with every page
+     * @param componentFilter The component filter
+     * @return Completes once the last page is aggregated
+     */
+    static Mono<Void> processComponentsPage(ComponentsApi componentsApi, AbstractApiRepository repository, @Nullable PageComponentXO page,
+                                            ReportAggregator aggregator, Predicate<ComponentXO> componentFilter) {
+        final String repoName = Objects.requireNonNull(repository.getName(), "Repository name cannot be null");
+        if (page != null && page.getItems() != null) {
+            // Apply filter to components
+            List<ComponentXO> filteredComponents = page.getItems().stream()
+                    .filter(componentFilter)
+                    .toList();
+
+            if (log.isDebugEnabled()) {
+                log.debug("Repository {} page has {} components (filtered from {}) with total size of {} bytes",
+                        repoName, filteredComponents.size(), page.getItems().size(), calculateTotalSize(filteredComponents));
+            }
+
+            if (!filteredComponents.isEmpty()) {
+                // Feed every report from the same page
+                aggregator.addComponents(repoName, repository.getFormat(), filteredComponents);
+            }
+
+            // If we have a continuation token, process next page
+            String nextContinuationToken = page.getContinuationToken();
+            if (nextContinuationToken != null && !nextContinuationToken.isEmpty()) {
+                return processPaginatedComponents(componentsApi, repository, nextContinuationToken, aggregator, componentFilter);
+            }
+        } else {
+            log.debug("Repository {} page has no components", repoName);
+        }
 
-                    return Mono.empty();
-                });
+        return Mono.empty();
     }
 
 
@@ -247,7 +935,7 @@ public final class NxReport {
      * @param component Component to calculate size for
      * @return Total size in bytes
      */
-    private static long calculateComponentSize(ComponentXO component) {
+    static long calculateComponentSize(ComponentXO component) {
         if (component == null || component.getAssets() == null) {
             return 0;
         }
@@ -1,21 +1,24 @@
 package com.pyx4j.nxrm.report;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
 
+import com.pyx4j.nxrm.report.model.GrowthPeriod;
+import com.pyx4j.nxrm.report.model.VersionSprawlDetector;
 import picocli.CommandLine;
 
 @CommandLine.Command(description = "nxrm-report", name = "nxrm-report.jar", sortOptions = false, mixinStandardHelpOptions = true)
 public class NxReportCommandArgs implements Callable<Integer> {
 
     @CommandLine.Parameters(index = "0",
-            description = "Report type: all, repositories-summary, top-groups, age-report",
+            description = "Report type: all, repositories-summary, top-groups, age-report, size-distribution, duplicates, download-recency, simulate-cleanup, version-sprawl, growth, diff, serve, merge",
             defaultValue = "all")
     public String report;
 
     @CommandLine.Option(
             names = {"--url"},
-            description = "Nexus Repository Manager URL", required = true,
+            description = "Nexus Repository Manager URL, required unless --from-snapshot is used",
             defaultValue = "${NEXUS_URL}")
     public String nexusServerUrl;
 
@@ -37,6 +40,48 @@ public class NxReportCommandArgs implements Callable<Integer> {
             defaultValue = "${NEXUS_TOKEN}")
     public String nexusToken;
 
+    @CommandLine.Option(
+            names = {"--transport"},
+            description = "HTTP client: netty or jdk (default: netty)",
+            converter = HttpTransport.CaseInsensitiveEnumConverter.class)
+    public HttpTransport transport = HttpTransport.NETTY;
+
+    @CommandLine.Option(
+            names = {"--compression"},
+            description = "Request gzip or deflate compressed responses, the transfer volume is logged")
+    public boolean compression;
+
+    @CommandLine.Option(
+            names = {"--http2"},
+            description = "Negotiate HTTP/2 (h2, or h2c for http URLs) with fallback to HTTP/1.1")
+    public boolean http2;
+
+    @CommandLine.Option(
+            names = {"--record"},
+            description = "Record the server responses to a directory for --replay")
+    public String recordDir;
+
+    @CommandLine.Option(
+            names = {"--replay"},
+            description = "Replay the server responses recorded with --record instead of calling the server")
+    public String replayDir;
+
+    @CommandLine.Option(
+            names = {"--engine"},
+            description = "Crawl engine: reactor or virtual-threads (default: reactor)",
+            converter = CrawlEngine.CaseInsensitiveEnumConverter.class)
+    public CrawlEngine engine = CrawlEngine.REACTOR;
+
+    @CommandLine.Option(
+            names = {"--max-connections"},
+            description = "With the virtual-threads engine, the maximum number of page requests in flight (default: 16)")
+    public int maxConnections = 16;
+
+    @CommandLine.Option(
+            names = {"--servers"},
+            description = "Crawl the servers of a JSON servers file in parallel and report per server and for the whole fleet, instead of --url")
+    public String serversFile;
+
     @CommandLine.Option(
             names = {"--proxy"},
             description = "Proxy server URL (e.g., proxy.example.com:8081 or http://proxy.example.com:8081)")
@@ -59,11 +104,57 @@ public class NxReportCommandArgs implements Callable<Integer> {
             converter = SortBy.CaseInsensitiveEnumConverter.class)
     public SortBy groupSort = SortBy.COMPONENTS;
 
+    @CommandLine.Option(
+            names = {"--approximate-groups"},
+            description = "Track only N groups with bounded memory, reported values include a guaranteed error bound")
+    public Integer approximateGroups;
+
     @CommandLine.Option(
             names = {"--age-buckets"},
             description = "Age bucket ranges for age report (default: '0-7,8-30,31-90,91-365,>365')")
     public String ageBuckets = "0-7,8-30,31-90,91-365,>365";
 
+    @CommandLine.Option(
+            names = {"--growth-period"},
+            description = "Period of the growth report time series: week, month (default: month)",
+            converter = GrowthPeriodConverter.class)
+    public GrowthPeriod growthPeriod = GrowthPeriod.MONTH;
+
+    @CommandLine.Option(
+            names = {"--download-buckets"},
+            description = "Days since last download ranges for download-recency report (default: '0-30,31-90,91-365,>365')")
+    public String downloadBuckets = "0-30,31-90,91-365,>365";
+
+    @CommandLine.Option(
+            names = {"--reclaimable-days"},
+            description = "Components not downloaded for more than N days are reclaimable in download-recency report (default: 180)")
+    public int reclaimableDays = 180;
+
+    @CommandLine.Option(
+            names = {"--policies"},
+            description = "JSON file with candidate cleanup policies for simulate-cleanup report")
+    public String policiesFile;
+
+    @CommandLine.Option(
+            names = {"--top-duplicates"},
+            description = "Show only the top N duplicated artifacts in the duplicates report (default: 10)")
+    public int topDuplicates = 10;
+
+    @CommandLine.Option(
+            names = {"--top-coordinates"},
+            description = "Show only the top N components with the most versions in the version-sprawl report (default: 20)")
+    public int topCoordinates = 20;
+
+    @CommandLine.Option(
+            names = {"--max-coordinates-in-memory"},
+            description = "Number of components aggregated in memory by the version-sprawl report before spilling to disk (default: 1000000)")
+    public int maxCoordinatesInMemory = VersionSprawlDetector.DEFAULT_MAX_COORDINATES;
+
+    @CommandLine.Option(
+            names = {"--cross-tab"},
+            description = "Add a cross-tab report rolled up by the comma-separated dimensions: repository, format, group, age (e.g., 'repository,age')")
+    public String crossTab;
+
 
     @CommandLine.Option(
             names = {"--created-before"},
@@ -117,13 +208,74 @@ public class NxReportCommandArgs implements Callable<Integer> {
 
     @CommandLine.Option(
             names = {"--output-file"},
-            description = "Save report to a file (e.g., report.json, report.csv)")
-    public String outputFile;
+            description = "Save report to a file (e.g., report.json, report.csv). Can be specified multiple times, the files are written concurrently")
+    public List<String> outputFiles = new ArrayList<>();
 
     @CommandLine.Option(
             names = {"--output-component"},
-            description = "Save all filtered components to a file (e.g., components.json, components.csv)")
-    public String outputComponentFile;
+            description = "Save all filtered components to a file (e.g., components.json, components.csv). Can be specified multiple times")
+    public List<String> outputComponentFiles = new ArrayList<>();
+
+    @CommandLine.Option(
+            names = {"--output-db"},
+            description = "Save the reports and all filtered components to an embedded H2 database file for SQL queries (e.g., report.mv.db)")
+    public String outputDbFile;
+
+    @CommandLine.Option(
+            names = {"--shard"},
+            description = "Crawl only the repositories of shard i of n (e.g., 2/4), repositories are assigned by a hash of their name",
+            converter = ShardConverter.class)
+    public Shard shard;
+
+    @CommandLine.Option(
+            names = {"--output-partial"},
+            description = "Save the aggregates of the crawl to a partial aggregate file, combined with the merge command")
+    public String outputPartialFile;
+
+    @CommandLine.Option(
+            names = {"--partial"},
+            description = "Partial aggregate file combined by the merge command. Can be specified multiple times")
+    public List<String> partialFiles;
+
+    @CommandLine.Option(
+            names = {"--from-snapshot"},
+            description = "Generate reports from a component export (--output-component JSON file) instead of the Nexus server")
+    public String fromSnapshot;
+
+    @CommandLine.Option(
+            names = {"--to-snapshot"},
+            description = "Component export compared with the --from-snapshot baseline by the diff report")
+    public String toSnapshot;
+
+    @CommandLine.Option(
+            names = {"--top-changes"},
+            description = "Show only the top N largest added and removed components in the diff report (default: 20)")
+    public int topChanges = 20;
+
+    @CommandLine.Option(
+            names = {"--port"},
+            description = "Port of the HTTP API in serve mode (default: 8080)")
+    public int port = 8080;
+
+    @CommandLine.Option(
+            names = {"--bind"},
+            description = "Address the HTTP API binds to in serve mode (default: 127.0.0.1)")
+    public String bindAddress = "127.0.0.1";
+
+    @CommandLine.Option(
+            names = {"--refresh-interval"},
+            description = "Minutes between two crawls in serve mode (default: 60)")
+    public int refreshInterval = 60;
+
+    @CommandLine.Option(
+            names = {"--incremental"},
+            description = "In serve mode, recrawl only the repositories whose first page of components changed since the previous refresh")
+    public boolean incremental;
+
+    @CommandLine.Option(
+            names = {"--full-refresh-every"},
+            description = "In incremental serve mode, recrawl all repositories every N refreshes (default: 24)")
+    public int fullRefreshEvery = 24;
 
 
     public Integer call() throws Exception {
@@ -133,8 +285,23 @@ public class NxReportCommandArgs implements Callable<Integer> {
             case "repositories-summary":
             case "top-groups":
             case "age-report":
+            case "size-distribution":
+            case "duplicates":
+            case "download-recency":
+            case "simulate-cleanup":
+            case "version-sprawl":
+            case "growth":
                 exitCode = NxReport.generateReport(this);
                 break;
+            case "diff":
+                exitCode = NxReport.generateDiffReport(this);
+                break;
+            case "serve":
+                exitCode = NxReport.serve(this);
+                break;
+            case "merge":
+                exitCode = NxReport.mergePartials(this);
+                break;
             default:
                 CommandLine.usage(this, System.out);
                 break;
@@ -142,4 +309,18 @@ public class NxReportCommandArgs implements Callable<Integer> {
         return exitCode;
     }
 
+
+    public static class ShardConverter implements CommandLine.ITypeConverter<Shard> {
+        @Override
+        public Shard convert(String value) {
+            return Shard.parse(value);
+        }
+    }
+
+    public static class GrowthPeriodConverter implements CommandLine.ITypeConverter<GrowthPeriod> {
+        @Override
+        public GrowthPeriod convert(String value) {
+            return GrowthPeriod.parse(value);
+        }
+    }
 }
@@ -4,12 +4,67 @@ import java.io.PrintStream;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.pyx4j.nxrm.report.model.*;
 
 class NxReportConsole {
 
+    /**
+     * Prints the fleet summary to the console.
+     *
+     * @param summary The fleet summary to print
+     */
+    static void printFleetSummary(FleetSummary summary) {
+        printFleetSummary(summary, System.out);
+    }
+
+    /**
+     * Prints the fleet summary to the specified PrintStream.
+     *
+     * @param summary The fleet summary to print
+     * @param out     The PrintStream to write to
+     */
+    static void printFleetSummary(FleetSummary summary, PrintStream out) {
+        out.println("\nFleet Summary:");
+        out.println("======================================================================");
+
+        // Calculate the maximum server name length for dynamic formatting
+        int maxServerNameLength = Math.max(20, // minimum width
+                summary.getServerStats().keySet().stream()
+                        .mapToInt(String::length)
+                        .max()
+                        .orElse(20) + 2); // add some padding
+
+        String headerFormat = "%-" + maxServerNameLength + "s %-12s %-12s %-15s %-10s%n";
+        String dataFormat = "%-" + maxServerNameLength + "s %12d %12d %15s %10s%n";
+
+        out.printf(headerFormat, "Server", "Repositories", "Components", "Total Size", "Crawl Time");
+        out.printf(headerFormat,
+                "-".repeat(maxServerNameLength),
+                "------------",
+                "------------",
+                "---------------",
+                "----------");
+        summary.getServerStats().forEach((serverName, stats) -> {
+            if (stats.getError() != null) {
+                out.printf("%-" + maxServerNameLength + "s FAILED: %s%n", serverName, stats.getError());
+            } else {
+                out.printf(dataFormat,
+                        serverName,
+                        stats.getRepositoryCount(),
+                        stats.getComponentCount(),
+                        formatSize(stats.getSizeBytes()),
+                        String.format("%.1f s", stats.getCrawlMillis() / 1000.0));
+            }
+        });
+
+        out.printf("%n" + dataFormat,
+                "TOTAL", summary.getTotalRepositories(), summary.getTotalComponents(), formatSize(summary.getTotalSizeBytes()), "-");
+    }
+
     /**
      * Prints the component summary to the console.
      *
@@ -92,13 +147,22 @@ class NxReportConsole {
         out.println("\nTop Consuming Groups (by " + sortDescription + "):");
         out.println("======================================================================");
 
+        // Select the top groups once, only the printed rows are considered for the column width
+        List<Map.Entry<String, GroupStats>> topEntries = GroupRanking.topGroups(summary, sortBy, topGroups);
+
         // Calculate the maximum group name length for dynamic formatting
         int maxGroupNameLength = Math.max(30, // minimum width
-                summary.getGroupStats().keySet().stream()
+                topEntries.stream()
+                        .map(Map.Entry::getKey)
                         .mapToInt(String::length)
                         .max()
                         .orElse(30) + 2); // add some padding
 
+        if (summary.isApproximate()) {
+            printApproximateGroups(summary, topEntries, maxGroupNameLength, out);
+            return;
+        }
+
         // Create format strings based on calculated width
         String headerFormat = "%-" + maxGroupNameLength + "s %-12s %-15s%n";
         String separatorFormat = "%-" + maxGroupNameLength + "s %-12s %-15s%n";
@@ -111,17 +175,54 @@ class NxReportConsole {
                 "------------",
                 "---------------");
 
-        // Sort and print group data (limited to topGroups)
-        getSortedGroupEntries(summary.getGroupStats(), sortBy).stream()
-                .limit(topGroups)
-                .forEach(entry -> {
-                    String groupName = entry.getKey();
-                    GroupStats stats = entry.getValue();
-                    out.printf(dataFormat,
-                            groupName,
-                            stats.getComponentCount(),
-                            formatSize(stats.getSizeBytes()));
-                });
+        // Print group data (limited to topGroups)
+        topEntries.forEach(entry -> {
+            String groupName = entry.getKey();
+            GroupStats stats = entry.getValue();
+            out.printf(dataFormat,
+                    groupName,
+                    stats.getComponentCount(),
+                    formatSize(stats.getSizeBytes()));
+        });
+    }
+
+    /**
+     * Prints approximate top groups with the per row error of the ranked metric, the other metric is unknown for the
+     * groups that replaced an evicted group.
+     *
+     * @param summary            The approximate groups summary
+     * @param topEntries         The selected group entries
+     * @param maxGroupNameLength The width of the group column
+     * @param out                The PrintStream to write to
+     */
+    private static void printApproximateGroups(GroupsSummary summary, List<Map.Entry<String, GroupStats>> topEntries,
+                                               int maxGroupNameLength, PrintStream out) {
+        boolean bySize = summary.getApproximateMetric() == GroupsSummary.Metric.SIZE;
+
+        String headerFormat = "%-" + maxGroupNameLength + "s %-12s %-15s %-15s%n";
+        String dataFormat = "%-" + maxGroupNameLength + "s %12s %15s %15s%n";
+
+        out.printf(headerFormat, "Group", "Components", "Total Size", "Max Error");
+        out.printf(headerFormat,
+                "-".repeat(maxGroupNameLength),
+                "------------",
+                "---------------",
+                "---------------");
+
+        topEntries.forEach(entry -> {
+            GroupStats stats = entry.getValue();
+            out.printf(dataFormat,
+                    entry.getKey(),
+                    stats.isComponentCountKnown() ? String.valueOf(stats.getComponentCount()) : "unknown",
+                    stats.isSizeBytesKnown() ? formatSize(stats.getSizeBytes()) : "unknown",
+                    bySize ? formatSize(stats.getError()) : String.valueOf(stats.getError()));
+        });
+
+        long errorBound = summary.getApproximateErrorBound();
+        out.printf("%nApproximate: tracking %d groups by %s, values are overestimated by at most %s%n",
+                summary.getApproximateCapacity(),
+                bySize ? "size" : "components",
+                bySize ? formatSize(errorBound) : errorBound + " components");
     }
 
     /**
@@ -158,40 +259,6 @@ class NxReportConsole {
                 .collect(Collectors.toList());
     }
 
-    /**
-     * Gets group entries sorted according to the specified criteria.
-     *
-     * @param groupStats The group statistics map
-     * @param sortBy     The sorting criteria
-     * @return Sorted list of map entries
-     */
-    private static List<Map.Entry<String, GroupStats>> getSortedGroupEntries(
-            Map<String, GroupStats> groupStats, SortBy sortBy) {
-
-        Comparator<Map.Entry<String, GroupStats>> comparator;
-
-        switch (sortBy) {
-            case NAME:
-                comparator = Map.Entry.comparingByKey();
-                break;
-            case SIZE:
-                comparator = Map.Entry.<String, GroupStats>comparingByValue(
-                                Comparator.comparingLong(GroupStats::getSizeBytes))
-                        .reversed(); // Largest first
-                break;
-            case COMPONENTS:
-            default:
-                comparator = Map.Entry.<String, GroupStats>comparingByValue(
-                                Comparator.comparingLong(GroupStats::getComponentCount))
-                        .reversed(); // Most components first
-                break;
-        }
-
-        return groupStats.entrySet().stream()
-                .sorted(comparator)
-                .collect(Collectors.toList());
-    }
-
     /**
      * Prints the age summary to the console.
      *
@@ -249,6 +316,640 @@ class NxReportConsole {
                 formatSize(summary.getTotalSizeBytes()));
     }
 
+    /**
+     * Prints the growth time series of all repositories to the console.
+     *
+     * @param summary The growth summary to print
+     */
+    static void printGrowthSummary(GrowthSummary summary) {
+        printGrowthSummary(summary, System.out);
+    }
+
+    /**
+     * Prints the growth time series of all repositories to the specified PrintStream.
+     * Series per repository are only written to report files.
+     *
+     * @param summary The growth summary to print
+     * @param out     The PrintStream to write to
+     */
+    static void printGrowthSummary(GrowthSummary summary, PrintStream out) {
+        out.println("\nStorage Growth by " + (summary.getPeriod().equals("week") ? "Week" : "Month") + ":");
+        out.println("======================================================================");
+
+        String headerFormat = "%-10s %-12s %-15s %-15s%n";
+        String dataFormat = "%-10s %12d %15s %15s%n";
+
+        out.printf(headerFormat, "Period", "Components", "Total Size", "Cumulative Size");
+        out.printf(headerFormat,
+                "----------",
+                "------------",
+                "---------------",
+                "---------------");
+
+        GrowthSummary.GrowthSeries total = summary.getTotal();
+        long[] componentCounts = total.getComponentCounts();
+        long[] sizeBytes = total.getSizeBytes();
+        long[] cumulativeSizeBytes = total.getCumulativeSizeBytes();
+        for (int i = 0; i < summary.getPeriods().size(); i++) {
+            out.printf(dataFormat,
+                    summary.getPeriods().get(i),
+                    componentCounts[i],
+                    formatSize(sizeBytes[i]),
+                    formatSize(cumulativeSizeBytes[i]));
+        }
+
+        if (summary.getUndatedComponents() > 0) {
+            out.println();
+            out.printf("Components without creation date: %d (%s)%n",
+                    summary.getUndatedComponents(),
+                    formatSize(summary.getUndatedSizeBytes()));
+        }
+    }
+
+    /**
+     * Prints the component and asset size distributions to the console.
+     *
+     * @param summary The size distribution summary to print
+     */
+    static void printSizeDistribution(SizeDistributionSummary summary) {
+        printSizeDistribution(summary, System.out);
+    }
+
+    /**
+     * Prints the component and asset size distributions to the specified PrintStream.
+     *
+     * @param summary The size distribution summary to print
+     * @param out     The PrintStream to write to
+     */
+    static void printSizeDistribution(SizeDistributionSummary summary, PrintStream out) {
+        printSizeTable("Component Size Distribution:", "Components", summary, SizeDistribution::getComponentSizes, out);
+        out.println();
+        printSizeTable("Asset Size Distribution:", "Assets", summary, SizeDistribution::getAssetSizes, out);
+    }
+
+    private static void printSizeTable(String title, String countTitle, SizeDistributionSummary summary,
+                                       Function<SizeDistribution, SizeSketch> sketch, PrintStream out) {
+        out.println("\n" + title);
+        out.println("======================================================================");
+
+        // Calculate the maximum repository name length for dynamic formatting
+        int maxRepoNameLength = Math.max(30, // minimum width
+                summary.getRepositoryDistributions().keySet().stream()
+                        .mapToInt(String::length)
+                        .max()
+                        .orElse(30) + 2); // add some padding
+
+        // Create format strings based on calculated width
+        String headerFormat = "%-" + maxRepoNameLength + "s %-10s %-12s %-12s %-12s %-12s %-12s%n";
+        String dataFormat = "%-" + maxRepoNameLength + "s %-10s %12d %12s %12s %12s %12s%n";
+
+        // Print header
+        out.printf(headerFormat, "Repository", "Format", countTitle, "p50", "p90", "p99", "Max");
+        out.printf(headerFormat,
+                "-".repeat(maxRepoNameLength),
+                "----------",
+                "------------",
+                "------------",
+                "------------",
+                "------------",
+                "------------");
+
+        // Print repository rows, then the totals per format and overall
+        summary.getRepositoryDistributions().forEach((repoName, distribution) ->
+                printSizeRow(dataFormat, repoName, distribution.getFormat(), sketch.apply(distribution), out));
+        out.println();
+        summary.getFormatDistributions().forEach((format, distribution) ->
+                printSizeRow(dataFormat, "TOTAL", format, sketch.apply(distribution), out));
+        printSizeRow(dataFormat, "TOTAL", "-", sketch.apply(summary.getTotal()), out);
+    }
+
+    private static void printSizeRow(String dataFormat, String name, String format, SizeSketch sketch, PrintStream out) {
+        out.printf(dataFormat,
+                name,
+                format,
+                sketch.getCount(),
+                formatSize(sketch.getQuantile(0.5)),
+                formatSize(sketch.getQuantile(0.9)),
+                formatSize(sketch.getQuantile(0.99)),
+                formatSize(sketch.getMax()));
+    }
+
+    /**
+     * Prints the cleanup simulation report to the console.
+     *
+     * @param summary The cleanup simulation summary to print
+     */
+    static void printCleanupSimulationSummary(CleanupSimulationSummary summary) {
+        printCleanupSimulationSummary(summary, System.out);
+    }
+
+    /**
+     * Prints the cleanup simulation report to the specified PrintStream.
+     *
+     * @param summary The cleanup simulation summary to print
+     * @param out     The PrintStream to write to
+     */
+    static void printCleanupSimulationSummary(CleanupSimulationSummary summary, PrintStream out) {
+        out.println("\nCleanup Policy Simulation:");
+        out.println("======================================================================");
+        out.printf("Evaluated %d components, %s%n", summary.getTotalComponents(), formatSize(summary.getTotalSizeBytes()));
+
+        // Calculate the maximum name length for dynamic formatting
+        int maxNameLength = Math.max(30, // minimum width
+                summary.getPolicyResults().stream()
+                        .flatMap(result -> Stream.concat(
+                                Stream.of(result.getPolicyName()),
+                                result.getRepositoryStats().keySet().stream().map(repoName -> "  " + repoName)))
+                        .mapToInt(String::length)
+                        .max()
+                        .orElse(30) + 2); // add some padding
+
+        String headerFormat = "%-" + maxNameLength + "s %-10s %-12s %-15s %-8s%n";
+        String dataFormat = "%-" + maxNameLength + "s %-10s %12d %15s %7.1f%%%n";
+
+        out.println();
+        out.printf(headerFormat, "Policy / Repository", "Format", "Components", "Total Size", "Of Size");
+        out.printf(headerFormat,
+                "-".repeat(maxNameLength),
+                "----------",
+                "------------",
+                "---------------",
+                "--------");
+
+        for (CleanupSimulationSummary.PolicyResult result : summary.getPolicyResults()) {
+            out.printf(dataFormat,
+                    result.getPolicyName(),
+                    "-",
+                    result.getComponentCount(),
+                    formatSize(result.getSizeBytes()),
+                    percentOf(result.getSizeBytes(), summary.getTotalSizeBytes()));
+            result.getRepositoryStats().forEach((repoName, stats) -> out.printf(dataFormat,
+                    "  " + repoName,
+                    stats.getFormat(),
+                    stats.getComponentCount(),
+                    formatSize(stats.getSizeBytes()),
+                    percentOf(stats.getSizeBytes(), summary.getTotalSizeBytes())));
+        }
+    }
+
+    private static double percentOf(long value, long total) {
+        return total == 0 ? 0 : value * 100.0 / total;
+    }
+
+    /**
+     * Prints the download recency report to the console.
+     *
+     * @param summary The download recency summary to print
+     */
+    static void printDownloadRecencySummary(DownloadRecencySummary summary) {
+        printDownloadRecencySummary(summary, System.out);
+    }
+
+    /**
+     * Prints the download recency report to the specified PrintStream.
+     *
+     * @param summary The download recency summary to print
+     * @param out     The PrintStream to write to
+     */
+    static void printDownloadRecencySummary(DownloadRecencySummary summary, PrintStream out) {
+        out.println("\nDays Since Last Download:");
+        out.println("======================================================================");
+
+        // Calculate the maximum range length for dynamic formatting
+        int maxRangeLength = Math.max(17, // minimum width for "Never downloaded"
+                summary.getDownloadBuckets().stream()
+                        .mapToInt(bucket -> formatAgeRange(bucket, summary.getDownloadBuckets()).length())
+                        .max()
+                        .orElse(17) + 2); // add some padding
+
+        String headerFormat = "%-" + maxRangeLength + "s %-12s %-15s%n";
+        String dataFormat = "%-" + maxRangeLength + "s %12d %15s%n";
+
+        out.printf(headerFormat, "Last Download", "Components", "Total Size");
+        out.printf(headerFormat,
+                "-".repeat(maxRangeLength),
+                "------------",
+                "---------------");
+        for (AgeBucket bucket : summary.getDownloadBuckets()) {
+            out.printf(dataFormat,
+                    formatAgeRange(bucket, summary.getDownloadBuckets()),
+                    bucket.getComponentCount(),
+                    formatSize(bucket.getSizeBytes()));
+        }
+        out.printf(dataFormat,
+                "Never downloaded",
+                summary.getNeverDownloadedComponents(),
+                formatSize(summary.getNeverDownloadedSizeBytes()));
+
+        out.println("\nReclaimable Storage (never downloaded or not downloaded for more than " + summary.getReclaimableDays() + " days):");
+        out.println("======================================================================");
+
+        // Calculate the maximum repository name length for dynamic formatting
+        int maxRepoNameLength = Math.max(30, // minimum width
+                summary.getRepositoryStats().keySet().stream()
+                        .mapToInt(String::length)
+                        .max()
+                        .orElse(30) + 2); // add some padding
+
+        String repoHeaderFormat = "%-" + maxRepoNameLength + "s %-10s %-12s %-15s %-12s %-15s%n";
+        String repoDataFormat = "%-" + maxRepoNameLength + "s %-10s %12d %15s %12d %15s%n";
+
+        out.printf(repoHeaderFormat, "Repository", "Format", "Components", "Total Size", "Reclaimable", "Reclaimable Size");
+        out.printf(repoHeaderFormat,
+                "-".repeat(maxRepoNameLength),
+                "----------",
+                "------------",
+                "---------------",
+                "------------",
+                "---------------");
+
+        // Largest reclaimable storage first
+        summary.getRepositoryStats().entrySet().stream()
+                .sorted(Map.Entry.<String, ReclaimableStats>comparingByValue(
+                                Comparator.comparingLong(ReclaimableStats::getReclaimableBytes))
+                        .reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> out.printf(repoDataFormat,
+                        entry.getKey(),
+                        entry.getValue().getFormat(),
+                        entry.getValue().getComponentCount(),
+                        formatSize(entry.getValue().getSizeBytes()),
+                        entry.getValue().getReclaimableCount(),
+                        formatSize(entry.getValue().getReclaimableBytes())));
+
+        out.println();
+        out.printf(repoDataFormat,
+                "TOTAL",
+                "-",
+                summary.getTotalComponents(),
+                formatSize(summary.getTotalSizeBytes()),
+                summary.getReclaimableComponents(),
+                formatSize(summary.getReclaimableSizeBytes()));
+    }
+
+    /**
+     * Prints the duplicates report to the console.
+     *
+     * @param summary The duplicates summary to print
+     */
+    static void printDuplicatesSummary(DuplicatesSummary summary) {
+        printDuplicatesSummary(summary, System.out);
+    }
+
+    /**
+     * Prints the duplicates report to the specified PrintStream.
+     *
+     * @param summary The duplicates summary to print
+     * @param out     The PrintStream to write to
+     */
+    static void printDuplicatesSummary(DuplicatesSummary summary, PrintStream out) {
+        out.println("\nDuplicate Assets Report:");
+        out.println("======================================================================");
+        out.printf("Assets with checksum: %d, duplicated blobs: %d, redundant copies: %d, wasted size: %s%n",
+                summary.getTotalAssets(),
+                summary.getDuplicatedBlobs(),
+                summary.getRedundantCopies(),
+                formatSize(summary.getWastedBytes()));
+
+        // Calculate the maximum repository name length for dynamic formatting
+        int maxRepoNameLength = Math.max(30, // minimum width
+                summary.getRepositoryPairs().stream()
+                        .mapToInt(pair -> Math.max(pair.getRepositoryA().length(), pair.getRepositoryB().length()))
+                        .max()
+                        .orElse(30) + 2); // add some padding
+
+        String pairHeaderFormat = "%-" + maxRepoNameLength + "s %-" + maxRepoNameLength + "s %-12s %-15s%n";
+        String pairDataFormat = "%-" + maxRepoNameLength + "s %-" + maxRepoNameLength + "s %12d %15s%n";
+
+        out.println();
+        out.printf(pairHeaderFormat, "Repository A", "Repository B", "Shared Blobs", "Duplicated Size");
+        out.printf(pairHeaderFormat,
+                "-".repeat(maxRepoNameLength),
+                "-".repeat(maxRepoNameLength),
+                "------------",
+                "---------------");
+        for (DuplicatesSummary.RepositoryPair pair : summary.getRepositoryPairs()) {
+            out.printf(pairDataFormat,
+                    pair.getRepositoryA(),
+                    pair.getRepositoryB(),
+                    pair.getSharedBlobs(),
+                    formatSize(pair.getDuplicatedBytes()));
+        }
+
+        // Calculate the maximum path length of the selected artifacts
+        int maxPathLength = Math.max(40, // minimum width
+                summary.getTopArtifacts().stream()
+                        .mapToInt(artifact -> artifact.getPath().length())
+                        .max()
+                        .orElse(40) + 2); // add some padding
+
+        String artifactHeaderFormat = "%-" + maxPathLength + "s %-8s %-15s %-15s %s%n";
+        String artifactDataFormat = "%-" + maxPathLength + "s %8d %15s %15s %s%n";
+
+        out.println();
+        out.printf(artifactHeaderFormat, "Top Duplicated Artifacts", "Copies", "Size", "Wasted Size", "Repositories");
+        out.printf(artifactHeaderFormat,
+                "-".repeat(maxPathLength),
+                "--------",
+                "---------------",
+                "---------------",
+                "------------");
+        for (DuplicatesSummary.DuplicateArtifact artifact : summary.getTopArtifacts()) {
+            out.printf(artifactDataFormat,
+                    artifact.getPath(),
+                    artifact.getCopies(),
+                    formatSize(artifact.getSizeBytes()),
+                    formatSize(artifact.getWastedBytes()),
+                    String.join(", ", artifact.getRepositories()));
+        }
+    }
+
+    /**
+     * Prints the version sprawl report to the console.
+     *
+     * @param summary The version sprawl summary to print
+     */
+    static void printVersionSprawlSummary(VersionSprawlSummary summary) {
+        printVersionSprawlSummary(summary, System.out);
+    }
+
+    /**
+     * Prints the version sprawl report to the specified PrintStream.
+     *
+     * @param summary The version sprawl summary to print
+     * @param out     The PrintStream to write to
+     */
+    static void printVersionSprawlSummary(VersionSprawlSummary summary, PrintStream out) {
+        out.println("\nVersion Sprawl Report:");
+        out.println("======================================================================");
+
+        // Calculate the maximum repository name length for dynamic formatting
+        int maxRepoNameLength = Math.max(30, // minimum width
+                summary.getRepositoryStats().keySet().stream()
+                        .mapToInt(String::length)
+                        .max()
+                        .orElse(30) + 2); // add some padding
+
+        String headerFormat = "%-" + maxRepoNameLength + "s %-10s %-12s %-12s %-12s %-15s %-12s %-15s%n";
+        String dataFormat = "%-" + maxRepoNameLength + "s %-10s %12d %12d %12d %15s %12d %15s%n";
+
+        out.printf(headerFormat, "Repository", "Format", "Components", "Versions", "Max Versions", "Total Size", "Snapshots", "Snapshot Size");
+        out.printf(headerFormat,
+                "-".repeat(maxRepoNameLength),
+                "----------",
+                "------------",
+                "------------",
+                "------------",
+                "---------------",
+                "------------",
+                "---------------");
+        summary.getRepositoryStats().forEach((repoName, stats) -> {
+            out.printf(dataFormat,
+                    repoName,
+                    stats.getFormat(),
+                    stats.getCoordinates(),
+                    stats.getVersions(),
+                    stats.getMaxVersions(),
+                    formatSize(stats.getSizeBytes()),
+                    stats.getSnapshotVersions(),
+                    formatSize(stats.getSnapshotSizeBytes()));
+        });
+        out.printf(headerFormat,
+                "-".repeat(maxRepoNameLength),
+                "----------",
+                "------------",
+                "------------",
+                "------------",
+                "---------------",
+                "------------",
+                "---------------");
+        out.printf("%-" + maxRepoNameLength + "s %-10s %12d %12d %12s %15s %12d %15s%n",
+                "TOTAL",
+                "-",
+                summary.getTotalCoordinates(),
+                summary.getTotalVersions(),
+                "-",
+                formatSize(summary.getTotalSizeBytes()),
+                summary.getSnapshotVersions(),
+                formatSize(summary.getSnapshotSizeBytes()));
+
+        // Calculate the maximum coordinate length of the selected components
+        int maxCoordinateLength = Math.max(40, // minimum width
+                summary.getTopCoordinates().stream()
+                        .mapToInt(coordinate -> coordinateOf(coordinate).length())
+                        .max()
+                        .orElse(40) + 2); // add some padding
+
+        String coordinateHeaderFormat = "%-" + maxCoordinateLength + "s %-" + maxRepoNameLength + "s %-10s %-15s %-12s %-15s%n";
+        String coordinateDataFormat = "%-" + maxCoordinateLength + "s %-" + maxRepoNameLength + "s %10d %15s %12d %15s%n";
+
+        out.println();
+        out.printf(coordinateHeaderFormat, "Top Components by Versions", "Repository", "Versions", "Total Size", "Snapshots", "Snapshot Size");
+        out.printf(coordinateHeaderFormat,
+                "-".repeat(maxCoordinateLength),
+                "-".repeat(maxRepoNameLength),
+                "----------",
+                "---------------",
+                "------------",
+                "---------------");
+        for (VersionSprawlSummary.CoordinateVersions coordinate : summary.getTopCoordinates()) {
+            out.printf(coordinateDataFormat,
+                    coordinateOf(coordinate),
+                    coordinate.getRepository(),
+                    coordinate.getVersions(),
+                    formatSize(coordinate.getSizeBytes()),
+                    coordinate.getSnapshotVersions(),
+                    formatSize(coordinate.getSnapshotSizeBytes()));
+        }
+    }
+
+    private static String coordinateOf(VersionSprawlSummary.CoordinateVersions coordinate) {
+        return coordinate.getGroup() != null ? coordinate.getGroup() + ":" + coordinate.getName() : String.valueOf(coordinate.getName());
+    }
+
+    /**
+     * Prints the snapshot comparison to the console.
+     *
+     * @param summary The snapshot comparison to print
+     */
+    static void printSnapshotDiffSummary(SnapshotDiffSummary summary) {
+        printSnapshotDiffSummary(summary, System.out);
+    }
+
+    /**
+     * Prints the snapshot comparison to the specified PrintStream.
+     *
+     * @param summary The snapshot comparison to print
+     * @param out     The PrintStream to write to
+     */
+    static void printSnapshotDiffSummary(SnapshotDiffSummary summary, PrintStream out) {
+        SnapshotDiffSummary.DiffStats total = summary.getTotal();
+        out.println("\nSnapshot Comparison Report:");
+        out.println("======================================================================");
+        out.printf("Components: %d -> %d (%+d), size: %s -> %s (%s)%n",
+                total.getBaselineComponents(),
+                total.getCurrentComponents(),
+                total.getComponentDelta(),
+                formatSize(total.getBaselineSizeBytes()),
+                formatSize(total.getCurrentSizeBytes()),
+                formatSizeDelta(total.getSizeDelta()));
+        out.printf("Added: %d (%s), removed: %d (%s), changed size: %d%n",
+                total.getAddedComponents(),
+                formatSize(total.getAddedSizeBytes()),
+                total.getRemovedComponents(),
+                formatSize(total.getRemovedSizeBytes()),
+                total.getChangedComponents());
+
+        // Calculate the maximum repository name length for dynamic formatting
+        int maxRepoNameLength = Math.max(30, // minimum width
+                summary.getRepositoryDiffs().keySet().stream()
+                        .mapToInt(String::length)
+                        .max()
+                        .orElse(30) + 2); // add some padding
+
+        String headerFormat = "%-" + maxRepoNameLength + "s %-10s %-10s %-15s %-10s %-15s %-15s%n";
+        String dataFormat = "%-" + maxRepoNameLength + "s %-10s %10d %15s %10d %15s %15s%n";
+
+        out.println();
+        out.printf(headerFormat, "Repository", "Format", "Added", "Added Size", "Removed", "Removed Size", "Size Delta");
+        out.printf(headerFormat,
+                "-".repeat(maxRepoNameLength),
+                "----------",
+                "----------",
+                "---------------",
+                "----------",
+                "---------------",
+                "---------------");
+        summary.getRepositoryDiffs().forEach((repoName, diff) -> {
+            out.printf(dataFormat,
+                    repoName,
+                    diff.getFormat(),
+                    diff.getAddedComponents(),
+                    formatSize(diff.getAddedSizeBytes()),
+                    diff.getRemovedComponents(),
+                    formatSize(diff.getRemovedSizeBytes()),
+                    formatSizeDelta(diff.getSizeDelta()));
+        });
+
+        // Calculate the maximum group name length of the selected groups
+        int maxGroupNameLength = Math.max(30, // minimum width
+                summary.getTopGroups().stream()
+                        .mapToInt(diff -> diff.getGroup().length())
+                        .max()
+                        .orElse(30) + 2); // add some padding
+
+        String groupHeaderFormat = "%-" + maxGroupNameLength + "s %-10s %-10s %-15s%n";
+        String groupDataFormat = "%-" + maxGroupNameLength + "s %10d %10d %15s%n";
+
+        out.println();
+        out.printf(groupHeaderFormat, "Top Changed Groups", "Added", "Removed", "Size Delta");
+        out.printf(groupHeaderFormat,
+                "-".repeat(maxGroupNameLength),
+                "----------",
+                "----------",
+                "---------------");
+        for (SnapshotDiffSummary.GroupDiff diff : summary.getTopGroups()) {
+            out.printf(groupDataFormat,
+                    diff.getGroup(),
+                    diff.getAddedComponents(),
+                    diff.getRemovedComponents(),
+                    formatSizeDelta(diff.getSizeDelta()));
+        }
+
+        printComponentChanges("Largest Added Components", summary.getTopAdded(), out);
+        printComponentChanges("Largest Removed Components", summary.getTopRemoved(), out);
+    }
+
+    private static void printComponentChanges(String title, List<SnapshotDiffSummary.ComponentChange> components, PrintStream out) {
+        List<String> coordinates = components.stream()
+                .map(component -> (component.getGroup() != null ? component.getGroup() + ":" : "") + component.getName() + ":" + component.getVersion())
+                .toList();
+
+        // Calculate the maximum coordinate length of the selected components
+        int maxCoordinateLength = Math.max(40, // minimum width
+                coordinates.stream()
+                        .mapToInt(String::length)
+                        .max()
+                        .orElse(40) + 2); // add some padding
+
+        String headerFormat = "%-" + maxCoordinateLength + "s %-30s %-15s%n";
+        String dataFormat = "%-" + maxCoordinateLength + "s %-30s %15s%n";
+
+        out.println();
+        out.printf(headerFormat, title, "Repository", "Size");
+        out.printf(headerFormat,
+                "-".repeat(maxCoordinateLength),
+                "------------------------------",
+                "---------------");
+        for (int i = 0; i < components.size(); i++) {
+            out.printf(dataFormat,
+                    coordinates.get(i),
+                    components.get(i).getRepository(),
+                    formatSize(components.get(i).getSizeBytes()));
+        }
+    }
+
+    /**
+     * Prints the cross-tab report to the console.
+     *
+     * @param crossTab The cross-tab to print
+     */
+    static void printCrossTab(CrossTab crossTab) {
+        printCrossTab(crossTab, System.out);
+    }
+
+    /**
+     * Prints the cross-tab report to the specified PrintStream.
+     *
+     * @param crossTab The cross-tab to print
+     * @param out      The PrintStream to write to
+     */
+    static void printCrossTab(CrossTab crossTab, PrintStream out) {
+        List<CubeDimension> dimensions = crossTab.getDimensions();
+        out.println("\nCross-Tab Report by " + dimensions.stream().map(CubeDimension::getTitle).collect(Collectors.joining(", ")) + ":");
+        out.println("======================================================================");
+
+        // Calculate the width of every dimension column for dynamic formatting
+        StringBuilder headerFormat = new StringBuilder();
+        StringBuilder dataFormat = new StringBuilder();
+        Object[] header = new Object[dimensions.size() + 2];
+        Object[] separator = new Object[dimensions.size() + 2];
+        for (int i = 0; i < dimensions.size(); i++) {
+            final int column = i;
+            String title = dimensions.get(i).getTitle();
+            int width = Math.max(title.length(),
+                    crossTab.getRows().stream()
+                            .mapToInt(row -> row.getValues().get(column).length())
+                            .max()
+                            .orElse(0)) + 2; // add some padding
+            headerFormat.append("%-").append(width).append("s ");
+            dataFormat.append("%-").append(width).append("s ");
+            header[i] = title;
+            separator[i] = "-".repeat(width);
+        }
+        headerFormat.append("%-12s %-15s%n");
+        dataFormat.append("%12d %15s%n");
+        header[dimensions.size()] = "Components";
+        header[dimensions.size() + 1] = "Total Size";
+        separator[dimensions.size()] = "------------";
+        separator[dimensions.size() + 1] = "---------------";
+
+        // Print header
+        out.printf(headerFormat.toString(), header);
+        out.printf(headerFormat.toString(), separator);
+
+        // Print rows
+        for (CrossTab.Row row : crossTab.getRows()) {
+            Object[] values = new Object[dimensions.size() + 2];
+            for (int i = 0; i < dimensions.size(); i++) {
+                values[i] = row.getValues().get(i);
+            }
+            values[dimensions.size()] = row.getComponentCount();
+            values[dimensions.size() + 1] = formatSize(row.getSizeBytes());
+            out.printf(dataFormat.toString(), values);
+        }
+    }
+
     /**
      * Formats an age bucket range description with proper spacing and alignment.
      * Examples:
@@ -307,7 +1008,11 @@ class NxReportConsole {
      * @param bytes The size in bytes
      * @return Human-readable size string
      */
-    private static String formatSize(long bytes) {
+    private static String formatSizeDelta(long bytes) {
+        return (bytes < 0 ? "-" : "+") + formatSize(Math.abs(bytes));
+    }
+
+    static String formatSize(long bytes) {
         if (bytes < 1024) {
             return bytes + " B";
         }
@@ -0,0 +1,202 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+
+import com.pyx4j.nxrm.report.model.*;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Writes the repositories, top groups and age reports as gauges in the OpenMetrics text format, for the textfile
+ * collector of the Prometheus node exporter.
+ * <p>
+ * The file is written next to the target under a name the collector ignores and renamed over the target on close,
+ * so the collector never reads a partial file. When the run fails, the writer is aborted and the previous file is
+ * kept. Only the top groups are exported, at most {@value #MAX_GROUPS}, to bound the number of time series. The other
+ * reports have no metrics.
+ */
+public class OpenMetricsReportWriter implements ReportWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenMetricsReportWriter.class);
+
+    static final int MAX_GROUPS = 100;
+
+    private final Path file;
+
+    private final Path tempFile;
+
+    private final Writer writer;
+
+    public OpenMetricsReportWriter(Path file) throws IOException {
+        this.file = file;
+        this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        this.writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks if a file is written in the OpenMetrics text format, by its .prom extension.
+     *
+     * @param filePath The file path
+     * @return true for OpenMetrics files
+     */
+    static boolean isOpenMetrics(@Nullable String filePath) {
+        return filePath != null && filePath.endsWith(".prom");
+    }
+
+    @Override
+    public void writeFleetSummary(FleetSummary summary) {
+        // Servers are told apart by the prefix of the repository label
+    }
+
+    @Override
+    public void writeRepositoryComponentsSummary(RepositoryComponentsSummary summary, SortBy sortBy) throws IOException {
+        Map<String, RepositoryStats> stats = summary.getRepositoryStats();
+        writeFamily("nxrm_repository_components", null, "Number of filtered components of the repository");
+        for (var entry : stats.entrySet()) {
+            writeSample("nxrm_repository_components", entry.getValue().getComponentCount(), "repository", entry.getKey(), "format", entry.getValue().getFormat());
+        }
+        writeFamily("nxrm_repository_size_bytes", "bytes", "Size of the filtered components of the repository");
+        for (var entry : stats.entrySet()) {
+            writeSample("nxrm_repository_size_bytes", entry.getValue().getSizeBytes(), "repository", entry.getKey(), "format", entry.getValue().getFormat());
+        }
+    }
+
+    @Override
+    public void writeGroupsSummary(GroupsSummary summary, SortBy sortBy, int topGroups) throws IOException {
+        if (topGroups > MAX_GROUPS) {
+            log.warn("Exporting the metrics of the top {} groups only, instead of {}", MAX_GROUPS, topGroups);
+        }
+        List<Map.Entry<String, GroupStats>> groups = GroupRanking.topGroups(summary, sortBy, Math.min(topGroups, MAX_GROUPS));
+        writeFamily("nxrm_group_components", null, "Number of filtered components of the group, top groups only");
+        for (var entry : groups) {
+            if (entry.getValue().isComponentCountKnown()) {
+                writeSample("nxrm_group_components", entry.getValue().getComponentCount(), "group", entry.getKey());
+            }
+        }
+        writeFamily("nxrm_group_size_bytes", "bytes", "Size of the filtered components of the group, top groups only");
+        for (var entry : groups) {
+            if (entry.getValue().isSizeBytesKnown()) {
+                writeSample("nxrm_group_size_bytes", entry.getValue().getSizeBytes(), "group", entry.getKey());
+            }
+        }
+    }
+
+    @Override
+    public void writeAgeSummary(AgeSummary summary) throws IOException {
+        writeFamily("nxrm_age_components", null, "Number of filtered components created in the age range");
+        for (AgeBucket bucket : summary.getAgeBuckets()) {
+            writeSample("nxrm_age_components", bucket.getComponentCount(), "age_range", bucket.getOriginalRange());
+        }
+        writeFamily("nxrm_age_size_bytes", "bytes", "Size of the filtered components created in the age range");
+        for (AgeBucket bucket : summary.getAgeBuckets()) {
+            writeSample("nxrm_age_size_bytes", bucket.getSizeBytes(), "age_range", bucket.getOriginalRange());
+        }
+    }
+
+    @Override
+    public void writeGrowthSummary(GrowthSummary summary) {
+        // Time series are built by Prometheus from the repository sizes
+    }
+
+    @Override
+    public void writeSizeDistribution(SizeDistributionSummary summary) {
+        // Not exported as metrics
+    }
+
+    @Override
+    public void writeCleanupSimulationSummary(CleanupSimulationSummary summary) {
+        // Not exported as metrics
+    }
+
+    @Override
+    public void writeDownloadRecencySummary(DownloadRecencySummary summary) {
+        // Not exported as metrics
+    }
+
+    @Override
+    public void writeDuplicatesSummary(DuplicatesSummary summary) {
+        // Not exported as metrics
+    }
+
+    @Override
+    public void writeVersionSprawlSummary(VersionSprawlSummary summary) {
+        // Not exported as metrics
+    }
+
+    @Override
+    public void writeSnapshotDiffSummary(SnapshotDiffSummary summary) {
+        // Not exported as metrics
+    }
+
+    @Override
+    public void writeCrossTab(CrossTab crossTab) {
+        // Not exported as metrics, the label cardinality is not bounded
+    }
+
+    @Override
+    public void writeComponents(List<ComponentXO> components) {
+        throw new IllegalArgumentException("Components cannot be exported as OpenMetrics: " + file);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (writer) {
+            writer.write("# EOF\n");
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void abort() throws IOException {
+        try {
+            writer.close();
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        log.warn("Report failed, keeping the previous metrics {}", file);
+    }
+
+    private void writeFamily(String name, @Nullable String unit, String help) throws IOException {
+        writer.write("# TYPE " + name + " gauge\n");
+        if (unit != null) {
+            writer.write("# UNIT " + name + " " + unit + "\n");
+        }
+        writer.write("# HELP " + name + " " + help + ".\n");
+    }
+
+    /**
+     * Writes a sample, the labels are name and value pairs, labels with a null value are left out.
+     */
+    private void writeSample(String name, long value, String... labels) throws IOException {
+        StringBuilder sample = new StringBuilder(name);
+        char separator = '{';
+        for (int i = 0; i < labels.length; i += 2) {
+            if (labels[i + 1] != null) {
+                sample.append(separator).append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+                separator = ',';
+            }
+        }
+        if (separator == ',') {
+            sample.append('}');
+        }
+        writer.write(sample.append(' ').append(value).append('\n').toString());
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
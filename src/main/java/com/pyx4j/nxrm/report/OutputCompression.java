@@ -0,0 +1,110 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdInputStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compression of an output file, selected by the extension that follows the format extension, e.g., report.csv.gz.
+ * <p>
+ * Blocks are compressed independently into a complete gzip member or zstd frame. Concatenated members and frames
+ * form a valid file that gunzip, zstd and the JDK decompress as a whole.
+ */
+enum OutputCompression {
+
+    GZIP(".gz") {
+        @Override
+        byte[] compress(byte[] block, int length) throws IOException {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(block, 0, length);
+            }
+            return compressed.toByteArray();
+        }
+
+        @Override
+        InputStream decompress(InputStream in) throws IOException {
+            return new GZIPInputStream(in);
+        }
+    },
+
+    ZSTD(".zst") {
+        @Override
+        byte[] compress(byte[] block, int length) {
+            return Zstd.compress(length == block.length ? block : Arrays.copyOf(block, length), Zstd.defaultCompressionLevel());
+        }
+
+        @Override
+        InputStream decompress(InputStream in) throws IOException {
+            return new ZstdInputStream(in);
+        }
+    };
+
+    private final String extension;
+
+    OutputCompression(String extension) {
+        this.extension = extension;
+    }
+
+    String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Compresses a block into a self-contained gzip member or zstd frame.
+     *
+     * @param block  The block
+     * @param length The number of bytes of the block to compress
+     * @return The compressed block
+     * @throws IOException if the block cannot be compressed
+     */
+    abstract byte[] compress(byte[] block, int length) throws IOException;
+
+    /**
+     * Wraps a stream of compressed blocks.
+     *
+     * @param in The compressed stream
+     * @return The decompressed stream
+     * @throws IOException if the stream header cannot be read
+     */
+    abstract InputStream decompress(InputStream in) throws IOException;
+
+    /**
+     * Gets the compression of a file from its extension.
+     *
+     * @param filePath The file path
+     * @return The compression, or null for an uncompressed file
+     */
+    @Nullable
+    static OutputCompression of(@Nullable String filePath) {
+        if (filePath != null) {
+            for (OutputCompression compression : values()) {
+                if (filePath.endsWith(compression.extension)) {
+                    return compression;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes the compression extension of a file so that its format extension is last, e.g., report.csv for
+     * report.csv.gz.
+     *
+     * @param filePath The file path
+     * @return The file path without compression extension
+     */
+    @NonNull
+    static String stripExtension(@NonNull String filePath) {
+        OutputCompression compression = of(filePath);
+        return compression == null ? filePath : filePath.substring(0, filePath.length() - compression.extension.length());
+    }
+}
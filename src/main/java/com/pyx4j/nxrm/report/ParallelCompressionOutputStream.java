@@ -0,0 +1,213 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compresses an output file in parallel blocks on background threads, so writing a large export costs the caller
+ * little more than a copy into the current block.
+ * <p>
+ * The compressed blocks are written in order, at most two blocks per thread are pending so memory stays bounded.
+ * A flush hands the partial block over to the compression threads once it holds {@value #MIN_FLUSH_SIZE} bytes and
+ * writes the blocks already compressed, without waiting for the others. Newline-delimited JSON streamed while
+ * crawling then stays readable as it grows, and frequent flushes neither stall the caller nor produce tiny blocks.
+ * Close waits for every block.
+ * The input and output volumes and the compression throughput per thread are logged on close.
+ */
+final class ParallelCompressionOutputStream extends OutputStream {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelCompressionOutputStream.class);
+
+    static final int BLOCK_SIZE = 1024 * 1024;
+
+    static final int MIN_FLUSH_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+
+    private final OutputCompression compression;
+
+    private final String name;
+
+    private final ExecutorService executor;
+
+    private final int maxPendingBlocks;
+
+    private final Queue<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+
+    private final AtomicLong compressionNanos = new AtomicLong();
+
+    private byte[] block = new byte[BLOCK_SIZE];
+
+    private int blockLength;
+
+    private long inputBytes;
+
+    private long outputBytes;
+
+    private boolean closed;
+
+    /**
+     * Creates a stream compressing on one thread per available processor.
+     *
+     * @param out         The compressed output
+     * @param compression The compression
+     * @param name        The file name, for the statistics
+     */
+    ParallelCompressionOutputStream(@NonNull OutputStream out, @NonNull OutputCompression compression, @NonNull String name) {
+        this(out, compression, name, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a stream.
+     *
+     * @param out         The compressed output
+     * @param compression The compression
+     * @param name        The file name, for the statistics
+     * @param threads     The number of compression threads
+     */
+    ParallelCompressionOutputStream(@NonNull OutputStream out, @NonNull OutputCompression compression, @NonNull String name, int threads) {
+        this.out = Objects.requireNonNull(out, "Output cannot be null");
+        this.compression = Objects.requireNonNull(compression, "Compression cannot be null");
+        this.name = Objects.requireNonNull(name, "Name cannot be null");
+        if (threads < 1) {
+            throw new IllegalArgumentException("Compression threads must be positive: " + threads);
+        }
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("compress-%d")
+                .setDaemon(true)
+                .build());
+        this.maxPendingBlocks = 2 * threads;
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+        ensureOpen();
+        block[blockLength++] = (byte) b;
+        inputBytes++;
+        if (blockLength == BLOCK_SIZE) {
+            submitBlock();
+        }
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+        inputBytes += len;
+        while (len > 0) {
+            int count = Math.min(len, BLOCK_SIZE - blockLength);
+            System.arraycopy(b, off, block, blockLength, count);
+            blockLength += count;
+            off += count;
+            len -= count;
+            if (blockLength == BLOCK_SIZE) {
+                submitBlock();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        ensureOpen();
+        if (blockLength >= MIN_FLUSH_SIZE) {
+            submitBlock();
+        } else {
+            writeCompletedBlocks();
+        }
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try (out) {
+            if (blockLength > 0) {
+                submitBlock();
+            }
+            while (!pendingBlocks.isEmpty()) {
+                writeNextBlock();
+            }
+        } finally {
+            closed = true;
+            executor.shutdownNow();
+        }
+        logCompression();
+    }
+
+    long getInputBytes() {
+        return inputBytes;
+    }
+
+    long getOutputBytes() {
+        return outputBytes;
+    }
+
+    private void submitBlock() throws IOException {
+        byte[] full = block;
+        int length = blockLength;
+        pendingBlocks.add(executor.submit(() -> {
+            long start = System.nanoTime();
+            byte[] compressed = compression.compress(full, length);
+            compressionNanos.addAndGet(System.nanoTime() - start);
+            return compressed;
+        }));
+        block = new byte[BLOCK_SIZE];
+        blockLength = 0;
+        while (pendingBlocks.size() >= maxPendingBlocks) {
+            writeNextBlock();
+        }
+        writeCompletedBlocks();
+    }
+
+    private void writeCompletedBlocks() throws IOException {
+        while (!pendingBlocks.isEmpty() && pendingBlocks.peek().isDone()) {
+            writeNextBlock();
+        }
+    }
+
+    private void writeNextBlock() throws IOException {
+        try {
+            byte[] compressed = pendingBlocks.remove().get();
+            out.write(compressed);
+            outputBytes += compressed.length;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing " + name);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ioException
+                    ? ioException
+                    : new IOException("Error compressing " + name, e.getCause());
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed: " + name);
+        }
+    }
+
+    private void logCompression() {
+        double seconds = Math.max(compressionNanos.get(), 1) / 1e9;
+        log.info("Wrote {} compressed from {}{} with {} at {}/s per thread to {}",
+                NxReportConsole.formatSize(outputBytes), NxReportConsole.formatSize(inputBytes),
+                outputBytes > 0 ? String.format(Locale.ROOT, " (%.1fx)", (double) inputBytes / outputBytes) : "",
+                compression.name().toLowerCase(Locale.ROOT), NxReportConsole.formatSize((long) (inputBytes / seconds)), name);
+    }
+}
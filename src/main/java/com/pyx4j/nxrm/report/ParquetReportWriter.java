@@ -0,0 +1,371 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.pyx4j.nxrm.report.model.*;
+import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.LocalOutputFile;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Types;
+import org.jspecify.annotations.Nullable;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Writes the reports as Parquet tables with dictionary encoded columns.
+ * <p>
+ * A Parquet file holds a single table, so the components are written to the given file and every report section to
+ * a file named after it next to the given file, e.g. {@code report-repositories.parquet} for {@code report.parquet}.
+ * The given file of the report sections then lists the section files. Sizes are in bytes and times are UTC
+ * timestamps in milliseconds. The components can be streamed page by page while crawling, see
+ * {@link ReportAggregator#streamComponents}, the rows are then buffered in row groups only.
+ * <p>
+ * The tables are written with the plain Parquet configuration and uncompressed pages, the Hadoop configuration and
+ * codecs are never loaded.
+ */
+public class ParquetReportWriter implements ComponentStreamWriter {
+
+    private final Path file;
+
+    @Nullable
+    private Table componentsTable;
+
+    // The report section tables by section name, listed in the given file on close
+    private final Map<String, Table> sectionTables = new LinkedHashMap<>();
+
+    public ParquetReportWriter(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Checks if a file is written as Parquet, by its .parquet extension.
+     *
+     * @param filePath The file path
+     * @return true for Parquet files
+     */
+    static boolean isParquet(@Nullable String filePath) {
+        return filePath != null && filePath.endsWith(".parquet");
+    }
+
+    @Override
+    public void writeFleetSummary(FleetSummary summary) throws IOException {
+        try (Table table = table("fleet", string("server"), string("url"), int64("repositories"), int64("components"), int64("size_bytes"),
+                int64("crawl_millis"), string("error"))) {
+            for (var entry : summary.getServerStats().entrySet()) {
+                FleetSummary.ServerStats stats = entry.getValue();
+                table.row(entry.getKey(), stats.getUrl(), stats.getRepositoryCount(), stats.getComponentCount(), stats.getSizeBytes(),
+                        stats.getCrawlMillis(), stats.getError());
+            }
+        }
+    }
+
+    @Override
+    public void writeRepositoryComponentsSummary(RepositoryComponentsSummary summary, SortBy sortBy) throws IOException {
+        try (Table table = table("repositories", string("repository"), string("format"), int64("components"), int64("size_bytes"))) {
+            for (var entry : summary.getRepositoryStats().entrySet()) {
+                table.row(entry.getKey(), entry.getValue().getFormat(), entry.getValue().getComponentCount(), entry.getValue().getSizeBytes());
+            }
+        }
+    }
+
+    @Override
+    public void writeGroupsSummary(GroupsSummary summary, SortBy sortBy, int topGroups) throws IOException {
+        try (Table table = table("groups", string("group"), int64("components"), int64("size_bytes"), int64("error"))) {
+            for (var entry : GroupRanking.topGroups(summary, sortBy, topGroups)) {
+                GroupStats stats = entry.getValue();
+                table.row(entry.getKey(), stats.isComponentCountKnown() ? stats.getComponentCount() : null,
+                        stats.isSizeBytesKnown() ? stats.getSizeBytes() : null, summary.isApproximate() ? stats.getError() : null);
+            }
+        }
+    }
+
+    @Override
+    public void writeAgeSummary(AgeSummary summary) throws IOException {
+        try (Table table = table("age", string("age_range"), int64("components"), int64("size_bytes"))) {
+            for (AgeBucket bucket : summary.getAgeBuckets()) {
+                table.row(bucket.getOriginalRange(), bucket.getComponentCount(), bucket.getSizeBytes());
+            }
+        }
+    }
+
+    @Override
+    public void writeGrowthSummary(GrowthSummary summary) throws IOException {
+        try (Table table = table("growth", string("period"), string("repository"), string("format"), int64("components"), int64("size_bytes"),
+                int64("cumulative_size_bytes"))) {
+            for (var entry : summary.getRepositorySeries().entrySet()) {
+                GrowthSummary.GrowthSeries series = entry.getValue();
+                for (int i = 0; i < summary.getPeriods().size(); i++) {
+                    table.row(summary.getPeriods().get(i), entry.getKey(), series.getFormat(), series.getComponentCounts()[i],
+                            series.getSizeBytes()[i], series.getCumulativeSizeBytes()[i]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void writeSizeDistribution(SizeDistributionSummary summary) throws IOException {
+        try (Table table = table("size-distribution", string("repository"), string("format"), string("kind"), int64("count"),
+                int64("p50"), int64("p90"), int64("p99"), int64("max"))) {
+            for (var entry : summary.getRepositoryDistributions().entrySet()) {
+                writeSizeRows(table, entry.getKey(), entry.getValue().getFormat(), entry.getValue());
+            }
+            for (var entry : summary.getFormatDistributions().entrySet()) {
+                writeSizeRows(table, null, entry.getKey(), entry.getValue());
+            }
+            writeSizeRows(table, null, null, summary.getTotal());
+        }
+    }
+
+    private static void writeSizeRows(Table table, String repository, String format, SizeDistribution distribution) throws IOException {
+        for (String kind : List.of("component", "asset")) {
+            SizeSketch sketch = kind.equals("component") ? distribution.getComponentSizes() : distribution.getAssetSizes();
+            table.row(repository, format, kind, sketch.getCount(), sketch.getQuantile(0.5), sketch.getQuantile(0.9), sketch.getQuantile(0.99),
+                    sketch.getMax());
+        }
+    }
+
+    @Override
+    public void writeCleanupSimulationSummary(CleanupSimulationSummary summary) throws IOException {
+        try (Table table = table("cleanup-simulation", string("policy"), string("repository"), string("format"), int64("components"),
+                int64("size_bytes"))) {
+            for (CleanupSimulationSummary.PolicyResult result : summary.getPolicyResults()) {
+                for (var entry : result.getRepositoryStats().entrySet()) {
+                    table.row(result.getPolicyName(), entry.getKey(), entry.getValue().getFormat(), entry.getValue().getComponentCount(),
+                            entry.getValue().getSizeBytes());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void writeDownloadRecencySummary(DownloadRecencySummary summary) throws IOException {
+        try (Table table = table("download-recency", string("last_download"), int64("components"), int64("size_bytes"))) {
+            for (AgeBucket bucket : summary.getDownloadBuckets()) {
+                table.row(bucket.getOriginalRange(), bucket.getComponentCount(), bucket.getSizeBytes());
+            }
+            table.row("never", summary.getNeverDownloadedComponents(), summary.getNeverDownloadedSizeBytes());
+        }
+        try (Table table = table("download-recency-repositories", string("repository"), string("format"), int64("components"),
+                int64("size_bytes"), int64("reclaimable_components"), int64("reclaimable_size_bytes"))) {
+            for (var entry : summary.getRepositoryStats().entrySet()) {
+                var stats = entry.getValue();
+                table.row(entry.getKey(), stats.getFormat(), stats.getComponentCount(), stats.getSizeBytes(), stats.getReclaimableCount(),
+                        stats.getReclaimableBytes());
+            }
+        }
+    }
+
+    @Override
+    public void writeDuplicatesSummary(DuplicatesSummary summary) throws IOException {
+        try (Table table = table("duplicates", string("repository_a"), string("repository_b"), int64("shared_blobs"), int64("duplicated_size_bytes"))) {
+            for (DuplicatesSummary.RepositoryPair pair : summary.getRepositoryPairs()) {
+                table.row(pair.getRepositoryA(), pair.getRepositoryB(), pair.getSharedBlobs(), pair.getDuplicatedBytes());
+            }
+        }
+        try (Table table = table("duplicates-artifacts", string("checksum"), string("path"), int64("copies"), int64("size_bytes"),
+                int64("wasted_size_bytes"), string("repositories"))) {
+            for (DuplicatesSummary.DuplicateArtifact artifact : summary.getTopArtifacts()) {
+                table.row(artifact.getChecksum(), artifact.getPath(), artifact.getCopies(), artifact.getSizeBytes(), artifact.getWastedBytes(),
+                        String.join(";", artifact.getRepositories()));
+            }
+        }
+    }
+
+    @Override
+    public void writeVersionSprawlSummary(VersionSprawlSummary summary) throws IOException {
+        try (Table table = table("version-sprawl", string("repository"), string("format"), int64("components"), int64("versions"),
+                int64("max_versions"), int64("size_bytes"), int64("snapshot_versions"), int64("snapshot_size_bytes"))) {
+            for (var entry : summary.getRepositoryStats().entrySet()) {
+                var stats = entry.getValue();
+                table.row(entry.getKey(), stats.getFormat(), stats.getCoordinates(), stats.getVersions(), stats.getMaxVersions(), stats.getSizeBytes(),
+                        stats.getSnapshotVersions(), stats.getSnapshotSizeBytes());
+            }
+        }
+        try (Table table = table("version-sprawl-components", string("repository"), string("group"), string("name"), int64("versions"),
+                int64("size_bytes"), int64("snapshot_versions"), int64("snapshot_size_bytes"))) {
+            for (VersionSprawlSummary.CoordinateVersions coordinate : summary.getTopCoordinates()) {
+                table.row(coordinate.getRepository(), coordinate.getGroup(), coordinate.getName(), coordinate.getVersions(), coordinate.getSizeBytes(),
+                        coordinate.getSnapshotVersions(), coordinate.getSnapshotSizeBytes());
+            }
+        }
+    }
+
+    @Override
+    public void writeSnapshotDiffSummary(SnapshotDiffSummary summary) throws IOException {
+        try (Table table = table("diff", string("repository"), string("format"), int64("baseline_components"), int64("current_components"),
+                int64("added"), int64("added_size_bytes"), int64("removed"), int64("removed_size_bytes"), int64("baseline_size_bytes"),
+                int64("current_size_bytes"), int64("size_delta"))) {
+            for (var entry : summary.getRepositoryDiffs().entrySet()) {
+                SnapshotDiffSummary.DiffStats diff = entry.getValue();
+                table.row(entry.getKey(), entry.getValue().getFormat(), diff.getBaselineComponents(), diff.getCurrentComponents(),
+                        diff.getAddedComponents(), diff.getAddedSizeBytes(), diff.getRemovedComponents(), diff.getRemovedSizeBytes(),
+                        diff.getBaselineSizeBytes(), diff.getCurrentSizeBytes(), diff.getSizeDelta());
+            }
+        }
+        try (Table table = table("diff-components", string("change"), string("repository"), string("group"), string("name"), string("version"),
+                int64("size_bytes"))) {
+            for (SnapshotDiffSummary.ComponentChange component : summary.getTopAdded()) {
+                table.row("added", component.getRepository(), component.getGroup(), component.getName(), component.getVersion(), component.getSizeBytes());
+            }
+            for (SnapshotDiffSummary.ComponentChange component : summary.getTopRemoved()) {
+                table.row("removed", component.getRepository(), component.getGroup(), component.getName(), component.getVersion(), component.getSizeBytes());
+            }
+        }
+    }
+
+    @Override
+    public void writeCrossTab(CrossTab crossTab) throws IOException {
+        List<Type> columns = new ArrayList<>();
+        for (CubeDimension dimension : crossTab.getDimensions()) {
+            columns.add(string(dimension.getName()));
+        }
+        columns.add(int64("components"));
+        columns.add(int64("size_bytes"));
+        try (Table table = table("cross-tab", columns.toArray(new Type[0]))) {
+            for (CrossTab.Row row : crossTab.getRows()) {
+                List<Object> values = new ArrayList<>(row.getValues());
+                values.add(row.getComponentCount());
+                values.add(row.getSizeBytes());
+                table.row(values.toArray());
+            }
+        }
+    }
+
+    @Override
+    public void writeComponents(List<ComponentXO> components) throws IOException {
+        writeComponentsPage(components);
+    }
+
+    @Override
+    public synchronized void openComponents() throws IOException {
+        if (componentsTable == null) {
+            MessageType schema = new MessageType("component", string("repository"), string("format"), string("group"), string("name"),
+                    string("version"), int64("size_bytes"), timestamp("created"), timestamp("last_downloaded"));
+            componentsTable = new Table(file, schema);
+        }
+    }
+
+    @Override
+    public synchronized void writeComponentsPage(List<ComponentXO> page) throws IOException {
+        openComponents();
+        for (ComponentXO component : page) {
+            long created = AgeSummary.getEarliestCreationEpochSecond(component);
+            long lastDownloaded = DownloadRecencySummary.getLatestDownloadEpochSecond(component);
+            componentsTable.row(component.getRepository(), component.getFormat(), component.getGroup(), component.getName(), component.getVersion(),
+                    NxReport.calculateComponentSize(component),
+                    created != Long.MAX_VALUE ? created * 1000 : null,
+                    lastDownloaded != DownloadRecencySummary.NEVER_DOWNLOADED ? lastDownloaded * 1000 : null);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        // The report tables are closed once written, the components table once all pages are written
+        if (componentsTable != null) {
+            componentsTable.close();
+            componentsTable = null;
+        } else if (!sectionTables.isEmpty()) {
+            try (Table index = new Table(file, new MessageType("sections", string("section"), string("file"), int64("rows")))) {
+                for (var entry : sectionTables.entrySet()) {
+                    index.row(entry.getKey(), entry.getValue().file.getFileName().toString(), entry.getValue().rows);
+                }
+            }
+        }
+        sectionTables.clear();
+    }
+
+    @Override
+    public synchronized void abort() throws IOException {
+        // The sections of a failed report are not listed
+        sectionTables.clear();
+        close();
+    }
+
+    private synchronized Table table(String name, Type... columns) throws IOException {
+        String fileName = file.getFileName().toString();
+        String baseName = fileName.endsWith(".parquet") ? fileName.substring(0, fileName.length() - ".parquet".length()) : fileName;
+        Table table = new Table(file.resolveSibling(baseName + "-" + name + ".parquet"), new MessageType(name.replace('-', '_'), columns));
+        sectionTables.put(name, table);
+        return table;
+    }
+
+    private static Type string(String name) {
+        return Types.optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named(name);
+    }
+
+    private static Type int64(String name) {
+        return Types.optional(PrimitiveTypeName.INT64).named(name);
+    }
+
+    private static Type timestamp(String name) {
+        return Types.optional(PrimitiveTypeName.INT64).as(LogicalTypeAnnotation.timestampType(true, LogicalTypeAnnotation.TimeUnit.MILLIS)).named(name);
+    }
+
+    /**
+     * A Parquet file written row by row, rows are buffered into row groups by the Parquet writer.
+     */
+    private static final class Table implements AutoCloseable {
+
+        private final Path file;
+
+        private final MessageType schema;
+
+        private final SimpleGroupFactory groupFactory;
+
+        private final ParquetWriter<Group> writer;
+
+        private long rows;
+
+        private Table(Path file, MessageType schema) throws IOException {
+            this.file = file;
+            this.schema = schema;
+            this.groupFactory = new SimpleGroupFactory(schema);
+            // The plain configuration and uncompressed pages keep Hadoop off the write path, the codecs are Hadoop's
+            this.writer = ExampleParquetWriter.builder(new LocalOutputFile(file))
+                    .withConf(new PlainParquetConfiguration())
+                    .withType(schema)
+                    .withCompressionCodec(CompressionCodecName.UNCOMPRESSED)
+                    .withDictionaryEncoding(true)
+                    .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+                    .build();
+        }
+
+        /**
+         * Writes a row, the values are in column order, null values are left unset.
+         *
+         * @param values The row values, strings or numbers
+         * @throws IOException if the row cannot be written
+         */
+        private void row(Object... values) throws IOException {
+            Group group = groupFactory.newGroup();
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value instanceof String string) {
+                    group.append(schema.getFieldName(i), string);
+                } else if (value instanceof Number number) {
+                    group.append(schema.getFieldName(i), number.longValue());
+                }
+            }
+            writer.write(group);
+            rows++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
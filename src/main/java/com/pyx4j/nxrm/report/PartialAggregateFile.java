@@ -0,0 +1,70 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.pyx4j.nxrm.report.model.AggregationCube;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reads and writes the partial aggregate of a sharded crawl, the cells of its aggregation cube in a compact
+ * binary form. The partials of all shards are merged into one cube by the merge command.
+ */
+final class PartialAggregateFile {
+
+    private static final int MAGIC = 0x4E58_5250; // NXRP
+
+    private static final int VERSION = 2;
+
+    private PartialAggregateFile() {
+        // Utility class should not be instantiated
+    }
+
+    /**
+     * Writes the cube of a crawl.
+     *
+     * @param file  The partial aggregate file
+     * @param cube  The aggregation cube of the crawl
+     * @param shard The shard the crawl covered, or null for all repositories
+     * @throws IOException if the file cannot be written
+     */
+    static void write(@NonNull String file, @NonNull AggregationCube cube, @Nullable Shard shard) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(Path.of(file))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(shard != null ? shard.getNumber() : 1);
+            out.writeInt(shard != null ? shard.getCount() : 1);
+            cube.writePartial(out);
+        }
+    }
+
+    /**
+     * Merges a partial aggregate into a cube.
+     *
+     * @param file The partial aggregate file
+     * @param cube The cube to merge into
+     * @return The shard the partial aggregate covers
+     * @throws IOException if the file cannot be read or is not a partial aggregate
+     */
+    @NonNull
+    static Shard read(@NonNull String file, @NonNull AggregationCube cube) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(Path.of(file))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(file + " is not a partial aggregate file");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported partial aggregate version " + version + " in " + file);
+            }
+            Shard shard = new Shard(in.readInt(), in.readInt());
+            cube.mergePartial(in);
+            return shard;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.pyx4j.nxrm.report;
 
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.Objects;
 
 import com.google.common.base.Strings;
@@ -88,9 +92,27 @@ public final class ProxySelector {
             return webClientBuilder;
         }
 
+        return webClientBuilder.clientConnector(new ReactorClientHttpConnector(configureProxy(HttpClient.create(), proxyConfig)));
+    }
+
+    /**
+     * Configures Reactor Netty HTTP client with proxy settings if available.
+     *
+     * @param httpClient  HTTP client to configure
+     * @param proxyConfig Proxy configuration (nullable)
+     * @return The configured HTTP client
+     */
+    public static HttpClient configureProxy(HttpClient httpClient, @Nullable ProxyConfig proxyConfig) {
+        Objects.requireNonNull(httpClient, "HTTP client cannot be null");
+
+        if (proxyConfig == null) {
+            log.trace("No proxy configuration provided, using direct connection");
+            return httpClient;
+        }
+
         log.info("Configuring HTTP client with proxy: {}:{}", proxyConfig.getHost(), proxyConfig.getPort());
 
-        HttpClient httpClient = HttpClient.create()
+        return httpClient
                 .proxy(proxy -> {
                     ProxyProvider.Builder proxyBuilder = proxy.type(ProxyProvider.Proxy.HTTP)
                             .host(proxyConfig.getHost())
@@ -101,8 +123,53 @@ public final class ProxySelector {
                                 .password(unused -> proxyConfig.getPassword());
                     }
                 });
+    }
+
+    /**
+     * Creates a JDK HTTP client with proxy settings if available.
+     * <p>
+     * The JDK client disables Basic proxy authentication for HTTPS tunnels unless the
+     * {@code jdk.http.auth.tunneling.disabledSchemes} system property allows it.
+     *
+     * @param proxyConfig Proxy configuration (nullable)
+     * @return The HTTP/1.1 client
+     */
+    public static java.net.http.HttpClient createJdkHttpClient(@Nullable ProxyConfig proxyConfig) {
+        return createJdkHttpClient(proxyConfig, java.net.http.HttpClient.Version.HTTP_1_1);
+    }
+
+    /**
+     * Creates a JDK HTTP client of the given HTTP version with proxy settings if available.
+     *
+     * @param proxyConfig Proxy configuration (nullable)
+     * @param version     The preferred HTTP version, HTTP/2 falls back to HTTP/1.1 when the server does not support it
+     * @return The HTTP client
+     */
+    public static java.net.http.HttpClient createJdkHttpClient(@Nullable ProxyConfig proxyConfig, java.net.http.HttpClient.Version version) {
+        java.net.http.HttpClient.Builder httpClientBuilder = java.net.http.HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofSeconds(30));
+
+        if (proxyConfig == null) {
+            log.trace("No proxy configuration provided, using direct connection");
+            return httpClientBuilder.build();
+        }
+
+        log.info("Configuring JDK HTTP client with proxy: {}:{}", proxyConfig.getHost(), proxyConfig.getPort());
 
-        return webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient));
+        httpClientBuilder.proxy(java.net.ProxySelector.of(new InetSocketAddress(proxyConfig.getHost(), proxyConfig.getPort())));
+        if (proxyConfig.getUsername() != null && proxyConfig.getPassword() != null) {
+            httpClientBuilder.authenticator(new Authenticator() {
+                @Override
+                protected PasswordAuthentication getPasswordAuthentication() {
+                    if (getRequestorType() != RequestorType.PROXY) {
+                        return null;
+                    }
+                    return new PasswordAuthentication(proxyConfig.getUsername(), proxyConfig.getPassword().toCharArray());
+                }
+            });
+        }
+        return httpClientBuilder.build();
     }
 
     @Nullable
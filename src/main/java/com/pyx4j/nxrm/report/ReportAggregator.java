@@ -0,0 +1,358 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.pyx4j.nxrm.report.model.AgeSummary;
+import com.pyx4j.nxrm.report.model.AggregationCube;
+import com.pyx4j.nxrm.report.model.CleanupPolicy;
+import com.pyx4j.nxrm.report.model.CleanupSimulationSummary;
+import com.pyx4j.nxrm.report.model.DownloadRecencySummary;
+import com.pyx4j.nxrm.report.model.DuplicateDetector;
+import com.pyx4j.nxrm.report.model.DuplicatesSummary;
+import com.pyx4j.nxrm.report.model.GroupsSummary;
+import com.pyx4j.nxrm.report.model.GrowthPeriod;
+import com.pyx4j.nxrm.report.model.GrowthSummary;
+import com.pyx4j.nxrm.report.model.RepositoryComponentsSummary;
+import com.pyx4j.nxrm.report.model.SizeDistributionSummary;
+import com.pyx4j.nxrm.report.model.VersionSprawlDetector;
+import com.pyx4j.nxrm.report.model.VersionSprawlSummary;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Collects the data of all reports in a single crawl.
+ * <p>
+ * Every filtered component is fed once into the {@link AggregationCube}; the repositories, groups and age
+ * summaries are projections of it. Size distributions need every individual size and are kept in sketches next to
+ * the cube. Pages of different repositories arrive concurrently, so updates are synchronized.
+ */
+final class ReportAggregator implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportAggregator.class);
+
+    private final AggregationCube cube;
+
+    // Only built for the size distribution report and serve mode, the sketches are fed every component and asset
+    @Nullable
+    private final SizeDistributionSummary sizeDistributionSummary;
+
+    // Only built for the download recency report and serve mode, it is fed every component
+    @Nullable
+    private final DownloadRecencySummary downloadRecencySummary;
+
+    // Groups are tracked outside the cube in approximate mode to keep memory bounded
+    @Nullable
+    private final GroupsSummary approximateGroupsSummary;
+
+    // Asset checksums are only collected for the duplicates report, they are spilled to disk when large
+    @Nullable
+    private final DuplicateDetector duplicateDetector;
+
+    // Versions per coordinate are only counted for the version-sprawl report, they are spilled to disk when large
+    @Nullable
+    private final VersionSprawlDetector versionSprawlDetector;
+
+    @Nullable
+    private final CleanupSimulator cleanupSimulator;
+
+    // Only kept when the filtered components are exported to a file that is not streamed or to the database
+    @Nullable
+    private List<ComponentXO> components;
+
+    // Read outside the lock while crawling, the writers are added before the crawl
+    private final List<ComponentStreamWriter> componentStreams = new CopyOnWriteArrayList<>();
+
+    private final boolean keepStreamedComponents;
+
+    // Prepended to the repository names, it tells the servers of a multi-server crawl apart
+    private final String repositoryPrefix;
+
+    ReportAggregator(@NonNull NxReportCommandArgs args) {
+        this(args, null);
+    }
+
+    /**
+     * Creates the aggregator for the reports selected by the arguments.
+     *
+     * @param args            The command arguments
+     * @param cleanupPolicies The candidate cleanup policies to simulate, or null
+     */
+    ReportAggregator(@NonNull NxReportCommandArgs args, @Nullable List<CleanupPolicy> cleanupPolicies) {
+        this(args, cleanupPolicies, "");
+    }
+
+    /**
+     * Creates the aggregator for the reports selected by the arguments.
+     *
+     * @param args             The command arguments
+     * @param cleanupPolicies  The candidate cleanup policies to simulate, or null
+     * @param repositoryPrefix The prefix of the repository names in the reports, e.g., the server name and a slash
+     */
+    ReportAggregator(@NonNull NxReportCommandArgs args, @Nullable List<CleanupPolicy> cleanupPolicies, @NonNull String repositoryPrefix) {
+        Objects.requireNonNull(args, "Command arguments cannot be null");
+        this.repositoryPrefix = Objects.requireNonNull(repositoryPrefix, "Repository prefix cannot be null");
+
+        // Ages of the whole run are measured from the same day
+        LocalDate referenceDate = LocalDate.now(ZoneOffset.UTC);
+        List<String> ageBucketRanges = Arrays.asList(args.ageBuckets.split(","));
+
+        this.approximateGroupsSummary = createApproximateGroupsSummary(args);
+        this.cube = new AggregationCube(ageBucketRanges, referenceDate, approximateGroupsSummary == null);
+        this.sizeDistributionSummary = "serve".equals(args.report) || "size-distribution".equals(args.report) ? new SizeDistributionSummary() : null;
+        this.downloadRecencySummary = "serve".equals(args.report) || "download-recency".equals(args.report) ? new DownloadRecencySummary(Arrays.asList(args.downloadBuckets.split(",")), referenceDate, args.reclaimableDays) : null;
+        this.duplicateDetector = "duplicates".equals(args.report) ? new DuplicateDetector() : null;
+        this.versionSprawlDetector = "version-sprawl".equals(args.report) ? new VersionSprawlDetector(args.maxCoordinatesInMemory) : null;
+        this.cleanupSimulator = cleanupPolicies != null ? new CleanupSimulator(cleanupPolicies, referenceDate) : null;
+        this.components = !args.outputComponentFiles.isEmpty() || args.outputDbFile != null ? new ArrayList<>() : null;
+        this.keepStreamedComponents = args.outputDbFile != null
+                || args.outputComponentFiles.stream().anyMatch(file -> !ComponentStreamWriter.isStreamed(file));
+    }
+
+    @Nullable
+    private static GroupsSummary createApproximateGroupsSummary(NxReportCommandArgs args) {
+        if (args.approximateGroups == null) {
+            return null;
+        }
+        if (args.approximateGroups < args.topGroups) {
+            log.warn("Approximate groups capacity {} is smaller than the number of top groups {}", args.approximateGroups, args.topGroups);
+        }
+        return new GroupsSummary(args.approximateGroups, rankingMetric(args.groupSort));
+    }
+
+    /**
+     * Gets the metric groups are ranked by for the sorting option.
+     *
+     * @param sortBy The group sorting option
+     * @return The ranking metric
+     */
+    static GroupsSummary.Metric rankingMetric(SortBy sortBy) {
+        return sortBy == SortBy.SIZE ? GroupsSummary.Metric.SIZE : GroupsSummary.Metric.COMPONENTS;
+    }
+
+    /**
+     * Adds a page of filtered components of a repository. The page is streamed to the component writers outside the
+     * aggregator lock, so a slow writer does not hold up the other crawl threads. With a repository prefix, the
+     * repository of the components is set to the prefixed name, so that the exported components of the servers of a
+     * multi-server crawl can be told apart.
+     *
+     * @param repositoryName The repository name
+     * @param format         The repository format
+     * @param page           The filtered components
+     */
+    void addComponents(@NonNull String repositoryName, @Nullable String format, @NonNull List<ComponentXO> page) {
+        String repository = repositoryPrefix + repositoryName;
+        if (!repositoryPrefix.isEmpty()) {
+            for (ComponentXO component : page) {
+                component.setRepository(repository);
+            }
+        }
+        aggregate(repository, format, page);
+        for (ComponentStreamWriter componentStream : componentStreams) {
+            try {
+                componentStream.writeComponentsPage(page);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error streaming components", e);
+            }
+        }
+    }
+
+    private synchronized void aggregate(String repository, @Nullable String format, List<ComponentXO> page) {
+        for (ComponentXO component : page) {
+            long sizeBytes = NxReport.calculateComponentSize(component);
+            long createdEpochSecond = AgeSummary.getEarliestCreationEpochSecond(component);
+
+            cube.addComponent(repository, format, component.getGroup(), createdEpochSecond, sizeBytes);
+            if (sizeDistributionSummary != null) {
+                sizeDistributionSummary.addComponent(repository, format, component, sizeBytes);
+            }
+            if (downloadRecencySummary != null) {
+                downloadRecencySummary.addComponent(repository, format, component, sizeBytes);
+            }
+            if (duplicateDetector != null) {
+                duplicateDetector.addComponent(repository, component);
+            }
+            if (versionSprawlDetector != null) {
+                versionSprawlDetector.addComponent(repository, format, component, sizeBytes);
+            }
+            if (cleanupSimulator != null) {
+                cleanupSimulator.addComponent(repository, format, component, sizeBytes);
+            }
+
+            if (approximateGroupsSummary != null && component.getGroup() != null) {
+                approximateGroupsSummary.addGroupStats(component.getGroup(), 1, sizeBytes);
+            }
+        }
+
+        if (components != null) {
+            components.addAll(page);
+        }
+    }
+
+    /**
+     * Streams the filtered components of every page to the writer as they are added, instead of keeping them for
+     * the export. They are still kept for the database and the component files that are not streamed. Several
+     * writers can be added. The writer is not closed by the aggregator, it can be shared by several aggregators.
+     *
+     * @param componentStream The component writer
+     */
+    synchronized void streamComponents(@NonNull ComponentStreamWriter componentStream) {
+        componentStreams.add(Objects.requireNonNull(componentStream, "Component stream cannot be null"));
+        if (!keepStreamedComponents) {
+            this.components = null;
+        }
+    }
+
+    /**
+     * Checks if the filtered components are streamed, the newline-delimited JSON and Parquet component files are then
+     * already written.
+     *
+     * @return true when the components are streamed
+     */
+    synchronized boolean isStreamingComponents() {
+        return !componentStreams.isEmpty();
+    }
+
+    /**
+     * Adds the aggregates of another aggregator created with the same arguments, e.g., the aggregates of a single
+     * repository kept from an earlier crawl. Only the cube, size distributions, download recency and exported
+     * components are merged; the detectors of the duplicates, version-sprawl and cleanup reports are not.
+     *
+     * @param other The aggregator to merge
+     */
+    synchronized void merge(@NonNull ReportAggregator other) {
+        Objects.requireNonNull(other, "Aggregator cannot be null");
+        if (approximateGroupsSummary != null) {
+            throw new IllegalStateException("Approximate groups cannot be merged");
+        }
+        cube.merge(other.cube);
+        if (sizeDistributionSummary != null && other.sizeDistributionSummary != null) {
+            sizeDistributionSummary.merge(other.sizeDistributionSummary);
+        }
+        if (downloadRecencySummary != null && other.downloadRecencySummary != null) {
+            downloadRecencySummary.merge(other.downloadRecencySummary);
+        }
+        if (components != null && other.components != null) {
+            components.addAll(other.components);
+        }
+    }
+
+    @NonNull
+    AggregationCube getCube() {
+        return cube;
+    }
+
+    @NonNull
+    RepositoryComponentsSummary getRepositoryComponentsSummary() {
+        return cube.toRepositoryComponentsSummary();
+    }
+
+    @NonNull
+    GroupsSummary getGroupsSummary() {
+        return approximateGroupsSummary != null ? approximateGroupsSummary : cube.toGroupsSummary();
+    }
+
+    @NonNull
+    AgeSummary getAgeSummary() {
+        return cube.toAgeSummary();
+    }
+
+    @NonNull
+    GrowthSummary getGrowthSummary(@NonNull GrowthPeriod period) {
+        return cube.toGrowthSummary(period);
+    }
+
+    /**
+     * Gets the size-distribution report.
+     *
+     * @return The summary, or null unless the size-distribution report is selected or the reports are served
+     */
+    @Nullable
+    SizeDistributionSummary getSizeDistributionSummary() {
+        return sizeDistributionSummary;
+    }
+
+    /**
+     * Gets the download-recency report.
+     *
+     * @return The summary, or null unless the download-recency report is selected or the reports are served
+     */
+    @Nullable
+    DownloadRecencySummary getDownloadRecencySummary() {
+        return downloadRecencySummary;
+    }
+
+    /**
+     * Gets the cleanup simulation results.
+     *
+     * @return The simulation summary, or null when no policies are simulated
+     */
+    @Nullable
+    CleanupSimulationSummary getCleanupSimulationSummary() {
+        return cleanupSimulator != null ? cleanupSimulator.getSummary() : null;
+    }
+
+    /**
+     * Finds the duplicated assets, only available for the duplicates report.
+     *
+     * @param topArtifacts The number of duplicated artifacts wasting the most bytes to report
+     * @return The duplicates summary
+     * @throws IOException if the spilled checksums cannot be read
+     */
+    @NonNull
+    DuplicatesSummary getDuplicatesSummary(int topArtifacts) throws IOException {
+        if (duplicateDetector == null) {
+            throw new IllegalStateException("Asset checksums are only collected for the duplicates report");
+        }
+        return duplicateDetector.summarize(topArtifacts);
+    }
+
+    /**
+     * Counts the versions per component coordinate, only available for the version-sprawl report.
+     *
+     * @param topCoordinates The number of coordinates with the most versions to report
+     * @return The version sprawl summary
+     * @throws IOException if the spilled coordinates cannot be read
+     */
+    @NonNull
+    VersionSprawlSummary getVersionSprawlSummary(int topCoordinates) throws IOException {
+        if (versionSprawlDetector == null) {
+            throw new IllegalStateException("Versions per coordinate are only counted for the version-sprawl report");
+        }
+        return versionSprawlDetector.summarize(topCoordinates);
+    }
+
+    /**
+     * Gets the filtered components, empty unless components are exported.
+     *
+     * @return The filtered components
+     */
+    @NonNull
+    List<ComponentXO> getComponents() {
+        return components != null ? components : Collections.emptyList();
+    }
+
+    /**
+     * Deletes the temporary files of the aggregation.
+     */
+    @Override
+    public void close() {
+        if (duplicateDetector != null) {
+            duplicateDetector.close();
+        }
+        if (versionSprawlDetector != null) {
+            versionSprawlDetector.close();
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pyx4j.nxrm.report.model.CrossTab;
+import com.pyx4j.nxrm.report.model.CubeDimension;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the reports of the latest crawl over a local HTTP API.
+ * <p>
+ * The crawl runs in the background on a fixed schedule. When it completes the reports are rendered to JSON once and
+ * swapped in as a whole, so requests are answered from memory and never see a half-refreshed state. A failed
+ * refresh keeps the previous reports. Cross-tabs are computed on request from the cached aggregation cube.
+ */
+final class ReportServer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportServer.class);
+
+    /**
+     * Reports rendered after every refresh.
+     */
+    static final List<String> REPORTS = List.of("repositories-summary", "top-groups", "age-report", "growth", "size-distribution", "download-recency");
+
+    private static final String CROSS_TAB = "cross-tab";
+
+    private static final String REPORTS_PATH = "/reports/";
+
+    /**
+     * Crawls the repositories into an aggregator.
+     */
+    @FunctionalInterface
+    interface Crawler {
+
+        /**
+         * Feeds all components into the aggregator.
+         *
+         * @param aggregator The empty aggregator
+         * @return The time each repository was completely aggregated, by repository name
+         * @throws IOException if the components cannot be read
+         */
+        Map<String, Instant> crawl(ReportAggregator aggregator) throws IOException;
+    }
+
+    private final NxReportCommandArgs args;
+
+    private final Crawler crawler;
+
+    private final HttpServer httpServer;
+
+    private final ExecutorService requestExecutor;
+
+    private final ScheduledExecutorService refreshScheduler;
+
+    private final ObjectMapper objectMapper;
+
+    private final CountDownLatch closed = new CountDownLatch(1);
+
+    // Replaced as a whole after every successful refresh, null until the first one completes
+    @Nullable
+    private volatile CachedReports cachedReports;
+
+    private volatile boolean refreshing;
+
+    @Nullable
+    private volatile String lastError;
+
+    /**
+     * Creates the server, it does not accept requests before {@link #start()}.
+     *
+     * @param args    The command arguments, with the bind address, port and refresh interval
+     * @param crawler The crawler run on every refresh
+     * @throws IOException if the server cannot bind to the address
+     */
+    ReportServer(@NonNull NxReportCommandArgs args, @NonNull Crawler crawler) throws IOException {
+        this.args = Objects.requireNonNull(args, "Command arguments cannot be null");
+        this.crawler = Objects.requireNonNull(crawler, "Crawler cannot be null");
+        if (args.refreshInterval <= 0) {
+            throw new IllegalArgumentException("Refresh interval must be positive: " + args.refreshInterval);
+        }
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+        this.httpServer = HttpServer.create(new InetSocketAddress(args.bindAddress, args.port), 0);
+        this.httpServer.createContext("/status", this::handleStatus);
+        this.httpServer.createContext(REPORTS_PATH, this::handleReport);
+        this.requestExecutor = Executors.newFixedThreadPool(4);
+        this.httpServer.setExecutor(requestExecutor);
+        this.refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "report-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the port the server listens on, useful when bound to port 0.
+     *
+     * @return The local port
+     */
+    int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Starts answering requests and schedules the refreshes, the first one runs immediately.
+     */
+    void start() {
+        httpServer.start();
+        log.info("Serving reports on http://{}:{}/ with a refresh every {} minutes", args.bindAddress, getPort(), args.refreshInterval);
+        // A fixed delay never lets a slow crawl overlap the next one
+        refreshScheduler.scheduleWithFixedDelay(this::refresh, 0, args.refreshInterval, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Blocks until the server is closed.
+     *
+     * @throws InterruptedException if the wait is interrupted
+     */
+    void awaitClose() throws InterruptedException {
+        closed.await();
+    }
+
+    /**
+     * Crawls all repositories into a new aggregator and publishes its reports.
+     */
+    void refresh() {
+        refreshing = true;
+        Instant started = Instant.now();
+        ReportAggregator aggregator = new ReportAggregator(args);
+        try {
+            Map<String, Instant> repositoryRefreshedAt = crawler.crawl(aggregator);
+            publish(aggregator, repositoryRefreshedAt, started);
+            lastError = null;
+        } catch (IOException | RuntimeException e) {
+            // Keep serving the previous reports
+            log.error("Error refreshing reports", e);
+            lastError = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+            aggregator.close();
+        } finally {
+            refreshing = false;
+        }
+    }
+
+    /**
+     * Renders the reports of a completed crawl and swaps them in.
+     *
+     * @param aggregator            The aggregator of the completed crawl, owned by the server from now on
+     * @param repositoryRefreshedAt The time each repository was completely aggregated
+     * @param started               The time the crawl started
+     * @throws IOException if a report cannot be rendered
+     */
+    void publish(@NonNull ReportAggregator aggregator, @NonNull Map<String, Instant> repositoryRefreshedAt, @NonNull Instant started) throws IOException {
+        Map<String, byte[]> reports = new LinkedHashMap<>();
+        reports.put("repositories-summary", render(writer -> writer.writeRepositoryComponentsSummary(aggregator.getRepositoryComponentsSummary(), args.repositoriesSortBy)));
+        reports.put("top-groups", render(writer -> writer.writeGroupsSummary(aggregator.getGroupsSummary(), args.groupSort, args.topGroups)));
+        reports.put("age-report", render(writer -> writer.writeAgeSummary(aggregator.getAgeSummary())));
+        reports.put("growth", render(writer -> writer.writeGrowthSummary(aggregator.getGrowthSummary(args.growthPeriod))));
+        reports.put("size-distribution", render(writer -> writer.writeSizeDistribution(aggregator.getSizeDistributionSummary())));
+        reports.put("download-recency", render(writer -> writer.writeDownloadRecencySummary(aggregator.getDownloadRecencySummary())));
+
+        Instant refreshedAt = Instant.now();
+        CachedReports previous = cachedReports;
+        cachedReports = new CachedReports(aggregator, reports, new TreeMap<>(repositoryRefreshedAt), refreshedAt, Duration.between(started, refreshedAt));
+        log.info("Reports refreshed in {} ms, {} repositories", Duration.between(started, refreshedAt).toMillis(), repositoryRefreshedAt.size());
+        if (previous != null) {
+            previous.aggregator.close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Section {
+        void write(ReportWriter writer) throws IOException;
+    }
+
+    private static byte[] render(Section section) throws IOException {
+        StringWriter out = new StringWriter();
+        try (ReportWriter writer = new JsonReportWriter(out)) {
+            section.write(writer);
+        }
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void handleStatus(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Method not allowed");
+                return;
+            }
+            Instant now = Instant.now();
+            CachedReports current = cachedReports;
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("ready", current != null);
+            status.put("refreshing", refreshing);
+            status.put("refreshIntervalMinutes", args.refreshInterval);
+            if (current != null) {
+                status.put("refreshedAt", current.refreshedAt.toString());
+                status.put("refreshDurationMillis", current.refreshDuration.toMillis());
+                Map<String, Object> repositories = new LinkedHashMap<>();
+                current.repositoryRefreshedAt.forEach((repoName, refreshedAt) -> {
+                    Map<String, Object> freshness = new LinkedHashMap<>();
+                    freshness.put("refreshedAt", refreshedAt.toString());
+                    freshness.put("ageSeconds", Duration.between(refreshedAt, now).toSeconds());
+                    repositories.put(repoName, freshness);
+                });
+                status.put("repositories", repositories);
+            }
+            status.put("lastError", lastError);
+            send(exchange, 200, objectMapper.writeValueAsBytes(status), null);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleReport(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Method not allowed");
+                return;
+            }
+            String report = exchange.getRequestURI().getPath().substring(REPORTS_PATH.length());
+            if (!REPORTS.contains(report) && !CROSS_TAB.equals(report)) {
+                sendError(exchange, 404, "Unknown report: " + report);
+                return;
+            }
+            CachedReports current = cachedReports;
+            if (current == null) {
+                sendError(exchange, 503, "Reports are not available before the first refresh completes");
+                return;
+            }
+            if (CROSS_TAB.equals(report)) {
+                handleCrossTab(exchange, current);
+            } else {
+                send(exchange, 200, current.reports.get(report), current.refreshedAt);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleCrossTab(HttpExchange exchange, CachedReports current) throws IOException {
+        String dimensionList = queryParameter(exchange.getRequestURI().getRawQuery(), "dimensions");
+        if (dimensionList == null) {
+            sendError(exchange, 400, "Missing query parameter 'dimensions'");
+            return;
+        }
+        byte[] body;
+        try {
+            List<CubeDimension> dimensions = CubeDimension.parseList(dimensionList);
+            if (dimensions.contains(CubeDimension.GROUP) && args.approximateGroups != null) {
+                throw new IllegalArgumentException("Cannot combine cross-tab by group with --approximate-groups");
+            }
+            CrossTab crossTab = current.aggregator.getCube().crossTab(dimensions, ReportAggregator.rankingMetric(args.groupSort), args.topGroups);
+            body = render(writer -> writer.writeCrossTab(crossTab));
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+            return;
+        }
+        send(exchange, 200, body, current.refreshedAt);
+    }
+
+    @Nullable
+    private static String queryParameter(@Nullable String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0 && name.equals(parameter.substring(0, separator))) {
+                return URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private void sendError(HttpExchange exchange, int statusCode, String message) throws IOException {
+        send(exchange, statusCode, objectMapper.writeValueAsBytes(Map.of("error", message)), null);
+    }
+
+    private static void send(HttpExchange exchange, int statusCode, byte[] body, @Nullable Instant refreshedAt) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        if (refreshedAt != null) {
+            exchange.getResponseHeaders().set("X-Refreshed-At", refreshedAt.toString());
+        }
+        exchange.sendResponseHeaders(statusCode, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Stops the server, an ongoing refresh is abandoned.
+     */
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        refreshScheduler.shutdownNow();
+        requestExecutor.shutdownNow();
+        CachedReports current = cachedReports;
+        if (current != null) {
+            current.aggregator.close();
+        }
+        closed.countDown();
+    }
+
+    /**
+     * The rendered reports of one refresh, immutable once published.
+     */
+    private static final class CachedReports {
+
+        private final ReportAggregator aggregator;
+
+        private final Map<String, byte[]> reports;
+
+        private final Map<String, Instant> repositoryRefreshedAt;
+
+        private final Instant refreshedAt;
+
+        private final Duration refreshDuration;
+
+        private CachedReports(ReportAggregator aggregator, Map<String, byte[]> reports, Map<String, Instant> repositoryRefreshedAt,
+                              Instant refreshedAt, Duration refreshDuration) {
+            this.aggregator = aggregator;
+            this.reports = reports;
+            this.repositoryRefreshedAt = repositoryRefreshedAt;
+            this.refreshedAt = refreshedAt;
+            this.refreshDuration = refreshDuration;
+        }
+    }
+}
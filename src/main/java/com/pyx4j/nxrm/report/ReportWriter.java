@@ -4,20 +4,57 @@ import java.io.IOException;
 import java.util.List;
 
 import com.pyx4j.nxrm.report.model.AgeSummary;
+import com.pyx4j.nxrm.report.model.CleanupSimulationSummary;
+import com.pyx4j.nxrm.report.model.CrossTab;
+import com.pyx4j.nxrm.report.model.DownloadRecencySummary;
+import com.pyx4j.nxrm.report.model.DuplicatesSummary;
+import com.pyx4j.nxrm.report.model.FleetSummary;
 import com.pyx4j.nxrm.report.model.GroupsSummary;
+import com.pyx4j.nxrm.report.model.GrowthSummary;
 import com.pyx4j.nxrm.report.model.RepositoryComponentsSummary;
+import com.pyx4j.nxrm.report.model.SizeDistributionSummary;
+import com.pyx4j.nxrm.report.model.SnapshotDiffSummary;
+import com.pyx4j.nxrm.report.model.VersionSprawlSummary;
 import org.sonatype.nexus.model.ComponentXO;
 
 public interface ReportWriter extends AutoCloseable {
 
+    void writeFleetSummary(FleetSummary summary) throws IOException;
+
     void writeRepositoryComponentsSummary(RepositoryComponentsSummary summary, SortBy sortBy) throws IOException;
 
     void writeGroupsSummary(GroupsSummary summary, SortBy sortBy, int topGroups) throws IOException;
 
     void writeAgeSummary(AgeSummary summary) throws IOException;
 
+    void writeGrowthSummary(GrowthSummary summary) throws IOException;
+
+    void writeSizeDistribution(SizeDistributionSummary summary) throws IOException;
+
+    void writeCleanupSimulationSummary(CleanupSimulationSummary summary) throws IOException;
+
+    void writeDownloadRecencySummary(DownloadRecencySummary summary) throws IOException;
+
+    void writeDuplicatesSummary(DuplicatesSummary summary) throws IOException;
+
+    void writeVersionSprawlSummary(VersionSprawlSummary summary) throws IOException;
+
+    void writeSnapshotDiffSummary(SnapshotDiffSummary summary) throws IOException;
+
+    void writeCrossTab(CrossTab crossTab) throws IOException;
+
     void writeComponents(List<ComponentXO> components) throws IOException;
 
     @Override
     void close() throws IOException;
+
+    /**
+     * Closes the writer after a failed run. A writer that publishes its file on close discards it instead, so the
+     * previous file is kept.
+     *
+     * @throws IOException if the writer cannot be closed
+     */
+    default void abort() throws IOException {
+        close();
+    }
 }
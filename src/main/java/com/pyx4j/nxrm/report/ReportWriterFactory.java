@@ -1,7 +1,13 @@
 package com.pyx4j.nxrm.report;
 
+import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 public class ReportWriterFactory {
 
@@ -10,14 +16,43 @@ public class ReportWriterFactory {
             return null;
         }
 
-        if (filePath.endsWith(".json")) {
-            return new JsonReportWriter(new FileWriter(filePath));
+        // report.csv.gz is a compressed report.csv
+        OutputCompression compression = OutputCompression.of(filePath);
+        String formatPath = OutputCompression.stripExtension(filePath);
+
+        if (formatPath.endsWith(".json")) {
+            return new JsonReportWriter(openWriter(filePath, compression));
+        }
+
+        if (NdjsonReportWriter.isNdjson(formatPath)) {
+            return new NdjsonReportWriter(new BufferedWriter(openWriter(filePath, compression)));
+        }
+
+        if (formatPath.endsWith(".csv")) {
+            return new CsvReportWriter(openWriter(filePath, compression));
         }
 
-        if (filePath.endsWith(".csv")) {
-            return new CsvReportWriter(new FileWriter(filePath));
+        if (ParquetReportWriter.isParquet(formatPath)) {
+            if (compression != null) {
+                throw new IllegalArgumentException("Parquet readers cannot read a compressed Parquet file, remove the " + compression.getExtension() + " extension: " + filePath);
+            }
+            return new ParquetReportWriter(Path.of(filePath));
+        }
+
+        if (OpenMetricsReportWriter.isOpenMetrics(formatPath)) {
+            if (compression != null) {
+                throw new IllegalArgumentException("The textfile collector reads uncompressed files, remove the " + compression.getExtension() + " extension: " + filePath);
+            }
+            return new OpenMetricsReportWriter(Path.of(filePath));
         }
 
         throw new IllegalArgumentException("Unsupported file format: " + filePath);
     }
+
+    private static Writer openWriter(String filePath, OutputCompression compression) throws IOException {
+        if (compression == null) {
+            return new FileWriter(filePath);
+        }
+        return new OutputStreamWriter(new ParallelCompressionOutputStream(Files.newOutputStream(Path.of(filePath)), compression, filePath), StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,145 @@
+package com.pyx4j.nxrm.report;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A Nexus server of a multi-server crawl.
+ * <p>
+ * Credentials and proxy that are not set fall back to the command line options and environment variables.
+ * Loaded from the servers file, for example:
+ * <pre>
+ * [
+ *   { "name": "eu", "url": "https://nexus-eu.example.com", "token": "...", "concurrency": 8 },
+ *   { "name": "us", "url": "https://nexus-us.example.com", "proxy": "proxy.example.com:8080" }
+ * ]
+ * </pre>
+ */
+public class ServerConfig {
+
+    private String name;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private String token;
+
+    private String proxy;
+
+    private Integer concurrency;
+
+    /**
+     * Gets the server name, it prefixes the repository names in the fleet reports.
+     *
+     * @return The server name
+     */
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public String getProxy() {
+        return proxy;
+    }
+
+    public void setProxy(String proxy) {
+        this.proxy = proxy;
+    }
+
+    /**
+     * Gets the maximum number of repositories of the server crawled concurrently.
+     *
+     * @return The concurrency budget, or null for the default
+     */
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Checks that the server has a name and a URL and a positive concurrency budget when set.
+     */
+    public void validate() {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Server name cannot be empty");
+        }
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("Server " + name + " has no URL");
+        }
+        if (concurrency != null && concurrency < 1) {
+            throw new IllegalArgumentException("Server " + name + " concurrency must be positive: " + concurrency);
+        }
+    }
+
+    /**
+     * Loads and validates the servers file, a JSON array of servers.
+     *
+     * @param file The servers file
+     * @return The servers, in file order
+     * @throws IOException if the file cannot be read
+     */
+    @NonNull
+    static List<ServerConfig> load(@NonNull String file) throws IOException {
+        List<ServerConfig> servers = new ObjectMapper().readValue(Path.of(file).toFile(), new TypeReference<List<ServerConfig>>() {
+        });
+        if (servers == null || servers.isEmpty()) {
+            throw new IllegalArgumentException("Servers file " + file + " does not define any server");
+        }
+        Set<String> names = new HashSet<>();
+        for (ServerConfig server : servers) {
+            server.validate();
+            if (!names.add(server.getName())) {
+                throw new IllegalArgumentException("Duplicate server name in " + file + ": " + server.getName());
+            }
+        }
+        return servers;
+    }
+}
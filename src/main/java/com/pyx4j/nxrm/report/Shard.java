@@ -0,0 +1,91 @@
+package com.pyx4j.nxrm.report;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import com.google.common.hash.Hashing;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * One of the shards the repositories are partitioned into when the crawl is split across workers.
+ * <p>
+ * A repository belongs to the shard selected by a hash of its name, so every worker computes the same partition
+ * without coordination, whatever order the server lists the repositories in.
+ */
+final class Shard {
+
+    private final int number;
+
+    private final int count;
+
+    /**
+     * Creates a shard.
+     *
+     * @param number The shard number, from 1 to count
+     * @param count  The number of shards
+     */
+    Shard(int number, int count) {
+        if (count < 1 || number < 1 || number > count) {
+            throw new IllegalArgumentException("Invalid shard: " + number + "/" + count + ". Expected: i/n with 1 <= i <= n");
+        }
+        this.number = number;
+        this.count = count;
+    }
+
+    /**
+     * Parses a shard in the form i/n, e.g., 2/4 for the second of four shards.
+     *
+     * @param value The shard
+     * @return The shard
+     */
+    @NonNull
+    static Shard parse(@NonNull String value) {
+        Objects.requireNonNull(value, "Shard cannot be null");
+        String[] parts = value.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid shard: '" + value.trim() + "'. Expected: i/n (e.g., 2/4)");
+        }
+        try {
+            return new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid shard: '" + value.trim() + "'. Expected: i/n (e.g., 2/4)", e);
+        }
+    }
+
+    /**
+     * Checks if a repository belongs to this shard.
+     *
+     * @param repositoryName The repository name
+     * @return true when the repository is crawled by this shard
+     */
+    boolean contains(@NonNull String repositoryName) {
+        int hash = Hashing.murmur3_32_fixed().hashString(repositoryName, StandardCharsets.UTF_8).asInt();
+        return Math.floorMod(hash, count) == number - 1;
+    }
+
+    int getNumber() {
+        return number;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Shard shard = (Shard) o;
+        return number == shard.number && count == shard.count;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(number, count);
+    }
+
+    @Override
+    public String toString() {
+        return number + "/" + count;
+    }
+}
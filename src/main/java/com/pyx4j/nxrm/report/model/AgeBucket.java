@@ -13,9 +13,12 @@ public class AgeBucket {
     private static final Pattern RANGE_PATTERN = Pattern.compile("(\\d+)-(\\d+)");
     private static final Pattern GREATER_THAN_PATTERN = Pattern.compile(">(\\d+)");
 
+    // Upper bound used for open-ended buckets
+    private static final int OPEN_ENDED = Integer.MAX_VALUE;
+
     private final String rangeDescription;
-    private final Integer minDays;
-    private final Integer maxDays;
+    private final int minDays;
+    private final int maxDays;
     private long componentCount;
     private long sizeBytes;
 
@@ -46,7 +49,7 @@ public class AgeBucket {
         } else if (greaterThanMatcher.matches()) {
             // Greater than format: ">365"
             this.minDays = Integer.parseInt(greaterThanMatcher.group(1)) + 1;
-            this.maxDays = null; // Open-ended
+            this.maxDays = OPEN_ENDED;
         } else {
             throw new IllegalArgumentException("Invalid age bucket format: " + rangeDescription +
                     ". Expected formats: '0-7', '8-30', or '>365'");
@@ -60,10 +63,7 @@ public class AgeBucket {
      * @return true if the age falls within this bucket's range
      */
     public boolean contains(long days) {
-        if (days < minDays) {
-            return false;
-        }
-        return maxDays == null || days <= maxDays;
+        return days >= minDays && days <= maxDays;
     }
 
     /**
@@ -100,7 +100,7 @@ public class AgeBucket {
      *
      * @return Minimum days (inclusive)
      */
-    public Integer getMinDays() {
+    public int getMinDays() {
         return minDays;
     }
 
@@ -110,7 +110,7 @@ public class AgeBucket {
      * @return Maximum days (inclusive), or null for open-ended buckets
      */
     public Integer getMaxDays() {
-        return maxDays;
+        return maxDays == OPEN_ENDED ? null : maxDays;
     }
 
     /**
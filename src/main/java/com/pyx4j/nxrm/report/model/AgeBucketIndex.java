@@ -0,0 +1,83 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Precomputed lookup from an age in days to the matching age bucket.
+ * <p>
+ * The day axis is split into segments at every bucket boundary. Each segment is resolved once to the
+ * first bucket (in definition order) containing it, so overlapping or non-contiguous buckets keep the
+ * "first matching bucket" semantics. A lookup is a binary search over primitive boundaries.
+ */
+public final class AgeBucketIndex {
+
+    /**
+     * Returned when no bucket contains the age.
+     */
+    public static final int NO_BUCKET = -1;
+
+    private final long[] segmentStarts;
+
+    private final int[] segmentBuckets;
+
+    /**
+     * Creates the lookup for the given buckets.
+     *
+     * @param buckets The age buckets in definition order
+     */
+    public AgeBucketIndex(@NonNull List<AgeBucket> buckets) {
+        Objects.requireNonNull(buckets, "Age buckets cannot be null");
+
+        TreeSet<Long> boundaries = new TreeSet<>();
+        for (AgeBucket bucket : buckets) {
+            boundaries.add((long) bucket.getMinDays());
+            if (bucket.getMaxDays() != null) {
+                boundaries.add((long) bucket.getMaxDays() + 1);
+            }
+        }
+
+        this.segmentStarts = new long[boundaries.size()];
+        this.segmentBuckets = new int[boundaries.size()];
+        int segment = 0;
+        for (long start : boundaries) {
+            segmentStarts[segment] = start;
+            segmentBuckets[segment] = firstContaining(buckets, start);
+            segment++;
+        }
+    }
+
+    private static int firstContaining(List<AgeBucket> buckets, long days) {
+        for (int i = 0; i < buckets.size(); i++) {
+            if (buckets.get(i).contains(days)) {
+                return i;
+            }
+        }
+        return NO_BUCKET;
+    }
+
+    /**
+     * Finds the bucket for the given age.
+     *
+     * @param ageDays The age in days
+     * @return The index of the first matching bucket, or {@link #NO_BUCKET}
+     */
+    public int bucketIndexOf(long ageDays) {
+        int low = 0;
+        int high = segmentStarts.length - 1;
+        int found = NO_BUCKET;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segmentStarts[mid] <= ageDays) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found == NO_BUCKET ? NO_BUCKET : segmentBuckets[found];
+    }
+}
@@ -1,24 +1,30 @@
 package com.pyx4j.nxrm.report.model;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import org.jspecify.annotations.NonNull;
-import org.jspecify.annotations.Nullable;
 import org.sonatype.nexus.model.AssetXO;
 import org.sonatype.nexus.model.ComponentXO;
 
 /**
  * Stores summary information about components grouped by their age.
+ * <p>
+ * Ages are whole UTC calendar days between the component creation date and a reference date captured
+ * once per run, so buckets do not drift when a long crawl crosses midnight.
  */
 public class AgeSummary extends ReportSection {
 
+    private static final long SECONDS_PER_DAY = 86_400;
+
     private final List<AgeBucket> ageBuckets;
+    private final AgeBucketIndex bucketIndex;
+    private final long referenceEpochDay;
     private long totalComponents;
     private long totalSizeBytes;
 
@@ -28,7 +34,18 @@ public class AgeSummary extends ReportSection {
      * @param ageBucketRanges List of age bucket range descriptions (e.g., ["0-7", "8-30", ">365"])
      */
     public AgeSummary(@NonNull List<String> ageBucketRanges) {
+        this(ageBucketRanges, LocalDate.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Creates an AgeSummary with the specified age buckets and reference date.
+     *
+     * @param ageBucketRanges List of age bucket range descriptions (e.g., ["0-7", "8-30", ">365"])
+     * @param referenceDate   The UTC date ages are measured from
+     */
+    public AgeSummary(@NonNull List<String> ageBucketRanges, @NonNull LocalDate referenceDate) {
         Objects.requireNonNull(ageBucketRanges, "Age bucket ranges cannot be null");
+        Objects.requireNonNull(referenceDate, "Reference date cannot be null");
 
         if (ageBucketRanges.isEmpty()) {
             throw new IllegalArgumentException("Age bucket ranges cannot be empty");
@@ -42,6 +59,8 @@ public class AgeSummary extends ReportSection {
         for (String range : ageBucketRanges) {
             ageBuckets.add(new AgeBucket(range));
         }
+        this.bucketIndex = new AgeBucketIndex(ageBuckets);
+        this.referenceEpochDay = referenceDate.toEpochDay();
     }
 
     /**
@@ -54,54 +73,94 @@ public class AgeSummary extends ReportSection {
         Objects.requireNonNull(component, "Component cannot be null");
 
         // Find the earliest creation date among all assets
-        OffsetDateTime earliestCreationDate = getEarliestCreationDate(component);
+        long createdEpochSecond = getEarliestCreationEpochSecond(component);
 
-        if (earliestCreationDate == null) {
+        if (createdEpochSecond == Long.MAX_VALUE) {
             // Skip components without creation dates
             return;
         }
 
-        // Calculate age in days
-        long ageInDays = ChronoUnit.DAYS.between(earliestCreationDate, OffsetDateTime.now(ZoneOffset.UTC));
+        addComponentCreatedAt(createdEpochSecond, sizeBytes);
+    }
+
+    /**
+     * Adds a component created at the given instant to the appropriate age bucket.
+     *
+     * @param createdEpochSecond The component creation time in seconds since the epoch
+     * @param sizeBytes          The size of the component in bytes
+     */
+    public void addComponentCreatedAt(long createdEpochSecond, long sizeBytes) {
+        addComponentsCreatedAt(createdEpochSecond, 1, sizeBytes);
+    }
 
-        // Find the appropriate age bucket
-        for (AgeBucket bucket : ageBuckets) {
-            if (bucket.contains(ageInDays)) {
-                bucket.addComponents(1, sizeBytes);
-                totalComponents++;
-                totalSizeBytes += sizeBytes;
-                return;
-            }
+    /**
+     * Adds components created at the given instant to the appropriate age bucket.
+     *
+     * @param createdEpochSecond The components creation time in seconds since the epoch
+     * @param componentCount     The number of components
+     * @param sizeBytes          The total size of the components in bytes
+     */
+    public void addComponentsCreatedAt(long createdEpochSecond, long componentCount, long sizeBytes) {
+        int bucket = bucketIndexOf(createdEpochSecond);
+        if (bucket == AgeBucketIndex.NO_BUCKET) {
+            // No bucket matched, components outside the configured ranges are skipped
+            return;
         }
+        ageBuckets.get(bucket).addComponents(componentCount, sizeBytes);
+        totalComponents += componentCount;
+        totalSizeBytes += sizeBytes;
+    }
+
+    /**
+     * Finds the age bucket for a component created at the given instant.
+     *
+     * @param createdEpochSecond The component creation time in seconds since the epoch
+     * @return The index of the age bucket, or {@link AgeBucketIndex#NO_BUCKET}
+     */
+    public int bucketIndexOf(long createdEpochSecond) {
+        return bucketIndex.bucketIndexOf(ageInDays(createdEpochSecond));
+    }
 
-        // If no bucket matched, this indicates a configuration issue
-        // For robustness, we could add it to a catch-all bucket, but for now we'll skip it
+    /**
+     * Calculates the age in days relative to the reference date.
+     *
+     * @param createdEpochSecond The creation time in seconds since the epoch
+     * @return The age in whole UTC calendar days
+     */
+    public long ageInDays(long createdEpochSecond) {
+        return referenceEpochDay - Math.floorDiv(createdEpochSecond, SECONDS_PER_DAY);
     }
 
     /**
-     * Gets the earliest creation date among all assets of a component.
+     * Gets the earliest creation time among all assets of a component.
      *
      * @param component The component to check
-     * @return The earliest creation date, or null if no assets have creation dates
+     * @return The earliest creation time in seconds since the epoch, or Long.MAX_VALUE if no assets have creation dates
      */
-    @Nullable
-    private OffsetDateTime getEarliestCreationDate(@NonNull ComponentXO component) {
+    public static long getEarliestCreationEpochSecond(@NonNull ComponentXO component) {
         if (component.getAssets() == null || component.getAssets().isEmpty()) {
-            return null;
+            return Long.MAX_VALUE;
         }
 
-        OffsetDateTime earliest = null;
+        long earliest = Long.MAX_VALUE;
         for (AssetXO asset : component.getAssets()) {
             OffsetDateTime blobCreated = asset.getBlobCreated();
             if (blobCreated != null) {
-                if (earliest == null || blobCreated.isBefore(earliest)) {
-                    earliest = blobCreated;
-                }
+                earliest = Math.min(earliest, blobCreated.toEpochSecond());
             }
         }
         return earliest;
     }
 
+    /**
+     * Gets the reference date ages are measured from.
+     *
+     * @return The reference date as days since the epoch
+     */
+    public long getReferenceEpochDay() {
+        return referenceEpochDay;
+    }
+
     /**
      * Gets an unmodifiable view of the age buckets.
      *
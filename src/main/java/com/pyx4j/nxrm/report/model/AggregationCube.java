@@ -0,0 +1,570 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Single pass aggregation of component counts and sizes by repository, format, group and age.
+ * <p>
+ * Each distinct combination is a cell keyed by a packed long of interned ids, so the cube costs a few
+ * words per cell. Two tables are kept: the day cells by repository, format and creation day, and the
+ * group cells by repository, format, group and age bucket. The day cells do not depend on the day of
+ * the crawl, age buckets are resolved when they are queried, and their number is bounded by the days
+ * of every repository. The group cells grow with the groups, not with the days of every group; their
+ * age buckets are those of the reference date of the cube they were added to.
+ * {@link RepositoryComponentsSummary}, {@link GroupsSummary}, {@link AgeSummary} and {@link GrowthSummary} are projections of the cube,
+ * and {@link #crossTab(List, GroupsSummary.Metric, int)} rolls it up to any combination of dimensions.
+ */
+public class AggregationCube {
+
+    private static final int REPOSITORY_SHIFT = 48;
+    private static final int FORMAT_SHIFT = 40;
+    private static final int GROUP_SHIFT = 16;
+
+    private static final int MAX_REPOSITORY_ID = 0xFFFF;
+    // One id is kept free so format ids can be shifted by one in roll-up keys
+    private static final int MAX_FORMAT_ID = 0xFE;
+    private static final int MAX_GROUP_ID = 0xFFFFFF;
+    private static final int MAX_DAY = 0xFFFF;
+
+    private static final int NO_DAY = 0;
+    // Stored in the day bits of group cells for components without creation day or outside the age buckets
+    private static final int NO_BUCKET = 0;
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private static final int COMPONENTS = 0;
+    private static final int SIZE = 1;
+
+    private static final String NO_VALUE = "-";
+
+    private final StringDictionary repositories;
+    private final StringDictionary formats;
+    private final StringDictionary groups;
+    private final LongCellTable dayCells;
+    private final LongCellTable groupCells;
+
+    private final List<String> ageBucketRanges;
+    private final LocalDate referenceDate;
+    private final AgeSummary ageClassifier;
+    private final boolean groupsEnabled;
+
+    /**
+     * Creates an empty cube.
+     *
+     * @param ageBucketRanges The age bucket ranges used by age projections and roll-ups
+     * @param referenceDate   The UTC date ages are measured from
+     * @param groupsEnabled   Whether the group dimension is tracked, it is the only dimension without a natural bound
+     */
+    public AggregationCube(@NonNull List<String> ageBucketRanges, @NonNull LocalDate referenceDate, boolean groupsEnabled) {
+        this.ageBucketRanges = List.copyOf(ageBucketRanges);
+        this.referenceDate = Objects.requireNonNull(referenceDate, "Reference date cannot be null");
+        this.ageClassifier = new AgeSummary(this.ageBucketRanges, referenceDate);
+        this.groupsEnabled = groupsEnabled;
+        this.repositories = new StringDictionary(MAX_REPOSITORY_ID);
+        this.formats = new StringDictionary(MAX_FORMAT_ID);
+        this.groups = new StringDictionary(MAX_GROUP_ID);
+        this.dayCells = new LongCellTable(2);
+        this.groupCells = new LongCellTable(2);
+    }
+
+    /**
+     * Adds a component to the cube.
+     *
+     * @param repository         The repository name
+     * @param format             The repository format
+     * @param group              The component group, or null
+     * @param createdEpochSecond The component creation time in seconds since the epoch, or Long.MAX_VALUE if unknown
+     * @param sizeBytes          The size of the component in bytes
+     */
+    public void addComponent(@NonNull String repository, @Nullable String format, @Nullable String group, long createdEpochSecond, long sizeBytes) {
+        Objects.requireNonNull(repository, "Repository name cannot be null");
+        int repositoryId = repositories.idOf(repository);
+        int formatId = formats.idOf(format);
+        int day = encodeDay(createdEpochSecond);
+        addCell(dayCells, repositoryId, formatId, StringDictionary.NONE, day, 1, sizeBytes);
+        if (groupsEnabled && group != null) {
+            addCell(groupCells, repositoryId, formatId, internGroup(group), bucketOf(day), 1, sizeBytes);
+        }
+    }
+
+    /**
+     * Adds all cells of another cube, e.g., the cube of a single repository kept from an earlier crawl.
+     * Day cells keep the creation day, so cubes built on different days can be merged; group cells keep the age
+     * bucket of the day the other cube was built.
+     *
+     * @param other The cube to add, it must track groups if this cube does, with the same age buckets
+     */
+    public void merge(@NonNull AggregationCube other) {
+        Objects.requireNonNull(other, "Cube cannot be null");
+        if (groupsEnabled && !other.groupsEnabled) {
+            throw new IllegalArgumentException("Cannot merge a cube without groups into a cube with groups");
+        }
+        checkAgeBuckets(other.ageBucketRanges);
+        for (int slot = 0; slot < other.dayCells.capacity(); slot++) {
+            if (other.dayCells.isUsed(slot)) {
+                long key = other.dayCells.keyAt(slot);
+                addCell(dayCells, repositories.idOf(other.repositories.valueOf(repositoryIdOf(key))),
+                        formats.idOf(other.formats.valueOf(formatIdOf(key))),
+                        StringDictionary.NONE,
+                        dayOf(key),
+                        other.dayCells.valueAt(slot, COMPONENTS), other.dayCells.valueAt(slot, SIZE));
+            }
+        }
+        if (!groupsEnabled) {
+            return;
+        }
+        for (int slot = 0; slot < other.groupCells.capacity(); slot++) {
+            if (other.groupCells.isUsed(slot)) {
+                long key = other.groupCells.keyAt(slot);
+                addCell(groupCells, repositories.idOf(other.repositories.valueOf(repositoryIdOf(key))),
+                        formats.idOf(other.formats.valueOf(formatIdOf(key))),
+                        internGroup(other.groups.valueOf(groupIdOf(key))),
+                        dayOf(key),
+                        other.groupCells.valueAt(slot, COMPONENTS), other.groupCells.valueAt(slot, SIZE));
+            }
+        }
+    }
+
+    private void checkAgeBuckets(List<String> otherAgeBucketRanges) {
+        if (groupsEnabled && !ageBucketRanges.equals(otherAgeBucketRanges)) {
+            throw new IllegalArgumentException("Cannot merge group cells of age buckets " + String.join(",", otherAgeBucketRanges)
+                    + " into age buckets " + String.join(",", ageBucketRanges));
+        }
+    }
+
+    /**
+     * Writes the cells and the values of their ids, so that another cube can merge them with {@link #mergePartial(DataInput)}.
+     *
+     * @param out The output
+     * @throws IOException if the cells cannot be written
+     */
+    public void writePartial(@NonNull DataOutput out) throws IOException {
+        out.writeBoolean(groupsEnabled);
+        out.writeInt(ageBucketRanges.size());
+        for (String range : ageBucketRanges) {
+            out.writeUTF(range);
+        }
+        writeDictionary(out, repositories);
+        writeDictionary(out, formats);
+        writeDictionary(out, groups);
+        writeCells(out, dayCells);
+        writeCells(out, groupCells);
+    }
+
+    private static void writeCells(DataOutput out, LongCellTable cells) throws IOException {
+        out.writeInt(cells.size());
+        for (int slot = 0; slot < cells.capacity(); slot++) {
+            if (cells.isUsed(slot)) {
+                out.writeLong(cells.keyAt(slot));
+                out.writeLong(cells.valueAt(slot, COMPONENTS));
+                out.writeLong(cells.valueAt(slot, SIZE));
+            }
+        }
+    }
+
+    /**
+     * Adds the cells written by {@link #writePartial(DataOutput)} of another cube.
+     *
+     * @param in The input
+     * @throws IOException if the cells cannot be read
+     */
+    public void mergePartial(@NonNull DataInput in) throws IOException {
+        boolean partialGroupsEnabled = in.readBoolean();
+        if (groupsEnabled && !partialGroupsEnabled) {
+            throw new IllegalArgumentException("Cannot merge a partial aggregate without groups into a cube with groups");
+        }
+        List<String> partialAgeBucketRanges = new ArrayList<>();
+        for (int count = in.readInt(); count > 0; count--) {
+            partialAgeBucketRanges.add(in.readUTF());
+        }
+        checkAgeBuckets(partialAgeBucketRanges);
+        String[] partialRepositories = readDictionary(in);
+        String[] partialFormats = readDictionary(in);
+        String[] partialGroups = readDictionary(in);
+        for (int cellCount = in.readInt(); cellCount > 0; cellCount--) {
+            long key = in.readLong();
+            long componentCount = in.readLong();
+            long sizeBytes = in.readLong();
+            addCell(dayCells, repositories.idOf(partialRepositories[repositoryIdOf(key)]),
+                    formats.idOf(partialFormats[formatIdOf(key)]),
+                    StringDictionary.NONE,
+                    dayOf(key),
+                    componentCount, sizeBytes);
+        }
+        for (int cellCount = in.readInt(); cellCount > 0; cellCount--) {
+            long key = in.readLong();
+            long componentCount = in.readLong();
+            long sizeBytes = in.readLong();
+            if (groupsEnabled) {
+                addCell(groupCells, repositories.idOf(partialRepositories[repositoryIdOf(key)]),
+                        formats.idOf(partialFormats[formatIdOf(key)]),
+                        internGroup(partialGroups[groupIdOf(key)]),
+                        dayOf(key),
+                        componentCount, sizeBytes);
+            }
+        }
+    }
+
+    private static void writeDictionary(DataOutput out, StringDictionary dictionary) throws IOException {
+        out.writeInt(dictionary.size());
+        for (int id = 1; id <= dictionary.size(); id++) {
+            out.writeUTF(dictionary.valueOf(id));
+        }
+    }
+
+    // Index 0 is StringDictionary.NONE
+    private static String[] readDictionary(DataInput in) throws IOException {
+        String[] values = new String[in.readInt() + 1];
+        for (int id = 1; id < values.length; id++) {
+            values[id] = in.readUTF();
+        }
+        return values;
+    }
+
+    private int internGroup(@Nullable String group) {
+        try {
+            return groups.idOf(group);
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException("Too many distinct groups for the aggregation cube, use --approximate-groups", e);
+        }
+    }
+
+    private static void addCell(LongCellTable cells, int repositoryId, int formatId, int groupId, int dayOrBucket, long componentCount, long sizeBytes) {
+        cells.addCounts(pack(repositoryId, formatId, groupId, dayOrBucket), componentCount, sizeBytes);
+    }
+
+    private static long pack(long repositoryId, long formatId, long groupId, long day) {
+        return repositoryId << REPOSITORY_SHIFT | formatId << FORMAT_SHIFT | groupId << GROUP_SHIFT | day;
+    }
+
+    private static int repositoryIdOf(long key) {
+        return (int) (key >>> REPOSITORY_SHIFT);
+    }
+
+    private static int formatIdOf(long key) {
+        return (int) (key >>> FORMAT_SHIFT) & 0xFF;
+    }
+
+    private static int groupIdOf(long key) {
+        return (int) (key >>> GROUP_SHIFT) & MAX_GROUP_ID;
+    }
+
+    private static int dayOf(long key) {
+        return (int) key & MAX_DAY;
+    }
+
+    private static int encodeDay(long createdEpochSecond) {
+        if (createdEpochSecond == Long.MAX_VALUE) {
+            return NO_DAY;
+        }
+        long epochDay = Math.floorDiv(createdEpochSecond, SECONDS_PER_DAY);
+        return (int) Math.max(1, Math.min(MAX_DAY, epochDay + 1));
+    }
+
+    private static long decodeDayEpochSecond(int day) {
+        return (day - 1) * SECONDS_PER_DAY;
+    }
+
+    /**
+     * Gets the age bucket of a creation day, stored as the bucket index plus one.
+     */
+    private int bucketOf(int day) {
+        if (day == NO_DAY) {
+            return NO_BUCKET;
+        }
+        int bucketIndex = ageClassifier.bucketIndexOf(decodeDayEpochSecond(day));
+        return bucketIndex == AgeBucketIndex.NO_BUCKET ? NO_BUCKET : bucketIndex + 1;
+    }
+
+    private String formatOf(int formatId) {
+        return Objects.requireNonNullElse(formats.valueOf(formatId), NO_VALUE);
+    }
+
+    /**
+     * Gets the number of non-empty cells, the day cells and the group cells.
+     *
+     * @return The cell count
+     */
+    public int getCellCount() {
+        return dayCells.size() + groupCells.size();
+    }
+
+    /**
+     * Checks if the group dimension is tracked.
+     *
+     * @return true when groups are tracked
+     */
+    public boolean isGroupsEnabled() {
+        return groupsEnabled;
+    }
+
+    /**
+     * Projects the cube to the components summary per repository.
+     *
+     * @return A new repositories summary
+     */
+    @NonNull
+    public RepositoryComponentsSummary toRepositoryComponentsSummary() {
+        RepositoryComponentsSummary summary = new RepositoryComponentsSummary();
+        for (int slot = 0; slot < dayCells.capacity(); slot++) {
+            if (dayCells.isUsed(slot)) {
+                long key = dayCells.keyAt(slot);
+                summary.addRepositoryStats(repositories.valueOf(repositoryIdOf(key)), formatOf(formatIdOf(key)),
+                        dayCells.valueAt(slot, COMPONENTS), dayCells.valueAt(slot, SIZE));
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Projects the cube to the groups summary, components without a group are not included.
+     *
+     * @return A new exact groups summary
+     */
+    @NonNull
+    public GroupsSummary toGroupsSummary() {
+        GroupsSummary summary = new GroupsSummary();
+        for (int slot = 0; slot < groupCells.capacity(); slot++) {
+            if (groupCells.isUsed(slot)) {
+                summary.addGroupStats(groups.valueOf(groupIdOf(groupCells.keyAt(slot))), groupCells.valueAt(slot, COMPONENTS), groupCells.valueAt(slot, SIZE));
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Projects the cube to the age distribution, components without a creation date are not included.
+     *
+     * @return A new age summary
+     */
+    @NonNull
+    public AgeSummary toAgeSummary() {
+        AgeSummary summary = new AgeSummary(ageBucketRanges, referenceDate);
+        for (int slot = 0; slot < dayCells.capacity(); slot++) {
+            if (dayCells.isUsed(slot)) {
+                int day = dayOf(dayCells.keyAt(slot));
+                if (day != NO_DAY) {
+                    summary.addComponentsCreatedAt(decodeDayEpochSecond(day), dayCells.valueAt(slot, COMPONENTS), dayCells.valueAt(slot, SIZE));
+                }
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Projects the cube to dense time series of the components created per period and repository.
+     * <p>
+     * Cells are visited twice: once to find the covered periods, once to add every cell to its repository series.
+     * The series run from the period of the oldest component to the period of the reference date.
+     *
+     * @param period The period length
+     * @return A new growth summary
+     */
+    @NonNull
+    public GrowthSummary toGrowthSummary(@NonNull GrowthPeriod period) {
+        Objects.requireNonNull(period, "Growth period cannot be null");
+        int firstPeriod = period.indexOf(referenceDate.toEpochDay());
+        int lastPeriod = firstPeriod;
+        long undatedComponents = 0;
+        long undatedSizeBytes = 0;
+        for (int slot = 0; slot < dayCells.capacity(); slot++) {
+            if (dayCells.isUsed(slot)) {
+                int day = dayOf(dayCells.keyAt(slot));
+                if (day == NO_DAY) {
+                    undatedComponents += dayCells.valueAt(slot, COMPONENTS);
+                    undatedSizeBytes += dayCells.valueAt(slot, SIZE);
+                } else {
+                    int periodIndex = period.indexOf(day - 1);
+                    firstPeriod = Math.min(firstPeriod, periodIndex);
+                    lastPeriod = Math.max(lastPeriod, periodIndex);
+                }
+            }
+        }
+
+        int periodCount = lastPeriod - firstPeriod + 1;
+        GrowthSummary.GrowthSeries total = new GrowthSummary.GrowthSeries(NO_VALUE, periodCount);
+        GrowthSummary.GrowthSeries[] seriesByRepository = new GrowthSummary.GrowthSeries[repositories.size() + 1];
+        for (int slot = 0; slot < dayCells.capacity(); slot++) {
+            if (dayCells.isUsed(slot)) {
+                long key = dayCells.keyAt(slot);
+                int day = dayOf(key);
+                if (day == NO_DAY) {
+                    continue;
+                }
+                int periodIndex = period.indexOf(day - 1) - firstPeriod;
+                int repositoryId = repositoryIdOf(key);
+                if (seriesByRepository[repositoryId] == null) {
+                    seriesByRepository[repositoryId] = new GrowthSummary.GrowthSeries(formatOf(formatIdOf(key)), periodCount);
+                }
+                seriesByRepository[repositoryId].add(periodIndex, dayCells.valueAt(slot, COMPONENTS), dayCells.valueAt(slot, SIZE));
+                total.add(periodIndex, dayCells.valueAt(slot, COMPONENTS), dayCells.valueAt(slot, SIZE));
+            }
+        }
+
+        List<String> periods = new ArrayList<>(periodCount);
+        for (int periodIndex = firstPeriod; periodIndex <= lastPeriod; periodIndex++) {
+            periods.add(period.labelOf(periodIndex));
+        }
+        Map<String, GrowthSummary.GrowthSeries> repositorySeries = new TreeMap<>();
+        for (int repositoryId = 1; repositoryId < seriesByRepository.length; repositoryId++) {
+            if (seriesByRepository[repositoryId] != null) {
+                repositorySeries.put(repositories.valueOf(repositoryId), seriesByRepository[repositoryId]);
+            }
+        }
+        return new GrowthSummary(period, periods, repositorySeries, total, undatedComponents, undatedSizeBytes);
+    }
+
+    /**
+     * Rolls the cube up to the given dimensions.
+     * <p>
+     * Components without a group or outside the age buckets are left out when grouping by those dimensions,
+     * consistent with the top groups and age reports. When grouping by group, only the top groups within each
+     * combination of the other dimensions are kept, ranked by the given metric.
+     *
+     * @param dimensions The dimensions to keep, in output order
+     * @param metric     The metric used to rank groups
+     * @param topGroups  The number of groups to keep per combination of the other dimensions
+     * @return The rolled up rows, ordered by dimension values with groups in ranking order
+     */
+    @NonNull
+    public CrossTab crossTab(@NonNull List<CubeDimension> dimensions, GroupsSummary.Metric metric, int topGroups) {
+        Objects.requireNonNull(dimensions, "Dimensions cannot be null");
+        Objects.requireNonNull(metric, "Metric cannot be null");
+        if (dimensions.isEmpty()) {
+            throw new IllegalArgumentException("Cross-tab requires at least one dimension");
+        }
+        boolean byRepository = dimensions.contains(CubeDimension.REPOSITORY);
+        boolean byFormat = dimensions.contains(CubeDimension.FORMAT);
+        boolean byGroup = dimensions.contains(CubeDimension.GROUP);
+        boolean byAge = dimensions.contains(CubeDimension.AGE_BUCKET);
+        if (byGroup && !groupsEnabled) {
+            throw new IllegalStateException("Group dimension is not tracked in approximate groups mode");
+        }
+
+        // Roll up into a smaller table, dimensions that are not kept are zeroed in the key.
+        // Format ids are shifted by one and age buckets stored in the day bits, so kept dimensions are never 0.
+        // Only the group cells have the group, they hold the components with a group by age bucket.
+        LongCellTable cells = byGroup ? groupCells : dayCells;
+        LongCellTable rolledUp = new LongCellTable(2);
+        for (int slot = 0; slot < cells.capacity(); slot++) {
+            if (!cells.isUsed(slot)) {
+                continue;
+            }
+            long key = cells.keyAt(slot);
+            int bucket = NO_BUCKET;
+            if (byAge) {
+                bucket = byGroup ? dayOf(key) : bucketOf(dayOf(key));
+                if (bucket == NO_BUCKET) {
+                    continue;
+                }
+            }
+            long rolledKey = pack(byRepository ? repositoryIdOf(key) : 0,
+                    byFormat ? formatIdOf(key) + 1 : 0,
+                    byGroup ? groupIdOf(key) : 0,
+                    bucket);
+            rolledUp.addCounts(rolledKey, cells.valueAt(slot, COMPONENTS), cells.valueAt(slot, SIZE));
+        }
+
+        List<RolledUpCell> rolledUpCells = new ArrayList<>(rolledUp.size());
+        for (int slot = 0; slot < rolledUp.capacity(); slot++) {
+            if (rolledUp.isUsed(slot)) {
+                rolledUpCells.add(new RolledUpCell(rolledUp.keyAt(slot), rolledUp.valueAt(slot, COMPONENTS), rolledUp.valueAt(slot, SIZE)));
+            }
+        }
+
+        Comparator<RolledUpCell> groupRank = Comparator.comparingLong((RolledUpCell cell) -> metric == GroupsSummary.Metric.SIZE ? cell.sizeBytes : cell.componentCount)
+                .reversed()
+                .thenComparing(cell -> groups.valueOf(groupIdOf(cell.key)));
+        if (byGroup) {
+            rolledUpCells = topGroupsPerPartition(rolledUpCells, groupRank, topGroups);
+        }
+
+        rolledUpCells.sort(rowOrder(dimensions, groupRank));
+
+        List<CrossTab.Row> rows = new ArrayList<>(rolledUpCells.size());
+        for (RolledUpCell cell : rolledUpCells) {
+            List<String> values = new ArrayList<>(dimensions.size());
+            for (CubeDimension dimension : dimensions) {
+                values.add(valueOf(dimension, cell.key));
+            }
+            rows.add(new CrossTab.Row(values, cell.componentCount, cell.sizeBytes));
+        }
+        return new CrossTab(dimensions, rows);
+    }
+
+    private static List<RolledUpCell> topGroupsPerPartition(List<RolledUpCell> rolledUpCells, Comparator<RolledUpCell> groupRank, int topGroups) {
+        Map<Long, TopK<RolledUpCell>> partitions = new HashMap<>();
+        for (RolledUpCell cell : rolledUpCells) {
+            long partitionKey = cell.key & ~((long) MAX_GROUP_ID << GROUP_SHIFT);
+            partitions.computeIfAbsent(partitionKey, k -> new TopK<>(topGroups, groupRank)).offer(cell);
+        }
+        List<RolledUpCell> result = new ArrayList<>();
+        partitions.values().forEach(topK -> result.addAll(topK.toList()));
+        return result;
+    }
+
+    private Comparator<RolledUpCell> rowOrder(List<CubeDimension> dimensions, Comparator<RolledUpCell> groupRank) {
+        Comparator<RolledUpCell> order = null;
+        for (CubeDimension dimension : dimensions) {
+            Comparator<RolledUpCell> next;
+            switch (dimension) {
+                case REPOSITORY:
+                    next = Comparator.comparing(cell -> repositories.valueOf(repositoryIdOf(cell.key)));
+                    break;
+                case FORMAT:
+                    next = Comparator.comparing(cell -> formatOf(formatIdOf(cell.key) - 1));
+                    break;
+                case GROUP:
+                    next = groupRank;
+                    break;
+                case AGE_BUCKET:
+                default:
+                    next = Comparator.comparingInt(cell -> dayOf(cell.key));
+                    break;
+            }
+            order = order == null ? next : order.thenComparing(next);
+        }
+        return order;
+    }
+
+    private String valueOf(CubeDimension dimension, long rolledKey) {
+        switch (dimension) {
+            case REPOSITORY:
+                return repositories.valueOf(repositoryIdOf(rolledKey));
+            case FORMAT:
+                return formatOf(formatIdOf(rolledKey) - 1);
+            case GROUP:
+                return groups.valueOf(groupIdOf(rolledKey));
+            case AGE_BUCKET:
+            default:
+                return ageClassifier.getAgeBuckets().get(dayOf(rolledKey) - 1).getOriginalRange();
+        }
+    }
+
+    private static class RolledUpCell {
+
+        private final long key;
+
+        private final long componentCount;
+
+        private final long sizeBytes;
+
+        private RolledUpCell(long key, long componentCount, long sizeBytes) {
+            this.key = key;
+            this.componentCount = componentCount;
+            this.sizeBytes = sizeBytes;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.List;
+
+/**
+ * Candidate cleanup policy evaluated by the cleanup simulation.
+ * <p>
+ * Criteria that are not set are ignored, a component matches when all set criteria match. Loaded from the
+ * policies file, for example:
+ * <pre>
+ * [
+ *   { "name": "old-snapshots", "repositories": ["maven-snapshots"], "olderThanDays": 30, "versionPattern": ".*-SNAPSHOT" },
+ *   { "name": "unused", "notDownloadedDays": 365 }
+ * ]
+ * </pre>
+ */
+public class CleanupPolicy {
+
+    private String name;
+
+    private List<String> repositories;
+
+    private Integer olderThanDays;
+
+    private Integer notDownloadedDays;
+
+    private String versionPattern;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the repository name patterns (supports wildcards *, ?), all repositories when not set.
+     *
+     * @return The repository name patterns
+     */
+    public List<String> getRepositories() {
+        return repositories;
+    }
+
+    public void setRepositories(List<String> repositories) {
+        this.repositories = repositories;
+    }
+
+    /**
+     * Gets the minimum component age, components created more than this number of days ago match.
+     *
+     * @return The age in days
+     */
+    public Integer getOlderThanDays() {
+        return olderThanDays;
+    }
+
+    public void setOlderThanDays(Integer olderThanDays) {
+        this.olderThanDays = olderThanDays;
+    }
+
+    /**
+     * Gets the download recency criteria, components not downloaded for more than this number of days match.
+     * Components never downloaded match when they were created more than this number of days ago.
+     *
+     * @return The number of days
+     */
+    public Integer getNotDownloadedDays() {
+        return notDownloadedDays;
+    }
+
+    public void setNotDownloadedDays(Integer notDownloadedDays) {
+        this.notDownloadedDays = notDownloadedDays;
+    }
+
+    /**
+     * Gets the regular expression the whole component version must match.
+     *
+     * @return The version pattern
+     */
+    public String getVersionPattern() {
+        return versionPattern;
+    }
+
+    public void setVersionPattern(String versionPattern) {
+        this.versionPattern = versionPattern;
+    }
+
+    /**
+     * Validates the policy definition.
+     *
+     * @throws IllegalArgumentException if the policy has no name, no criteria or a negative number of days
+     */
+    public void validate() {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Cleanup policy name cannot be empty");
+        }
+        if (olderThanDays == null && notDownloadedDays == null && versionPattern == null) {
+            throw new IllegalArgumentException("Cleanup policy '" + name + "' must define at least one of olderThanDays, notDownloadedDays or versionPattern");
+        }
+        if ((olderThanDays != null && olderThanDays < 0) || (notDownloadedDays != null && notDownloadedDays < 0)) {
+            throw new IllegalArgumentException("Cleanup policy '" + name + "' days cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Stores the components and bytes each candidate cleanup policy would delete, in total and per repository.
+ */
+public class CleanupSimulationSummary extends ReportSection {
+
+    private final List<PolicyResult> policyResults;
+
+    private long totalComponents;
+
+    private long totalSizeBytes;
+
+    /**
+     * Creates an empty summary for the policies.
+     *
+     * @param policyNames The policy names in evaluation order
+     */
+    public CleanupSimulationSummary(@NonNull List<String> policyNames) {
+        Objects.requireNonNull(policyNames, "Policy names cannot be null");
+        this.policyResults = new ArrayList<>(policyNames.size());
+        for (String policyName : policyNames) {
+            policyResults.add(new PolicyResult(policyName));
+        }
+    }
+
+    /**
+     * Counts a component evaluated against the policies.
+     *
+     * @param sizeBytes The size of the component in bytes
+     */
+    public void addEvaluated(long sizeBytes) {
+        totalComponents++;
+        totalSizeBytes += sizeBytes;
+    }
+
+    /**
+     * Counts a component the policy would delete.
+     *
+     * @param policyIndex    The index of the policy
+     * @param repositoryName The name of the repository
+     * @param format         The format of the repository
+     * @param sizeBytes      The size of the component in bytes
+     */
+    public void addDeletion(int policyIndex, @NonNull String repositoryName, String format, long sizeBytes) {
+        PolicyResult result = policyResults.get(policyIndex);
+        result.componentCount++;
+        result.sizeBytes += sizeBytes;
+        result.repositoryStats.computeIfAbsent(repositoryName, k -> new RepositoryStats(format != null ? format : "-"))
+                .addComponents(1, sizeBytes);
+    }
+
+    /**
+     * Gets the results in policy order.
+     *
+     * @return The policy results
+     */
+    public List<PolicyResult> getPolicyResults() {
+        return Collections.unmodifiableList(policyResults);
+    }
+
+    /**
+     * Gets the number of components evaluated.
+     *
+     * @return Total component count
+     */
+    public long getTotalComponents() {
+        return totalComponents;
+    }
+
+    /**
+     * Gets the size in bytes of the components evaluated.
+     *
+     * @return Total size in bytes
+     */
+    public long getTotalSizeBytes() {
+        return totalSizeBytes;
+    }
+
+    /**
+     * Deletion estimate of one policy.
+     */
+    public static class PolicyResult {
+
+        private final String policyName;
+
+        private final Map<String, RepositoryStats> repositoryStats;
+
+        private long componentCount;
+
+        private long sizeBytes;
+
+        PolicyResult(String policyName) {
+            this.policyName = policyName;
+            this.repositoryStats = new TreeMap<>();
+        }
+
+        public String getPolicyName() {
+            return policyName;
+        }
+
+        public long getComponentCount() {
+            return componentCount;
+        }
+
+        public long getSizeBytes() {
+            return sizeBytes;
+        }
+
+        /**
+         * Gets the deletion estimate per repository, ordered by repository name.
+         *
+         * @return Map of repository names to the components the policy would delete
+         */
+        public Map<String, RepositoryStats> getRepositoryStats() {
+            return Collections.unmodifiableMap(repositoryStats);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a roll-up query over the {@link AggregationCube}: one row per combination of dimension values.
+ */
+public class CrossTab {
+
+    private final List<CubeDimension> dimensions;
+
+    private final List<Row> rows;
+
+    CrossTab(List<CubeDimension> dimensions, List<Row> rows) {
+        this.dimensions = List.copyOf(dimensions);
+        this.rows = Collections.unmodifiableList(rows);
+    }
+
+    public List<CubeDimension> getDimensions() {
+        return dimensions;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * Aggregated values for one combination of dimension values.
+     */
+    public static class Row {
+
+        private final List<String> values;
+
+        private final long componentCount;
+
+        private final long sizeBytes;
+
+        Row(List<String> values, long componentCount, long sizeBytes) {
+            this.values = List.copyOf(values);
+            this.componentCount = componentCount;
+            this.sizeBytes = sizeBytes;
+        }
+
+        /**
+         * Gets the dimension values in the order of {@link CrossTab#getDimensions()}.
+         *
+         * @return The dimension values
+         */
+        public List<String> getValues() {
+            return values;
+        }
+
+        public long getComponentCount() {
+            return componentCount;
+        }
+
+        public long getSizeBytes() {
+            return sizeBytes;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Dimensions of the {@link AggregationCube} available for roll-up queries.
+ */
+public enum CubeDimension {
+
+    REPOSITORY("repository", "Repository"),
+
+    FORMAT("format", "Format"),
+
+    GROUP("group", "Group"),
+
+    AGE_BUCKET("age", "Age Range");
+
+    private final String optionName;
+
+    private final String title;
+
+    CubeDimension(String optionName, String title) {
+        this.optionName = optionName;
+        this.title = title;
+    }
+
+    /**
+     * Gets the dimension name used on the command line and as JSON key.
+     *
+     * @return The dimension name
+     */
+    public String getName() {
+        return optionName;
+    }
+
+    /**
+     * Gets the column title used by report renderers.
+     *
+     * @return The column title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Parses a comma-separated list of dimension names (e.g., "repository,age").
+     *
+     * @param dimensions The dimension names
+     * @return The dimensions in the given order
+     */
+    @NonNull
+    public static List<CubeDimension> parseList(@NonNull String dimensions) {
+        List<CubeDimension> result = new ArrayList<>();
+        for (String name : dimensions.split(",")) {
+            CubeDimension dimension = parse(name);
+            if (result.contains(dimension)) {
+                throw new IllegalArgumentException("Duplicate cross-tab dimension: " + name.trim());
+            }
+            result.add(dimension);
+        }
+        return result;
+    }
+
+    private static CubeDimension parse(String name) {
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        for (CubeDimension dimension : values()) {
+            if (dimension.optionName.equals(normalized) || dimension.name().toLowerCase(Locale.ROOT).equals(normalized)) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("Invalid cross-tab dimension: '" + name.trim() + "'. Expected: repository, format, group, age");
+    }
+}
@@ -0,0 +1,219 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.sonatype.nexus.model.AssetXO;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Stores summary information about components grouped by the time since their last download.
+ * <p>
+ * A component was last downloaded when the most recent of its assets was. Components with no downloaded
+ * asset are counted separately as never downloaded. Components never downloaded or not downloaded within
+ * the reclaimable period are totalled per repository as reclaimable storage.
+ */
+public class DownloadRecencySummary extends ReportSection {
+
+    /**
+     * Returned by {@link #getLatestDownloadEpochSecond(ComponentXO)} for components never downloaded.
+     */
+    public static final long NEVER_DOWNLOADED = Long.MIN_VALUE;
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private final List<AgeBucket> downloadBuckets;
+    private final AgeBucketIndex bucketIndex;
+    private final long referenceEpochDay;
+    private final int reclaimableDays;
+    private final Map<String, ReclaimableStats> repositoryStats;
+    private long neverDownloadedComponents;
+    private long neverDownloadedSizeBytes;
+    private long totalComponents;
+    private long totalSizeBytes;
+    private long reclaimableComponents;
+    private long reclaimableSizeBytes;
+
+    /**
+     * Creates a DownloadRecencySummary with the specified download buckets.
+     *
+     * @param downloadBucketRanges List of bucket range descriptions in days since last download (e.g., ["0-30", ">365"])
+     * @param referenceDate        The UTC date download ages are measured from
+     * @param reclaimableDays      Components not downloaded for more than this number of days are reclaimable
+     */
+    public DownloadRecencySummary(@NonNull List<String> downloadBucketRanges, @NonNull LocalDate referenceDate, int reclaimableDays) {
+        Objects.requireNonNull(downloadBucketRanges, "Download bucket ranges cannot be null");
+        Objects.requireNonNull(referenceDate, "Reference date cannot be null");
+
+        if (downloadBucketRanges.isEmpty()) {
+            throw new IllegalArgumentException("Download bucket ranges cannot be empty");
+        }
+        if (reclaimableDays < 0) {
+            throw new IllegalArgumentException("Reclaimable days cannot be negative: " + reclaimableDays);
+        }
+
+        this.downloadBuckets = new ArrayList<>();
+        for (String range : downloadBucketRanges) {
+            downloadBuckets.add(new AgeBucket(range));
+        }
+        this.bucketIndex = new AgeBucketIndex(downloadBuckets);
+        this.referenceEpochDay = referenceDate.toEpochDay();
+        this.reclaimableDays = reclaimableDays;
+        this.repositoryStats = new TreeMap<>();
+    }
+
+    /**
+     * Adds a component to the bucket of its last download.
+     *
+     * @param repositoryName The name of the repository
+     * @param format         The format of the repository
+     * @param component      The component to categorize
+     * @param sizeBytes      The size of the component in bytes
+     */
+    public void addComponent(@NonNull String repositoryName, @Nullable String format, @NonNull ComponentXO component, long sizeBytes) {
+        Objects.requireNonNull(component, "Component cannot be null");
+        addComponentDownloadedAt(repositoryName, format, getLatestDownloadEpochSecond(component), sizeBytes);
+    }
+
+    /**
+     * Adds a component last downloaded at the given instant.
+     *
+     * @param repositoryName           The name of the repository
+     * @param format                   The format of the repository
+     * @param lastDownloadedEpochSecond The last download time in seconds since the epoch, or {@link #NEVER_DOWNLOADED}
+     * @param sizeBytes                The size of the component in bytes
+     */
+    public void addComponentDownloadedAt(@NonNull String repositoryName, @Nullable String format, long lastDownloadedEpochSecond, long sizeBytes) {
+        Objects.requireNonNull(repositoryName, "Repository name cannot be null");
+
+        boolean reclaimable;
+        if (lastDownloadedEpochSecond == NEVER_DOWNLOADED) {
+            neverDownloadedComponents++;
+            neverDownloadedSizeBytes += sizeBytes;
+            reclaimable = true;
+        } else {
+            long days = referenceEpochDay - Math.floorDiv(lastDownloadedEpochSecond, SECONDS_PER_DAY);
+            int bucket = bucketIndex.bucketIndexOf(days);
+            if (bucket != AgeBucketIndex.NO_BUCKET) {
+                downloadBuckets.get(bucket).addComponents(1, sizeBytes);
+            }
+            reclaimable = days > reclaimableDays;
+        }
+
+        repositoryStats.computeIfAbsent(repositoryName, k -> new ReclaimableStats(format != null ? format : "-"))
+                .addComponents(1, sizeBytes, reclaimable);
+        totalComponents++;
+        totalSizeBytes += sizeBytes;
+        if (reclaimable) {
+            reclaimableComponents++;
+            reclaimableSizeBytes += sizeBytes;
+        }
+    }
+
+    /**
+     * Adds all components of another summary with the same download buckets, e.g., the summary of a single
+     * repository kept from an earlier crawl. Components stay in the bucket of the other summary's reference date.
+     *
+     * @param other The summary to merge
+     */
+    public void merge(@NonNull DownloadRecencySummary other) {
+        Objects.requireNonNull(other, "Download recency summary cannot be null");
+        if (!downloadBuckets.equals(other.downloadBuckets) || reclaimableDays != other.reclaimableDays) {
+            throw new IllegalArgumentException("Cannot merge download recency summaries with different buckets or reclaimable days");
+        }
+        for (int i = 0; i < downloadBuckets.size(); i++) {
+            AgeBucket bucket = other.downloadBuckets.get(i);
+            downloadBuckets.get(i).addComponents(bucket.getComponentCount(), bucket.getSizeBytes());
+        }
+        other.repositoryStats.forEach((repositoryName, stats) -> {
+            ReclaimableStats merged = repositoryStats.computeIfAbsent(repositoryName, k -> new ReclaimableStats(stats.getFormat()));
+            merged.addComponents(stats.getReclaimableCount(), stats.getReclaimableBytes(), true);
+            merged.addComponents(stats.getComponentCount() - stats.getReclaimableCount(), stats.getSizeBytes() - stats.getReclaimableBytes(), false);
+        });
+        neverDownloadedComponents += other.neverDownloadedComponents;
+        neverDownloadedSizeBytes += other.neverDownloadedSizeBytes;
+        totalComponents += other.totalComponents;
+        totalSizeBytes += other.totalSizeBytes;
+        reclaimableComponents += other.reclaimableComponents;
+        reclaimableSizeBytes += other.reclaimableSizeBytes;
+    }
+
+    /**
+     * Gets the most recent download time among all assets of a component.
+     *
+     * @param component The component to check
+     * @return The last download time in seconds since the epoch, or {@link #NEVER_DOWNLOADED}
+     */
+    public static long getLatestDownloadEpochSecond(@NonNull ComponentXO component) {
+        long latest = NEVER_DOWNLOADED;
+        if (component.getAssets() != null) {
+            for (AssetXO asset : component.getAssets()) {
+                OffsetDateTime lastDownloaded = asset.getLastDownloaded();
+                if (lastDownloaded != null) {
+                    latest = Math.max(latest, lastDownloaded.toEpochSecond());
+                }
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Gets an unmodifiable view of the download buckets.
+     *
+     * @return List of buckets by days since last download
+     */
+    @NonNull
+    public List<AgeBucket> getDownloadBuckets() {
+        return Collections.unmodifiableList(downloadBuckets);
+    }
+
+    public long getNeverDownloadedComponents() {
+        return neverDownloadedComponents;
+    }
+
+    public long getNeverDownloadedSizeBytes() {
+        return neverDownloadedSizeBytes;
+    }
+
+    /**
+     * Gets the number of days without download after which a component is reclaimable.
+     *
+     * @return The reclaimable period in days
+     */
+    public int getReclaimableDays() {
+        return reclaimableDays;
+    }
+
+    /**
+     * Gets an unmodifiable view of the repository statistics, ordered by repository name.
+     *
+     * @return Map of repository names to their statistics
+     */
+    public Map<String, ReclaimableStats> getRepositoryStats() {
+        return Collections.unmodifiableMap(repositoryStats);
+    }
+
+    public long getTotalComponents() {
+        return totalComponents;
+    }
+
+    public long getTotalSizeBytes() {
+        return totalSizeBytes;
+    }
+
+    public long getReclaimableComponents() {
+        return reclaimableComponents;
+    }
+
+    public long getReclaimableSizeBytes() {
+        return reclaimableSizeBytes;
+    }
+}
@@ -0,0 +1,305 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonatype.nexus.model.AssetXO;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Finds asset blobs stored more than once by sorting asset checksums.
+ * <p>
+ * Every asset becomes a small fixed record keyed by the first 128 bits of its checksum. Records are sorted with
+ * an {@link ExternalSorter}, so equal checksums become adjacent and are counted in a single streaming pass
+ * while the heap only holds the in-memory sort buffer. This scales to tens of millions of assets.
+ */
+public final class DuplicateDetector implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateDetector.class);
+
+    /**
+     * Default number of asset records kept in memory before a sorted run is spilled to disk.
+     */
+    public static final int DEFAULT_MAX_IN_MEMORY = 250_000;
+
+    // Checksums in order of preference, Nexus computes sha1 for every asset
+    private static final List<String> CHECKSUM_ALGORITHMS = List.of("sha1", "sha256", "sha512", "md5");
+
+    private static final int MAX_PATH_LENGTH = 1024;
+
+    private static final Comparator<AssetRecord> RECORD_ORDER = Comparator
+            .comparingLong((AssetRecord record) -> record.hashHigh)
+            .thenComparingLong(record -> record.hashLow)
+            .thenComparingInt(record -> record.repositoryId)
+            .thenComparing(record -> record.path);
+
+    private final StringDictionary repositories;
+
+    private final ExternalSorter<AssetRecord> sorter;
+
+    public DuplicateDetector() {
+        this(DEFAULT_MAX_IN_MEMORY);
+    }
+
+    /**
+     * Creates an empty detector.
+     *
+     * @param maxInMemory The maximum number of asset records kept in memory
+     */
+    public DuplicateDetector(int maxInMemory) {
+        this.repositories = new StringDictionary(Integer.MAX_VALUE);
+        this.sorter = new ExternalSorter<>(RECORD_ORDER, new AssetRecordCodec(), maxInMemory);
+    }
+
+    /**
+     * Adds all assets of a component.
+     *
+     * @param repositoryName The name of the repository
+     * @param component      The component
+     */
+    public void addComponent(@NonNull String repositoryName, @NonNull ComponentXO component) {
+        if (component.getAssets() == null) {
+            return;
+        }
+        for (AssetXO asset : component.getAssets()) {
+            if (asset.getFileSize() != null) {
+                addAsset(repositoryName, checksumOf(asset), asset.getPath(), asset.getFileSize());
+            }
+        }
+    }
+
+    @Nullable
+    private static String checksumOf(AssetXO asset) {
+        Map<String, String> checksums = asset.getChecksum();
+        if (checksums == null) {
+            return null;
+        }
+        for (String algorithm : CHECKSUM_ALGORITHMS) {
+            String checksum = checksums.get(algorithm);
+            if (checksum != null) {
+                return checksum;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds an asset.
+     *
+     * @param repositoryName The name of the repository
+     * @param checksum       The hex encoded checksum, assets without a checksum of at least 128 bits are ignored
+     * @param path           The asset path
+     * @param sizeBytes      The asset size in bytes, empty assets are ignored
+     */
+    public void addAsset(@NonNull String repositoryName, @Nullable String checksum, @Nullable String path, long sizeBytes) {
+        Objects.requireNonNull(repositoryName, "Repository name cannot be null");
+        if (checksum == null || checksum.length() < 32 || sizeBytes <= 0) {
+            return;
+        }
+
+        long hashHigh;
+        long hashLow;
+        try {
+            hashHigh = Long.parseUnsignedLong(checksum.substring(0, 16), 16);
+            hashLow = Long.parseUnsignedLong(checksum.substring(16, 32), 16);
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring asset {} with invalid checksum {}", path, checksum);
+            return;
+        }
+
+        String storedPath = path == null ? "" : path.length() > MAX_PATH_LENGTH ? path.substring(0, MAX_PATH_LENGTH) : path;
+        sorter.add(new AssetRecord(hashHigh, hashLow, repositories.idOf(repositoryName), sizeBytes, storedPath));
+    }
+
+    /**
+     * Gets the number of assets added.
+     *
+     * @return The asset count
+     */
+    public long getAssetCount() {
+        return sorter.size();
+    }
+
+    /**
+     * Counts the duplicated blobs in a single pass over the sorted checksums.
+     *
+     * @param topArtifacts The number of duplicated artifacts wasting the most bytes to report
+     * @return The duplicates summary
+     * @throws IOException if the sorted runs cannot be read
+     */
+    @NonNull
+    public DuplicatesSummary summarize(int topArtifacts) throws IOException {
+        log.debug("Sorting {} asset checksums in {} runs", sorter.size(), sorter.getRunCount());
+        Summarizer summarizer = new Summarizer(topArtifacts);
+        sorter.forEachSorted(summarizer);
+        summarizer.flush();
+        return summarizer.toSummary();
+    }
+
+    /**
+     * Deletes the sorted runs spilled to disk.
+     */
+    @Override
+    public void close() {
+        sorter.close();
+    }
+
+    private static String hex(long hashHigh, long hashLow) {
+        return String.format("%016x%016x", hashHigh, hashLow);
+    }
+
+    /**
+     * Accumulates the statistics while the sorted records stream by, one checksum group at a time.
+     */
+    private final class Summarizer implements Consumer<AssetRecord> {
+
+        private final TopK<DuplicatesSummary.DuplicateArtifact> topArtifacts;
+
+        // Packed pair of repository ids to {shared blobs, duplicated bytes}
+        private final Map<Long, long[]> pairs = new HashMap<>();
+
+        // Copies per repository id of the current checksum
+        private final Map<Integer, Long> groupCopies = new TreeMap<>();
+
+        private AssetRecord groupFirst;
+
+        private long groupSize;
+
+        private long groupCount;
+
+        private long duplicatedBlobs;
+
+        private long redundantCopies;
+
+        private long wastedBytes;
+
+        private Summarizer(int topArtifacts) {
+            this.topArtifacts = new TopK<>(topArtifacts,
+                    Comparator.comparingLong(DuplicatesSummary.DuplicateArtifact::getWastedBytes).reversed()
+                            .thenComparing(DuplicatesSummary.DuplicateArtifact::getChecksum));
+        }
+
+        @Override
+        public void accept(AssetRecord record) {
+            if (groupFirst == null || record.hashHigh != groupFirst.hashHigh || record.hashLow != groupFirst.hashLow) {
+                flush();
+                groupFirst = record;
+            }
+            groupSize = Math.max(groupSize, record.sizeBytes);
+            groupCount++;
+            groupCopies.merge(record.repositoryId, 1L, Long::sum);
+        }
+
+        private void flush() {
+            if (groupCount > 1) {
+                duplicatedBlobs++;
+                redundantCopies += groupCount - 1;
+                wastedBytes += groupSize * (groupCount - 1);
+
+                List<Integer> repositoryIds = new ArrayList<>(groupCopies.keySet());
+                for (int i = 0; i < repositoryIds.size(); i++) {
+                    int repositoryA = repositoryIds.get(i);
+                    long copies = groupCopies.get(repositoryA);
+                    if (copies > 1) {
+                        addPair(repositoryA, repositoryA, groupSize * (copies - 1));
+                    }
+                    for (int j = i + 1; j < repositoryIds.size(); j++) {
+                        addPair(repositoryA, repositoryIds.get(j), groupSize);
+                    }
+                }
+
+                List<String> names = new ArrayList<>(repositoryIds.size());
+                for (int repositoryId : repositoryIds) {
+                    names.add(repositories.valueOf(repositoryId));
+                }
+                names.sort(Comparator.naturalOrder());
+                topArtifacts.offer(new DuplicatesSummary.DuplicateArtifact(
+                        hex(groupFirst.hashHigh, groupFirst.hashLow), groupFirst.path, groupSize, groupCount, names));
+            }
+            groupSize = 0;
+            groupCount = 0;
+            groupCopies.clear();
+        }
+
+        private void addPair(int repositoryA, int repositoryB, long duplicatedBytes) {
+            long[] stats = pairs.computeIfAbsent(((long) repositoryA << 32) | repositoryB, k -> new long[2]);
+            stats[0]++;
+            stats[1] += duplicatedBytes;
+        }
+
+        private DuplicatesSummary toSummary() {
+            List<DuplicatesSummary.RepositoryPair> repositoryPairs = new ArrayList<>(pairs.size());
+            pairs.forEach((key, stats) -> {
+                String repositoryA = repositories.valueOf((int) (key >>> 32));
+                String repositoryB = repositories.valueOf((int) (long) key);
+                // Name the pair in alphabetical order independent of the id assignment order
+                if (repositoryA.compareTo(repositoryB) > 0) {
+                    String swap = repositoryA;
+                    repositoryA = repositoryB;
+                    repositoryB = swap;
+                }
+                repositoryPairs.add(new DuplicatesSummary.RepositoryPair(repositoryA, repositoryB, stats[0], stats[1]));
+            });
+            repositoryPairs.sort(Comparator.comparingLong(DuplicatesSummary.RepositoryPair::getDuplicatedBytes).reversed()
+                    .thenComparing(DuplicatesSummary.RepositoryPair::getRepositoryA)
+                    .thenComparing(DuplicatesSummary.RepositoryPair::getRepositoryB));
+
+            return new DuplicatesSummary(sorter.size(), duplicatedBlobs, redundantCopies, wastedBytes,
+                    repositoryPairs, topArtifacts.toList());
+        }
+    }
+
+    /**
+     * Fixed part of an asset needed to detect duplicates.
+     */
+    private static final class AssetRecord {
+
+        private final long hashHigh;
+
+        private final long hashLow;
+
+        private final int repositoryId;
+
+        private final long sizeBytes;
+
+        private final String path;
+
+        private AssetRecord(long hashHigh, long hashLow, int repositoryId, long sizeBytes, String path) {
+            this.hashHigh = hashHigh;
+            this.hashLow = hashLow;
+            this.repositoryId = repositoryId;
+            this.sizeBytes = sizeBytes;
+            this.path = path;
+        }
+    }
+
+    private static final class AssetRecordCodec implements ExternalSorter.Codec<AssetRecord> {
+
+        @Override
+        public void write(DataOutput out, AssetRecord record) throws IOException {
+            out.writeLong(record.hashHigh);
+            out.writeLong(record.hashLow);
+            out.writeInt(record.repositoryId);
+            out.writeLong(record.sizeBytes);
+            out.writeUTF(record.path);
+        }
+
+        @Override
+        public AssetRecord read(DataInput in) throws IOException {
+            return new AssetRecord(in.readLong(), in.readLong(), in.readInt(), in.readLong(), in.readUTF());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.List;
+
+/**
+ * Stores duplicated asset blobs found across and within repositories.
+ */
+public class DuplicatesSummary extends ReportSection {
+
+    private final long totalAssets;
+
+    private final long duplicatedBlobs;
+
+    private final long redundantCopies;
+
+    private final long wastedBytes;
+
+    private final List<RepositoryPair> repositoryPairs;
+
+    private final List<DuplicateArtifact> topArtifacts;
+
+    DuplicatesSummary(long totalAssets, long duplicatedBlobs, long redundantCopies, long wastedBytes,
+                      List<RepositoryPair> repositoryPairs, List<DuplicateArtifact> topArtifacts) {
+        this.totalAssets = totalAssets;
+        this.duplicatedBlobs = duplicatedBlobs;
+        this.redundantCopies = redundantCopies;
+        this.wastedBytes = wastedBytes;
+        this.repositoryPairs = List.copyOf(repositoryPairs);
+        this.topArtifacts = List.copyOf(topArtifacts);
+    }
+
+    /**
+     * Gets the number of assets with a checksum.
+     *
+     * @return Total asset count
+     */
+    public long getTotalAssets() {
+        return totalAssets;
+    }
+
+    /**
+     * Gets the number of distinct checksums stored more than once.
+     *
+     * @return Duplicated blob count
+     */
+    public long getDuplicatedBlobs() {
+        return duplicatedBlobs;
+    }
+
+    /**
+     * Gets the number of copies beyond the first one of every duplicated blob.
+     *
+     * @return Redundant copy count
+     */
+    public long getRedundantCopies() {
+        return redundantCopies;
+    }
+
+    /**
+     * Gets the size in bytes of all redundant copies.
+     *
+     * @return Wasted bytes
+     */
+    public long getWastedBytes() {
+        return wastedBytes;
+    }
+
+    /**
+     * Gets the repository pairs sharing blobs, largest duplicated size first.
+     *
+     * @return The repository pairs
+     */
+    public List<RepositoryPair> getRepositoryPairs() {
+        return repositoryPairs;
+    }
+
+    /**
+     * Gets the duplicated artifacts wasting the most bytes, largest first.
+     *
+     * @return The top duplicated artifacts
+     */
+    public List<DuplicateArtifact> getTopArtifacts() {
+        return topArtifacts;
+    }
+
+    /**
+     * Blobs shared by two repositories. When both repositories are the same, the blobs are stored
+     * several times within that repository and the size counts every copy beyond the first one.
+     */
+    public static class RepositoryPair {
+
+        private final String repositoryA;
+
+        private final String repositoryB;
+
+        private final long sharedBlobs;
+
+        private final long duplicatedBytes;
+
+        RepositoryPair(String repositoryA, String repositoryB, long sharedBlobs, long duplicatedBytes) {
+            this.repositoryA = repositoryA;
+            this.repositoryB = repositoryB;
+            this.sharedBlobs = sharedBlobs;
+            this.duplicatedBytes = duplicatedBytes;
+        }
+
+        public String getRepositoryA() {
+            return repositoryA;
+        }
+
+        public String getRepositoryB() {
+            return repositoryB;
+        }
+
+        public long getSharedBlobs() {
+            return sharedBlobs;
+        }
+
+        public long getDuplicatedBytes() {
+            return duplicatedBytes;
+        }
+    }
+
+    /**
+     * A blob stored more than once, identified by its checksum.
+     */
+    public static class DuplicateArtifact {
+
+        private final String checksum;
+
+        private final String path;
+
+        private final long sizeBytes;
+
+        private final long copies;
+
+        private final List<String> repositories;
+
+        DuplicateArtifact(String checksum, String path, long sizeBytes, long copies, List<String> repositories) {
+            this.checksum = checksum;
+            this.path = path;
+            this.sizeBytes = sizeBytes;
+            this.copies = copies;
+            this.repositories = List.copyOf(repositories);
+        }
+
+        /**
+         * Gets the checksum prefix identifying the blob (128 bits, hex encoded).
+         *
+         * @return The checksum prefix
+         */
+        public String getChecksum() {
+            return checksum;
+        }
+
+        /**
+         * Gets the path of one of the copies.
+         *
+         * @return The asset path
+         */
+        public String getPath() {
+            return path;
+        }
+
+        public long getSizeBytes() {
+            return sizeBytes;
+        }
+
+        public long getCopies() {
+            return copies;
+        }
+
+        public long getWastedBytes() {
+            return sizeBytes * (copies - 1);
+        }
+
+        /**
+         * Gets the repositories holding a copy, ordered by name.
+         *
+         * @return The repository names
+         */
+        public List<String> getRepositories() {
+            return repositories;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sorts an unbounded stream of values with bounded heap usage.
+ * <p>
+ * Values are buffered in memory up to a fixed count; a full buffer is sorted and spilled to a temporary file
+ * as a sorted run. {@link #forEachSorted(Consumer)} k-way merges the runs and the remaining buffer, so memory
+ * stays proportional to the buffer size plus one value and one read buffer per run.
+ *
+ * @param <T> The value type
+ */
+public final class ExternalSorter<T> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ExternalSorter.class);
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Serializes values to the run files.
+     *
+     * @param <T> The value type
+     */
+    public interface Codec<T> {
+
+        void write(DataOutput out, T value) throws IOException;
+
+        T read(DataInput in) throws IOException;
+    }
+
+    private final Comparator<? super T> order;
+
+    private final Codec<T> codec;
+
+    private final int maxInMemory;
+
+    private final List<T> buffer;
+
+    private final List<Path> runs;
+
+    private long size;
+
+    /**
+     * Creates an empty sorter.
+     *
+     * @param order       The sort order
+     * @param codec       The codec used to spill values to disk
+     * @param maxInMemory The maximum number of values kept in memory before spilling a sorted run
+     */
+    public ExternalSorter(@NonNull Comparator<? super T> order, @NonNull Codec<T> codec, int maxInMemory) {
+        this.order = Objects.requireNonNull(order, "Sort order cannot be null");
+        this.codec = Objects.requireNonNull(codec, "Codec cannot be null");
+        if (maxInMemory <= 0) {
+            throw new IllegalArgumentException("In-memory buffer size must be positive: " + maxInMemory);
+        }
+        this.maxInMemory = maxInMemory;
+        this.buffer = new ArrayList<>();
+        this.runs = new ArrayList<>();
+    }
+
+    /**
+     * Adds a value, spilling the buffer to disk when it is full.
+     *
+     * @param value The value to add
+     * @throws UncheckedIOException if the sorted run cannot be written
+     */
+    public void add(@NonNull T value) {
+        buffer.add(value);
+        size++;
+        if (buffer.size() >= maxInMemory) {
+            try {
+                spill();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write sorted run", e);
+            }
+        }
+    }
+
+    private void spill() throws IOException {
+        buffer.sort(order);
+        Path run = Files.createTempFile("nxrm-report-sort", ".run");
+        runs.add(run);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_SIZE))) {
+            for (T value : buffer) {
+                codec.write(out, value);
+            }
+        }
+        log.debug("Spilled sorted run {} with {} values", run, buffer.size());
+        buffer.clear();
+    }
+
+    /**
+     * Passes all values to the consumer in sorted order.
+     *
+     * @param consumer The consumer of the sorted values
+     * @throws IOException if a sorted run cannot be read
+     */
+    public void forEachSorted(@NonNull Consumer<? super T> consumer) throws IOException {
+        try (SortedIterator<T> iterator = sortedIterator()) {
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Opens an iterator over all values in sorted order, for consumers that pull from several sorted
+     * streams at once such as a merge-join. The iterator must be closed to release the run files.
+     *
+     * @return The sorted iterator
+     * @throws IOException if a sorted run cannot be opened
+     */
+    @NonNull
+    public SortedIterator<T> sortedIterator() throws IOException {
+        buffer.sort(order);
+        return new SortedIterator<>(order, codec, runs, buffer);
+    }
+
+    /**
+     * Gets the number of values added.
+     *
+     * @return The number of values
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of sorted runs spilled to disk.
+     *
+     * @return The number of runs
+     */
+    public int getRunCount() {
+        return runs.size();
+    }
+
+    /**
+     * Deletes the sorted runs.
+     */
+    @Override
+    public void close() {
+        for (Path run : runs) {
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException e) {
+                log.warn("Failed to delete sorted run {}", run, e);
+            }
+        }
+        runs.clear();
+        buffer.clear();
+    }
+
+    /**
+     * K-way merge of the sorted runs and the in-memory buffer.
+     *
+     * @param <T> The value type
+     */
+    public static final class SortedIterator<T> implements Iterator<T>, AutoCloseable {
+
+        private final Codec<T> codec;
+
+        private final List<DataInputStream> inputs;
+
+        private final PriorityQueue<Head<T>> heads;
+
+        private SortedIterator(Comparator<? super T> order, Codec<T> codec, List<Path> runs, List<T> buffer) throws IOException {
+            this.codec = codec;
+            this.inputs = new ArrayList<>(runs.size());
+            this.heads = new PriorityQueue<>(runs.size() + 1, (a, b) -> order.compare(a.value, b.value));
+            try {
+                for (Path run : runs) {
+                    DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), IO_BUFFER_SIZE));
+                    inputs.add(in);
+                    Head<T> head = new Head<>(in, null);
+                    if (head.advance(codec)) {
+                        heads.add(head);
+                    }
+                }
+                Head<T> memory = new Head<>(null, buffer.iterator());
+                if (memory.advance(codec)) {
+                    heads.add(memory);
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        /**
+         * Gets the next value in sorted order.
+         *
+         * @return The next value
+         * @throws UncheckedIOException if a sorted run cannot be read
+         */
+        @Override
+        public T next() {
+            Head<T> head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            T value = head.value;
+            try {
+                if (head.advance(codec)) {
+                    heads.add(head);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read sorted run", e);
+            }
+            return value;
+        }
+
+        @Override
+        public void close() {
+            for (DataInputStream in : inputs) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close sorted run", e);
+                }
+            }
+            inputs.clear();
+            heads.clear();
+        }
+    }
+
+    /**
+     * Current value of a sorted run, read either from a run file or from the in-memory buffer.
+     */
+    private static final class Head<T> {
+
+        private final DataInputStream in;
+
+        private final Iterator<T> iterator;
+
+        private T value;
+
+        private Head(DataInputStream in, Iterator<T> iterator) {
+            this.in = in;
+            this.iterator = iterator;
+        }
+
+        private boolean advance(Codec<T> codec) throws IOException {
+            if (iterator != null) {
+                value = iterator.hasNext() ? iterator.next() : null;
+                return value != null;
+            }
+            try {
+                value = codec.read(in);
+                return true;
+            } catch (EOFException e) {
+                value = null;
+                return false;
+            }
+        }
+    }
+}
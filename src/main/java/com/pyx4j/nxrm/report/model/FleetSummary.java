@@ -0,0 +1,142 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Stores the repositories, components and storage of every server of a multi-server crawl and their totals.
+ */
+public class FleetSummary extends ReportSection {
+
+    // In configuration order
+    private final Map<String, ServerStats> serverStats = new LinkedHashMap<>();
+
+    private long totalRepositories;
+
+    private long totalComponents;
+
+    private long totalSizeBytes;
+
+    private int failedServers;
+
+    /**
+     * Adds the results of the crawl of a server.
+     *
+     * @param serverName The server name
+     * @param stats      The crawl results
+     */
+    public void addServerStats(@NonNull String serverName, @NonNull ServerStats stats) {
+        Objects.requireNonNull(serverName, "Server name cannot be null");
+        Objects.requireNonNull(stats, "Server stats cannot be null");
+        if (serverStats.putIfAbsent(serverName, stats) != null) {
+            throw new IllegalArgumentException("Duplicate server name: " + serverName);
+        }
+        totalRepositories += stats.getRepositoryCount();
+        totalComponents += stats.getComponentCount();
+        totalSizeBytes += stats.getSizeBytes();
+        if (stats.getError() != null) {
+            failedServers++;
+        }
+    }
+
+    /**
+     * Gets the results per server, in configuration order.
+     *
+     * @return Map of server names to their results
+     */
+    public Map<String, ServerStats> getServerStats() {
+        return Collections.unmodifiableMap(serverStats);
+    }
+
+    public long getTotalRepositories() {
+        return totalRepositories;
+    }
+
+    public long getTotalComponents() {
+        return totalComponents;
+    }
+
+    public long getTotalSizeBytes() {
+        return totalSizeBytes;
+    }
+
+    /**
+     * Gets the number of servers whose crawl failed, they are not part of the totals and fleet reports.
+     *
+     * @return The failed server count
+     */
+    public int getFailedServers() {
+        return failedServers;
+    }
+
+    /**
+     * Crawl results of one server.
+     */
+    public static class ServerStats {
+
+        private final String url;
+
+        private final long repositoryCount;
+
+        private final long componentCount;
+
+        private final long sizeBytes;
+
+        private final long crawlMillis;
+
+        private final String error;
+
+        /**
+         * Creates the results of a server.
+         *
+         * @param url             The server URL
+         * @param repositoryCount The number of crawled repositories
+         * @param componentCount  The number of filtered components
+         * @param sizeBytes       The size of the filtered components in bytes
+         * @param crawlMillis     The crawl duration in milliseconds
+         * @param error           The error that failed the crawl, or null
+         */
+        public ServerStats(String url, long repositoryCount, long componentCount, long sizeBytes, long crawlMillis, @Nullable String error) {
+            this.url = url;
+            this.repositoryCount = repositoryCount;
+            this.componentCount = componentCount;
+            this.sizeBytes = sizeBytes;
+            this.crawlMillis = crawlMillis;
+            this.error = error;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public long getRepositoryCount() {
+            return repositoryCount;
+        }
+
+        public long getComponentCount() {
+            return componentCount;
+        }
+
+        public long getSizeBytes() {
+            return sizeBytes;
+        }
+
+        public long getCrawlMillis() {
+            return crawlMillis;
+        }
+
+        /**
+         * Gets the error that failed the crawl of the server.
+         *
+         * @return The error message, or null when the crawl succeeded
+         */
+        public String getError() {
+            return error;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.pyx4j.nxrm.report.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Stats for a specific group (e.g., Maven groupId, npm scope).
  */
@@ -9,9 +12,18 @@ public class GroupStats {
 
     private long sizeBytes;
 
+    private long error;
+
+    private boolean componentCountKnown;
+
+    private boolean sizeBytesKnown;
+
     public GroupStats() {
         this.componentCount = 0;
         this.sizeBytes = 0;
+        this.error = 0;
+        this.componentCountKnown = true;
+        this.sizeBytesKnown = true;
     }
 
     public void addComponents(long componentCount, long sizeBytes) {
@@ -26,4 +38,55 @@ public class GroupStats {
     public long getSizeBytes() {
         return sizeBytes;
     }
+
+    /**
+     * Gets the maximum overestimation of the ranked metric (components or size) in approximate mode.
+     * The true value is between the reported value minus the error and the reported value.
+     *
+     * @return The error bound, always 0 for exact statistics
+     */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public long getError() {
+        return error;
+    }
+
+    void setError(long error) {
+        this.error = error;
+    }
+
+    /**
+     * Checks if the component count is known. In approximate mode ranked by size, it is unknown for a group that
+     * replaced an evicted group, only its components since then are counted.
+     *
+     * @return true if the component count is exact or overestimated within the error
+     */
+    @JsonIgnore
+    public boolean isComponentCountKnown() {
+        return componentCountKnown;
+    }
+
+    /**
+     * Checks if the size is known. In approximate mode ranked by components, it is unknown for a group that replaced
+     * an evicted group, only its size since then is counted.
+     *
+     * @return true if the size is exact or overestimated within the error
+     */
+    @JsonIgnore
+    public boolean isSizeBytesKnown() {
+        return sizeBytesKnown;
+    }
+
+    /**
+     * Restarts the metric that is not ranked from zero, the group replaced an evicted group and inherits the value of
+     * the ranked metric only.
+     */
+    void resetUnranked(GroupsSummary.Metric rankedMetric) {
+        if (rankedMetric == GroupsSummary.Metric.SIZE) {
+            componentCount = 0;
+            componentCountKnown = false;
+        } else {
+            sizeBytes = 0;
+            sizeBytesKnown = false;
+        }
+    }
 }
@@ -5,19 +5,53 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
 /**
  * Stores summary information about components grouped by their group field.
+ * <p>
+ * In approximate mode only a fixed number of groups is tracked using a Space-Saving sketch,
+ * so memory stays bounded regardless of the number of distinct groups.
  */
 public class GroupsSummary extends ReportSection {
 
+    /**
+     * The metric used to rank groups in approximate mode.
+     */
+    public enum Metric {
+
+        COMPONENTS,
+
+        SIZE
+    }
+
     private final Map<String, GroupStats> groupStats;
 
+    @Nullable
+    private final HeavyHitters heavyHitters;
+
     private long totalComponents;
 
     private long totalSizeBytes;
 
     public GroupsSummary() {
         this.groupStats = new HashMap<>();
+        this.heavyHitters = null;
+        this.totalComponents = 0;
+        this.totalSizeBytes = 0;
+    }
+
+    /**
+     * Creates a summary tracking at most the given number of groups.
+     *
+     * @param capacity The maximum number of tracked groups
+     * @param metric   The metric used to rank and evict groups
+     */
+    public GroupsSummary(int capacity, @NonNull Metric metric) {
+        Objects.requireNonNull(metric, "Metric cannot be null");
+        this.groupStats = Collections.emptyMap();
+        this.heavyHitters = new HeavyHitters(capacity, metric);
         this.totalComponents = 0;
         this.totalSizeBytes = 0;
     }
@@ -32,8 +66,12 @@ public class GroupsSummary extends ReportSection {
     public void addGroupStats(String groupName, long componentCount, long sizeBytes) {
         Objects.requireNonNull(groupName, "Group name cannot be null");
 
-        GroupStats stats = groupStats.computeIfAbsent(groupName, k -> new GroupStats());
-        stats.addComponents(componentCount, sizeBytes);
+        if (heavyHitters != null) {
+            heavyHitters.add(groupName, componentCount, sizeBytes);
+        } else {
+            GroupStats stats = groupStats.computeIfAbsent(groupName, k -> new GroupStats());
+            stats.addComponents(componentCount, sizeBytes);
+        }
 
         // Update totals
         totalComponents += componentCount;
@@ -42,13 +80,55 @@ public class GroupsSummary extends ReportSection {
 
     /**
      * Gets an unmodifiable view of the group statistics.
+     * In approximate mode only the tracked groups are returned.
      *
      * @return Map of group names to their statistics
      */
     public Map<String, GroupStats> getGroupStats() {
+        if (heavyHitters != null) {
+            return heavyHitters.getGroupStats();
+        }
         return Collections.unmodifiableMap(groupStats);
     }
 
+    /**
+     * Checks if the summary tracks a bounded number of groups.
+     *
+     * @return true in approximate mode
+     */
+    public boolean isApproximate() {
+        return heavyHitters != null;
+    }
+
+    /**
+     * Gets the metric used to rank groups in approximate mode.
+     *
+     * @return The ranked metric, or null for exact summaries
+     */
+    @Nullable
+    public Metric getApproximateMetric() {
+        return heavyHitters != null ? heavyHitters.getMetric() : null;
+    }
+
+    /**
+     * Gets the maximum number of tracked groups in approximate mode.
+     *
+     * @return The capacity, or 0 for exact summaries
+     */
+    public int getApproximateCapacity() {
+        return heavyHitters != null ? heavyHitters.getCapacity() : 0;
+    }
+
+    /**
+     * Gets the guaranteed bound on the overestimation of any tracked group in approximate mode.
+     * Any group with a true value above this bound is guaranteed to be tracked.
+     *
+     * @return The error bound, always 0 for exact summaries
+     */
+    public long getApproximateErrorBound() {
+        return heavyHitters != null ? heavyHitters.getErrorBound() : 0;
+    }
+
     /**
      * Gets the total number of components across all groups.
      *
@@ -0,0 +1,97 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.Locale;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Calendar periods of the storage growth time series.
+ * <p>
+ * Periods are numbered by a dense index so a series is a plain array; weeks are ISO weeks starting on Monday.
+ */
+public enum GrowthPeriod {
+
+    WEEK("week"),
+
+    MONTH("month");
+
+    // 1970-01-01 is a Thursday, the ISO week containing it starts 3 days earlier
+    private static final int EPOCH_WEEK_OFFSET = 3;
+
+    private final String optionName;
+
+    GrowthPeriod(String optionName) {
+        this.optionName = optionName;
+    }
+
+    /**
+     * Gets the period name used on the command line.
+     *
+     * @return The period name
+     */
+    public String getName() {
+        return optionName;
+    }
+
+    /**
+     * Gets the index of the period containing a day.
+     *
+     * @param epochDay The day as days since the epoch
+     * @return The period index, consecutive periods have consecutive indexes
+     */
+    public int indexOf(long epochDay) {
+        if (this == WEEK) {
+            return (int) Math.floorDiv(epochDay + EPOCH_WEEK_OFFSET, 7);
+        }
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    /**
+     * Gets the first day of a period.
+     *
+     * @param index The period index
+     * @return The first day of the period
+     */
+    @NonNull
+    public LocalDate startOf(int index) {
+        if (this == WEEK) {
+            return LocalDate.ofEpochDay((long) index * 7 - EPOCH_WEEK_OFFSET);
+        }
+        return LocalDate.of(Math.floorDiv(index, 12), Math.floorMod(index, 12) + 1, 1);
+    }
+
+    /**
+     * Gets the label of a period, ISO week (e.g., 2024-W05) or month (e.g., 2024-01).
+     *
+     * @param index The period index
+     * @return The period label
+     */
+    @NonNull
+    public String labelOf(int index) {
+        LocalDate start = startOf(index);
+        if (this == WEEK) {
+            return String.format(Locale.ROOT, "%d-W%02d", start.get(IsoFields.WEEK_BASED_YEAR), start.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+        }
+        return String.format(Locale.ROOT, "%d-%02d", start.getYear(), start.getMonthValue());
+    }
+
+    /**
+     * Parses a period name.
+     *
+     * @param name The period name, week or month
+     * @return The period
+     */
+    @NonNull
+    public static GrowthPeriod parse(@NonNull String name) {
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        for (GrowthPeriod period : values()) {
+            if (period.optionName.equals(normalized)) {
+                return period;
+            }
+        }
+        throw new IllegalArgumentException("Invalid growth period: '" + name.trim() + "'. Expected: week, month");
+    }
+}
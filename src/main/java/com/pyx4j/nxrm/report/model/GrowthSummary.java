@@ -0,0 +1,133 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores the components and bytes created per calendar period, as dense time series per repository and in total.
+ * Every series has one value per period, including the periods without any new component.
+ */
+public class GrowthSummary extends ReportSection {
+
+    private final GrowthPeriod period;
+
+    private final List<String> periods;
+
+    private final Map<String, GrowthSeries> repositorySeries;
+
+    private final GrowthSeries total;
+
+    private final long undatedComponents;
+
+    private final long undatedSizeBytes;
+
+    GrowthSummary(GrowthPeriod period, List<String> periods, Map<String, GrowthSeries> repositorySeries, GrowthSeries total,
+                  long undatedComponents, long undatedSizeBytes) {
+        this.period = period;
+        this.periods = List.copyOf(periods);
+        this.repositorySeries = repositorySeries;
+        this.total = total;
+        this.undatedComponents = undatedComponents;
+        this.undatedSizeBytes = undatedSizeBytes;
+    }
+
+    /**
+     * Gets the period name, week or month.
+     *
+     * @return The period name
+     */
+    public String getPeriod() {
+        return period.getName();
+    }
+
+    /**
+     * Gets the labels of the periods, oldest first, from the first component creation to the current period.
+     *
+     * @return The period labels
+     */
+    public List<String> getPeriods() {
+        return periods;
+    }
+
+    /**
+     * Gets the series per repository, ordered by repository name.
+     *
+     * @return Map of repository names to their series
+     */
+    public Map<String, GrowthSeries> getRepositorySeries() {
+        return Collections.unmodifiableMap(repositorySeries);
+    }
+
+    /**
+     * Gets the series of all repositories.
+     *
+     * @return The total series
+     */
+    public GrowthSeries getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets the number of components without a creation date, they are not part of the series.
+     *
+     * @return The undated component count
+     */
+    public long getUndatedComponents() {
+        return undatedComponents;
+    }
+
+    public long getUndatedSizeBytes() {
+        return undatedSizeBytes;
+    }
+
+    /**
+     * Components and bytes created in every period.
+     */
+    public static class GrowthSeries {
+
+        private final String format;
+
+        private final long[] componentCounts;
+
+        private final long[] sizeBytes;
+
+        GrowthSeries(String format, int periods) {
+            this.format = format;
+            this.componentCounts = new long[periods];
+            this.sizeBytes = new long[periods];
+        }
+
+        void add(int periodIndex, long componentCount, long sizeBytes) {
+            this.componentCounts[periodIndex] += componentCount;
+            this.sizeBytes[periodIndex] += sizeBytes;
+        }
+
+        public String getFormat() {
+            return format;
+        }
+
+        public long[] getComponentCounts() {
+            return componentCounts.clone();
+        }
+
+        public long[] getSizeBytes() {
+            return sizeBytes.clone();
+        }
+
+        /**
+         * Gets the size of all components created up to the end of every period.
+         *
+         * @return The running total of the size per period
+         */
+        public long[] getCumulativeSizeBytes() {
+            long[] cumulative = new long[sizeBytes.length];
+            long runningTotal = 0;
+            for (int i = 0; i < sizeBytes.length; i++) {
+                runningTotal += sizeBytes[i];
+                cumulative[i] = runningTotal;
+            }
+            return cumulative;
+        }
+    }
+}
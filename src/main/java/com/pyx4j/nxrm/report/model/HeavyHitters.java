@@ -0,0 +1,154 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Weighted Space-Saving sketch tracking at most {@code capacity} groups.
+ * <p>
+ * The tracked groups are kept in a min-heap ordered by the ranked metric. When a new group arrives
+ * and the sketch is full, the group with the smallest value is evicted and the new group inherits
+ * its value as the error. This guarantees that for every tracked group the ranked metric is never
+ * underestimated and is overestimated by at most {@link GroupStats#getError()}, and that any group
+ * whose true value exceeds {@link #getErrorBound()} is tracked. The other metric has no such bound, it is reported as
+ * unknown for the groups that replaced an evicted group.
+ */
+class HeavyHitters {
+
+    private final int capacity;
+
+    private final GroupsSummary.Metric metric;
+
+    private final Map<String, Counter> counters;
+
+    private final Counter[] heap;
+
+    private int size;
+
+    private long totalWeight;
+
+    HeavyHitters(int capacity, GroupsSummary.Metric metric) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Approximate groups capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.metric = metric;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+        this.size = 0;
+        this.totalWeight = 0;
+    }
+
+    void add(String groupName, long componentCount, long sizeBytes) {
+        totalWeight += weight(componentCount, sizeBytes);
+
+        Counter counter = counters.get(groupName);
+        if (counter == null) {
+            if (size < capacity) {
+                // Append the new group as a leaf, it moves up as its value may be smaller than its parents
+                counter = new Counter(groupName, new GroupStats());
+                counters.put(groupName, counter);
+                counter.stats.addComponents(componentCount, sizeBytes);
+                heap[size] = counter;
+                siftUp(size++);
+                return;
+            }
+            // Replace the smallest group, the new group inherits its value as the error and the other metric is unknown
+            counter = heap[0];
+            counters.remove(counter.groupName);
+            long inheritedWeight = weight(counter.stats.getComponentCount(), counter.stats.getSizeBytes());
+            counter.groupName = groupName;
+            counter.stats.setError(inheritedWeight);
+            counter.stats.resetUnranked(metric);
+            counters.put(groupName, counter);
+        }
+
+        // The value only grows, the group moves down towards the larger ones
+        counter.stats.addComponents(componentCount, sizeBytes);
+        siftDown(counter.position);
+    }
+
+    Map<String, GroupStats> getGroupStats() {
+        Map<String, GroupStats> result = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            result.put(heap[i].groupName, heap[i].stats);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    GroupsSummary.Metric getMetric() {
+        return metric;
+    }
+
+    /**
+     * The maximum overestimation of any tracked group, total weight divided by capacity.
+     */
+    long getErrorBound() {
+        return totalWeight / capacity;
+    }
+
+    private long weight(long componentCount, long sizeBytes) {
+        return metric == GroupsSummary.Metric.SIZE ? sizeBytes : componentCount;
+    }
+
+    private long weight(Counter counter) {
+        return weight(counter.stats.getComponentCount(), counter.stats.getSizeBytes());
+    }
+
+    private void siftUp(int position) {
+        Counter counter = heap[position];
+        long value = weight(counter);
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (weight(heap[parent]) <= value) {
+                break;
+            }
+            heap[position] = heap[parent];
+            heap[position].position = position;
+            position = parent;
+        }
+        heap[position] = counter;
+        counter.position = position;
+    }
+
+    private void siftDown(int position) {
+        Counter counter = heap[position];
+        long value = weight(counter);
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && weight(heap[right]) < weight(heap[child])) {
+                child = right;
+            }
+            if (value <= weight(heap[child])) {
+                break;
+            }
+            heap[position] = heap[child];
+            heap[position].position = position;
+            position = child;
+        }
+        heap[position] = counter;
+        counter.position = position;
+    }
+
+    private static class Counter {
+
+        private String groupName;
+
+        private final GroupStats stats;
+
+        private int position;
+
+        private Counter(String groupName, GroupStats stats) {
+            this.groupName = groupName;
+            this.stats = stats;
+        }
+    }
+}
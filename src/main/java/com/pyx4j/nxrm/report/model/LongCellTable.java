@@ -0,0 +1,144 @@
+package com.pyx4j.nxrm.report.model;
+
+/**
+ * Open addressing hash table from packed long keys to a fixed number of long value columns.
+ * Keys and values are stored in primitive arrays, so a cell costs a few words and no objects.
+ * Key 0 is reserved to mark empty slots.
+ */
+class LongCellTable {
+
+    private static final int MIN_CAPACITY = 64;
+
+    private final int columns;
+
+    private long[] keys;
+
+    private long[] values;
+
+    private int size;
+
+    LongCellTable(int columns) {
+        this.columns = columns;
+        this.keys = new long[MIN_CAPACITY];
+        this.values = new long[MIN_CAPACITY * columns];
+        this.size = 0;
+    }
+
+    /**
+     * Adds the delta to a value column of the cell, creating the cell if absent.
+     *
+     * @param key    The cell key, must not be 0
+     * @param column The value column
+     * @param delta  The value to add
+     */
+    void addToColumn(long key, int column, long delta) {
+        values[slotOf(key) * columns + column] += delta;
+    }
+
+    /**
+     * Adds a count and a size to the first two value columns of the cell, creating the cell if absent.
+     *
+     * @param key       The cell key, must not be 0
+     * @param count     The count to add to column 0
+     * @param sizeBytes The size to add to column 1
+     */
+    void addCounts(long key, long count, long sizeBytes) {
+        int offset = slotOf(key) * columns;
+        values[offset] += count;
+        values[offset + 1] += sizeBytes;
+    }
+
+    /**
+     * Gets the slot of a key, inserting it if absent. Slots are invalidated by the next insert.
+     *
+     * @param key The cell key, must not be 0
+     * @return The slot of the cell
+     */
+    int slotOf(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Cell key 0 is reserved");
+        }
+        int slot = find(keys, key);
+        if (keys[slot] == 0) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+                slot = find(keys, key);
+            }
+            keys[slot] = key;
+            size++;
+        }
+        return slot;
+    }
+
+    /**
+     * Gets a value of the cell with the given key.
+     *
+     * @return The value, or 0 if the cell does not exist
+     */
+    long get(long key, int column) {
+        int slot = find(keys, key);
+        return keys[slot] == 0 ? 0 : values[slot * columns + column];
+    }
+
+    long valueAt(int slot, int column) {
+        return values[slot * columns + column];
+    }
+
+    long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    boolean isUsed(int slot) {
+        return keys[slot] != 0;
+    }
+
+    /**
+     * @return The number of slots, used or not, to iterate with {@link #isUsed(int)}
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int columns() {
+        return columns;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new long[keys.length * columns];
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldKeys[oldSlot] != 0) {
+                int slot = find(keys, oldKeys[oldSlot]);
+                keys[slot] = oldKeys[oldSlot];
+                System.arraycopy(oldValues, oldSlot * columns, values, slot * columns, columns);
+            }
+        }
+    }
+
+    private static int find(long[] keys, long key) {
+        int mask = keys.length - 1;
+        int slot = (int) mix(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Finalization step of MurmurHash3 to spread packed keys over the table.
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,50 @@
+package com.pyx4j.nxrm.report.model;
+
+/**
+ * Stats for a specific repository with the part that was not downloaded recently.
+ */
+public class ReclaimableStats {
+
+    private final String format;
+
+    private long componentCount;
+
+    private long sizeBytes;
+
+    private long reclaimableCount;
+
+    private long reclaimableBytes;
+
+    public ReclaimableStats(String format) {
+        this.format = format;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void addComponents(long componentCount, long sizeBytes, boolean reclaimable) {
+        this.componentCount += componentCount;
+        this.sizeBytes += sizeBytes;
+        if (reclaimable) {
+            this.reclaimableCount += componentCount;
+            this.reclaimableBytes += sizeBytes;
+        }
+    }
+
+    public long getComponentCount() {
+        return componentCount;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public long getReclaimableCount() {
+        return reclaimableCount;
+    }
+
+    public long getReclaimableBytes() {
+        return reclaimableBytes;
+    }
+}
@@ -0,0 +1,45 @@
+package com.pyx4j.nxrm.report.model;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Size distributions of the components and of the individual assets of a repository or format.
+ */
+public class SizeDistribution {
+
+    private final String format;
+
+    private final SizeSketch componentSizes;
+
+    private final SizeSketch assetSizes;
+
+    public SizeDistribution(String format) {
+        this.format = format;
+        this.componentSizes = new SizeSketch();
+        this.assetSizes = new SizeSketch();
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    @NonNull
+    public SizeSketch getComponentSizes() {
+        return componentSizes;
+    }
+
+    @NonNull
+    public SizeSketch getAssetSizes() {
+        return assetSizes;
+    }
+
+    /**
+     * Adds the distributions of another repository or format.
+     *
+     * @param other The distribution to merge
+     */
+    public void merge(@NonNull SizeDistribution other) {
+        componentSizes.merge(other.componentSizes);
+        assetSizes.merge(other.assetSizes);
+    }
+}
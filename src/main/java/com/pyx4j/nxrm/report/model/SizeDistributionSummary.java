@@ -0,0 +1,106 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.sonatype.nexus.model.AssetXO;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Stores component and asset size distributions per repository and per format.
+ * <p>
+ * Each distribution is a pair of {@link SizeSketch} with bounded memory, so the summary stays small
+ * regardless of the number of components crawled.
+ */
+public class SizeDistributionSummary extends ReportSection {
+
+    private static final String UNKNOWN_FORMAT = "-";
+
+    private final Map<String, SizeDistribution> repositoryDistributions;
+
+    private final Map<String, SizeDistribution> formatDistributions;
+
+    private final SizeDistribution total;
+
+    public SizeDistributionSummary() {
+        this.repositoryDistributions = new TreeMap<>();
+        this.formatDistributions = new TreeMap<>();
+        this.total = new SizeDistribution(null);
+    }
+
+    /**
+     * Adds a component and its assets to the distributions of its repository and format.
+     *
+     * @param repositoryName The name of the repository
+     * @param format         The format of the repository (e.g., maven, npm)
+     * @param component      The component
+     * @param sizeBytes      The total size in bytes of the component assets
+     */
+    public void addComponent(@NonNull String repositoryName, @Nullable String format, @NonNull ComponentXO component, long sizeBytes) {
+        Objects.requireNonNull(repositoryName, "Repository name cannot be null");
+        Objects.requireNonNull(component, "Component cannot be null");
+
+        String formatName = format != null ? format : UNKNOWN_FORMAT;
+        SizeDistribution repository = repositoryDistributions.computeIfAbsent(repositoryName, k -> new SizeDistribution(formatName));
+        SizeDistribution byFormat = formatDistributions.computeIfAbsent(formatName, SizeDistribution::new);
+
+        repository.getComponentSizes().add(sizeBytes);
+        byFormat.getComponentSizes().add(sizeBytes);
+        total.getComponentSizes().add(sizeBytes);
+
+        if (component.getAssets() != null) {
+            for (AssetXO asset : component.getAssets()) {
+                if (asset.getFileSize() != null && asset.getFileSize() >= 0) {
+                    repository.getAssetSizes().add(asset.getFileSize());
+                    byFormat.getAssetSizes().add(asset.getFileSize());
+                    total.getAssetSizes().add(asset.getFileSize());
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds all distributions of another summary, e.g., the summary of a single repository kept from an earlier crawl.
+     *
+     * @param other The summary to merge
+     */
+    public void merge(@NonNull SizeDistributionSummary other) {
+        Objects.requireNonNull(other, "Size distribution summary cannot be null");
+        other.repositoryDistributions.forEach((repositoryName, distribution) ->
+                repositoryDistributions.computeIfAbsent(repositoryName, k -> new SizeDistribution(distribution.getFormat())).merge(distribution));
+        other.formatDistributions.forEach((format, distribution) ->
+                formatDistributions.computeIfAbsent(format, SizeDistribution::new).merge(distribution));
+        total.merge(other.total);
+    }
+
+    /**
+     * Gets the distributions per repository, ordered by repository name.
+     *
+     * @return Map of repository names to their size distributions
+     */
+    public Map<String, SizeDistribution> getRepositoryDistributions() {
+        return Collections.unmodifiableMap(repositoryDistributions);
+    }
+
+    /**
+     * Gets the distributions per format, ordered by format name.
+     *
+     * @return Map of format names to their size distributions
+     */
+    public Map<String, SizeDistribution> getFormatDistributions() {
+        return Collections.unmodifiableMap(formatDistributions);
+    }
+
+    /**
+     * Gets the distribution across all repositories.
+     *
+     * @return The overall size distribution
+     */
+    public SizeDistribution getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,214 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.Objects;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Mergeable quantile sketch of sizes in bytes with a relative accuracy guarantee (DDSketch).
+ * <p>
+ * Sizes are counted in logarithmic buckets: bucket {@code i} holds the sizes in {@code (gamma^(i-1), gamma^i]}
+ * with {@code gamma = (1 + alpha) / (1 - alpha)}, so any reported quantile is within {@code alpha} relative error of
+ * a real size at that rank. The buckets cover the positive {@code long} range, memory is therefore bounded by the
+ * number of buckets between the smallest and the largest size and never exceeds a few thousand counters.
+ * Count, sum, min and max are exact.
+ */
+public final class SizeSketch {
+
+    /**
+     * Default relative accuracy of reported quantiles.
+     */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    private static final int INITIAL_BINS = 64;
+
+    private final double relativeAccuracy;
+
+    private final double gamma;
+
+    private final double logGamma;
+
+    private final int maxIndex;
+
+    private long[] bins;
+
+    // Bucket index of bins[0]
+    private int minIndex;
+
+    private long zeroCount;
+
+    private long count;
+
+    private long sum;
+
+    private long min;
+
+    private long max;
+
+    public SizeSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param relativeAccuracy The relative accuracy of reported quantiles, between 0 and 1 exclusive
+     */
+    public SizeSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1: " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.maxIndex = indexOf(Long.MAX_VALUE);
+        this.bins = new long[0];
+        this.min = Long.MAX_VALUE;
+        this.max = 0;
+    }
+
+    /**
+     * Adds a size to the sketch.
+     *
+     * @param sizeBytes The size in bytes
+     */
+    public void add(long sizeBytes) {
+        if (sizeBytes < 0) {
+            throw new IllegalArgumentException("Size cannot be negative: " + sizeBytes);
+        }
+        if (sizeBytes == 0) {
+            zeroCount++;
+        } else {
+            int index = indexOf(sizeBytes);
+            ensureIndex(index);
+            bins[index - minIndex]++;
+        }
+        count++;
+        sum += sizeBytes;
+        min = Math.min(min, sizeBytes);
+        max = Math.max(max, sizeBytes);
+    }
+
+    /**
+     * Adds all sizes of another sketch to this one.
+     *
+     * @param other The sketch to merge, it must have the same relative accuracy
+     */
+    public void merge(@NonNull SizeSketch other) {
+        Objects.requireNonNull(other, "Sketch cannot be null");
+        if (Double.compare(relativeAccuracy, other.relativeAccuracy) != 0) {
+            throw new IllegalArgumentException("Cannot merge sketches with different relative accuracy: "
+                    + relativeAccuracy + " and " + other.relativeAccuracy);
+        }
+        if (other.count == 0) {
+            return;
+        }
+        for (int i = 0; i < other.bins.length; i++) {
+            if (other.bins[i] != 0) {
+                int index = other.minIndex + i;
+                ensureIndex(index);
+                bins[index - minIndex] += other.bins[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Gets the estimated size at the given quantile.
+     *
+     * @param quantile The quantile between 0 and 1 (e.g., 0.99 for p99)
+     * @return The estimated size in bytes, or 0 if the sketch is empty
+     */
+    public long getQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = (long) (quantile * (count - 1));
+        if (rank == count - 1) {
+            return max;
+        }
+        long seen = zeroCount;
+        if (seen > rank) {
+            return 0;
+        }
+        for (int i = 0; i < bins.length; i++) {
+            seen += bins[i];
+            if (seen > rank) {
+                // Representative value of the bucket, within the relative accuracy of every size in it
+                long estimate = Math.round(2 * Math.pow(gamma, minIndex + i) / (gamma + 1));
+                return Math.max(min, Math.min(max, estimate));
+            }
+        }
+        return max;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * Gets the smallest size added.
+     *
+     * @return The smallest size in bytes, or 0 if the sketch is empty
+     */
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the number of allocated buckets, exposed to verify the memory bound.
+     *
+     * @return The number of buckets
+     */
+    int getBinCount() {
+        return bins.length;
+    }
+
+    private int indexOf(long sizeBytes) {
+        return (int) Math.ceil(Math.log(sizeBytes) / logGamma);
+    }
+
+    private void ensureIndex(int index) {
+        if (bins.length == 0) {
+            int length = Math.min(INITIAL_BINS, maxIndex + 1);
+            bins = new long[length];
+            minIndex = Math.max(0, Math.min(index - length / 2, maxIndex - length + 1));
+            return;
+        }
+        if (index >= minIndex && index < minIndex + bins.length) {
+            return;
+        }
+
+        int low = Math.min(index, minIndex);
+        int high = Math.max(index, minIndex + bins.length - 1);
+        int length = Math.max(high - low + 1, bins.length * 2);
+        // Place the extra room in the direction of growth, the range never leaves the bucket domain
+        int newMinIndex = index < minIndex ? Math.max(0, high - length + 1) : low;
+        length = Math.min(length, maxIndex - newMinIndex + 1);
+
+        long[] grown = new long[length];
+        System.arraycopy(bins, 0, grown, minIndex - newMinIndex, bins.length);
+        bins = grown;
+        minIndex = newMinIndex;
+    }
+}
@@ -0,0 +1,279 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Compares the components of two snapshots with a sorted merge-join.
+ * <p>
+ * Each side is reduced to small coordinate records and sorted by (repository, group, name, version) with an
+ * {@link ExternalSorter}. The two sorted streams are then walked in lockstep: a coordinate only in the baseline was
+ * removed, a coordinate only in the current snapshot was added. Neither snapshot is ever fully in memory, the heap
+ * holds the two sort buffers and the per-group deltas.
+ * <p>
+ * The sides are independent, so the baseline and the current snapshot can be added from two threads, one each.
+ */
+public final class SnapshotDiff implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotDiff.class);
+
+    /**
+     * Default number of component records of each side kept in memory before a sorted run is spilled to disk.
+     */
+    public static final int DEFAULT_MAX_IN_MEMORY = 500_000;
+
+    private static final Comparator<String> NULLS_FIRST = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private static final Comparator<ComponentRecord> RECORD_ORDER = Comparator
+            .comparing((ComponentRecord record) -> record.repository)
+            .thenComparing(record -> record.group, NULLS_FIRST)
+            .thenComparing(record -> record.name, NULLS_FIRST)
+            .thenComparing(record -> record.version, NULLS_FIRST);
+
+    private static final Comparator<SnapshotDiffSummary.ComponentChange> LARGEST_FIRST = Comparator
+            .comparingLong(SnapshotDiffSummary.ComponentChange::getSizeBytes).reversed()
+            .thenComparing(SnapshotDiffSummary.ComponentChange::getRepository)
+            .thenComparing(SnapshotDiffSummary.ComponentChange::getGroup, NULLS_FIRST)
+            .thenComparing(SnapshotDiffSummary.ComponentChange::getName, NULLS_FIRST)
+            .thenComparing(SnapshotDiffSummary.ComponentChange::getVersion, NULLS_FIRST);
+
+    private final ExternalSorter<ComponentRecord> baseline;
+
+    private final ExternalSorter<ComponentRecord> current;
+
+    public SnapshotDiff() {
+        this(DEFAULT_MAX_IN_MEMORY);
+    }
+
+    /**
+     * Creates an empty comparison.
+     *
+     * @param maxInMemory The maximum number of component records of each side kept in memory
+     */
+    public SnapshotDiff(int maxInMemory) {
+        this.baseline = new ExternalSorter<>(RECORD_ORDER, new ComponentRecordCodec(), maxInMemory);
+        this.current = new ExternalSorter<>(RECORD_ORDER, new ComponentRecordCodec(), maxInMemory);
+    }
+
+    /**
+     * Adds a component of the baseline (older) snapshot.
+     *
+     * @param component The component, components without repository are ignored
+     * @param sizeBytes The size of the component in bytes
+     */
+    public void addBaseline(@NonNull ComponentXO component, long sizeBytes) {
+        add(baseline, component, sizeBytes);
+    }
+
+    /**
+     * Adds a component of the current (newer) snapshot.
+     *
+     * @param component The component, components without repository are ignored
+     * @param sizeBytes The size of the component in bytes
+     */
+    public void addCurrent(@NonNull ComponentXO component, long sizeBytes) {
+        add(current, component, sizeBytes);
+    }
+
+    private static void add(ExternalSorter<ComponentRecord> side, ComponentXO component, long sizeBytes) {
+        Objects.requireNonNull(component, "Component cannot be null");
+        if (component.getRepository() == null) {
+            return;
+        }
+        side.add(new ComponentRecord(component.getRepository(), component.getFormat(), component.getGroup(),
+                component.getName(), component.getVersion(), sizeBytes));
+    }
+
+    /**
+     * Compares the snapshots in a single merge-join pass over both sorted sides.
+     *
+     * @param topGroups     The number of groups with the largest size delta to report
+     * @param topComponents The number of largest added and removed components to report
+     * @return The comparison summary
+     * @throws IOException if the sorted runs cannot be read
+     */
+    @NonNull
+    public SnapshotDiffSummary summarize(int topGroups, int topComponents) throws IOException {
+        log.debug("Comparing {} baseline and {} current components", baseline.size(), current.size());
+        Joiner joiner = new Joiner(topComponents);
+        try (ExternalSorter.SortedIterator<ComponentRecord> baselineIterator = baseline.sortedIterator();
+             ExternalSorter.SortedIterator<ComponentRecord> currentIterator = current.sortedIterator()) {
+            ComponentRecord left = baselineIterator.hasNext() ? baselineIterator.next() : null;
+            ComponentRecord right = currentIterator.hasNext() ? currentIterator.next() : null;
+            while (left != null || right != null) {
+                int comparison = left == null ? 1 : right == null ? -1 : RECORD_ORDER.compare(left, right);
+                if (comparison < 0) {
+                    joiner.removed(left);
+                    left = baselineIterator.hasNext() ? baselineIterator.next() : null;
+                } else if (comparison > 0) {
+                    joiner.added(right);
+                    right = currentIterator.hasNext() ? currentIterator.next() : null;
+                } else {
+                    joiner.kept(left, right);
+                    left = baselineIterator.hasNext() ? baselineIterator.next() : null;
+                    right = currentIterator.hasNext() ? currentIterator.next() : null;
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return joiner.toSummary(topGroups);
+    }
+
+    /**
+     * Deletes the sorted runs spilled to disk.
+     */
+    @Override
+    public void close() {
+        baseline.close();
+        current.close();
+    }
+
+    /**
+     * Accumulates the differences while the joined records stream by.
+     */
+    private static final class Joiner {
+
+        private final SnapshotDiffSummary.DiffStats total = new SnapshotDiffSummary.DiffStats();
+
+        private final Map<String, SnapshotDiffSummary.RepositoryDiff> repositoryDiffs = new TreeMap<>();
+
+        private final Map<String, SnapshotDiffSummary.GroupDiff> groupDiffs = new HashMap<>();
+
+        private final TopK<SnapshotDiffSummary.ComponentChange> topAdded;
+
+        private final TopK<SnapshotDiffSummary.ComponentChange> topRemoved;
+
+        private Joiner(int topComponents) {
+            this.topAdded = new TopK<>(topComponents, LARGEST_FIRST);
+            this.topRemoved = new TopK<>(topComponents, LARGEST_FIRST);
+        }
+
+        private void added(ComponentRecord record) {
+            total.addAdded(record.sizeBytes);
+            repositoryDiff(record).addAdded(record.sizeBytes);
+            SnapshotDiffSummary.GroupDiff groupDiff = groupDiff(record);
+            if (groupDiff != null) {
+                groupDiff.addAdded(record.sizeBytes);
+            }
+            topAdded.offer(record.toChange());
+        }
+
+        private void removed(ComponentRecord record) {
+            total.addRemoved(record.sizeBytes);
+            repositoryDiff(record).addRemoved(record.sizeBytes);
+            SnapshotDiffSummary.GroupDiff groupDiff = groupDiff(record);
+            if (groupDiff != null) {
+                groupDiff.addRemoved(record.sizeBytes);
+            }
+            topRemoved.offer(record.toChange());
+        }
+
+        private void kept(ComponentRecord baselineRecord, ComponentRecord currentRecord) {
+            total.addKept(baselineRecord.sizeBytes, currentRecord.sizeBytes);
+            repositoryDiff(currentRecord).addKept(baselineRecord.sizeBytes, currentRecord.sizeBytes);
+            SnapshotDiffSummary.GroupDiff groupDiff = groupDiff(currentRecord);
+            if (groupDiff != null) {
+                groupDiff.addKept(baselineRecord.sizeBytes, currentRecord.sizeBytes);
+            }
+        }
+
+        private SnapshotDiffSummary.RepositoryDiff repositoryDiff(ComponentRecord record) {
+            return repositoryDiffs.computeIfAbsent(record.repository,
+                    k -> new SnapshotDiffSummary.RepositoryDiff(record.format != null ? record.format : "-"));
+        }
+
+        // Components without a group are only counted per repository
+        private SnapshotDiffSummary.GroupDiff groupDiff(ComponentRecord record) {
+            if (record.group == null) {
+                return null;
+            }
+            return groupDiffs.computeIfAbsent(record.group, SnapshotDiffSummary.GroupDiff::new);
+        }
+
+        private SnapshotDiffSummary toSummary(int topGroups) {
+            Comparator<SnapshotDiffSummary.GroupDiff> largestDelta = Comparator
+                    .comparingLong((SnapshotDiffSummary.GroupDiff diff) -> Math.abs(diff.getSizeDelta())).reversed()
+                    .thenComparing(SnapshotDiffSummary.GroupDiff::getGroup);
+            TopK<SnapshotDiffSummary.GroupDiff> changedGroups = new TopK<>(topGroups, largestDelta);
+            for (SnapshotDiffSummary.GroupDiff groupDiff : groupDiffs.values()) {
+                if (groupDiff.getAddedComponents() > 0 || groupDiff.getRemovedComponents() > 0 || groupDiff.getChangedComponents() > 0) {
+                    changedGroups.offer(groupDiff);
+                }
+            }
+            return new SnapshotDiffSummary(total, repositoryDiffs, changedGroups.toList(), topAdded.toList(), topRemoved.toList());
+        }
+    }
+
+    /**
+     * Coordinates and size of a snapshot component.
+     */
+    private static final class ComponentRecord {
+
+        private final String repository;
+
+        private final String format;
+
+        private final String group;
+
+        private final String name;
+
+        private final String version;
+
+        private final long sizeBytes;
+
+        private ComponentRecord(String repository, String format, String group, String name, String version, long sizeBytes) {
+            this.repository = repository;
+            this.format = format;
+            this.group = group;
+            this.name = name;
+            this.version = version;
+            this.sizeBytes = sizeBytes;
+        }
+
+        private SnapshotDiffSummary.ComponentChange toChange() {
+            return new SnapshotDiffSummary.ComponentChange(repository, group, name, version, sizeBytes);
+        }
+    }
+
+    private static final class ComponentRecordCodec implements ExternalSorter.Codec<ComponentRecord> {
+
+        @Override
+        public void write(DataOutput out, ComponentRecord record) throws IOException {
+            out.writeUTF(record.repository);
+            writeNullable(out, record.format);
+            writeNullable(out, record.group);
+            writeNullable(out, record.name);
+            writeNullable(out, record.version);
+            out.writeLong(record.sizeBytes);
+        }
+
+        @Override
+        public ComponentRecord read(DataInput in) throws IOException {
+            return new ComponentRecord(in.readUTF(), readNullable(in), readNullable(in), readNullable(in), readNullable(in), in.readLong());
+        }
+
+        private static void writeNullable(DataOutput out, String value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeUTF(value);
+            }
+        }
+
+        private static String readNullable(DataInput in) throws IOException {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores the components added and removed between a baseline and a current snapshot, with the resulting
+ * size deltas in total, per repository and for the groups that changed the most.
+ */
+public class SnapshotDiffSummary extends ReportSection {
+
+    private final DiffStats total;
+
+    private final Map<String, RepositoryDiff> repositoryDiffs;
+
+    private final List<GroupDiff> topGroups;
+
+    private final List<ComponentChange> topAdded;
+
+    private final List<ComponentChange> topRemoved;
+
+    SnapshotDiffSummary(DiffStats total, Map<String, RepositoryDiff> repositoryDiffs, List<GroupDiff> topGroups,
+                        List<ComponentChange> topAdded, List<ComponentChange> topRemoved) {
+        this.total = total;
+        this.repositoryDiffs = repositoryDiffs;
+        this.topGroups = List.copyOf(topGroups);
+        this.topAdded = List.copyOf(topAdded);
+        this.topRemoved = List.copyOf(topRemoved);
+    }
+
+    public DiffStats getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets the differences per repository, ordered by repository name.
+     *
+     * @return Map of repository names to their differences
+     */
+    public Map<String, RepositoryDiff> getRepositoryDiffs() {
+        return Collections.unmodifiableMap(repositoryDiffs);
+    }
+
+    /**
+     * Gets the groups with the largest absolute size delta, largest first.
+     *
+     * @return The top changed groups
+     */
+    public List<GroupDiff> getTopGroups() {
+        return topGroups;
+    }
+
+    /**
+     * Gets the largest added components, largest first.
+     *
+     * @return The top added components
+     */
+    public List<ComponentChange> getTopAdded() {
+        return topAdded;
+    }
+
+    /**
+     * Gets the largest removed components, largest first.
+     *
+     * @return The top removed components
+     */
+    public List<ComponentChange> getTopRemoved() {
+        return topRemoved;
+    }
+
+    /**
+     * Component counts and sizes of both snapshots and the changes between them.
+     * Components present in both snapshots with a different size count as changed, their size difference is part
+     * of the size delta.
+     */
+    public static class DiffStats {
+
+        private long baselineComponents;
+
+        private long baselineSizeBytes;
+
+        private long currentComponents;
+
+        private long currentSizeBytes;
+
+        private long addedComponents;
+
+        private long addedSizeBytes;
+
+        private long removedComponents;
+
+        private long removedSizeBytes;
+
+        private long changedComponents;
+
+        void addBaseline(long sizeBytes) {
+            baselineComponents++;
+            baselineSizeBytes += sizeBytes;
+        }
+
+        void addCurrent(long sizeBytes) {
+            currentComponents++;
+            currentSizeBytes += sizeBytes;
+        }
+
+        void addAdded(long sizeBytes) {
+            addCurrent(sizeBytes);
+            addedComponents++;
+            addedSizeBytes += sizeBytes;
+        }
+
+        void addRemoved(long sizeBytes) {
+            addBaseline(sizeBytes);
+            removedComponents++;
+            removedSizeBytes += sizeBytes;
+        }
+
+        void addKept(long baselineSize, long currentSize) {
+            addBaseline(baselineSize);
+            addCurrent(currentSize);
+            if (baselineSize != currentSize) {
+                changedComponents++;
+            }
+        }
+
+        public long getBaselineComponents() {
+            return baselineComponents;
+        }
+
+        public long getBaselineSizeBytes() {
+            return baselineSizeBytes;
+        }
+
+        public long getCurrentComponents() {
+            return currentComponents;
+        }
+
+        public long getCurrentSizeBytes() {
+            return currentSizeBytes;
+        }
+
+        public long getAddedComponents() {
+            return addedComponents;
+        }
+
+        public long getAddedSizeBytes() {
+            return addedSizeBytes;
+        }
+
+        public long getRemovedComponents() {
+            return removedComponents;
+        }
+
+        public long getRemovedSizeBytes() {
+            return removedSizeBytes;
+        }
+
+        /**
+         * Gets the number of components present in both snapshots with a different size.
+         *
+         * @return The changed component count
+         */
+        public long getChangedComponents() {
+            return changedComponents;
+        }
+
+        public long getComponentDelta() {
+            return currentComponents - baselineComponents;
+        }
+
+        public long getSizeDelta() {
+            return currentSizeBytes - baselineSizeBytes;
+        }
+    }
+
+    /**
+     * Differences of one repository.
+     */
+    public static class RepositoryDiff extends DiffStats {
+
+        private final String format;
+
+        RepositoryDiff(String format) {
+            this.format = format;
+        }
+
+        public String getFormat() {
+            return format;
+        }
+    }
+
+    /**
+     * Differences of one group over all repositories.
+     */
+    public static class GroupDiff extends DiffStats {
+
+        private final String group;
+
+        GroupDiff(String group) {
+            this.group = group;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+    }
+
+    /**
+     * A component present in only one of the snapshots.
+     */
+    public static class ComponentChange {
+
+        private final String repository;
+
+        private final String group;
+
+        private final String name;
+
+        private final String version;
+
+        private final long sizeBytes;
+
+        ComponentChange(String repository, String group, String name, String version, long sizeBytes) {
+            this.repository = repository;
+            this.group = group;
+            this.name = name;
+            this.version = version;
+            this.sizeBytes = sizeBytes;
+        }
+
+        public String getRepository() {
+            return repository;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public long getSizeBytes() {
+            return sizeBytes;
+        }
+    }
+}
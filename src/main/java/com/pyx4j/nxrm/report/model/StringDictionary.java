@@ -0,0 +1,65 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns strings to dense integer ids so aggregation keys can be packed into primitives.
+ * Ids start at 1, id 0 is reserved for "no value".
+ */
+class StringDictionary {
+
+    static final int NONE = 0;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    private final List<String> values = new ArrayList<>();
+
+    private final int maxId;
+
+    /**
+     * @param maxId The largest id that can be assigned
+     */
+    StringDictionary(int maxId) {
+        this.maxId = maxId;
+        this.values.add(null);
+    }
+
+    /**
+     * Gets the id of a value, assigning a new id for values not seen before.
+     *
+     * @param value The value to intern, null maps to {@link #NONE}
+     * @return The id of the value
+     */
+    int idOf(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = values.size();
+            if (id > maxId) {
+                throw new IllegalStateException("Too many distinct values, the limit is " + maxId);
+            }
+            ids.put(value, id);
+            values.add(value);
+        }
+        return id;
+    }
+
+    /**
+     * Gets the value for an id.
+     *
+     * @param id The id
+     * @return The value, or null for {@link #NONE}
+     */
+    String valueOf(int id) {
+        return values.get(id);
+    }
+
+    int size() {
+        return values.size() - 1;
+    }
+}
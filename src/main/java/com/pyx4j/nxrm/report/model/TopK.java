@@ -0,0 +1,89 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Bounded top-K selection backed by a heap of at most K elements.
+ * Offering n elements costs O(n log k) instead of the O(n log n) of a full sort.
+ *
+ * @param <T> The type of the ranked elements
+ */
+public class TopK<T> {
+
+    private final int limit;
+
+    private final Comparator<? super T> order;
+
+    // Head of the heap is the worst element currently kept
+    private final PriorityQueue<T> heap;
+
+    /**
+     * Creates a top-K selector.
+     *
+     * @param limit The maximum number of elements to keep
+     * @param order The ranking order, elements that compare first are ranked higher
+     */
+    public TopK(int limit, @NonNull Comparator<? super T> order) {
+        Objects.requireNonNull(order, "Order cannot be null");
+        if (limit < 0) {
+            throw new IllegalArgumentException("Top K limit cannot be negative: " + limit);
+        }
+        this.limit = limit;
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(limit, 1024)) + 1, Collections.reverseOrder(order));
+    }
+
+    /**
+     * Offers an element to the selection.
+     *
+     * @param element The element to rank
+     */
+    public void offer(@NonNull T element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        if (limit == 0) {
+            return;
+        }
+        if (heap.size() < limit) {
+            heap.add(element);
+        } else if (order.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    /**
+     * Gets the selected elements ordered from the highest ranked.
+     *
+     * @return List of at most K elements
+     */
+    @NonNull
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+
+    /**
+     * Selects the top K elements of the given collection.
+     *
+     * @param elements The elements to rank
+     * @param limit    The maximum number of elements to return
+     * @param order    The ranking order
+     * @return List of at most K elements ordered from the highest ranked
+     */
+    @NonNull
+    public static <T> List<T> select(@NonNull Iterable<? extends T> elements, int limit, @NonNull Comparator<? super T> order) {
+        TopK<T> topK = new TopK<>(limit, order);
+        for (T element : elements) {
+            topK.offer(element);
+        }
+        return topK.toList();
+    }
+}
@@ -0,0 +1,313 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Counts the versions and bytes kept per component coordinate (repository, group, name).
+ * <p>
+ * Group and name are interned and packed with the repository into a single long key of a {@link LongCellTable},
+ * so a coordinate costs a few primitive words regardless of its number of versions. When the table reaches its
+ * coordinate limit, the aggregated cells are spilled to an {@link ExternalSorter} and the table starts over; the
+ * summary then merges the sorted runs and combines the partial counts of equal coordinates in a single pass.
+ */
+public final class VersionSprawlDetector implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(VersionSprawlDetector.class);
+
+    /**
+     * Default number of coordinates aggregated in memory before they are spilled to disk.
+     */
+    public static final int DEFAULT_MAX_COORDINATES = 1_000_000;
+
+    private static final int SORT_BUFFER_SIZE = 100_000;
+
+    private static final int MAX_REPOSITORY_ID = 0xFFFF;
+
+    private static final int MAX_STRING_ID = 0xFFFFFF;
+
+    // Maven unique snapshot versions, e.g. 1.0-20240101.123456-1
+    private static final Pattern TIMESTAMPED_SNAPSHOT = Pattern.compile(".*-\\d{8}\\.\\d{6}-\\d+");
+
+    private static final int VERSIONS = 0;
+
+    private static final int SIZE = 1;
+
+    private static final int SNAPSHOT_VERSIONS = 2;
+
+    private static final int SNAPSHOT_SIZE = 3;
+
+    private static final Comparator<String> NULLS_FIRST = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private static final Comparator<CoordinateRecord> RECORD_ORDER = Comparator
+            .comparingInt((CoordinateRecord record) -> record.repositoryId)
+            .thenComparing(record -> record.group, NULLS_FIRST)
+            .thenComparing(record -> record.name, NULLS_FIRST);
+
+    private final int maxCoordinates;
+
+    private final StringDictionary repositories;
+
+    private final Map<String, String> repositoryFormats;
+
+    private final ExternalSorter<CoordinateRecord> sorter;
+
+    private StringDictionary groups;
+
+    private StringDictionary names;
+
+    private LongCellTable table;
+
+    public VersionSprawlDetector() {
+        this(DEFAULT_MAX_COORDINATES);
+    }
+
+    /**
+     * Creates an empty detector.
+     *
+     * @param maxCoordinates The maximum number of coordinates aggregated in memory
+     */
+    public VersionSprawlDetector(int maxCoordinates) {
+        if (maxCoordinates <= 0) {
+            throw new IllegalArgumentException("Maximum coordinates in memory must be positive: " + maxCoordinates);
+        }
+        this.maxCoordinates = maxCoordinates;
+        this.repositories = new StringDictionary(MAX_REPOSITORY_ID);
+        this.repositoryFormats = new HashMap<>();
+        this.sorter = new ExternalSorter<>(RECORD_ORDER, new CoordinateRecordCodec(), Math.min(maxCoordinates, SORT_BUFFER_SIZE));
+        this.groups = new StringDictionary(MAX_STRING_ID);
+        this.names = new StringDictionary(MAX_STRING_ID);
+        this.table = new LongCellTable(4);
+    }
+
+    /**
+     * Adds a component version.
+     *
+     * @param repositoryName The name of the repository
+     * @param format         The format of the repository
+     * @param component      The component
+     * @param sizeBytes      The size of the component in bytes
+     */
+    public void addComponent(@NonNull String repositoryName, @Nullable String format, @NonNull ComponentXO component, long sizeBytes) {
+        Objects.requireNonNull(repositoryName, "Repository name cannot be null");
+        if (table.size() >= maxCoordinates || groups.size() >= MAX_STRING_ID || names.size() >= MAX_STRING_ID) {
+            spillTable();
+        }
+
+        int repositoryId = repositories.idOf(repositoryName);
+        if (format != null) {
+            repositoryFormats.putIfAbsent(repositoryName, format);
+        }
+        long key = ((long) repositoryId << 48) | ((long) groups.idOf(component.getGroup()) << 24) | names.idOf(component.getName());
+        table.addCounts(key, 1, sizeBytes);
+        if (isSnapshot(component.getVersion())) {
+            table.addToColumn(key, SNAPSHOT_VERSIONS, 1);
+            table.addToColumn(key, SNAPSHOT_SIZE, sizeBytes);
+        }
+    }
+
+    /**
+     * Checks if a version is a snapshot build, either the -SNAPSHOT base version or a Maven timestamped snapshot.
+     *
+     * @param version The component version
+     * @return true if the version is a snapshot
+     */
+    public static boolean isSnapshot(@Nullable String version) {
+        return version != null && (version.endsWith("-SNAPSHOT") || TIMESTAMPED_SNAPSHOT.matcher(version).matches());
+    }
+
+    /**
+     * Gets the number of coordinates spilled to disk.
+     *
+     * @return The number of spilled coordinate records, 0 when everything fit in memory
+     */
+    public long getSpilledCoordinates() {
+        return sorter.size();
+    }
+
+    /**
+     * Moves the aggregated coordinates to the external sorter and starts a new table and dictionaries.
+     */
+    private void spillTable() {
+        log.debug("Spilling {} coordinates of the version sprawl table", table.size());
+        forEachCoordinate(sorter::add);
+        groups = new StringDictionary(MAX_STRING_ID);
+        names = new StringDictionary(MAX_STRING_ID);
+        table = new LongCellTable(4);
+    }
+
+    private void forEachCoordinate(Consumer<CoordinateRecord> consumer) {
+        for (int slot = 0; slot < table.capacity(); slot++) {
+            if (table.isUsed(slot)) {
+                long key = table.keyAt(slot);
+                consumer.accept(new CoordinateRecord(
+                        (int) (key >>> 48),
+                        groups.valueOf((int) (key >>> 24) & MAX_STRING_ID),
+                        names.valueOf((int) key & MAX_STRING_ID),
+                        table.valueAt(slot, VERSIONS),
+                        table.valueAt(slot, SIZE),
+                        table.valueAt(slot, SNAPSHOT_VERSIONS),
+                        table.valueAt(slot, SNAPSHOT_SIZE)));
+            }
+        }
+    }
+
+    /**
+     * Summarizes the versions per coordinate.
+     *
+     * @param topCoordinates The number of coordinates with the most versions to report
+     * @return The version sprawl summary
+     * @throws IOException if the spilled coordinates cannot be read
+     */
+    @NonNull
+    public VersionSprawlSummary summarize(int topCoordinates) throws IOException {
+        Summarizer summarizer = new Summarizer(topCoordinates);
+        if (sorter.size() == 0) {
+            // Every coordinate is complete in the table, no merge is needed
+            forEachCoordinate(summarizer::emit);
+        } else {
+            spillTable();
+            log.debug("Merging {} spilled coordinates in {} runs", sorter.size(), sorter.getRunCount());
+            sorter.forEachSorted(summarizer);
+            summarizer.flush();
+        }
+        return summarizer.toSummary();
+    }
+
+    /**
+     * Deletes the coordinates spilled to disk.
+     */
+    @Override
+    public void close() {
+        sorter.close();
+    }
+
+    /**
+     * Combines the partial counts of equal coordinates while the sorted records stream by.
+     */
+    private final class Summarizer implements Consumer<CoordinateRecord> {
+
+        private final VersionSprawlSummary summary = new VersionSprawlSummary();
+
+        private final TopK<VersionSprawlSummary.CoordinateVersions> topCoordinates;
+
+        private CoordinateRecord current;
+
+        private Summarizer(int topCoordinates) {
+            this.topCoordinates = new TopK<>(topCoordinates,
+                    Comparator.comparingLong(VersionSprawlSummary.CoordinateVersions::getVersions).reversed()
+                            .thenComparing(Comparator.comparingLong(VersionSprawlSummary.CoordinateVersions::getSizeBytes).reversed())
+                            .thenComparing(VersionSprawlSummary.CoordinateVersions::getRepository)
+                            .thenComparing(VersionSprawlSummary.CoordinateVersions::getGroup, NULLS_FIRST)
+                            .thenComparing(VersionSprawlSummary.CoordinateVersions::getName, NULLS_FIRST));
+        }
+
+        @Override
+        public void accept(CoordinateRecord record) {
+            if (current != null && RECORD_ORDER.compare(current, record) == 0) {
+                current = new CoordinateRecord(current.repositoryId, current.group, current.name,
+                        current.versions + record.versions,
+                        current.sizeBytes + record.sizeBytes,
+                        current.snapshotVersions + record.snapshotVersions,
+                        current.snapshotSizeBytes + record.snapshotSizeBytes);
+            } else {
+                flush();
+                current = record;
+            }
+        }
+
+        private void flush() {
+            if (current != null) {
+                emit(current);
+                current = null;
+            }
+        }
+
+        private void emit(CoordinateRecord record) {
+            String repositoryName = repositories.valueOf(record.repositoryId);
+            summary.addCoordinate(repositoryName, repositoryFormats.get(repositoryName),
+                    record.versions, record.sizeBytes, record.snapshotVersions, record.snapshotSizeBytes);
+            topCoordinates.offer(new VersionSprawlSummary.CoordinateVersions(repositoryName, record.group, record.name,
+                    record.versions, record.sizeBytes, record.snapshotVersions, record.snapshotSizeBytes));
+        }
+
+        private VersionSprawlSummary toSummary() {
+            summary.setTopCoordinates(topCoordinates.toList());
+            return summary;
+        }
+    }
+
+    /**
+     * Aggregated counts of a coordinate, complete or partial when spilled.
+     */
+    private static final class CoordinateRecord {
+
+        private final int repositoryId;
+
+        private final String group;
+
+        private final String name;
+
+        private final long versions;
+
+        private final long sizeBytes;
+
+        private final long snapshotVersions;
+
+        private final long snapshotSizeBytes;
+
+        private CoordinateRecord(int repositoryId, String group, String name, long versions, long sizeBytes, long snapshotVersions, long snapshotSizeBytes) {
+            this.repositoryId = repositoryId;
+            this.group = group;
+            this.name = name;
+            this.versions = versions;
+            this.sizeBytes = sizeBytes;
+            this.snapshotVersions = snapshotVersions;
+            this.snapshotSizeBytes = snapshotSizeBytes;
+        }
+    }
+
+    private static final class CoordinateRecordCodec implements ExternalSorter.Codec<CoordinateRecord> {
+
+        @Override
+        public void write(DataOutput out, CoordinateRecord record) throws IOException {
+            out.writeInt(record.repositoryId);
+            writeNullable(out, record.group);
+            writeNullable(out, record.name);
+            out.writeLong(record.versions);
+            out.writeLong(record.sizeBytes);
+            out.writeLong(record.snapshotVersions);
+            out.writeLong(record.snapshotSizeBytes);
+        }
+
+        @Override
+        public CoordinateRecord read(DataInput in) throws IOException {
+            return new CoordinateRecord(in.readInt(), readNullable(in), readNullable(in),
+                    in.readLong(), in.readLong(), in.readLong(), in.readLong());
+        }
+
+        private static void writeNullable(DataOutput out, String value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeUTF(value);
+            }
+        }
+
+        private static String readNullable(DataInput in) throws IOException {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.pyx4j.nxrm.report.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stores the number of versions kept per component coordinate (repository, group, name).
+ */
+public class VersionSprawlSummary extends ReportSection {
+
+    private final Map<String, RepositoryVersions> repositoryStats;
+
+    private List<CoordinateVersions> topCoordinates;
+
+    private long totalCoordinates;
+
+    private long totalVersions;
+
+    private long totalSizeBytes;
+
+    private long snapshotVersions;
+
+    private long snapshotSizeBytes;
+
+    VersionSprawlSummary() {
+        this.repositoryStats = new TreeMap<>();
+        this.topCoordinates = List.of();
+    }
+
+    void addCoordinate(String repositoryName, String format, long versions, long sizeBytes, long snapshotVersions, long snapshotSizeBytes) {
+        RepositoryVersions stats = repositoryStats.computeIfAbsent(repositoryName, k -> new RepositoryVersions(format != null ? format : "-"));
+        stats.coordinates++;
+        stats.versions += versions;
+        stats.sizeBytes += sizeBytes;
+        stats.snapshotVersions += snapshotVersions;
+        stats.snapshotSizeBytes += snapshotSizeBytes;
+        stats.maxVersions = Math.max(stats.maxVersions, versions);
+
+        this.totalCoordinates++;
+        this.totalVersions += versions;
+        this.totalSizeBytes += sizeBytes;
+        this.snapshotVersions += snapshotVersions;
+        this.snapshotSizeBytes += snapshotSizeBytes;
+    }
+
+    void setTopCoordinates(List<CoordinateVersions> topCoordinates) {
+        this.topCoordinates = List.copyOf(topCoordinates);
+    }
+
+    /**
+     * Gets the version statistics per repository, ordered by repository name.
+     *
+     * @return Map of repository names to their version statistics
+     */
+    public Map<String, RepositoryVersions> getRepositoryStats() {
+        return Collections.unmodifiableMap(repositoryStats);
+    }
+
+    /**
+     * Gets the coordinates with the most versions, most versions first.
+     *
+     * @return The top coordinates
+     */
+    public List<CoordinateVersions> getTopCoordinates() {
+        return topCoordinates;
+    }
+
+    /**
+     * Gets the number of distinct (repository, group, name) coordinates.
+     *
+     * @return Total coordinate count
+     */
+    public long getTotalCoordinates() {
+        return totalCoordinates;
+    }
+
+    /**
+     * Gets the number of versions of all coordinates, which is the number of components.
+     *
+     * @return Total version count
+     */
+    public long getTotalVersions() {
+        return totalVersions;
+    }
+
+    public long getTotalSizeBytes() {
+        return totalSizeBytes;
+    }
+
+    public long getSnapshotVersions() {
+        return snapshotVersions;
+    }
+
+    public long getSnapshotSizeBytes() {
+        return snapshotSizeBytes;
+    }
+
+    /**
+     * Versions kept in one repository.
+     */
+    public static class RepositoryVersions {
+
+        private final String format;
+
+        private long coordinates;
+
+        private long versions;
+
+        private long sizeBytes;
+
+        private long snapshotVersions;
+
+        private long snapshotSizeBytes;
+
+        private long maxVersions;
+
+        RepositoryVersions(String format) {
+            this.format = format;
+        }
+
+        public String getFormat() {
+            return format;
+        }
+
+        public long getCoordinates() {
+            return coordinates;
+        }
+
+        public long getVersions() {
+            return versions;
+        }
+
+        public long getSizeBytes() {
+            return sizeBytes;
+        }
+
+        public long getSnapshotVersions() {
+            return snapshotVersions;
+        }
+
+        public long getSnapshotSizeBytes() {
+            return snapshotSizeBytes;
+        }
+
+        /**
+         * Gets the largest number of versions of a single coordinate in the repository.
+         *
+         * @return The maximum version count
+         */
+        public long getMaxVersions() {
+            return maxVersions;
+        }
+    }
+
+    /**
+     * Versions kept for one component coordinate.
+     */
+    public static class CoordinateVersions {
+
+        private final String repository;
+
+        private final String group;
+
+        private final String name;
+
+        private final long versions;
+
+        private final long sizeBytes;
+
+        private final long snapshotVersions;
+
+        private final long snapshotSizeBytes;
+
+        CoordinateVersions(String repository, String group, String name, long versions, long sizeBytes, long snapshotVersions, long snapshotSizeBytes) {
+            this.repository = repository;
+            this.group = group;
+            this.name = name;
+            this.versions = versions;
+            this.sizeBytes = sizeBytes;
+            this.snapshotVersions = snapshotVersions;
+            this.snapshotSizeBytes = snapshotSizeBytes;
+        }
+
+        public String getRepository() {
+            return repository;
+        }
+
+        /**
+         * Gets the component group, null for formats without groups.
+         *
+         * @return The group
+         */
+        public String getGroup() {
+            return group;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getVersions() {
+            return versions;
+        }
+
+        public long getSizeBytes() {
+            return sizeBytes;
+        }
+
+        public long getSnapshotVersions() {
+            return snapshotVersions;
+        }
+
+        public long getSnapshotSizeBytes() {
+            return snapshotSizeBytes;
+        }
+    }
+}
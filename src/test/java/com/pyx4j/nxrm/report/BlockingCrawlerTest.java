@@ -0,0 +1,104 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.sonatype.nexus.model.AbstractApiRepository;
+import org.sonatype.nexus.model.ComponentXO;
+import org.sonatype.nexus.model.PageComponentXO;
+
+/**
+ * Unit tests for BlockingCrawler functionality.
+ */
+class BlockingCrawlerTest {
+
+    private static AbstractApiRepository repository(String name) {
+        AbstractApiRepository repository = new AbstractApiRepository();
+        repository.setName(name);
+        repository.setFormat("maven2");
+        return repository;
+    }
+
+    private static PageComponentXO page(String repositoryName, int components, String continuationToken) {
+        List<ComponentXO> items = new ArrayList<>();
+        for (int i = 0; i < components; i++) {
+            ComponentXO component = new ComponentXO();
+            component.setRepository(repositoryName);
+            component.setGroup("org.example");
+            component.setName("lib-" + i);
+            component.setVersion(continuationToken == null ? "2.0" : "1.0");
+            items.add(component);
+        }
+        PageComponentXO page = new PageComponentXO();
+        page.setItems(items);
+        page.setContinuationToken(continuationToken);
+        return page;
+    }
+
+    @Test
+    void crawl_withPaginatedRepositories_shouldAggregateAllPages() throws InterruptedException {
+        ReportAggregator aggregator = new ReportAggregator(new NxReportCommandArgs());
+        BlockingCrawler.PageFetcher fetcher = (repoName, continuationToken) -> switch (repoName) {
+            case "maven-releases" -> continuationToken == null ? page(repoName, 3, "next") : page(repoName, 2, null);
+            case "maven-snapshots" -> page(repoName, 1, null);
+            default -> null;
+        };
+
+        List<String> crawled = new BlockingCrawler(2).crawl(
+                List.of(repository("maven-releases"), repository("maven-snapshots"), repository("raw-empty")), fetcher, aggregator, component -> true);
+
+        assertThat(crawled).containsExactlyInAnyOrder("maven-releases", "maven-snapshots", "raw-empty");
+        assertThat(aggregator.getRepositoryComponentsSummary().getTotalComponents()).isEqualTo(6);
+        assertThat(aggregator.getRepositoryComponentsSummary().getRepositoryStats().get("maven-releases").getComponentCount()).isEqualTo(5);
+    }
+
+    @Test
+    void crawl_shouldNotExceedMaxConnections() throws InterruptedException {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        BlockingCrawler.PageFetcher fetcher = (repoName, continuationToken) -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return page(repoName, 1, null);
+        };
+        List<AbstractApiRepository> repositories = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            repositories.add(repository("repo-" + i));
+        }
+
+        new BlockingCrawler(3).crawl(repositories, fetcher, new ReportAggregator(new NxReportCommandArgs()), component -> true);
+
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void crawl_withFailingRepository_shouldRethrowError() {
+        BlockingCrawler.PageFetcher fetcher = (repoName, continuationToken) -> {
+            if (repoName.equals("broken")) {
+                throw new IllegalStateException("Server error");
+            }
+            return page(repoName, 1, null);
+        };
+
+        assertThatThrownBy(() -> new BlockingCrawler(2).crawl(List.of(repository("maven-releases"), repository("broken")), fetcher,
+                new ReportAggregator(new NxReportCommandArgs()), component -> true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Server error");
+    }
+
+    @Test
+    void constructor_withInvalidMaxConnections_shouldThrowException() {
+        assertThatThrownBy(() -> new BlockingCrawler(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
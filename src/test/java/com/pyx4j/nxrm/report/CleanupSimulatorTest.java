@@ -0,0 +1,122 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.pyx4j.nxrm.report.model.CleanupPolicy;
+import com.pyx4j.nxrm.report.model.CleanupSimulationSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonatype.nexus.model.AssetXO;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Unit tests for CleanupSimulator functionality.
+ */
+class CleanupSimulatorTest {
+
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2024, 6, 1);
+
+    @TempDir
+    Path tempDir;
+
+    private static ComponentXO component(String version, int createdDaysAgo, Integer downloadedDaysAgo) {
+        AssetXO asset = new AssetXO();
+        asset.setFileSize(100L);
+        asset.setBlobCreated(OffsetDateTime.of(REFERENCE_DATE.minusDays(createdDaysAgo).atStartOfDay(), ZoneOffset.UTC));
+        if (downloadedDaysAgo != null) {
+            asset.setLastDownloaded(OffsetDateTime.of(REFERENCE_DATE.minusDays(downloadedDaysAgo).atStartOfDay(), ZoneOffset.UTC));
+        }
+        ComponentXO component = new ComponentXO();
+        component.setName("lib");
+        component.setVersion(version);
+        component.setAssets(List.of(asset));
+        return component;
+    }
+
+    private static CleanupPolicy policy(String name, List<String> repositories, Integer olderThanDays, Integer notDownloadedDays, String versionPattern) {
+        CleanupPolicy policy = new CleanupPolicy();
+        policy.setName(name);
+        policy.setRepositories(repositories);
+        policy.setOlderThanDays(olderThanDays);
+        policy.setNotDownloadedDays(notDownloadedDays);
+        policy.setVersionPattern(versionPattern);
+        return policy;
+    }
+
+    @Test
+    void addComponent_shouldEvaluateAllPoliciesInOnePass() {
+        CleanupSimulator simulator = new CleanupSimulator(List.of(
+                policy("old-snapshots", List.of("*-snapshots"), 30, null, ".*-SNAPSHOT"),
+                policy("unused", null, null, 90, null),
+                policy("all-snapshots", null, null, null, ".*-SNAPSHOT")), REFERENCE_DATE);
+
+        simulator.addComponent("maven-snapshots", "maven2", component("1.0-SNAPSHOT", 60, 1), 100);
+        simulator.addComponent("maven-snapshots", "maven2", component("2.0-SNAPSHOT", 10, null), 200);
+        simulator.addComponent("maven-releases", "maven2", component("1.0", 400, 200), 400);
+        simulator.addComponent("maven-releases", "maven2", component("1.1", 400, null), 800);
+
+        CleanupSimulationSummary summary = simulator.getSummary();
+        assertThat(summary.getTotalComponents()).isEqualTo(4);
+        assertThat(summary.getTotalSizeBytes()).isEqualTo(1500);
+
+        List<CleanupSimulationSummary.PolicyResult> results = summary.getPolicyResults();
+        assertThat(results).extracting(CleanupSimulationSummary.PolicyResult::getPolicyName)
+                .containsExactly("old-snapshots", "unused", "all-snapshots");
+        assertThat(results).extracting(CleanupSimulationSummary.PolicyResult::getSizeBytes)
+                .containsExactly(100L, 1200L, 300L);
+
+        // Never downloaded components are measured from their creation
+        assertThat(results.get(1).getRepositoryStats()).containsOnlyKeys("maven-releases");
+        assertThat(results.get(1).getRepositoryStats().get("maven-releases").getComponentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void loadPolicies_shouldReadJsonArray() throws IOException {
+        Path file = tempDir.resolve("policies.json");
+        Files.writeString(file, "[{\"name\": \"unused\", \"repositories\": [\"maven-*\"], \"notDownloadedDays\": 365}]");
+
+        List<CleanupPolicy> policies = CleanupSimulator.loadPolicies(file.toString());
+
+        assertThat(policies).hasSize(1);
+        assertThat(policies.get(0).getRepositories()).containsExactly("maven-*");
+        assertThat(policies.get(0).getNotDownloadedDays()).isEqualTo(365);
+    }
+
+    @Test
+    void loadPolicies_withoutCriteria_shouldThrowException() throws IOException {
+        Path file = tempDir.resolve("policies.json");
+        Files.writeString(file, "[{\"name\": \"everything\"}]");
+
+        assertThatThrownBy(() -> CleanupSimulator.loadPolicies(file.toString()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must define at least one of");
+    }
+
+    @Test
+    void componentSnapshotReader_shouldReadComponentExport() throws IOException {
+        Path file = tempDir.resolve("components.json");
+        ComponentXO exported = component("1.0", 10, 5);
+        exported.setRepository("maven-releases");
+        try (ReportWriter writer = new JsonReportWriter(Files.newBufferedWriter(file))) {
+            writer.writeComponents(List.of(exported, exported));
+        }
+
+        List<ComponentXO> components = new ArrayList<>();
+        long count = ComponentSnapshotReader.read(file.toString(), components::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(components.get(0).getRepository()).isEqualTo("maven-releases");
+        assertThat(components.get(0).getAssets().get(0).getBlobCreated())
+                .isEqualTo(exported.getAssets().get(0).getBlobCreated());
+    }
+}
@@ -1,7 +1,9 @@
 package com.pyx4j.nxrm.report;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.pyx4j.nxrm.report.model.GrowthPeriod;
 import org.junit.jupiter.api.Test;
 import picocli.CommandLine;
 
@@ -327,4 +329,163 @@ class CommandLineIntegrationTest {
         assertThat(args.createdAfter).isEqualTo("30d");
         assertThat(args.ageBuckets).isEqualTo("0-7,8-30,>30");
     }
+
+    @Test
+    void commandLineArgs_withApproximateGroups_shouldParseCorrectly() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        CommandLine cmd = new CommandLine(args);
+
+        cmd.parseArgs("top-groups", "--url", "https://nexus.example.com", "--approximate-groups", "10000");
+        assertThat(args.approximateGroups).isEqualTo(10000);
+
+        NxReportCommandArgs defaultArgs = new NxReportCommandArgs();
+        new CommandLine(defaultArgs).parseArgs("top-groups", "--url", "https://nexus.example.com");
+        assertThat(defaultArgs.approximateGroups).isNull();
+    }
+
+    @Test
+    void crossTabOption_shouldParseDimensions() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        CommandLine cmd = new CommandLine(args);
+
+        cmd.parseArgs("--url", "https://nexus.example.com", "--cross-tab", "repository,age");
+        assertThat(args.crossTab).isEqualTo("repository,age");
+
+        NxReportCommandArgs defaultArgs = new NxReportCommandArgs();
+        new CommandLine(defaultArgs).parseArgs("--url", "https://nexus.example.com");
+        assertThat(defaultArgs.crossTab).isNull();
+    }
+
+    @Test
+    void downloadRecencyOptions_shouldParseBucketsAndReclaimableDays() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        CommandLine cmd = new CommandLine(args);
+
+        cmd.parseArgs("download-recency", "--url", "https://nexus.example.com",
+                "--download-buckets", "0-7,>7", "--reclaimable-days", "30");
+        assertThat(args.report).isEqualTo("download-recency");
+        assertThat(args.downloadBuckets).isEqualTo("0-7,>7");
+        assertThat(args.reclaimableDays).isEqualTo(30);
+
+        NxReportCommandArgs defaultArgs = new NxReportCommandArgs();
+        new CommandLine(defaultArgs).parseArgs("download-recency", "--url", "https://nexus.example.com");
+        assertThat(defaultArgs.downloadBuckets).isEqualTo("0-30,31-90,91-365,>365");
+        assertThat(defaultArgs.reclaimableDays).isEqualTo(180);
+    }
+
+    @Test
+    void versionSprawlOptions_shouldParseTopCoordinatesAndMemoryLimit() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        CommandLine cmd = new CommandLine(args);
+
+        cmd.parseArgs("version-sprawl", "--url", "https://nexus.example.com",
+                "--top-coordinates", "5", "--max-coordinates-in-memory", "1000");
+        assertThat(args.report).isEqualTo("version-sprawl");
+        assertThat(args.topCoordinates).isEqualTo(5);
+        assertThat(args.maxCoordinatesInMemory).isEqualTo(1000);
+
+        NxReportCommandArgs defaultArgs = new NxReportCommandArgs();
+        new CommandLine(defaultArgs).parseArgs("version-sprawl", "--url", "https://nexus.example.com");
+        assertThat(defaultArgs.topCoordinates).isEqualTo(20);
+        assertThat(defaultArgs.maxCoordinatesInMemory).isEqualTo(1_000_000);
+    }
+
+    @Test
+    void growthPeriodOption_shouldParseCaseInsensitive() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        new CommandLine(args).parseArgs("growth", "--url", "https://nexus.example.com", "--growth-period", "Week");
+        assertThat(args.report).isEqualTo("growth");
+        assertThat(args.growthPeriod).isEqualTo(GrowthPeriod.WEEK);
+
+        NxReportCommandArgs defaultArgs = new NxReportCommandArgs();
+        new CommandLine(defaultArgs).parseArgs("growth", "--url", "https://nexus.example.com");
+        assertThat(defaultArgs.growthPeriod).isEqualTo(GrowthPeriod.MONTH);
+    }
+
+    @Test
+    void diffOptions_shouldParseSnapshotsWithoutUrl() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        new CommandLine(args).parseArgs("diff", "--from-snapshot", "old.json", "--to-snapshot", "new.json", "--top-changes", "5");
+        assertThat(args.report).isEqualTo("diff");
+        assertThat(args.fromSnapshot).isEqualTo("old.json");
+        assertThat(args.toSnapshot).isEqualTo("new.json");
+        assertThat(args.topChanges).isEqualTo(5);
+    }
+
+    @Test
+    void shardOptions_shouldParseShardAndPartialFiles() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        new CommandLine(args).parseArgs("all", "--url", "https://nexus.example.com", "--shard", "2/4", "--output-partial", "part-2.bin");
+        assertThat(args.shard).isEqualTo(new Shard(2, 4));
+        assertThat(args.outputPartialFile).isEqualTo("part-2.bin");
+
+        NxReportCommandArgs mergeArgs = new NxReportCommandArgs();
+        new CommandLine(mergeArgs).parseArgs("merge", "--partial", "part-1.bin", "--partial", "part-2.bin");
+        assertThat(mergeArgs.report).isEqualTo("merge");
+        assertThat(mergeArgs.partialFiles).containsExactly("part-1.bin", "part-2.bin");
+
+        assertThatThrownBy(() -> new CommandLine(new NxReportCommandArgs()).parseArgs("--shard", "5/4"))
+                .isInstanceOf(CommandLine.ParameterException.class);
+    }
+
+    @Test
+    void serversOption_shouldParseServersFile() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        new CommandLine(args).parseArgs("repositories-summary", "--servers", "servers.json");
+
+        assertThat(args.serversFile).isEqualTo("servers.json");
+        assertThat(args.nexusServerUrl).isNull();
+    }
+
+    @Test
+    void engineOption_shouldParseCaseInsensitive() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        new CommandLine(args).parseArgs("--url", "https://nexus.example.com", "--engine", "Virtual-Threads", "--max-connections", "8");
+
+        assertThat(args.engine).isEqualTo(CrawlEngine.VIRTUAL_THREADS);
+        assertThat(args.maxConnections).isEqualTo(8);
+
+        NxReportCommandArgs defaultArgs = new NxReportCommandArgs();
+        new CommandLine(defaultArgs).parseArgs("--url", "https://nexus.example.com");
+        assertThat(defaultArgs.engine).isEqualTo(CrawlEngine.REACTOR);
+    }
+
+    @Test
+    void transportOptions_shouldParseTransportCompressionAndHttp2() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        new CommandLine(args).parseArgs("--url", "https://nexus.example.com", "--transport", "JDK", "--compression", "--http2");
+        assertThat(args.transport).isEqualTo(HttpTransport.JDK);
+        assertThat(args.compression).isTrue();
+        assertThat(args.http2).isTrue();
+
+        NxReportCommandArgs defaultArgs = new NxReportCommandArgs();
+        new CommandLine(defaultArgs).parseArgs("--url", "https://nexus.example.com");
+        assertThat(defaultArgs.transport).isEqualTo(HttpTransport.NETTY);
+        assertThat(defaultArgs.compression).isFalse();
+        assertThat(defaultArgs.http2).isFalse();
+    }
+
+    @Test
+    void outputDbOption_shouldParseDatabaseFile() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        new CommandLine(args).parseArgs("all", "--url", "https://nexus.example.com", "--output-db", "report.mv.db");
+
+        assertThat(args.outputDbFile).isEqualTo("report.mv.db");
+    }
+
+    @Test
+    void outputOptions_shouldBeRepeatable() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        new CommandLine(args).parseArgs("all", "--url", "https://nexus.example.com",
+                "--output-file", "report.json", "--output-file", "report.csv", "--output-file", "nexus.prom",
+                "--output-component", "components.ndjson.gz", "--output-component", "components.parquet");
+
+        assertThat(args.outputFiles).containsExactly("report.json", "report.csv", "nexus.prom");
+        assertThat(args.outputComponentFiles).containsExactly("components.ndjson.gz", "components.parquet");
+
+        NxReportCommandArgs defaultArgs = new NxReportCommandArgs();
+        new CommandLine(defaultArgs).parseArgs("all", "--url", "https://nexus.example.com");
+        assertThat(defaultArgs.outputFiles).isEmpty();
+        assertThat(defaultArgs.outputComponentFiles).isEmpty();
+    }
 }
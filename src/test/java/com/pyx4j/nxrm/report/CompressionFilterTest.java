@@ -0,0 +1,85 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for CompressionFilter functionality.
+ */
+class CompressionFilterTest {
+
+    private static final String PAGE = "{\"items\":[" + "{\"downloadUrl\":\"https://nexus.example.com/repository/maven-releases/org/example/lib/1.0/lib-1.0.jar\"},".repeat(50)
+            + "{}],\"continuationToken\":null}";
+
+    private static final ClientRequest REQUEST = ClientRequest.create(HttpMethod.GET, URI.create("https://nexus.example.com/service/rest/v1/components")).build();
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static ExchangeFunction respondWith(AtomicReference<ClientRequest> sentRequest, byte[] body, String contentEncoding) {
+        return request -> {
+            sentRequest.set(request);
+            ClientResponse.Builder response = ClientResponse.create(HttpStatus.OK)
+                    .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+            if (contentEncoding != null) {
+                response.header(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+            }
+            return Mono.just(response.build());
+        };
+    }
+
+    @Test
+    void filter_withGzipResponse_shouldDecompressAndCountBothVolumes() throws IOException {
+        byte[] compressed = gzip(PAGE);
+        AtomicReference<ClientRequest> sentRequest = new AtomicReference<>();
+        CompressionFilter filter = new CompressionFilter(true);
+
+        ClientResponse response = filter.filter(REQUEST, respondWith(sentRequest, compressed, "gzip")).block();
+
+        assertThat(sentRequest.get().headers().getFirst(HttpHeaders.ACCEPT_ENCODING)).isEqualTo("gzip, deflate");
+        assertThat(response).isNotNull();
+        assertThat(response.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.bodyToMono(String.class).block()).isEqualTo(PAGE);
+        assertThat(filter.getResponseCount()).isEqualTo(1);
+        assertThat(filter.getReceivedBytes()).isEqualTo(compressed.length);
+        assertThat(filter.getDecompressedBytes()).isEqualTo(PAGE.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(filter.getReceivedBytes()).isLessThan(filter.getDecompressedBytes());
+    }
+
+    @Test
+    void filter_withoutCompression_shouldOnlyCountBytes() {
+        byte[] body = PAGE.getBytes(StandardCharsets.UTF_8);
+        AtomicReference<ClientRequest> sentRequest = new AtomicReference<>();
+        CompressionFilter filter = new CompressionFilter(false);
+
+        ClientResponse response = filter.filter(REQUEST, respondWith(sentRequest, body, null)).block();
+
+        assertThat(sentRequest.get().headers().getFirst(HttpHeaders.ACCEPT_ENCODING)).isNull();
+        assertThat(response).isNotNull();
+        assertThat(response.bodyToMono(String.class).block()).isEqualTo(PAGE);
+        assertThat(filter.getReceivedBytes()).isEqualTo(body.length);
+        assertThat(filter.getDecompressedBytes()).isEqualTo(body.length);
+    }
+}
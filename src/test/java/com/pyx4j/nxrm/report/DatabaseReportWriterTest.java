@@ -0,0 +1,104 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.pyx4j.nxrm.report.model.RepositoryComponentsSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonatype.nexus.model.AssetXO;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Unit tests for DatabaseReportWriter functionality.
+ */
+class DatabaseReportWriterTest {
+
+    @Test
+    void writeComponents_shouldLoadRowsAndCreateIndexes(@TempDir Path tempDir) throws IOException, SQLException {
+        Path file = tempDir.resolve("report.mv.db");
+        try (ReportWriter reportWriter = new DatabaseReportWriter(file)) {
+            RepositoryComponentsSummary summary = new RepositoryComponentsSummary();
+            summary.addRepositoryStats("maven-releases", "maven2", 2, 3072);
+            reportWriter.writeRepositoryComponentsSummary(summary, SortBy.NAME);
+            reportWriter.writeComponents(List.of(
+                    component("maven-releases", "org.example", "lib", "1.0", 1024),
+                    component("maven-releases", null, "app", "2.0", 2048)));
+        }
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + tempDir.resolve("report").toAbsolutePath());
+             Statement statement = connection.createStatement()) {
+            try (ResultSet result = statement.executeQuery("SELECT repository, format, components, size_bytes FROM repositories")) {
+                assertThat(result.next()).isTrue();
+                assertThat(result.getString("repository")).isEqualTo("maven-releases");
+                assertThat(result.getLong("size_bytes")).isEqualTo(3072);
+            }
+            try (ResultSet result = statement.executeQuery(
+                    "SELECT name, group_name, size_bytes, created, last_downloaded FROM components ORDER BY name")) {
+                assertThat(result.next()).isTrue();
+                assertThat(result.getString("name")).isEqualTo("app");
+                assertThat(result.getString("group_name")).isNull();
+                assertThat(result.getLong("size_bytes")).isEqualTo(2048);
+                assertThat(result.getObject("created", OffsetDateTime.class))
+                        .isEqualTo(OffsetDateTime.of(2024, 1, 15, 10, 0, 0, 0, ZoneOffset.UTC));
+                assertThat(result.getObject("last_downloaded")).isNull();
+                assertThat(result.next()).isTrue();
+                assertThat(result.getString("name")).isEqualTo("lib");
+                assertThat(result.next()).isFalse();
+            }
+            List<String> indexes = new ArrayList<>();
+            try (ResultSet result = statement.executeQuery(
+                    "SELECT index_name FROM information_schema.indexes WHERE table_name = 'COMPONENTS' ORDER BY index_name")) {
+                while (result.next()) {
+                    indexes.add(result.getString(1));
+                }
+            }
+            assertThat(indexes).contains("COMPONENTS_CREATED", "COMPONENTS_GROUP_NAME", "COMPONENTS_REPOSITORY");
+        }
+    }
+
+    @Test
+    void writeRepositoryComponentsSummary_withExistingDatabase_shouldReplaceTable(@TempDir Path tempDir) throws IOException, SQLException {
+        Path file = tempDir.resolve("report");
+        for (long sizeBytes : new long[]{1024, 4096}) {
+            try (ReportWriter reportWriter = new DatabaseReportWriter(file)) {
+                RepositoryComponentsSummary summary = new RepositoryComponentsSummary();
+                summary.addRepositoryStats("npm-hosted", "npm", 1, sizeBytes);
+                reportWriter.writeRepositoryComponentsSummary(summary, SortBy.NAME);
+            }
+        }
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + file.toAbsolutePath());
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*), MAX(size_bytes) FROM repositories")) {
+            assertThat(result.next()).isTrue();
+            assertThat(result.getLong(1)).isEqualTo(1);
+            assertThat(result.getLong(2)).isEqualTo(4096);
+        }
+    }
+
+    private static ComponentXO component(String repository, String group, String name, String version, long sizeBytes) {
+        AssetXO asset = new AssetXO();
+        asset.setFileSize(sizeBytes);
+        asset.setBlobCreated(OffsetDateTime.of(2024, 1, 15, 10, 0, 0, 0, ZoneOffset.UTC));
+        ComponentXO component = new ComponentXO();
+        component.setRepository(repository);
+        component.setFormat("maven2");
+        component.setGroup(group);
+        component.setName(name);
+        component.setVersion(version);
+        component.setAssets(List.of(asset));
+        return component;
+    }
+}
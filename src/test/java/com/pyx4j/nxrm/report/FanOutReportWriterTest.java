@@ -0,0 +1,114 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.pyx4j.nxrm.report.model.AgeSummary;
+import com.pyx4j.nxrm.report.model.RepositoryComponentsSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Unit tests for FanOutReportWriter functionality.
+ */
+class FanOutReportWriterTest {
+
+    @Test
+    void write_shouldFeedSectionsAndComponentsToTheirWriters() throws IOException {
+        StringWriter json = new StringWriter();
+        StringWriter ndjson = new StringWriter();
+        StringWriter components = new StringWriter();
+
+        try (FanOutReportWriter reportWriter = new FanOutReportWriter(
+                List.of(new JsonReportWriter(json), new NdjsonReportWriter(ndjson)),
+                List.of(new NdjsonReportWriter(components)))) {
+            reportWriter.writeRepositoryComponentsSummary(repositoriesSummary(), SortBy.NAME);
+            reportWriter.writeAgeSummary(new AgeSummary(List.of("0-7", ">7")));
+            reportWriter.writeComponents(List.of(component("lib")));
+            reportWriter.commit();
+        }
+
+        assertThat(json.toString()).contains("\"maven-releases\"").doesNotContain("\"lib\"");
+        String[] lines = ndjson.toString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"repositoryStats\"");
+        assertThat(lines[1]).contains("\"ageBuckets\"");
+        assertThat(components.toString()).contains("\"name\":\"lib\"").doesNotContain("repositoryStats");
+    }
+
+    @Test
+    void close_withFailingWriter_shouldCompleteOtherWritersAndThrow() {
+        StringWriter json = new StringWriter();
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("Disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertThatThrownBy(() -> {
+            try (ReportWriter reportWriter = new FanOutReportWriter(List.of(new JsonReportWriter(failing), new JsonReportWriter(json)), List.of())) {
+                reportWriter.writeRepositoryComponentsSummary(repositoriesSummary(), SortBy.NAME);
+                reportWriter.writeAgeSummary(new AgeSummary(List.of("0-7", ">7")));
+            }
+        }).isInstanceOf(IOException.class)
+                .hasMessage("Disk full");
+        assertThat(json.toString()).contains("\"maven-releases\"").contains("\"0-7\"");
+    }
+
+    @Test
+    void close_withoutCommit_shouldKeepPreviousMetrics(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("nexus.prom");
+        Files.writeString(file, "# EOF\n");
+
+        try (FanOutReportWriter reportWriter = new FanOutReportWriter(List.of(new OpenMetricsReportWriter(file)), List.of())) {
+            reportWriter.writeRepositoryComponentsSummary(repositoriesSummary(), SortBy.NAME);
+            // A later report fails before the reports are committed
+        }
+
+        assertThat(Files.readAllLines(file)).containsExactly("# EOF");
+        assertThat(tempDir.resolve("nexus.prom.tmp")).doesNotExist();
+    }
+
+    @Test
+    void close_afterCommit_shouldPublishMetrics(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("nexus.prom");
+        Files.writeString(file, "# EOF\n");
+
+        try (FanOutReportWriter reportWriter = new FanOutReportWriter(List.of(new OpenMetricsReportWriter(file)), List.of())) {
+            reportWriter.writeRepositoryComponentsSummary(repositoriesSummary(), SortBy.NAME);
+            reportWriter.commit();
+        }
+
+        assertThat(Files.readAllLines(file)).contains("nxrm_repository_components{repository=\"maven-releases\",format=\"maven2\"} 10");
+    }
+
+    private static RepositoryComponentsSummary repositoriesSummary() {
+        RepositoryComponentsSummary summary = new RepositoryComponentsSummary();
+        summary.addRepositoryStats("maven-releases", "maven2", 10, 1024);
+        return summary;
+    }
+
+    private static ComponentXO component(String name) {
+        ComponentXO component = new ComponentXO();
+        component.setRepository("maven-releases");
+        component.setName(name);
+        return component;
+    }
+}
@@ -0,0 +1,92 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for HttpRecorder functionality.
+ */
+class HttpRecorderTest {
+
+    private static final String PAGE = "{\"items\":[{\"name\":\"lib\",\"version\":\"1.0\"}],\"continuationToken\":\"next\"}";
+
+    @TempDir
+    Path tempDir;
+
+    private static ClientRequest request(String url) {
+        return ClientRequest.create(HttpMethod.GET, URI.create(url)).build();
+    }
+
+    @Test
+    void replay_afterRecord_shouldReturnRecordedBodyWithoutCallingServer() {
+        AtomicInteger serverCalls = new AtomicInteger();
+        ExchangeFunction server = request -> {
+            serverCalls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(PAGE.getBytes(StandardCharsets.UTF_8))))
+                    .build());
+        };
+        ClientRequest page = request("https://nexus.example.com/service/rest/v1/components?repository=maven-releases&continuationToken=abc");
+
+        NxReportCommandArgs recordArgs = new NxReportCommandArgs();
+        recordArgs.recordDir = tempDir.toString();
+        ClientResponse recorded = HttpRecorder.fromArgs(recordArgs, null).filter(page, server).block();
+        assertThat(recorded.bodyToMono(String.class).block()).isEqualTo(PAGE);
+
+        NxReportCommandArgs replayArgs = new NxReportCommandArgs();
+        replayArgs.replayDir = tempDir.toString();
+        ClientResponse replayed = HttpRecorder.fromArgs(replayArgs, null)
+                .filter(request("http://localhost:8081/service/rest/v1/components?repository=maven-releases&continuationToken=abc"), server)
+                .block();
+
+        assertThat(replayed.bodyToMono(String.class).block()).isEqualTo(PAGE);
+        assertThat(serverCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void replay_withUnrecordedRequest_shouldFail() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        args.replayDir = tempDir.toString();
+        HttpRecorder recorder = HttpRecorder.fromArgs(args, null);
+
+        assertThatThrownBy(() -> recorder.filter(request("https://nexus.example.com/service/rest/v1/repositories"), request -> Mono.empty()).block())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No recorded response");
+    }
+
+    @Test
+    void fileName_shouldDependOnPathAndQueryOnly() {
+        String fileName = HttpRecorder.fileName(URI.create("https://nexus.example.com/service/rest/v1/components?repository=npm&continuationToken=1"));
+
+        assertThat(HttpRecorder.fileName(URI.create("http://other:8081/service/rest/v1/components?repository=npm&continuationToken=1"))).isEqualTo(fileName);
+        assertThat(HttpRecorder.fileName(URI.create("https://nexus.example.com/service/rest/v1/components?repository=npm&continuationToken=2"))).isNotEqualTo(fileName);
+        assertThat(fileName).endsWith(".json.gz");
+    }
+
+    @Test
+    void fromArgs_withRecordAndReplay_shouldThrowException() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        args.recordDir = tempDir.toString();
+        args.replayDir = tempDir.toString();
+
+        assertThatThrownBy(() -> HttpRecorder.fromArgs(args, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(HttpRecorder.fromArgs(new NxReportCommandArgs(), null)).isNull();
+    }
+}
@@ -0,0 +1,52 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.sonatype.nexus.model.AssetXO;
+import org.sonatype.nexus.model.ComponentXO;
+import org.sonatype.nexus.model.PageComponentXO;
+
+/**
+ * Unit tests for IncrementalCrawler functionality.
+ */
+class IncrementalCrawlerTest {
+
+    private static PageComponentXO page(long fileSize, OffsetDateTime lastDownloaded, String continuationToken) {
+        AssetXO asset = new AssetXO();
+        asset.setId("asset-1");
+        asset.setFileSize(fileSize);
+        asset.setLastModified(OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+        asset.setLastDownloaded(lastDownloaded);
+        ComponentXO component = new ComponentXO();
+        component.setId("component-1");
+        component.setVersion("1.0");
+        component.setAssets(List.of(asset));
+        PageComponentXO page = new PageComponentXO();
+        page.setItems(List.of(component));
+        page.setContinuationToken(continuationToken);
+        return page;
+    }
+
+    @Test
+    void fingerprint_withOnlyNewDownloads_shouldBeUnchanged() {
+        OffsetDateTime downloaded = OffsetDateTime.of(2024, 2, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+        assertThat(IncrementalCrawler.fingerprint(page(100, downloaded, "token")))
+                .isEqualTo(IncrementalCrawler.fingerprint(page(100, downloaded.plusDays(1), "token")));
+    }
+
+    @Test
+    void fingerprint_withChangedAssetOrPageBoundary_shouldChange() {
+        String fingerprint = IncrementalCrawler.fingerprint(page(100, null, "token"));
+
+        assertThat(IncrementalCrawler.fingerprint(page(101, null, "token"))).isNotEqualTo(fingerprint);
+        assertThat(IncrementalCrawler.fingerprint(page(100, null, "other-token"))).isNotEqualTo(fingerprint);
+        assertThat(IncrementalCrawler.fingerprint(page(100, null, null))).isNotEqualTo(fingerprint);
+        assertThat(IncrementalCrawler.fingerprint(null)).isNotEqualTo(fingerprint);
+    }
+}
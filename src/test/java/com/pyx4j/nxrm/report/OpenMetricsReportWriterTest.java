@@ -0,0 +1,81 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.pyx4j.nxrm.report.model.GroupsSummary;
+import com.pyx4j.nxrm.report.model.RepositoryComponentsSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for OpenMetricsReportWriter functionality.
+ */
+class OpenMetricsReportWriterTest {
+
+    @Test
+    void writeRepositoryComponentsSummary_shouldWriteLabeledGauges(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("nexus.prom");
+        try (ReportWriter reportWriter = ReportWriterFactory.create(file.toString())) {
+            RepositoryComponentsSummary summary = new RepositoryComponentsSummary();
+            summary.addRepositoryStats("maven-releases", "maven2", 10, 1024);
+            summary.addRepositoryStats("raw \"hosted\"", "raw", 1, 64);
+            reportWriter.writeRepositoryComponentsSummary(summary, SortBy.NAME);
+
+            assertThat(file).doesNotExist();
+        }
+
+        assertThat(Files.readAllLines(file))
+                .contains("# TYPE nxrm_repository_size_bytes gauge",
+                        "# UNIT nxrm_repository_size_bytes bytes",
+                        "nxrm_repository_components{repository=\"maven-releases\",format=\"maven2\"} 10",
+                        "nxrm_repository_size_bytes{repository=\"maven-releases\",format=\"maven2\"} 1024",
+                        "nxrm_repository_size_bytes{repository=\"raw \\\"hosted\\\"\",format=\"raw\"} 64")
+                .endsWith("# EOF");
+        assertThat(tempDir.resolve("nexus.prom.tmp")).doesNotExist();
+    }
+
+    @Test
+    void writeGroupsSummary_shouldWriteTopGroupsOnly(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("nexus.prom");
+        try (ReportWriter reportWriter = new OpenMetricsReportWriter(file)) {
+            GroupsSummary summary = new GroupsSummary();
+            summary.addGroupStats("org.large", 1, 4096);
+            summary.addGroupStats("org.medium", 1, 1024);
+            summary.addGroupStats("org.small", 1, 16);
+            reportWriter.writeGroupsSummary(summary, SortBy.SIZE, 2);
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).contains("nxrm_group_size_bytes{group=\"org.large\"} 4096", "nxrm_group_size_bytes{group=\"org.medium\"} 1024");
+        assertThat(lines).noneMatch(line -> line.contains("org.small"));
+    }
+
+    @Test
+    void abort_shouldKeepPreviousFileAndDeleteTempFile(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("nexus.prom");
+        Files.writeString(file, "nxrm_repository_components{repository=\"maven-releases\"} 10\n# EOF\n");
+
+        ReportWriter reportWriter = new OpenMetricsReportWriter(file);
+        RepositoryComponentsSummary summary = new RepositoryComponentsSummary();
+        summary.addRepositoryStats("maven-releases", "maven2", 20, 2048);
+        reportWriter.writeRepositoryComponentsSummary(summary, SortBy.NAME);
+        reportWriter.abort();
+
+        assertThat(Files.readAllLines(file)).containsExactly("nxrm_repository_components{repository=\"maven-releases\"} 10", "# EOF");
+        assertThat(tempDir.resolve("nexus.prom.tmp")).doesNotExist();
+    }
+
+    @Test
+    void writeComponents_shouldThrowException(@TempDir Path tempDir) throws IOException {
+        try (ReportWriter reportWriter = new OpenMetricsReportWriter(tempDir.resolve("nexus.prom"))) {
+            assertThatThrownBy(() -> reportWriter.writeComponents(List.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ParallelCompressionOutputStream functionality.
+ */
+class ParallelCompressionOutputStreamTest {
+
+    @Test
+    void write_withGzipOverSeveralBlocks_shouldDecompressToInput() throws IOException {
+        byte[] data = randomText(3 * ParallelCompressionOutputStream.BLOCK_SIZE + 12345);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        ParallelCompressionOutputStream out = new ParallelCompressionOutputStream(compressed, OutputCompression.GZIP, "test.csv.gz", 3);
+        out.write(data, 0, 1000);
+        out.flush();
+        out.write(data, 1000, data.length - 1000);
+        out.close();
+
+        assertThat(out.getInputBytes()).isEqualTo(data.length);
+        assertThat(out.getOutputBytes()).isEqualTo(compressed.size()).isLessThan(data.length);
+        assertThat(decompress(OutputCompression.GZIP, compressed.toByteArray())).isEqualTo(data);
+    }
+
+    @Test
+    void write_withZstd_shouldDecompressToInput() throws IOException {
+        byte[] data = randomText(2 * ParallelCompressionOutputStream.BLOCK_SIZE + 1);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        try (ParallelCompressionOutputStream out = new ParallelCompressionOutputStream(compressed, OutputCompression.ZSTD, "test.ndjson.zst", 2)) {
+            out.write(data);
+        }
+
+        assertThat(decompress(OutputCompression.ZSTD, compressed.toByteArray())).isEqualTo(data);
+    }
+
+    @Test
+    void flush_withSmallPartialBlock_shouldKeepBufferingUntilClose() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        ParallelCompressionOutputStream out = new ParallelCompressionOutputStream(compressed, OutputCompression.GZIP, "test.ndjson.gz", 2);
+        out.write("{\"name\":\"first\"}\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+
+        assertThat(compressed.size()).isZero();
+
+        out.close();
+        assertThat(new String(decompress(OutputCompression.GZIP, compressed.toByteArray()), StandardCharsets.UTF_8))
+                .isEqualTo("{\"name\":\"first\"}\n");
+    }
+
+    @Test
+    void flush_withPartialBlock_shouldWriteItOnceCompressed() throws IOException, InterruptedException {
+        byte[] data = randomText(ParallelCompressionOutputStream.MIN_FLUSH_SIZE);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ParallelCompressionOutputStream out = new ParallelCompressionOutputStream(compressed, OutputCompression.GZIP, "test.ndjson.gz", 2)) {
+            out.write(data);
+            out.flush();
+
+            // The flush does not wait, a later flush writes the block once compressed
+            for (int i = 0; i < 500 && compressed.size() == 0; i++) {
+                Thread.sleep(10);
+                out.flush();
+            }
+
+            assertThat(decompress(OutputCompression.GZIP, compressed.toByteArray())).isEqualTo(data);
+        }
+    }
+
+    @Test
+    void write_afterClose_shouldThrowException() throws IOException {
+        ParallelCompressionOutputStream out = new ParallelCompressionOutputStream(new ByteArrayOutputStream(), OutputCompression.GZIP, "test.csv.gz", 1);
+        out.close();
+
+        assertThatThrownBy(() -> out.write(1))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void of_shouldSelectCompressionByExtension() {
+        assertThat(OutputCompression.of("report.csv.gz")).isEqualTo(OutputCompression.GZIP);
+        assertThat(OutputCompression.of("components.ndjson.zst")).isEqualTo(OutputCompression.ZSTD);
+        assertThat(OutputCompression.of("report.csv")).isNull();
+        assertThat(OutputCompression.stripExtension("components.ndjson.zst")).isEqualTo("components.ndjson");
+        assertThat(OutputCompression.stripExtension("report.csv")).isEqualTo("report.csv");
+    }
+
+    private static byte[] randomText(int length) {
+        Random random = new Random(42);
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) ('a' + random.nextInt(4));
+        }
+        return data;
+    }
+
+    private static byte[] decompress(OutputCompression compression, byte[] compressed) throws IOException {
+        try (InputStream in = compression.decompress(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
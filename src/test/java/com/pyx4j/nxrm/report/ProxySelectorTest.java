@@ -3,6 +3,10 @@ package com.pyx4j.nxrm.report;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -173,6 +177,27 @@ class ProxySelectorTest {
                 .hasMessageContaining("WebClient builder cannot be null");
     }
 
+    @Test
+    void createJdkHttpClient_withProxyCredentials_shouldConfigureProxyAndAuthenticator() {
+        ProxySelector.ProxyConfig proxyConfig = new ProxySelector.ProxyConfig("proxy.com", 3128, "user", "pass");
+
+        HttpClient httpClient = ProxySelector.createJdkHttpClient(proxyConfig);
+
+        assertThat(httpClient.proxy()).isPresent();
+        InetSocketAddress proxyAddress = (InetSocketAddress) httpClient.proxy().get().select(URI.create(TEST_URL)).get(0).address();
+        assertThat(proxyAddress.getHostString()).isEqualTo("proxy.com");
+        assertThat(proxyAddress.getPort()).isEqualTo(3128);
+        assertThat(httpClient.authenticator()).isPresent();
+    }
+
+    @Test
+    void createJdkHttpClient_withoutProxy_shouldUseDirectConnection() {
+        HttpClient httpClient = ProxySelector.createJdkHttpClient(null);
+
+        assertThat(httpClient.proxy()).isEmpty();
+        assertThat(httpClient.authenticator()).isEmpty();
+    }
+
     @Test
     void proxyConfig_toString_shouldContainHostAndPort() {
         ProxySelector.ProxyConfig config = new ProxySelector.ProxyConfig("proxy.com", 8080, "user", "pass");
@@ -0,0 +1,82 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Unit tests for ReportAggregator functionality.
+ */
+class ReportAggregatorTest {
+
+    private static ComponentXO component(String name) {
+        ComponentXO component = new ComponentXO();
+        component.setRepository("maven-releases");
+        component.setGroup("org.example");
+        component.setName(name);
+        component.setVersion("1.0");
+        return component;
+    }
+
+    @Test
+    void merge_withServersSharingRepositoryName_shouldPrefixExportedComponents() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        args.outputComponentFiles.add("components.json");
+
+        try (ReportAggregator eu = new ReportAggregator(args, null, "eu/");
+             ReportAggregator us = new ReportAggregator(args, null, "us/");
+             ReportAggregator fleet = new ReportAggregator(args)) {
+            eu.addComponents("maven-releases", "maven2", List.of(component("eu-lib")));
+            us.addComponents("maven-releases", "maven2", List.of(component("us-lib")));
+            fleet.merge(eu);
+            fleet.merge(us);
+
+            assertThat(fleet.getComponents())
+                    .extracting(ComponentXO::getName, ComponentXO::getRepository)
+                    .containsExactly(
+                            tuple("eu-lib", "eu/maven-releases"),
+                            tuple("us-lib", "us/maven-releases"));
+            assertThat(fleet.getRepositoryComponentsSummary().getRepositoryStats())
+                    .containsOnlyKeys("eu/maven-releases", "us/maven-releases");
+        }
+    }
+
+    @Test
+    void addComponents_withServersSharingRepositoryName_shouldPrefixStreamedComponents() throws IOException {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        args.outputComponentFiles.add("components.ndjson");
+        StringWriter ndjson = new StringWriter();
+
+        try (NdjsonReportWriter componentStream = new NdjsonReportWriter(ndjson);
+             ReportAggregator eu = new ReportAggregator(args, null, "eu/");
+             ReportAggregator us = new ReportAggregator(args, null, "us/")) {
+            eu.streamComponents(componentStream);
+            us.streamComponents(componentStream);
+            eu.addComponents("maven-releases", "maven2", List.of(component("eu-lib")));
+            us.addComponents("maven-releases", "maven2", List.of(component("us-lib")));
+        }
+
+        String[] lines = ndjson.toString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"name\":\"eu-lib\"").contains("\"repository\":\"eu/maven-releases\"");
+        assertThat(lines[1]).contains("\"name\":\"us-lib\"").contains("\"repository\":\"us/maven-releases\"");
+    }
+
+    @Test
+    void addComponents_withoutRepositoryPrefix_shouldKeepComponentRepository() {
+        NxReportCommandArgs args = new NxReportCommandArgs();
+        args.outputComponentFiles.add("components.json");
+
+        try (ReportAggregator aggregator = new ReportAggregator(args)) {
+            aggregator.addComponents("maven-releases", "maven2", List.of(component("lib")));
+
+            assertThat(aggregator.getComponents()).extracting(ComponentXO::getRepository).containsExactly("maven-releases");
+        }
+    }
+}
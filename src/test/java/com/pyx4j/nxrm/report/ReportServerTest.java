@@ -0,0 +1,120 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Unit tests for ReportServer functionality.
+ */
+class ReportServerTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private NxReportCommandArgs args;
+
+    private ReportServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        args = new NxReportCommandArgs();
+        args.report = "serve";
+        args.port = 0;
+        server = new ReportServer(args, aggregator -> {
+            throw new IOException("Nexus is not available");
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path)).build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void publishSampleReports() throws IOException {
+        ComponentXO component = new ComponentXO();
+        component.setRepository("maven-releases");
+        component.setGroup("org.example");
+        component.setName("lib");
+        component.setVersion("1.0");
+        ReportAggregator aggregator = new ReportAggregator(args);
+        aggregator.addComponents("maven-releases", "maven2", List.of(component));
+        server.publish(aggregator, Map.of("maven-releases", Instant.parse("2024-01-01T10:00:00Z")), Instant.parse("2024-01-01T09:59:00Z"));
+    }
+
+    @Test
+    void report_beforeFirstRefresh_shouldReturnServiceUnavailable() throws Exception {
+        HttpResponse<String> response = get("/reports/repositories-summary");
+
+        assertThat(response.statusCode()).isEqualTo(503);
+    }
+
+    @Test
+    void report_afterPublish_shouldReturnCachedReport() throws Exception {
+        publishSampleReports();
+
+        HttpResponse<String> response = get("/reports/repositories-summary");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("X-Refreshed-At")).isPresent();
+        assertThat(response.body()).contains("maven-releases");
+    }
+
+    @Test
+    void report_withUnknownType_shouldReturnNotFound() throws Exception {
+        publishSampleReports();
+
+        assertThat(get("/reports/unknown").statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void crossTab_withDimensions_shouldBeComputedFromCachedCube() throws Exception {
+        publishSampleReports();
+
+        HttpResponse<String> response = get("/reports/cross-tab?dimensions=repository,group");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("org.example");
+        assertThat(get("/reports/cross-tab").statusCode()).isEqualTo(400);
+        assertThat(get("/reports/cross-tab?dimensions=color").statusCode()).isEqualTo(400);
+    }
+
+    @Test
+    void status_afterPublish_shouldReportRepositoryFreshness() throws Exception {
+        publishSampleReports();
+
+        HttpResponse<String> response = get("/status");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body())
+                .contains("\"ready\" : true")
+                .contains("\"refreshedAt\" : \"2024-01-01T10:00:00Z\"");
+    }
+
+    @Test
+    void refresh_whenCrawlFails_shouldKeepPreviousReportsAndRecordError() throws Exception {
+        publishSampleReports();
+
+        server.refresh();
+
+        assertThat(get("/reports/top-groups").statusCode()).isEqualTo(200);
+        assertThat(get("/status").body()).contains("Nexus is not available");
+    }
+}
@@ -3,11 +3,32 @@ package com.pyx4j.nxrm.report;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import com.pyx4j.nxrm.report.model.AgeSummary;
+import com.pyx4j.nxrm.report.model.AggregationCube;
+import com.pyx4j.nxrm.report.model.CubeDimension;
+import com.pyx4j.nxrm.report.model.GroupsSummary;
 import com.pyx4j.nxrm.report.model.RepositoryComponentsSummary;
+import com.pyx4j.nxrm.report.model.SizeDistributionSummary;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.io.LocalInputFile;
+import org.apache.parquet.schema.MessageType;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonatype.nexus.model.AssetXO;
 import org.sonatype.nexus.model.ComponentXO;
 
 class ReportWriterTest {
@@ -34,6 +55,86 @@ class ReportWriterTest {
         assertThat(stringWriter.toString()).contains("\"test-repo\",\"maven2\",\"10\",\"1024\"");
     }
 
+    @Test
+    void testCsvGroupsSummaryWriter_shouldHonorSortAndLimit() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        try (ReportWriter reportWriter = new CsvReportWriter(stringWriter)) {
+            GroupsSummary summary = new GroupsSummary();
+            summary.addGroupStats("org.small", 10, 9000);
+            summary.addGroupStats("org.large", 5, 50000);
+            summary.addGroupStats("org.medium", 20, 20000);
+            reportWriter.writeGroupsSummary(summary, SortBy.SIZE, 2);
+        }
+        String output = stringWriter.toString();
+        assertThat(output).doesNotContain("org.small");
+        assertThat(output.indexOf("org.large")).isLessThan(output.indexOf("org.medium"));
+    }
+
+    @Test
+    void testJsonGroupsSummaryWriter_shouldHonorSortAndLimit() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        try (ReportWriter reportWriter = new JsonReportWriter(stringWriter)) {
+            GroupsSummary summary = new GroupsSummary();
+            summary.addGroupStats("org.small", 10, 9000);
+            summary.addGroupStats("org.large", 5, 50000);
+            summary.addGroupStats("org.medium", 20, 20000);
+            reportWriter.writeGroupsSummary(summary, SortBy.COMPONENTS, 2);
+        }
+        String output = stringWriter.toString();
+        assertThat(output).doesNotContain("org.large").contains("\"totalComponents\" : 35");
+        assertThat(output.indexOf("org.medium")).isLessThan(output.indexOf("org.small"));
+    }
+
+    @Test
+    void testCsvCrossTabWriter() throws IOException {
+        AggregationCube cube = new AggregationCube(List.of("0-7", ">7"), LocalDate.of(2024, 6, 1), true);
+        cube.addComponent("test-repo", "maven2", "org.example", LocalDate.of(2024, 5, 30).toEpochDay() * 86400L, 1024);
+
+        StringWriter stringWriter = new StringWriter();
+        try (ReportWriter reportWriter = new CsvReportWriter(stringWriter)) {
+            reportWriter.writeCrossTab(cube.crossTab(CubeDimension.parseList("repository,age"), GroupsSummary.Metric.COMPONENTS, 10));
+        }
+        assertThat(stringWriter.toString())
+                .contains("\"Repository\",\"Age Range\",\"Components\",\"Total Size\"")
+                .contains("\"test-repo\",\"0-7\",\"1\",\"1024\"");
+    }
+
+    @Test
+    void testJsonReportWriter_multipleReports_shouldKeepWriterOpen() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        try (ReportWriter reportWriter = new JsonReportWriter(stringWriter)) {
+            RepositoryComponentsSummary summary = new RepositoryComponentsSummary();
+            summary.addRepositoryStats("test-repo", "maven2", 10, 1024);
+            reportWriter.writeRepositoryComponentsSummary(summary, SortBy.NAME);
+            reportWriter.writeAgeSummary(new AgeSummary(List.of("0-7")));
+        }
+        assertThat(stringWriter.toString()).contains("test-repo").contains("ageBuckets");
+    }
+
+    @Test
+    void testJsonSizeDistributionWriter() throws IOException {
+        AssetXO small = new AssetXO();
+        small.setFileSize(100L);
+        AssetXO large = new AssetXO();
+        large.setFileSize(10_000L);
+        ComponentXO component = new ComponentXO();
+        component.setAssets(List.of(small, large));
+
+        SizeDistributionSummary summary = new SizeDistributionSummary();
+        summary.addComponent("test-repo", "maven2", component, 10_100L);
+
+        StringWriter stringWriter = new StringWriter();
+        try (ReportWriter reportWriter = new JsonReportWriter(stringWriter)) {
+            reportWriter.writeSizeDistribution(summary);
+        }
+        assertThat(stringWriter.toString())
+                .contains("\"test-repo\"")
+                .contains("\"maven2\"")
+                .contains("\"p99\"")
+                .contains("\"max\" : 10100")
+                .contains("\"max\" : 10000");
+    }
+
     @Test
     void testJsonComponentWriter() throws IOException {
         StringWriter stringWriter = new StringWriter();
@@ -48,6 +149,27 @@ class ReportWriterTest {
         assertThat(stringWriter.toString()).contains("test-repo");
     }
 
+    @Test
+    void testNdjsonReportWriter_shouldWriteOneCompactObjectPerLine() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        try (ReportWriter reportWriter = new NdjsonReportWriter(stringWriter)) {
+            RepositoryComponentsSummary summary = new RepositoryComponentsSummary();
+            summary.addRepositoryStats("test-repo", "maven2", 10, 1024);
+            reportWriter.writeRepositoryComponentsSummary(summary, SortBy.NAME);
+            ComponentXO first = new ComponentXO();
+            first.setRepository("test-repo");
+            first.setName("first");
+            ComponentXO second = new ComponentXO();
+            second.setRepository("test-repo");
+            second.setName("second");
+            reportWriter.writeComponents(List.of(first, second));
+        }
+        String[] lines = stringWriter.toString().split("\n");
+        assertThat(lines).hasSize(3).allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+        assertThat(lines[1]).contains("\"name\":\"first\"");
+        assertThat(lines[2]).contains("\"name\":\"second\"");
+    }
+
     @Test
     void testCsvComponentWriter() throws IOException {
         StringWriter stringWriter = new StringWriter();
@@ -61,4 +183,107 @@ class ReportWriterTest {
         }
         assertThat(stringWriter.toString()).contains("\"test-repo\",\"test-group\",\"test-name\",\"1.0\",\"0\"");
     }
+
+    @Test
+    void testReportWriterFactory_withGzipExtension_shouldWriteCompressedCsv(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("components.csv.gz");
+        try (ReportWriter reportWriter = ReportWriterFactory.create(file.toString())) {
+            assertThat(reportWriter).isInstanceOf(CsvReportWriter.class);
+            ComponentXO component = new ComponentXO();
+            component.setRepository("test-repo");
+            component.setGroup("test-group");
+            component.setName("test-name");
+            component.setVersion("1.0");
+            reportWriter.writeComponents(Collections.singletonList(component));
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("\"test-repo\",\"test-group\",\"test-name\",\"1.0\",\"0\"");
+        }
+    }
+
+    @Test
+    void testParquetReportWriter_shouldWriteComponentsAndSummaryTables(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("report.parquet");
+        AssetXO asset = new AssetXO();
+        asset.setFileSize(2048L);
+        asset.setBlobCreated(OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+        ComponentXO component = new ComponentXO();
+        component.setRepository("test-repo");
+        component.setFormat("maven2");
+        component.setGroup("test-group");
+        component.setName("test-name");
+        component.setVersion("1.0");
+        component.setAssets(List.of(asset));
+        try (ReportWriter reportWriter = ReportWriterFactory.create(file.toString())) {
+            RepositoryComponentsSummary summary = new RepositoryComponentsSummary();
+            summary.addRepositoryStats("test-repo", "maven2", 10, 1024);
+            summary.addRepositoryStats("other-repo", "npm", 5, 512);
+            reportWriter.writeRepositoryComponentsSummary(summary, SortBy.NAME);
+            reportWriter.writeComponents(List.of(component, component));
+        }
+
+        try (ParquetFileReader reader = openParquet(file)) {
+            MessageType schema = reader.getFooter().getFileMetaData().getSchema();
+            assertThat(schema.getFieldCount()).isEqualTo(8);
+            assertThat(schema.getFieldName(0)).isEqualTo("repository");
+            assertThat(reader.getRecordCount()).isEqualTo(2);
+        }
+        try (ParquetFileReader reader = openParquet(tempDir.resolve("report-repositories.parquet"))) {
+            assertThat(reader.getRecordCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testParquetReportWriter_sectionsOnly_shouldListSectionFilesInGivenFile(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("report.parquet");
+        try (ReportWriter reportWriter = ReportWriterFactory.create(file.toString())) {
+            RepositoryComponentsSummary summary = new RepositoryComponentsSummary();
+            summary.addRepositoryStats("test-repo", "maven2", 10, 1024);
+            reportWriter.writeRepositoryComponentsSummary(summary, SortBy.NAME);
+            reportWriter.writeAgeSummary(new AgeSummary(List.of("0-7", ">7")));
+        }
+
+        try (ParquetFileReader reader = openParquet(file)) {
+            MessageType schema = reader.getFooter().getFileMetaData().getSchema();
+            assertThat(schema.getFieldName(0)).isEqualTo("section");
+            assertThat(schema.getFieldName(1)).isEqualTo("file");
+            assertThat(reader.getRecordCount()).isEqualTo(2);
+        }
+        assertThat(tempDir.resolve("report-repositories.parquet")).exists();
+        assertThat(tempDir.resolve("report-age.parquet")).exists();
+    }
+
+    @Test
+    void testParquetReportWriter_streamedPages_shouldWriteSingleComponentsTable(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("components.parquet");
+        ComponentXO component = new ComponentXO();
+        component.setRepository("test-repo");
+        component.setName("test-name");
+        try (ParquetReportWriter reportWriter = new ParquetReportWriter(file)) {
+            reportWriter.openComponents();
+            reportWriter.writeComponentsPage(List.of(component, component));
+            reportWriter.writeComponentsPage(List.of(component));
+        }
+
+        try (ParquetFileReader reader = openParquet(file)) {
+            assertThat(reader.getRecordCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void testParquetReportWriter_streamedWithoutComponents_shouldWriteEmptyTable(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("components.parquet");
+        try (ParquetReportWriter reportWriter = new ParquetReportWriter(file)) {
+            reportWriter.openComponents();
+        }
+
+        try (ParquetFileReader reader = openParquet(file)) {
+            assertThat(reader.getRecordCount()).isZero();
+        }
+    }
+
+    private static ParquetFileReader openParquet(Path file) throws IOException {
+        // Read without Hadoop, like the files are written
+        return ParquetFileReader.open(new LocalInputFile(file), ParquetReadOptions.builder(new PlainParquetConfiguration()).build());
+    }
 }
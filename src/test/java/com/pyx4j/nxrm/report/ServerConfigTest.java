@@ -0,0 +1,79 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for ServerConfig functionality.
+ */
+class ServerConfigTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String serversFile(String json) throws IOException {
+        Path file = tempDir.resolve("servers.json");
+        Files.writeString(file, json);
+        return file.toString();
+    }
+
+    @Test
+    void load_withValidFile_shouldReturnServersInFileOrder() throws IOException {
+        List<ServerConfig> servers = ServerConfig.load(serversFile("""
+                [
+                  { "name": "eu", "url": "https://nexus-eu.example.com", "token": "secret", "concurrency": 8 },
+                  { "name": "us", "url": "https://nexus-us.example.com", "proxy": "proxy.example.com:8080" }
+                ]
+                """));
+
+        assertThat(servers).extracting(ServerConfig::getName).containsExactly("eu", "us");
+        assertThat(servers.get(0).getToken()).isEqualTo("secret");
+        assertThat(servers.get(0).getConcurrency()).isEqualTo(8);
+        assertThat(servers.get(1).getProxy()).isEqualTo("proxy.example.com:8080");
+        assertThat(servers.get(1).getConcurrency()).isNull();
+    }
+
+    @Test
+    void load_withDuplicateNames_shouldThrowException() throws IOException {
+        String file = serversFile("""
+                [ { "name": "eu", "url": "https://a.example.com" }, { "name": "eu", "url": "https://b.example.com" } ]
+                """);
+
+        assertThatThrownBy(() -> ServerConfig.load(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate server name");
+    }
+
+    @Test
+    void load_withoutServers_shouldThrowException() throws IOException {
+        String file = serversFile("[]");
+
+        assertThatThrownBy(() -> ServerConfig.load(file))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void validate_withMissingUrlOrInvalidConcurrency_shouldThrowException() {
+        ServerConfig server = new ServerConfig();
+        server.setName("eu");
+        assertThatThrownBy(server::validate)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("has no URL");
+
+        server.setUrl("https://nexus-eu.example.com");
+        server.setConcurrency(0);
+        assertThatThrownBy(server::validate)
+                .isInstanceOf(IllegalArgumentException.class);
+
+        server.setConcurrency(4);
+        server.validate();
+    }
+}
@@ -0,0 +1,52 @@
+package com.pyx4j.nxrm.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for Shard functionality.
+ */
+class ShardTest {
+
+    private static final List<String> REPOSITORIES = List.of("maven-releases", "maven-snapshots", "npm-hosted", "pypi-proxy", "raw-hosted", "docker-hosted");
+
+    @Test
+    void contains_shouldAssignEveryRepositoryToExactlyOneShard() {
+        for (int count = 1; count <= 5; count++) {
+            for (String repository : REPOSITORIES) {
+                int owners = 0;
+                for (int number = 1; number <= count; number++) {
+                    if (new Shard(number, count).contains(repository)) {
+                        owners++;
+                    }
+                }
+                assertThat(owners).as("Shards of %s in %d shards", repository, count).isEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    void parse_withValidShard_shouldReturnShard() {
+        Shard shard = Shard.parse(" 2/4 ");
+
+        assertThat(shard.getNumber()).isEqualTo(2);
+        assertThat(shard.getCount()).isEqualTo(4);
+        assertThat(shard).hasToString("2/4");
+    }
+
+    @Test
+    void parse_withInvalidShard_shouldThrowException() {
+        assertThatThrownBy(() -> Shard.parse("0/4"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Shard.parse("5/4"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Shard.parse("a/4"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Shard.parse("2"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
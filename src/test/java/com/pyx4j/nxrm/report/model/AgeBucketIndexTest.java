@@ -0,0 +1,70 @@
+package com.pyx4j.nxrm.report.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AgeBucketIndex functionality.
+ */
+class AgeBucketIndexTest {
+
+    @Test
+    void bucketIndexOf_withContiguousBuckets_shouldFindBucket() {
+        AgeBucketIndex index = new AgeBucketIndex(buckets("0-7", "8-30", "31-90", ">90"));
+
+        assertThat(index.bucketIndexOf(0)).isEqualTo(0);
+        assertThat(index.bucketIndexOf(7)).isEqualTo(0);
+        assertThat(index.bucketIndexOf(8)).isEqualTo(1);
+        assertThat(index.bucketIndexOf(30)).isEqualTo(1);
+        assertThat(index.bucketIndexOf(31)).isEqualTo(2);
+        assertThat(index.bucketIndexOf(91)).isEqualTo(3);
+        assertThat(index.bucketIndexOf(100_000)).isEqualTo(3);
+    }
+
+    @Test
+    void bucketIndexOf_withGapsAndNegativeAge_shouldReturnNoBucket() {
+        AgeBucketIndex index = new AgeBucketIndex(buckets("0-7", "8-30", ">365"));
+
+        assertThat(index.bucketIndexOf(-1)).isEqualTo(AgeBucketIndex.NO_BUCKET);
+        assertThat(index.bucketIndexOf(31)).isEqualTo(AgeBucketIndex.NO_BUCKET);
+        assertThat(index.bucketIndexOf(365)).isEqualTo(AgeBucketIndex.NO_BUCKET);
+        assertThat(index.bucketIndexOf(366)).isEqualTo(2);
+    }
+
+    @Test
+    void bucketIndexOf_withOverlappingBuckets_shouldUseFirstMatchingBucket() {
+        AgeBucketIndex index = new AgeBucketIndex(buckets("10-20", "0-30", ">15"));
+
+        assertThat(index.bucketIndexOf(5)).isEqualTo(1);
+        assertThat(index.bucketIndexOf(10)).isEqualTo(0);
+        assertThat(index.bucketIndexOf(20)).isEqualTo(0);
+        assertThat(index.bucketIndexOf(21)).isEqualTo(1);
+        assertThat(index.bucketIndexOf(31)).isEqualTo(2);
+    }
+
+    @Test
+    void bucketIndexOf_shouldMatchLinearScan() {
+        List<AgeBucket> buckets = buckets("0-14", "15-30", "20-180", ">180");
+        AgeBucketIndex index = new AgeBucketIndex(buckets);
+
+        for (int days = -5; days < 400; days++) {
+            int expected = AgeBucketIndex.NO_BUCKET;
+            for (int i = 0; i < buckets.size(); i++) {
+                if (buckets.get(i).contains(days)) {
+                    expected = i;
+                    break;
+                }
+            }
+            assertThat(index.bucketIndexOf(days)).as("Age %d days", days).isEqualTo(expected);
+        }
+    }
+
+    private static List<AgeBucket> buckets(String... ranges) {
+        return Stream.of(ranges).map(AgeBucket::new).collect(Collectors.toList());
+    }
+}
@@ -3,6 +3,7 @@ package com.pyx4j.nxrm.report.model;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Arrays;
@@ -221,6 +222,40 @@ class AgeSummaryTest {
                 .isInstanceOf(UnsupportedOperationException.class);
     }
 
+    @Test
+    void addComponent_withReferenceDate_shouldMeasureAgeInCalendarDays() {
+        List<String> ranges = Arrays.asList("0-0", "1-7", ">7");
+        AgeSummary summary = new AgeSummary(ranges, LocalDate.of(2024, 6, 10));
+
+        // Same calendar day, one minute before the reference date ends
+        summary.addComponent(createComponentWithAsset(OffsetDateTime.of(2024, 6, 10, 23, 59, 0, 0, ZoneOffset.UTC)), 100);
+        // Previous calendar day, only one minute before the reference date
+        summary.addComponent(createComponentWithAsset(OffsetDateTime.of(2024, 6, 9, 23, 59, 0, 0, ZoneOffset.UTC)), 200);
+        // Non UTC offsets are normalized to the UTC day
+        summary.addComponent(createComponentWithAsset(OffsetDateTime.of(2024, 6, 3, 1, 0, 0, 0, ZoneOffset.ofHours(2))), 400);
+
+        assertThat(summary.getAgeBuckets().get(0).getSizeBytes()).isEqualTo(100);
+        assertThat(summary.getAgeBuckets().get(1).getSizeBytes()).isEqualTo(200);
+        assertThat(summary.getAgeBuckets().get(2).getSizeBytes()).isEqualTo(400);
+        assertThat(summary.getReferenceEpochDay()).isEqualTo(LocalDate.of(2024, 6, 10).toEpochDay());
+    }
+
+    @Test
+    void addComponentCreatedAt_withEpochSeconds_shouldCategorizeCorrectly() {
+        List<String> ranges = Arrays.asList("0-7", "8-30", ">365");
+        AgeSummary summary = new AgeSummary(ranges, LocalDate.of(2024, 6, 10));
+
+        long created = OffsetDateTime.of(2024, 5, 20, 12, 0, 0, 0, ZoneOffset.UTC).toEpochSecond();
+        summary.addComponentCreatedAt(created, 2048);
+        // Falls in the gap between 30 and 366 days
+        summary.addComponentCreatedAt(OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toEpochSecond(), 4096);
+
+        assertThat(summary.ageInDays(created)).isEqualTo(21);
+        assertThat(summary.getAgeBuckets().get(1).getComponentCount()).isEqualTo(1);
+        assertThat(summary.getTotalComponents()).isEqualTo(1);
+        assertThat(summary.getTotalSizeBytes()).isEqualTo(2048);
+    }
+
     private ComponentXO createComponentWithAsset(OffsetDateTime blobCreated) {
         ComponentXO component = new ComponentXO();
         AssetXO asset = new AssetXO();
@@ -0,0 +1,226 @@
+package com.pyx4j.nxrm.report.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AggregationCube functionality.
+ */
+class AggregationCubeTest {
+
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2024, 6, 1);
+
+    private static final long SECONDS_PER_DAY = 86400L;
+
+    private AggregationCube cube;
+
+    @BeforeEach
+    void setUp() {
+        cube = new AggregationCube(List.of("0-7", "8-30", ">30"), REFERENCE_DATE, true);
+        cube.addComponent("maven-releases", "maven2", "org.a", daysAgo(2), 100);
+        cube.addComponent("maven-releases", "maven2", "org.b", daysAgo(20), 200);
+        cube.addComponent("maven-releases", "maven2", "org.b", daysAgo(20), 50);
+        cube.addComponent("npm-hosted", "npm", null, daysAgo(100), 10);
+        cube.addComponent("raw-hosted", null, null, Long.MAX_VALUE, 5);
+    }
+
+    private static long daysAgo(int days) {
+        return (REFERENCE_DATE.toEpochDay() - days) * SECONDS_PER_DAY;
+    }
+
+    @Test
+    void addComponent_sameCoordinates_shouldShareCell() {
+        // Four day cells and two group cells, components without group have no group cell
+        assertThat(cube.getCellCount()).isEqualTo(6);
+    }
+
+    @Test
+    void addComponent_manyDaysPerGroup_shouldKeepGroupCellsPerAgeBucket() {
+        AggregationCube longTail = new AggregationCube(List.of("0-7", "8-30", ">30"), REFERENCE_DATE, true);
+        for (int group = 0; group < 100; group++) {
+            for (int day = 0; day < 1000; day++) {
+                longTail.addComponent("maven-proxy", "maven2", "org.group" + group, daysAgo(day), 1);
+            }
+        }
+
+        // One day cell per day of the repository, one group cell per age bucket of every group
+        assertThat(longTail.getCellCount()).isEqualTo(1000 + 100 * 3);
+        assertThat(longTail.toGroupsSummary().getGroupStats().get("org.group7").getComponentCount()).isEqualTo(1000);
+        CrossTab crossTab = longTail.crossTab(CubeDimension.parseList("group,age"), GroupsSummary.Metric.COMPONENTS, 1);
+        assertThat(crossTab.getRows()).extracting(CrossTab.Row::getComponentCount).containsExactly(969L, 23L, 8L);
+    }
+
+    @Test
+    void toRepositoryComponentsSummary_shouldRollUpRepositories() {
+        RepositoryComponentsSummary summary = cube.toRepositoryComponentsSummary();
+
+        assertThat(summary.getRepositoryStats()).containsOnlyKeys("maven-releases", "npm-hosted", "raw-hosted");
+        assertThat(summary.getRepositoryStats().get("maven-releases").getComponentCount()).isEqualTo(3);
+        assertThat(summary.getRepositoryStats().get("maven-releases").getSizeBytes()).isEqualTo(350);
+        assertThat(summary.getRepositoryStats().get("raw-hosted").getFormat()).isEqualTo("-");
+        assertThat(summary.getTotalComponents()).isEqualTo(5);
+        assertThat(summary.getTotalSizeBytes()).isEqualTo(365);
+    }
+
+    @Test
+    void toGroupsSummary_shouldSkipComponentsWithoutGroup() {
+        GroupsSummary summary = cube.toGroupsSummary();
+
+        assertThat(summary.getGroupStats()).containsOnlyKeys("org.a", "org.b");
+        assertThat(summary.getGroupStats().get("org.b").getComponentCount()).isEqualTo(2);
+        assertThat(summary.getGroupStats().get("org.b").getSizeBytes()).isEqualTo(250);
+    }
+
+    @Test
+    void toAgeSummary_shouldSkipComponentsWithoutCreationDate() {
+        AgeSummary summary = cube.toAgeSummary();
+
+        assertThat(summary.getAgeBuckets()).extracting(AgeBucket::getComponentCount).containsExactly(1L, 2L, 1L);
+        assertThat(summary.getAgeBuckets()).extracting(AgeBucket::getSizeBytes).containsExactly(100L, 250L, 10L);
+        assertThat(summary.getTotalComponents()).isEqualTo(4);
+    }
+
+    @Test
+    void crossTab_byRepositoryAndAge_shouldReturnSortedRows() {
+        CrossTab crossTab = cube.crossTab(CubeDimension.parseList("repository,age"), GroupsSummary.Metric.COMPONENTS, 10);
+
+        assertThat(crossTab.getDimensions()).containsExactly(CubeDimension.REPOSITORY, CubeDimension.AGE_BUCKET);
+        assertThat(crossTab.getRows()).extracting(CrossTab.Row::getValues).containsExactly(
+                List.of("maven-releases", "0-7"),
+                List.of("maven-releases", "8-30"),
+                List.of("npm-hosted", ">30"));
+        assertThat(crossTab.getRows()).extracting(CrossTab.Row::getComponentCount).containsExactly(1L, 2L, 1L);
+    }
+
+    @Test
+    void crossTab_byFormat_shouldIncludeMissingFormat() {
+        CrossTab crossTab = cube.crossTab(List.of(CubeDimension.FORMAT), GroupsSummary.Metric.SIZE, 10);
+
+        assertThat(crossTab.getRows()).extracting(CrossTab.Row::getValues)
+                .containsExactly(List.of("-"), List.of("maven2"), List.of("npm"));
+        assertThat(crossTab.getRows()).extracting(CrossTab.Row::getSizeBytes).containsExactly(5L, 350L, 10L);
+    }
+
+    @Test
+    void crossTab_byRepositoryAndGroup_shouldKeepTopGroupsPerRepository() {
+        cube.addComponent("npm-hosted", "npm", "@scope", daysAgo(1), 1);
+
+        CrossTab crossTab = cube.crossTab(CubeDimension.parseList("repository,group"), GroupsSummary.Metric.COMPONENTS, 1);
+
+        assertThat(crossTab.getRows()).extracting(CrossTab.Row::getValues).containsExactly(
+                List.of("maven-releases", "org.b"),
+                List.of("npm-hosted", "@scope"));
+    }
+
+    @Test
+    void crossTab_byGroupWithoutGroups_shouldThrowException() {
+        AggregationCube withoutGroups = new AggregationCube(List.of("0-7"), REFERENCE_DATE, false);
+
+        assertThatThrownBy(() -> withoutGroups.crossTab(List.of(CubeDimension.GROUP), GroupsSummary.Metric.COMPONENTS, 10))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void parseList_withDuplicateOrInvalidDimension_shouldThrowException() {
+        assertThat(CubeDimension.parseList("Repository, AGE")).containsExactly(CubeDimension.REPOSITORY, CubeDimension.AGE_BUCKET);
+        assertThatThrownBy(() -> CubeDimension.parseList("repository,repository"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate cross-tab dimension");
+        assertThatThrownBy(() -> CubeDimension.parseList("version"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cross-tab dimension");
+    }
+
+    @Test
+    void toGrowthSummary_byMonth_shouldReturnDenseSeries() {
+        GrowthSummary summary = cube.toGrowthSummary(GrowthPeriod.MONTH);
+
+        assertThat(summary.getPeriods()).containsExactly("2024-02", "2024-03", "2024-04", "2024-05", "2024-06");
+        assertThat(summary.getTotal().getComponentCounts()).containsExactly(1, 0, 0, 3, 0);
+        assertThat(summary.getTotal().getSizeBytes()).containsExactly(10, 0, 0, 350, 0);
+        assertThat(summary.getTotal().getCumulativeSizeBytes()).containsExactly(10, 10, 10, 360, 360);
+        assertThat(summary.getRepositorySeries()).containsOnlyKeys("maven-releases", "npm-hosted");
+        assertThat(summary.getRepositorySeries().get("maven-releases").getFormat()).isEqualTo("maven2");
+        assertThat(summary.getRepositorySeries().get("maven-releases").getComponentCounts()).containsExactly(0, 0, 0, 3, 0);
+        assertThat(summary.getUndatedComponents()).isEqualTo(1);
+        assertThat(summary.getUndatedSizeBytes()).isEqualTo(5);
+    }
+
+    @Test
+    void toGrowthSummary_byWeek_shouldUseIsoWeeks() {
+        GrowthSummary summary = cube.toGrowthSummary(GrowthPeriod.WEEK);
+
+        assertThat(summary.getPeriods()).hasSize(15);
+        assertThat(summary.getPeriods().get(0)).isEqualTo("2024-W08");
+        assertThat(summary.getPeriods().get(14)).isEqualTo("2024-W22");
+        assertThat(summary.getTotal().getComponentCounts()[11]).isEqualTo(2);
+        assertThat(summary.getTotal().getComponentCounts()[14]).isEqualTo(1);
+    }
+
+    @Test
+    void merge_withOverlappingCells_shouldAddCountsAndTranslateIds() {
+        AggregationCube other = new AggregationCube(List.of("0-7", "8-30", ">30"), REFERENCE_DATE.minusDays(3), true);
+        other.addComponent("go-proxy", "go", "example.com", daysAgo(1), 40);
+        other.addComponent("maven-releases", "maven2", "org.b", daysAgo(20), 25);
+
+        cube.merge(other);
+
+        assertThat(cube.getCellCount()).isEqualTo(8);
+        RepositoryComponentsSummary summary = cube.toRepositoryComponentsSummary();
+        assertThat(summary.getRepositoryStats().get("maven-releases").getSizeBytes()).isEqualTo(375);
+        assertThat(summary.getRepositoryStats().get("go-proxy").getFormat()).isEqualTo("go");
+        assertThat(cube.toGroupsSummary().getGroupStats().get("org.b").getComponentCount()).isEqualTo(3);
+        assertThat(cube.toAgeSummary().getAgeBuckets().get(0).getSizeBytes()).isEqualTo(140);
+
+        AggregationCube withoutGroups = new AggregationCube(List.of(">0"), REFERENCE_DATE, false);
+        assertThatThrownBy(() -> cube.merge(withoutGroups))
+                .isInstanceOf(IllegalArgumentException.class);
+        AggregationCube otherBuckets = new AggregationCube(List.of(">0"), REFERENCE_DATE, true);
+        assertThatThrownBy(() -> cube.merge(otherBuckets))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("age buckets");
+    }
+
+    @Test
+    void mergePartial_afterWritePartial_shouldRestoreAllCells() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        cube.writePartial(new DataOutputStream(bytes));
+        AggregationCube merged = new AggregationCube(List.of("0-7", "8-30", ">30"), REFERENCE_DATE, true);
+        merged.addComponent("npm-hosted", "npm", "@scope", daysAgo(1), 1);
+
+        merged.mergePartial(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(merged.getCellCount()).isEqualTo(8);
+        RepositoryComponentsSummary summary = merged.toRepositoryComponentsSummary();
+        assertThat(summary.getTotalComponents()).isEqualTo(6);
+        assertThat(summary.getRepositoryStats().get("npm-hosted").getSizeBytes()).isEqualTo(11);
+        assertThat(summary.getRepositoryStats().get("raw-hosted").getFormat()).isEqualTo("-");
+        assertThat(merged.toGroupsSummary().getGroupStats()).containsOnlyKeys("org.a", "org.b", "@scope");
+        assertThat(merged.toAgeSummary().getTotalComponents()).isEqualTo(5);
+    }
+
+    @Test
+    void growthPeriod_shouldMapDaysToPeriodStart() {
+        int week = GrowthPeriod.WEEK.indexOf(LocalDate.of(2024, 1, 3).toEpochDay());
+        assertThat(GrowthPeriod.WEEK.startOf(week)).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(GrowthPeriod.WEEK.labelOf(week)).isEqualTo("2024-W01");
+
+        int month = GrowthPeriod.MONTH.indexOf(LocalDate.of(2023, 12, 31).toEpochDay());
+        assertThat(GrowthPeriod.MONTH.startOf(month)).isEqualTo(LocalDate.of(2023, 12, 1));
+        assertThat(GrowthPeriod.MONTH.labelOf(month + 1)).isEqualTo("2024-01");
+
+        assertThatThrownBy(() -> GrowthPeriod.parse("year"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.pyx4j.nxrm.report.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.sonatype.nexus.model.AssetXO;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Unit tests for DownloadRecencySummary functionality.
+ */
+class DownloadRecencySummaryTest {
+
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2024, 6, 1);
+
+    private static long daysAgo(int days) {
+        return REFERENCE_DATE.minusDays(days).atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+    }
+
+    @Test
+    void addComponentDownloadedAt_shouldBucketAndTotalReclaimable() {
+        DownloadRecencySummary summary = new DownloadRecencySummary(List.of("0-30", "31-90", ">90"), REFERENCE_DATE, 90);
+
+        summary.addComponentDownloadedAt("maven-releases", "maven2", daysAgo(1), 100);
+        summary.addComponentDownloadedAt("maven-releases", "maven2", daysAgo(90), 200);
+        summary.addComponentDownloadedAt("maven-releases", "maven2", daysAgo(91), 400);
+        summary.addComponentDownloadedAt("npm-hosted", "npm", DownloadRecencySummary.NEVER_DOWNLOADED, 800);
+
+        assertThat(summary.getDownloadBuckets()).extracting(AgeBucket::getComponentCount).containsExactly(1L, 1L, 1L);
+        assertThat(summary.getNeverDownloadedComponents()).isEqualTo(1);
+        assertThat(summary.getNeverDownloadedSizeBytes()).isEqualTo(800);
+
+        assertThat(summary.getTotalComponents()).isEqualTo(4);
+        assertThat(summary.getReclaimableComponents()).isEqualTo(2);
+        assertThat(summary.getReclaimableSizeBytes()).isEqualTo(1200);
+
+        ReclaimableStats maven = summary.getRepositoryStats().get("maven-releases");
+        assertThat(maven.getComponentCount()).isEqualTo(3);
+        assertThat(maven.getReclaimableBytes()).isEqualTo(400);
+        assertThat(summary.getRepositoryStats().get("npm-hosted").getReclaimableBytes()).isEqualTo(800);
+    }
+
+    @Test
+    void merge_withSameBuckets_shouldAddBucketsAndRepositoryStats() {
+        DownloadRecencySummary summary = new DownloadRecencySummary(List.of("0-30", ">30"), REFERENCE_DATE, 90);
+        summary.addComponentDownloadedAt("maven-releases", "maven2", daysAgo(1), 100);
+        DownloadRecencySummary other = new DownloadRecencySummary(List.of("0-30", ">30"), REFERENCE_DATE, 90);
+        other.addComponentDownloadedAt("maven-releases", "maven2", daysAgo(100), 200);
+        other.addComponentDownloadedAt("npm-hosted", "npm", DownloadRecencySummary.NEVER_DOWNLOADED, 400);
+
+        summary.merge(other);
+
+        assertThat(summary.getDownloadBuckets()).extracting(AgeBucket::getComponentCount).containsExactly(1L, 1L);
+        assertThat(summary.getNeverDownloadedSizeBytes()).isEqualTo(400);
+        assertThat(summary.getTotalComponents()).isEqualTo(3);
+        assertThat(summary.getReclaimableSizeBytes()).isEqualTo(600);
+        ReclaimableStats maven = summary.getRepositoryStats().get("maven-releases");
+        assertThat(maven.getComponentCount()).isEqualTo(2);
+        assertThat(maven.getReclaimableBytes()).isEqualTo(200);
+
+        DownloadRecencySummary otherBuckets = new DownloadRecencySummary(List.of("0-90", ">90"), REFERENCE_DATE, 90);
+        assertThatThrownBy(() -> summary.merge(otherBuckets))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getLatestDownloadEpochSecond_shouldUseMostRecentAsset() {
+        AssetXO old = new AssetXO();
+        old.setLastDownloaded(OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+        AssetXO recent = new AssetXO();
+        recent.setLastDownloaded(OffsetDateTime.of(2024, 5, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+        AssetXO never = new AssetXO();
+
+        ComponentXO component = new ComponentXO();
+        component.setAssets(List.of(old, recent, never));
+        assertThat(DownloadRecencySummary.getLatestDownloadEpochSecond(component))
+                .isEqualTo(recent.getLastDownloaded().toEpochSecond());
+
+        ComponentXO neverDownloaded = new ComponentXO();
+        neverDownloaded.setAssets(List.of(never));
+        assertThat(DownloadRecencySummary.getLatestDownloadEpochSecond(neverDownloaded))
+                .isEqualTo(DownloadRecencySummary.NEVER_DOWNLOADED);
+    }
+
+    @Test
+    void downloadRecencySummary_withInvalidArguments_shouldThrowException() {
+        assertThatThrownBy(() -> new DownloadRecencySummary(List.of(), REFERENCE_DATE, 90))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Download bucket ranges cannot be empty");
+        assertThatThrownBy(() -> new DownloadRecencySummary(List.of("0-30"), REFERENCE_DATE, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Reclaimable days cannot be negative");
+    }
+}
@@ -0,0 +1,84 @@
+package com.pyx4j.nxrm.report.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.sonatype.nexus.model.AssetXO;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Unit tests for DuplicateDetector functionality.
+ */
+class DuplicateDetectorTest {
+
+    private static final String SHA1_A = "a94a8fe5ccb19ba61c4c0873d391e987982fbbd3";
+
+    private static final String SHA1_B = "da39a3ee5e6b4b0d3255bfef95601890afd80709";
+
+    private static final String SHA1_C = "7c4a8d09ca3762af61e59520943dc26494f8941b";
+
+    @Test
+    void summarize_withSpilledRuns_shouldCountDuplicatesPerRepositoryPair() throws IOException {
+        try (DuplicateDetector detector = new DuplicateDetector(2)) {
+            detector.addAsset("maven-releases", SHA1_A, "org/example/lib/1.0/lib-1.0.jar", 1000);
+            detector.addAsset("maven-copy", SHA1_A, "org/example/lib/1.0/lib-1.0.jar", 1000);
+            detector.addAsset("maven-copy", SHA1_A, "org/example/lib-copy/1.0/lib-copy-1.0.jar", 1000);
+            detector.addAsset("npm-hosted", SHA1_B, "lib/-/lib-1.0.tgz", 50);
+            detector.addAsset("maven-releases", SHA1_B, "org/example/lib/1.0/lib-1.0.tgz", 50);
+            detector.addAsset("npm-hosted", SHA1_C, "unique/-/unique-1.0.tgz", 7);
+
+            DuplicatesSummary summary = detector.summarize(10);
+
+            assertThat(summary.getTotalAssets()).isEqualTo(6);
+            assertThat(summary.getDuplicatedBlobs()).isEqualTo(2);
+            assertThat(summary.getRedundantCopies()).isEqualTo(3);
+            assertThat(summary.getWastedBytes()).isEqualTo(2050);
+
+            assertThat(summary.getRepositoryPairs())
+                    .extracting(DuplicatesSummary.RepositoryPair::getRepositoryA,
+                            DuplicatesSummary.RepositoryPair::getRepositoryB,
+                            DuplicatesSummary.RepositoryPair::getDuplicatedBytes)
+                    .containsExactly(
+                            tuple("maven-copy", "maven-copy", 1000L),
+                            tuple("maven-copy", "maven-releases", 1000L),
+                            tuple("maven-releases", "npm-hosted", 50L));
+
+            assertThat(summary.getTopArtifacts()).hasSize(2);
+            DuplicatesSummary.DuplicateArtifact top = summary.getTopArtifacts().get(0);
+            assertThat(top.getChecksum()).isEqualTo(SHA1_A.substring(0, 32));
+            assertThat(top.getCopies()).isEqualTo(3);
+            assertThat(top.getWastedBytes()).isEqualTo(2000);
+            assertThat(top.getRepositories()).containsExactly("maven-copy", "maven-releases");
+        }
+    }
+
+    @Test
+    void addComponent_shouldPreferSha1AndIgnoreAssetsWithoutChecksum() throws IOException {
+        AssetXO withSha1 = new AssetXO();
+        withSha1.setPath("a.jar");
+        withSha1.setFileSize(10L);
+        withSha1.setChecksum(Map.of("sha1", SHA1_A, "md5", "098f6bcd4621d373cade4e832627b4f6"));
+        AssetXO withoutChecksum = new AssetXO();
+        withoutChecksum.setPath("b.jar");
+        withoutChecksum.setFileSize(10L);
+        ComponentXO component = new ComponentXO();
+        component.setAssets(List.of(withSha1, withoutChecksum));
+
+        try (DuplicateDetector detector = new DuplicateDetector()) {
+            detector.addComponent("maven-releases", component);
+            detector.addComponent("maven-copy", component);
+            detector.addAsset("maven-copy", "not-a-checksum", "c.jar", 10);
+
+            DuplicatesSummary summary = detector.summarize(10);
+
+            assertThat(detector.getAssetCount()).isEqualTo(2);
+            assertThat(summary.getDuplicatedBlobs()).isEqualTo(1);
+            assertThat(summary.getTopArtifacts().get(0).getChecksum()).isEqualTo(SHA1_A.substring(0, 32));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.pyx4j.nxrm.report.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ExternalSorter functionality.
+ */
+class ExternalSorterTest {
+
+    private static final ExternalSorter.Codec<Long> LONG_CODEC = new ExternalSorter.Codec<>() {
+
+        @Override
+        public void write(DataOutput out, Long value) throws IOException {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    @Test
+    void forEachSorted_withSpilledRuns_shouldMergeInOrder() throws IOException {
+        Random random = new Random(7);
+        List<Long> expected = new ArrayList<>();
+        List<Long> actual = new ArrayList<>();
+
+        try (ExternalSorter<Long> sorter = new ExternalSorter<>(Comparator.naturalOrder(), LONG_CODEC, 100)) {
+            for (int i = 0; i < 1050; i++) {
+                long value = random.nextInt(500);
+                expected.add(value);
+                sorter.add(value);
+            }
+
+            assertThat(sorter.getRunCount()).isEqualTo(10);
+            assertThat(sorter.size()).isEqualTo(1050);
+            sorter.forEachSorted(actual::add);
+        }
+
+        expected.sort(Comparator.naturalOrder());
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void forEachSorted_withoutSpill_shouldSortInMemory() throws IOException {
+        List<Long> actual = new ArrayList<>();
+
+        try (ExternalSorter<Long> sorter = new ExternalSorter<>(Comparator.reverseOrder(), LONG_CODEC, 100)) {
+            sorter.add(1L);
+            sorter.add(3L);
+            sorter.add(2L);
+
+            assertThat(sorter.getRunCount()).isZero();
+            sorter.forEachSorted(actual::add);
+        }
+
+        assertThat(actual).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void externalSorter_withInvalidBufferSize_shouldThrowException() {
+        assertThatThrownBy(() -> new ExternalSorter<>(Comparator.<Long>naturalOrder(), LONG_CODEC, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("In-memory buffer size must be positive");
+    }
+
+    @Test
+    void sortedIterator_withSpilledRuns_shouldIterateInOrder() throws IOException {
+        List<Long> actual = new ArrayList<>();
+
+        try (ExternalSorter<Long> sorter = new ExternalSorter<>(Comparator.naturalOrder(), LONG_CODEC, 3)) {
+            for (long value : new long[]{9, 3, 7, 1, 8, 2, 5}) {
+                sorter.add(value);
+            }
+            try (ExternalSorter.SortedIterator<Long> iterator = sorter.sortedIterator()) {
+                while (iterator.hasNext()) {
+                    actual.add(iterator.next());
+                }
+                assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+            }
+        }
+
+        assertThat(actual).containsExactly(1L, 2L, 3L, 5L, 7L, 8L, 9L);
+    }
+}
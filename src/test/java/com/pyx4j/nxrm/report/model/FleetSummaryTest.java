@@ -0,0 +1,35 @@
+package com.pyx4j.nxrm.report.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for FleetSummary functionality.
+ */
+class FleetSummaryTest {
+
+    @Test
+    void addServerStats_shouldSumTotalsAndCountFailedServers() {
+        FleetSummary summary = new FleetSummary();
+        summary.addServerStats("eu", new FleetSummary.ServerStats("https://nexus-eu.example.com", 3, 100, 2048, 1500, null));
+        summary.addServerStats("us", new FleetSummary.ServerStats("https://nexus-us.example.com", 2, 50, 1024, 900, null));
+        summary.addServerStats("ap", new FleetSummary.ServerStats("https://nexus-ap.example.com", 0, 0, 0, 20, "Connection refused"));
+
+        assertThat(summary.getServerStats().keySet()).containsExactly("eu", "us", "ap");
+        assertThat(summary.getTotalRepositories()).isEqualTo(5);
+        assertThat(summary.getTotalComponents()).isEqualTo(150);
+        assertThat(summary.getTotalSizeBytes()).isEqualTo(3072);
+        assertThat(summary.getFailedServers()).isEqualTo(1);
+    }
+
+    @Test
+    void addServerStats_withDuplicateName_shouldThrowException() {
+        FleetSummary summary = new FleetSummary();
+        summary.addServerStats("eu", new FleetSummary.ServerStats("https://nexus-eu.example.com", 1, 1, 1, 1, null));
+
+        assertThatThrownBy(() -> summary.addServerStats("eu", new FleetSummary.ServerStats("https://other.example.com", 1, 1, 1, 1, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
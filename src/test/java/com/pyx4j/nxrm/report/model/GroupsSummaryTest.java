@@ -3,6 +3,9 @@ package com.pyx4j.nxrm.report.model;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -79,4 +82,82 @@ class GroupsSummaryTest {
         assertThatThrownBy(() -> groupStats.put("test", new GroupStats()))
                 .isInstanceOf(UnsupportedOperationException.class);
     }
+
+    @Test
+    void approximate_withFewerGroupsThanCapacity_shouldBeExact() {
+        GroupsSummary summary = new GroupsSummary(10, GroupsSummary.Metric.COMPONENTS);
+
+        summary.addGroupStats("org.springframework", 50, 512000);
+        summary.addGroupStats("com.example", 30, 256000);
+        summary.addGroupStats("org.springframework", 20, 1000);
+
+        assertThat(summary.isApproximate()).isTrue();
+        assertThat(summary.getGroupStats()).hasSize(2);
+        assertThat(summary.getGroupStats().get("org.springframework").getComponentCount()).isEqualTo(70);
+        assertThat(summary.getGroupStats().get("org.springframework").getError()).isZero();
+        assertThat(summary.getTotalComponents()).isEqualTo(100);
+    }
+
+    @Test
+    void approximate_withMoreGroupsThanCapacity_shouldKeepHeavyHittersWithinErrorBound() {
+        GroupsSummary summary = new GroupsSummary(5, GroupsSummary.Metric.COMPONENTS);
+        Map<String, Long> truth = new HashMap<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            // Two heavy groups and a long tail of small groups
+            String groupName = i % 3 == 0 ? "org.heavy" : i % 3 == 1 ? "com.heavy" : "tail." + i;
+            truth.merge(groupName, 1L, Long::sum);
+            summary.addGroupStats(groupName, 1, 100);
+        }
+
+        assertThat(summary.getGroupStats()).hasSize(5).containsKeys("org.heavy", "com.heavy");
+        assertThat(summary.getTotalComponents()).isEqualTo(10_000);
+        summary.getGroupStats().forEach((groupName, stats) -> {
+            long trueCount = truth.get(groupName);
+            assertThat(stats.getComponentCount()).as("Group %s should not be underestimated", groupName).isGreaterThanOrEqualTo(trueCount);
+            assertThat(stats.getComponentCount() - stats.getError()).as("Group %s error bound", groupName).isLessThanOrEqualTo(trueCount);
+            assertThat(stats.getError()).isLessThanOrEqualTo(summary.getApproximateErrorBound());
+        });
+    }
+
+    @Test
+    void approximate_withHeavyGroupAddedFirst_shouldEvictSmallestGroup() {
+        GroupsSummary summary = new GroupsSummary(2, GroupsSummary.Metric.COMPONENTS);
+
+        // The heavy group is the first leaf, the later small groups must move up to the root
+        summary.addGroupStats("org.heavy", 100, 1000);
+        summary.addGroupStats("com.small", 1, 10);
+        summary.addGroupStats("net.small", 1, 10);
+
+        assertThat(summary.getGroupStats()).hasSize(2).containsKeys("org.heavy", "net.small");
+        assertThat(summary.getGroupStats().get("org.heavy").getComponentCount()).isEqualTo(100);
+        assertThat(summary.getGroupStats().get("org.heavy").getError()).isZero();
+        assertThat(summary.getGroupStats().get("net.small").getError()).isEqualTo(1);
+        assertThat(summary.getGroupStats().get("net.small").getSizeBytes()).isEqualTo(10);
+        assertThat(summary.getGroupStats().get("net.small").isSizeBytesKnown()).isFalse();
+        assertThat(summary.getGroupStats().get("org.heavy").isSizeBytesKnown()).isTrue();
+    }
+
+    @Test
+    void approximate_withSizeMetric_shouldRankBySize() {
+        GroupsSummary summary = new GroupsSummary(1, GroupsSummary.Metric.SIZE);
+
+        summary.addGroupStats("many.small", 100, 1000);
+        summary.addGroupStats("few.large", 1, 5000);
+
+        assertThat(summary.getGroupStats()).containsOnlyKeys("few.large");
+        assertThat(summary.getGroupStats().get("few.large").getSizeBytes()).isEqualTo(6000);
+        assertThat(summary.getGroupStats().get("few.large").getError()).isEqualTo(1000);
+        // The component count of the evicted group is not inherited
+        assertThat(summary.getGroupStats().get("few.large").getComponentCount()).isEqualTo(1);
+        assertThat(summary.getGroupStats().get("few.large").isComponentCountKnown()).isFalse();
+        assertThat(summary.getGroupStats().get("few.large").isSizeBytesKnown()).isTrue();
+    }
+
+    @Test
+    void approximate_withInvalidCapacity_shouldThrowException() {
+        assertThatThrownBy(() -> new GroupsSummary(0, GroupsSummary.Metric.COMPONENTS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("capacity must be positive");
+    }
 }
@@ -0,0 +1,99 @@
+package com.pyx4j.nxrm.report.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SizeSketch functionality.
+ */
+class SizeSketchTest {
+
+    @Test
+    void getQuantile_emptySketch_shouldReturnZero() {
+        SizeSketch sketch = new SizeSketch();
+
+        assertThat(sketch.getQuantile(0.5)).isZero();
+        assertThat(sketch.getCount()).isZero();
+        assertThat(sketch.getMin()).isZero();
+        assertThat(sketch.getMax()).isZero();
+    }
+
+    @Test
+    void getQuantile_skewedSizes_shouldStayWithinRelativeAccuracy() {
+        Random random = new Random(42);
+        long[] sizes = new long[10_001];
+        SizeSketch sketch = new SizeSketch();
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = (long) Math.exp(random.nextDouble() * 25); // 1 B to ~70 GB
+            sketch.add(sizes[i]);
+        }
+        Arrays.sort(sizes);
+
+        for (double quantile : new double[]{0.5, 0.9, 0.99}) {
+            long exact = sizes[(int) (quantile * (sizes.length - 1))];
+            assertThat((double) sketch.getQuantile(quantile)).isCloseTo(exact, within(exact * SizeSketch.DEFAULT_RELATIVE_ACCURACY));
+        }
+        assertThat(sketch.getQuantile(1)).isEqualTo(sizes[sizes.length - 1]);
+        assertThat(sketch.getMax()).isEqualTo(sizes[sizes.length - 1]);
+        assertThat(sketch.getMin()).isEqualTo(sizes[0]);
+        assertThat(sketch.getCount()).isEqualTo(sizes.length);
+    }
+
+    @Test
+    void add_extremeSizes_shouldKeepMemoryBounded() {
+        SizeSketch sketch = new SizeSketch();
+        sketch.add(0);
+        sketch.add(1);
+        sketch.add(Long.MAX_VALUE);
+
+        // log(2^63) / log(1.01 / 0.99) buckets cover the whole positive range
+        assertThat(sketch.getBinCount()).isLessThanOrEqualTo(2200);
+        assertThat(sketch.getQuantile(0)).isZero();
+        assertThat(sketch.getQuantile(1)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void merge_shouldMatchSingleSketch() {
+        SizeSketch single = new SizeSketch();
+        SizeSketch small = new SizeSketch();
+        SizeSketch large = new SizeSketch();
+        for (long size = 1; size <= 1000; size++) {
+            single.add(size);
+            single.add(size * 1_000_000);
+            small.add(size);
+            large.add(size * 1_000_000);
+        }
+
+        small.merge(large);
+
+        assertThat(small.getCount()).isEqualTo(single.getCount());
+        assertThat(small.getSum()).isEqualTo(single.getSum());
+        for (double quantile : new double[]{0, 0.25, 0.5, 0.9, 0.99, 1}) {
+            assertThat(small.getQuantile(quantile)).isEqualTo(single.getQuantile(quantile));
+        }
+    }
+
+    @Test
+    void merge_differentAccuracy_shouldThrowException() {
+        SizeSketch sketch = new SizeSketch(0.01);
+
+        assertThatThrownBy(() -> sketch.merge(new SizeSketch(0.02)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("different relative accuracy");
+    }
+
+    @Test
+    void add_negativeSize_shouldThrowException() {
+        SizeSketch sketch = new SizeSketch();
+
+        assertThatThrownBy(() -> sketch.add(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Size cannot be negative");
+    }
+}
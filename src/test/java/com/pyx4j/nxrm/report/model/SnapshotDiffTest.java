@@ -0,0 +1,80 @@
+package com.pyx4j.nxrm.report.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Unit tests for SnapshotDiff functionality.
+ */
+class SnapshotDiffTest {
+
+    private static ComponentXO component(String repository, String group, String name, String version) {
+        ComponentXO component = new ComponentXO();
+        component.setRepository(repository);
+        component.setFormat(repository.startsWith("npm") ? "npm" : "maven2");
+        component.setGroup(group);
+        component.setName(name);
+        component.setVersion(version);
+        return component;
+    }
+
+    @Test
+    void summarize_withSpilledRuns_shouldReportAddedAndRemovedComponents() throws IOException {
+        try (SnapshotDiff diff = new SnapshotDiff(2)) {
+            diff.addBaseline(component("maven-releases", "org.example", "lib", "1.0"), 100);
+            diff.addBaseline(component("maven-releases", "org.example", "lib", "1.1"), 110);
+            diff.addBaseline(component("maven-releases", "org.other", "tool", "2.0"), 500);
+            diff.addBaseline(component("npm-hosted", null, "left-pad", "1.0.0"), 5);
+
+            diff.addCurrent(component("npm-hosted", null, "left-pad", "1.0.0"), 5);
+            diff.addCurrent(component("maven-releases", "org.example", "lib", "1.2"), 120);
+            diff.addCurrent(component("maven-releases", "org.example", "lib", "1.1"), 115);
+            diff.addCurrent(component("maven-releases", "org.example", "lib", "1.3"), 130);
+
+            SnapshotDiffSummary summary = diff.summarize(10, 10);
+
+            SnapshotDiffSummary.DiffStats total = summary.getTotal();
+            assertThat(total.getBaselineComponents()).isEqualTo(4);
+            assertThat(total.getCurrentComponents()).isEqualTo(4);
+            assertThat(total.getAddedComponents()).isEqualTo(2);
+            assertThat(total.getAddedSizeBytes()).isEqualTo(250);
+            assertThat(total.getRemovedComponents()).isEqualTo(2);
+            assertThat(total.getRemovedSizeBytes()).isEqualTo(600);
+            assertThat(total.getChangedComponents()).isEqualTo(1);
+            assertThat(total.getSizeDelta()).isEqualTo(370 - 715);
+
+            assertThat(summary.getRepositoryDiffs()).containsOnlyKeys("maven-releases", "npm-hosted");
+            assertThat(summary.getRepositoryDiffs().get("npm-hosted").getSizeDelta()).isZero();
+            assertThat(summary.getRepositoryDiffs().get("maven-releases").getFormat()).isEqualTo("maven2");
+
+            assertThat(summary.getTopGroups())
+                    .extracting(SnapshotDiffSummary.GroupDiff::getGroup, SnapshotDiffSummary.GroupDiff::getSizeDelta)
+                    .containsExactly(tuple("org.other", -500L), tuple("org.example", 155L));
+
+            assertThat(summary.getTopAdded())
+                    .extracting(SnapshotDiffSummary.ComponentChange::getVersion)
+                    .containsExactly("1.3", "1.2");
+            assertThat(summary.getTopRemoved())
+                    .extracting(SnapshotDiffSummary.ComponentChange::getName)
+                    .containsExactly("tool", "lib");
+        }
+    }
+
+    @Test
+    void summarize_withEmptyBaseline_shouldReportAllComponentsAsAdded() throws IOException {
+        try (SnapshotDiff diff = new SnapshotDiff()) {
+            diff.addCurrent(component("maven-releases", "org.example", "lib", "1.0"), 100);
+
+            SnapshotDiffSummary summary = diff.summarize(10, 10);
+
+            assertThat(summary.getTotal().getAddedComponents()).isEqualTo(1);
+            assertThat(summary.getTotal().getRemovedComponents()).isZero();
+            assertThat(summary.getTotal().getSizeDelta()).isEqualTo(100);
+        }
+    }
+}
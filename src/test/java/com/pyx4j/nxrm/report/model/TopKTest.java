@@ -0,0 +1,66 @@
+package com.pyx4j.nxrm.report.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TopK functionality.
+ */
+class TopKTest {
+
+    @Test
+    void select_withMoreElementsThanLimit_shouldKeepHighestRanked() {
+        List<Integer> values = Arrays.asList(5, 1, 9, 3, 7, 2, 8);
+
+        List<Integer> top = TopK.select(values, 3, Comparator.<Integer>reverseOrder());
+
+        assertThat(top).containsExactly(9, 8, 7);
+    }
+
+    @Test
+    void select_withFewerElementsThanLimit_shouldReturnAllSorted() {
+        List<Integer> values = Arrays.asList(5, 1, 9);
+
+        List<Integer> top = TopK.select(values, 10, Comparator.<Integer>naturalOrder());
+
+        assertThat(top).containsExactly(1, 5, 9);
+    }
+
+    @Test
+    void select_withZeroLimit_shouldReturnEmpty() {
+        List<Integer> top = TopK.select(Arrays.asList(5, 1, 9), 0, Comparator.<Integer>naturalOrder());
+
+        assertThat(top).isEmpty();
+    }
+
+    @Test
+    void select_largeInput_shouldMatchFullSort() {
+        List<Integer> values = IntStream.range(0, 10_000)
+                .map(i -> (i * 7919) % 10_007)
+                .boxed()
+                .collect(Collectors.toList());
+
+        List<Integer> top = TopK.select(values, 25, Comparator.<Integer>reverseOrder());
+
+        List<Integer> expected = values.stream()
+                .sorted(Comparator.reverseOrder())
+                .limit(25)
+                .collect(Collectors.toList());
+        assertThat(top).isEqualTo(expected);
+    }
+
+    @Test
+    void topK_withNegativeLimit_shouldThrowException() {
+        assertThatThrownBy(() -> new TopK<Integer>(-1, Comparator.naturalOrder()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot be negative");
+    }
+}
@@ -0,0 +1,86 @@
+package com.pyx4j.nxrm.report.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.sonatype.nexus.model.ComponentXO;
+
+/**
+ * Unit tests for VersionSprawlDetector functionality.
+ */
+class VersionSprawlDetectorTest {
+
+    private static ComponentXO component(String group, String name, String version) {
+        ComponentXO component = new ComponentXO();
+        component.setGroup(group);
+        component.setName(name);
+        component.setVersion(version);
+        return component;
+    }
+
+    private static void addComponents(VersionSprawlDetector detector) {
+        detector.addComponent("maven-snapshots", "maven2", component("org.example", "lib", "1.0-SNAPSHOT"), 100);
+        detector.addComponent("npm-hosted", "npm", component(null, "left-pad", "1.0.0"), 5);
+        detector.addComponent("maven-snapshots", "maven2", component("org.example", "lib", "1.0-20240101.120000-1"), 100);
+        detector.addComponent("maven-snapshots", "maven2", component("org.example", "app", "2.0-SNAPSHOT"), 300);
+        detector.addComponent("npm-hosted", "npm", component(null, "left-pad", "1.0.1"), 5);
+        detector.addComponent("maven-snapshots", "maven2", component("org.example", "lib", "1.1"), 120);
+        detector.addComponent("npm-hosted", "npm", component(null, "left-pad", "1.0.2"), 6);
+    }
+
+    private static void assertSummary(VersionSprawlSummary summary) {
+        assertThat(summary.getTotalCoordinates()).isEqualTo(3);
+        assertThat(summary.getTotalVersions()).isEqualTo(7);
+        assertThat(summary.getTotalSizeBytes()).isEqualTo(636);
+        assertThat(summary.getSnapshotVersions()).isEqualTo(3);
+        assertThat(summary.getSnapshotSizeBytes()).isEqualTo(500);
+
+        VersionSprawlSummary.RepositoryVersions maven = summary.getRepositoryStats().get("maven-snapshots");
+        assertThat(maven.getFormat()).isEqualTo("maven2");
+        assertThat(maven.getCoordinates()).isEqualTo(2);
+        assertThat(maven.getVersions()).isEqualTo(4);
+        assertThat(maven.getMaxVersions()).isEqualTo(3);
+
+        assertThat(summary.getTopCoordinates())
+                .extracting(VersionSprawlSummary.CoordinateVersions::getRepository,
+                        VersionSprawlSummary.CoordinateVersions::getGroup,
+                        VersionSprawlSummary.CoordinateVersions::getName,
+                        VersionSprawlSummary.CoordinateVersions::getVersions,
+                        VersionSprawlSummary.CoordinateVersions::getSizeBytes,
+                        VersionSprawlSummary.CoordinateVersions::getSnapshotVersions)
+                .containsExactly(
+                        tuple("maven-snapshots", "org.example", "lib", 3L, 320L, 2L),
+                        tuple("npm-hosted", null, "left-pad", 3L, 16L, 0L));
+    }
+
+    @Test
+    void summarize_inMemory_shouldCountVersionsPerCoordinate() throws IOException {
+        try (VersionSprawlDetector detector = new VersionSprawlDetector()) {
+            addComponents(detector);
+
+            assertThat(detector.getSpilledCoordinates()).isZero();
+            assertSummary(detector.summarize(2));
+        }
+    }
+
+    @Test
+    void summarize_withSpilledCoordinates_shouldCombinePartialCounts() throws IOException {
+        try (VersionSprawlDetector detector = new VersionSprawlDetector(1)) {
+            addComponents(detector);
+
+            assertThat(detector.getSpilledCoordinates()).isPositive();
+            assertSummary(detector.summarize(2));
+        }
+    }
+
+    @Test
+    void isSnapshot_shouldDetectBaseAndTimestampedSnapshots() {
+        assertThat(VersionSprawlDetector.isSnapshot("1.0-SNAPSHOT")).isTrue();
+        assertThat(VersionSprawlDetector.isSnapshot("1.0-20240101.120000-12")).isTrue();
+        assertThat(VersionSprawlDetector.isSnapshot("1.0")).isFalse();
+        assertThat(VersionSprawlDetector.isSnapshot(null)).isFalse();
+    }
+}